@@ -0,0 +1,93 @@
+import java.util.Arrays;
+
+/**
+ * Classe de um clipe de animação
+ * <p>
+ * Um clipe é uma sequência de quadros (índices de um vetor de imagens), cada um com a sua duração, repetida em laço.
+ * O quadro atual é calculado a partir do tempo do {@link SimClock} da tela, então a animação congela durante a pausa,
+ * acompanha o modo acelerado e não pula quadros quando a renderização atrasa. Um clipe não guarda estado e pode ser
+ * compartilhado por todas as entidades que usam a mesma animação.
+ * </p>
+ *
+ * @author Arthur dos Santos Rezende
+ * @version 1.0
+ */
+public class AnimationClip {
+    /** Índice de cada quadro do clipe */
+    private final int[] quadros;
+    /** Instante (em milissegundos, contado do início do clipe) em que cada quadro termina */
+    private final int[] fim;
+    /** Duração total do clipe (em milissegundos) */
+    private final int duracao;
+
+    /**
+     * Construtor de um clipe em que todos os quadros têm a mesma duração
+     *
+     * @param msPorQuadro Duração de cada quadro (em milissegundos)
+     * @param quadros Índice de cada quadro, na ordem em que são mostrados
+     */
+    public AnimationClip(int msPorQuadro, int... quadros){
+        this(quadros, duracoesIguais(msPorQuadro, quadros.length));
+    }
+
+    /**
+     * Construtor de um clipe em que cada quadro tem a sua duração
+     *
+     * @param quadros Índice de cada quadro, na ordem em que são mostrados
+     * @param duracoes Duração de cada quadro (em milissegundos)
+     */
+    public AnimationClip(int[] quadros, int[] duracoes){
+        if(quadros.length == 0 || quadros.length != duracoes.length){
+            throw new IllegalArgumentException("Cada quadro do clipe precisa de uma duração");
+        }
+        this.quadros = quadros.clone();
+        this.fim = new int[duracoes.length];
+        int total = 0;
+        for(int i = 0; i < duracoes.length; i++){
+            if(duracoes[i] <= 0) throw new IllegalArgumentException("Duração inválida: " + duracoes[i]);
+            total += duracoes[i];
+            fim[i] = total;
+        }
+        this.duracao = total;
+    }
+
+    /**
+     * @param agora Tempo de simulação (em milissegundos)
+     * @return O índice do quadro mostrado nesse instante
+     */
+    public int quadro(long agora){
+        int t = (int) Math.floorMod(agora, (long) duracao);
+        int i = 0;
+        while(fim[i] <= t) i++;
+        return quadros[i];
+    }
+
+    /**
+     * @param relogio Relógio de simulação da tela
+     * @return O índice do quadro mostrado no instante atual do relógio
+     */
+    public int quadro(SimClock relogio){ return quadro(relogio.agora()); }
+
+    // Getters
+
+    /**
+     * @return Duração total do clipe (em milissegundos)
+     */
+    public int getDuracao(){ return duracao; }
+
+    /**
+     * @return Quantidade de quadros do clipe
+     */
+    public int getTotalQuadros(){ return quadros.length; }
+
+    /**
+     * @param msPorQuadro Duração de cada quadro
+     * @param n Quantidade de quadros
+     * @return Vetor com {@code n} durações iguais
+     */
+    private static int[] duracoesIguais(int msPorQuadro, int n){
+        int[] d = new int[n];
+        Arrays.fill(d, msPorQuadro);
+        return d;
+    }
+}
@@ -0,0 +1,71 @@
+import java.awt.Transparency;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Classe de um conjunto de recursos gráficos
+ * <p>
+ * Cada tela declara, em um conjunto, todas as imagens de que precisa. O {@link AssetManager} carrega as imagens do
+ * conjunto em paralelo antes de a tela começar. Uma imagem aparece uma única vez no conjunto, mesmo que seja
+ * adicionada mais de uma vez, e as imagens ficam na ordem em que foram adicionadas.
+ * </p>
+ *
+ * @author Arthur dos Santos Rezende
+ * @version 1.0
+ */
+public class AssetBundle {
+    /** Transparência de cada imagem do conjunto, pelo caminho do arquivo */
+    private final LinkedHashMap<String, Integer> imagens = new LinkedHashMap<>();
+
+    /**
+     * Adiciona imagens que mantêm a transparência
+     *
+     * @param caminhos Caminhos dos arquivos
+     * @return O próprio conjunto
+     */
+    public AssetBundle imagens(String... caminhos){
+        for(String caminho : caminhos) imagens.putIfAbsent(caminho, Transparency.TRANSLUCENT);
+        return this;
+    }
+
+    /**
+     * Adiciona imagens opacas (fundos e paredes)
+     *
+     * @param caminhos Caminhos dos arquivos
+     * @return O próprio conjunto
+     */
+    public AssetBundle opacas(String... caminhos){
+        for(String caminho : caminhos) imagens.putIfAbsent(caminho, Transparency.OPAQUE);
+        return this;
+    }
+
+    /**
+     * Adiciona todas as imagens de outro conjunto
+     *
+     * @param outro O outro conjunto
+     * @return O próprio conjunto
+     */
+    public AssetBundle juntar(AssetBundle outro){
+        for(Map.Entry<String, Integer> e : outro.imagens.entrySet()) imagens.putIfAbsent(e.getKey(), e.getValue());
+        return this;
+    }
+
+    // Getters
+
+    /**
+     * @return A transparência de cada imagem do conjunto, pelo caminho do arquivo, na ordem em que foram adicionadas
+     */
+    public Map<String, Integer> getImagens(){ return Collections.unmodifiableMap(imagens); }
+
+    /**
+     * @return Quantidade de imagens do conjunto
+     */
+    public int getTotal(){ return imagens.size(); }
+
+    /**
+     * @param caminho Caminho do arquivo
+     * @return Se a imagem está no conjunto
+     */
+    public boolean contem(String caminho){ return imagens.containsKey(caminho); }
+}
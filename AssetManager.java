@@ -0,0 +1,473 @@
+import javax.swing.SwingUtilities;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Classe do gerenciador de recursos gráficos do jogo
+ * <p>
+ * O gerenciador é único para todo o processo e é compartilhado por todas as telas. Cada tela adquire as imagens de
+ * que precisa pelo caminho do arquivo e as libera quando é descartada. Cada imagem tem um contador de referências:
+ * enquanto alguma tela a usa, ela fica carregada; quando a última tela a libera, ela vai para uma lista de imagens
+ * liberadas, em ordem de uso (LRU), em vez de ser descartada. Assim, as imagens comuns às telas (o Duque Batata, as
+ * cenouras, as paredes, os fundos...) não são decodificadas de novo a cada troca de tela, e uma imagem liberada
+ * volta a ser usada sem custo se for adquirida outra vez.
+ * </p>
+ * <p>
+ * As imagens liberadas só são descartadas quando a memória estimada delas passa de {@code LIMITE_LIBERADAS}, a
+ * começar pela que foi usada há mais tempo. O descarte só remove a referência do gerenciador; a memória é devolvida
+ * pelo coletor de lixo quando ele achar melhor, sem {@code System.gc()}.
+ * </p>
+ * <p>
+ * Os recortes do {@link TextureAtlas} não têm pixels próprios: cada recorte em uso guarda uma referência à sua folha,
+ * que também é um recurso do gerenciador. Quando um recorte deixa de ser usado, ele é descartado na hora (recriá-lo é
+ * só um {@code getSubimage}) e a folha é liberada; é a folha, com a memória dela inteira, que vai para a lista de
+ * imagens liberadas quando o seu último recorte sai de uso.
+ * </p>
+ * <p>
+ * As telas carregam as suas imagens com {@code carregar}, que decodifica as imagens de um {@link AssetBundle} em um
+ * grupo de trabalhadores (um por núcleo) e avisa a tela a cada imagem concluída, sem travar a thread do Swing. A
+ * decodificação acontece fora da trava do gerenciador, então vários trabalhadores decodificam ao mesmo tempo.
+ * </p>
+ * <p>
+ * As imagens da próxima tela podem ser adiantadas com {@code precarregar}, que usa uma única thread de prioridade
+ * mínima, para não disputar o processador com o loop do jogo. Quando a próxima tela adquire essas imagens, elas já
+ * estão carregadas.
+ * </p>
+ *
+ * @author Arthur dos Santos Rezende
+ * @version 1.0
+ */
+public final class AssetManager {
+    /**
+     * Memória estimada (em bytes) que as imagens liberadas podem ocupar antes de começarem a ser descartadas: um quarto
+     * do heap, até 256 MB (todas as imagens do jogo, decodificadas, ocupam cerca de 180 MB)
+     */
+    private static final long LIMITE_LIBERADAS = Math.min(256L * 1024 * 1024, Runtime.getRuntime().maxMemory() / 4);
+    /** Quantidade de trabalhadores que decodificam as imagens */
+    private static final int TRABALHADORES = Math.max(1, Runtime.getRuntime().availableProcessors());
+
+    /** Imagens em uso, pelo caminho do arquivo */
+    private static final HashMap<String, Recurso> emUso = new HashMap<>();
+    /** Imagens liberadas, da usada há mais tempo para a usada mais recentemente */
+    private static final LinkedHashMap<String, Recurso> liberadas = new LinkedHashMap<>(16, 0.75f, true);
+    /** Memória estimada das imagens liberadas */
+    private static long bytesLiberadas = 0;
+    /** Quantidade de imagens decodificadas pelo gerenciador */
+    private static int carregadas = 0;
+    /** Quantidade de aquisições atendidas por uma imagem que já estava carregada */
+    private static int reaproveitadas = 0;
+    /** Quantidade de imagens liberadas que foram descartadas */
+    private static int descartadas = 0;
+    /** Trabalhadores que decodificam as imagens dos carregamentos */
+    private static final ExecutorService trabalhadores =
+        Executors.newFixedThreadPool(TRABALHADORES, new FabricaTrabalhadores("carregador", Thread.NORM_PRIORITY));
+    /** Thread que adianta, em segundo plano, os recursos da próxima tela */
+    private static final ExecutorService precarregador =
+        Executors.newSingleThreadExecutor(new FabricaTrabalhadores("precarregador", Thread.MIN_PRIORITY));
+
+    /**
+     * Imagem gerenciada, com o seu contador de referências
+     */
+    private static class Recurso {
+        final BufferedImage img;
+        /** Caminho da folha do atlas de que a imagem é um recorte ({@code null} se ela tem pixels próprios) */
+        final String folha;
+        /** Memória estimada da imagem (0 nos recortes, cujos pixels são da folha) */
+        final long bytes;
+        int referencias = 0;
+
+        Recurso(BufferedImage img, String folha){
+            this.img = img;
+            this.folha = folha;
+            this.bytes = folha != null ? 0 : 4L * img.getWidth() * img.getHeight();
+        }
+    }
+
+    /**
+     * Cria as threads dos trabalhadores. As threads são daemon, para não impedirem o jogo de fechar
+     */
+    private static class FabricaTrabalhadores implements ThreadFactory {
+        private final AtomicInteger criadas = new AtomicInteger();
+        private final String nome;
+        private final int prioridade;
+
+        FabricaTrabalhadores(String nome, int prioridade){
+            this.nome = nome;
+            this.prioridade = prioridade;
+        }
+
+        @Override
+        public Thread newThread(Runnable r){
+            Thread t = new Thread(r, nome + "-" + criadas.incrementAndGet());
+            t.setDaemon(true);
+            t.setPriority(prioridade);
+            return t;
+        }
+    }
+
+    /**
+     * Carregamento das imagens de um {@link AssetBundle}
+     * <p>
+     * As imagens são adquiridas pelo próprio carregamento, que as guarda até ser liberado. A cada imagem concluída
+     * (carregada ou com erro), o carregamento chama {@code aoProgredir} na thread do trabalhador; quando todas estão
+     * concluídas, chama {@code aoConcluir} na thread do Swing.
+     * </p>
+     */
+    public static class Carregamento {
+        /** Caminhos das imagens, na ordem do conjunto */
+        private final ArrayList<String> caminhos;
+        /** Imagens já carregadas, pelo caminho do arquivo */
+        private final ConcurrentHashMap<String, BufferedImage> imagens = new ConcurrentHashMap<>();
+        /** Quantidade de imagens concluídas (carregadas ou com erro) */
+        private final AtomicInteger concluidas = new AtomicInteger();
+        /** Contagem regressiva das imagens que faltam, para quem precisa esperar o fim do carregamento */
+        private final CountDownLatch fim;
+        /** Chamado a cada imagem concluída (pode ser {@code null}) */
+        private final Runnable aoProgredir;
+        /** Chamado na thread do Swing quando todas as imagens estiverem concluídas */
+        private Runnable aoConcluir;
+        /** Se o carregamento já foi liberado (as imagens que chegarem depois são liberadas na hora) */
+        private boolean liberado = false;
+
+        private Carregamento(AssetBundle conjunto, Runnable aoProgredir){
+            this.caminhos = new ArrayList<>(conjunto.getImagens().keySet());
+            this.fim = new CountDownLatch(caminhos.size());
+            this.aoProgredir = aoProgredir;
+        }
+
+        /**
+         * Define o que fazer quando todas as imagens estiverem concluídas. Se o carregamento já terminou, a ação é
+         * agendada na hora
+         *
+         * @param acao Ação executada na thread do Swing
+         */
+        public void aoConcluir(Runnable acao){
+            synchronized(this){
+                if(!isConcluido()){
+                    aoConcluir = acao;
+                    return;
+                }
+            }
+            SwingUtilities.invokeLater(acao);
+        }
+
+        /**
+         * Espera até que todas as imagens estejam concluídas (usado no modo headless, onde a tela carrega de forma
+         * síncrona)
+         */
+        public void aguardar(){
+            try {
+                fim.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        /**
+         * Libera todas as imagens adquiridas pelo carregamento, na ordem inversa do conjunto. Imagens que ainda
+         * estiverem sendo carregadas são liberadas assim que chegarem
+         */
+        public void liberar(){
+            synchronized(this){
+                if(liberado) return;
+                liberado = true;
+                aoConcluir = null;
+            }
+            for(int i = caminhos.size() - 1; i >= 0; i--){
+                if(imagens.remove(caminhos.get(i)) != null) AssetManager.liberar(caminhos.get(i));
+            }
+        }
+
+        /**
+         * @param caminho Caminho do arquivo
+         * @return A imagem, ou {@code null} se ela não está no conjunto, ainda não chegou ou não pôde ser carregada
+         */
+        public BufferedImage getImagem(String caminho){ return imagens.get(caminho); }
+
+        /**
+         * @param caminho Caminho do arquivo
+         * @return Se a imagem faz parte do conjunto do carregamento
+         */
+        public boolean contem(String caminho){ return caminhos.contains(caminho); }
+
+        /**
+         * @return Fração (de 0 a 1) das imagens já concluídas
+         */
+        public double getProgresso(){ return caminhos.isEmpty() ? 1 : (double) concluidas.get() / caminhos.size(); }
+
+        /**
+         * @return Se todas as imagens estão concluídas
+         */
+        public boolean isConcluido(){ return concluidas.get() == caminhos.size(); }
+
+        /**
+         * @return Quantidade de imagens do carregamento
+         */
+        public int getTotal(){ return caminhos.size(); }
+
+        /**
+         * Registra a conclusão de uma imagem
+         *
+         * @param caminho Caminho do arquivo
+         * @param img A imagem adquirida, ou {@code null} se ela não pôde ser carregada
+         */
+        private void concluir(String caminho, BufferedImage img){
+            Runnable acao = null;
+            boolean liberar;
+            synchronized(this){
+                liberar = liberado && img != null;
+                if(!liberado && img != null) imagens.put(caminho, img);
+                if(concluidas.incrementAndGet() == caminhos.size()){
+                    acao = aoConcluir;
+                    aoConcluir = null;
+                }
+            }
+            if(liberar) AssetManager.liberar(caminho);
+            fim.countDown();
+            if(aoProgredir != null) aoProgredir.run();
+            if(acao != null) SwingUtilities.invokeLater(acao);
+        }
+    }
+
+    /** A classe só tem métodos estáticos */
+    private AssetManager(){}
+
+    /**
+     * Adquire uma imagem, mantendo a transparência
+     *
+     * @param caminho Caminho do arquivo
+     * @return A imagem
+     * @throws IOException Se a imagem não estava carregada e ocorrer um erro de I/O durante a leitura do arquivo
+     */
+    public static BufferedImage adquirir(String caminho) throws IOException {
+        return adquirir(caminho, Transparency.TRANSLUCENT);
+    }
+
+    /**
+     * Adquire uma imagem opaca (fundos e paredes)
+     *
+     * @param caminho Caminho do arquivo
+     * @return A imagem
+     * @throws IOException Se a imagem não estava carregada e ocorrer um erro de I/O durante a leitura do arquivo
+     */
+    public static BufferedImage adquirirOpaca(String caminho) throws IOException {
+        return adquirir(caminho, Transparency.OPAQUE);
+    }
+
+    /**
+     * Adquire uma imagem, carregando-a se ela não estiver em uso nem entre as liberadas. Cada aquisição deve ter um
+     * {@code liberar} correspondente
+     *
+     * @param caminho Caminho do arquivo
+     * @param transparencia {@code Transparency.OPAQUE}, {@code BITMASK} ou {@code TRANSLUCENT} (usada só quando a
+     * imagem precisa ser carregada)
+     * @return A imagem
+     * @throws IOException Se a imagem não estava carregada e ocorrer um erro de I/O durante a leitura do arquivo
+     */
+    public static BufferedImage adquirir(String caminho, int transparencia) throws IOException {
+        BufferedImage img = adquirirCarregada(caminho);
+        if(img != null) return img;
+        // A decodificação acontece fora da trava, para não atrasar as outras aquisições
+        BufferedImage lida = ImageLoader.carregar(caminho, transparencia);
+        TextureAtlas.Regiao regiao = TextureAtlas.padrao().regiaoDe(lida);
+        return registrar(caminho, lida, regiao != null ? regiao.getCaminhoFolha() : null);
+    }
+
+    /**
+     * Carrega e adquire as imagens de um conjunto nos trabalhadores. As imagens que já estão carregadas são
+     * adquiridas na hora
+     *
+     * @param conjunto As imagens
+     * @param aoProgredir Chamado a cada imagem concluída, na thread do trabalhador (pode ser {@code null})
+     * @return O carregamento, que guarda as imagens adquiridas até ser liberado
+     */
+    public static Carregamento carregar(AssetBundle conjunto, Runnable aoProgredir){
+        return carregar(conjunto, aoProgredir, trabalhadores);
+    }
+
+    /**
+     * Adianta o carregamento das imagens de um conjunto na thread de pré-carregamento, de prioridade mínima. As imagens
+     * ficam adquiridas até o carregamento ser liberado (e, depois disso, entre as liberadas)
+     *
+     * @param conjunto As imagens
+     * @return O carregamento, que guarda as imagens adquiridas até ser liberado
+     */
+    public static Carregamento precarregar(AssetBundle conjunto){
+        return carregar(conjunto, null, precarregador);
+    }
+
+    /**
+     * Executa uma tarefa na thread de pré-carregamento, depois das que já foram pedidas
+     *
+     * @param tarefa A tarefa (por exemplo, ler a música da próxima tela)
+     */
+    public static void emSegundoPlano(Runnable tarefa){
+        precarregador.execute(tarefa);
+    }
+
+    /**
+     * Carrega e adquire as imagens de um conjunto nas threads de um executor
+     *
+     * @param conjunto As imagens
+     * @param aoProgredir Chamado a cada imagem concluída (pode ser {@code null})
+     * @param executor As threads que decodificam as imagens
+     * @return O carregamento
+     */
+    private static Carregamento carregar(AssetBundle conjunto, Runnable aoProgredir, ExecutorService executor){
+        Carregamento c = new Carregamento(conjunto, aoProgredir);
+        for(Map.Entry<String, Integer> e : conjunto.getImagens().entrySet()){
+            String caminho = e.getKey();
+            int transparencia = e.getValue();
+            BufferedImage img = adquirirCarregada(caminho);
+            if(img != null){
+                c.concluir(caminho, img);
+                continue;
+            }
+            executor.execute(() -> {
+                BufferedImage lida = null;
+                try {
+                    lida = adquirir(caminho, transparencia);
+                } catch (IOException ex) {
+                    System.err.println("Erro ao carregar imagem " + caminho + ": " + ex.getMessage());
+                }
+                c.concluir(caminho, lida);
+            });
+        }
+        return c;
+    }
+
+    /**
+     * Libera uma imagem adquirida. Quando ninguém mais a usa, ela vai para a lista de imagens liberadas (ou, se for um
+     * recorte do atlas, é descartada e libera a sua folha)
+     *
+     * @param caminho Caminho do arquivo
+     */
+    public static synchronized void liberar(String caminho){
+        Recurso r = emUso.get(caminho);
+        if(r == null) return;
+        if(--r.referencias > 0) return;
+        emUso.remove(caminho);
+        if(r.folha != null){
+            liberar(r.folha);
+            return;
+        }
+        liberadas.put(caminho, r);
+        bytesLiberadas += r.bytes;
+        descartarExcesso();
+    }
+
+    /**
+     * Descarta todas as imagens liberadas (as imagens em uso continuam carregadas)
+     */
+    public static synchronized void limparLiberadas(){
+        descartadas += liberadas.size();
+        liberadas.clear();
+        bytesLiberadas = 0;
+    }
+
+    /**
+     * Descreve o estado do gerenciador, usado nos relatórios do modo headless
+     *
+     * @return A descrição dos contadores
+     */
+    public static synchronized String descrever(){
+        return "emUso=" + emUso.size() + " liberadas=" + liberadas.size() + " carregadas=" + carregadas
+            + " reaproveitadas=" + reaproveitadas + " descartadas=" + descartadas + " trabalhadores=" + TRABALHADORES;
+    }
+
+    // Getters
+
+    /**
+     * @param caminho Caminho do arquivo
+     * @return Se a imagem está carregada (em uso ou entre as liberadas)
+     */
+    public static synchronized boolean isCarregada(String caminho){
+        return emUso.containsKey(caminho) || liberadas.containsKey(caminho);
+    }
+
+    /**
+     * @param caminho Caminho do arquivo
+     * @return Quantidade de referências à imagem (0 se ela não está em uso)
+     */
+    public static synchronized int getReferencias(String caminho){
+        Recurso r = emUso.get(caminho);
+        return r == null ? 0 : r.referencias;
+    }
+
+    /**
+     * @return Quantidade de imagens decodificadas pelo gerenciador
+     */
+    public static synchronized int getCarregadas(){ return carregadas; }
+
+    /**
+     * @return Quantidade de aquisições atendidas por uma imagem que já estava carregada
+     */
+    public static synchronized int getReaproveitadas(){ return reaproveitadas; }
+
+    /**
+     * Adquire uma imagem que já está em uso ou entre as liberadas
+     *
+     * @param caminho Caminho do arquivo
+     * @return A imagem, ou {@code null} se ela precisa ser carregada
+     */
+    private static synchronized BufferedImage adquirirCarregada(String caminho){
+        Recurso r = emUso.get(caminho);
+        if(r == null){
+            r = liberadas.remove(caminho);
+            if(r == null) return null;
+            bytesLiberadas -= r.bytes;
+            emUso.put(caminho, r);
+        }
+        reaproveitadas++;
+        r.referencias++;
+        return r.img;
+    }
+
+    /**
+     * Registra e adquire uma imagem recém-carregada. Se outra thread registrou a mesma imagem enquanto esta era
+     * decodificada, a que já estava registrada é usada (e, se a nova for um recorte, a referência dela à folha é
+     * devolvida)
+     *
+     * @param caminho Caminho do arquivo
+     * @param img A imagem carregada
+     * @param folha Caminho da folha do atlas de que a imagem é um recorte ({@code null} se não for um recorte)
+     * @return A imagem registrada
+     */
+    private static synchronized BufferedImage registrar(String caminho, BufferedImage img, String folha){
+        BufferedImage existente = adquirirCarregada(caminho);
+        if(existente != null){
+            if(folha != null) liberar(folha);
+            return existente;
+        }
+        Recurso r = new Recurso(img, folha);
+        r.referencias = 1;
+        emUso.put(caminho, r);
+        // Um recorte não é decodificado (a decodificação, se houve, foi contada na folha)
+        if(folha == null) carregadas++;
+        return img;
+    }
+
+    /**
+     * Descarta as imagens liberadas usadas há mais tempo até que a memória estimada delas volte ao limite
+     */
+    private static void descartarExcesso(){
+        Iterator<Map.Entry<String, Recurso>> it = liberadas.entrySet().iterator();
+        while(bytesLiberadas > LIMITE_LIBERADAS && it.hasNext()){
+            bytesLiberadas -= it.next().getValue().bytes;
+            it.remove();
+            descartadas++;
+        }
+    }
+}
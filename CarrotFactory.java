@@ -7,8 +7,11 @@ import java.awt.Color;
  * @version 1.0
  */
 public class CarrotFactory {
+    /** Pool das cenouras */
+    private static final ProjectilePool POOL = new ProjectilePool("cenouras", ObjetoColidivel.CollisionLayer.PLAYER_PROJECTILE);
+
     /**
-     * Cria uma nova cenoura
+     * Cria uma nova cenoura, reaproveitando uma do pool se houver
      * 
      * @param x Posição x
      * @param y Posição y
@@ -21,16 +24,16 @@ public class CarrotFactory {
 
         if(direction == Direction.UP){
             dirY = -2;
-            return new Projetil(x, y, 16, 24, dirX, dirY, color, false);
+            return POOL.obter(x, y, 16, 24, dirX, dirY, color, false);
         } else if(direction == Direction.DOWN){
             dirY = 2;
-            return new Projetil(x, y, 16, 24, dirX, dirY, color, false);
+            return POOL.obter(x, y, 16, 24, dirX, dirY, color, false);
         } else if(direction == Direction.LEFT){
             dirX = -2;
-            return new Projetil(x, y, 24, 16, dirX, dirY, color, false);
+            return POOL.obter(x, y, 24, 16, dirX, dirY, color, false);
         } else {
             dirX = 2;
-            return new Projetil(x, y, 24, 16, dirX, dirY, color, false);
+            return POOL.obter(x, y, 24, 16, dirX, dirY, color, false);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,182 @@
+import java.util.Arrays;
+
+/**
+ * Classe do sistema de criaturas (inimigos e bosses) de uma tela
+ * <p>
+ * Guarda os componentes de todas as criaturas registradas em vetores de tipos primitivos, um vetor por campo:
+ * posição e colisor ({@code x}, {@code y}, {@code largura}, {@code altura}), velocidade ({@code velocidade},
+ * {@code direcao}), vida ({@code hp}, {@code hpMaximo}), timer, alerta e flags de estado. Cada {@link Criatura}
+ * registrada passa a ser apenas uma visão de um índice desses vetores, da mesma forma que os projéteis no
+ * {@link ProjectileSystem}. O comportamento específico de cada inimigo continua nas próprias classes.
+ * </p>
+ * <p>
+ * O movimento de patrulha (andar em linha reta e dar meia-volta ao bater na borda da tela ou em uma parede), que era
+ * repetido em vários inimigos, é feito de uma só vez por {@code atualizar}, que percorre os vetores em sequência.
+ * </p>
+ *
+ * @author Arthur dos Santos Rezende
+ * @version 1.0
+ */
+public class CreatureSystem {
+    /** Indica que a criatura está viva */
+    static final byte VIVO = 1;
+    /** Indica que a criatura pode passar por cima de paredes */
+    static final byte VOADOR = 2;
+    /** Indica que a criatura está patrulhando (sendo movida pelo sistema) */
+    static final byte PATRULHA = 4;
+    /** Indica que a criatura escolhe uma direção aleatória ao bater, em vez de dar meia-volta */
+    static final byte ALEATORIO = 8;
+    /** Indica que a criatura está em alerta (estado intermediário antes de atacar) */
+    static final byte ALERTA = 16;
+    /** Indica que a criatura está atacando */
+    static final byte ATACANDO = 32;
+    /** Direções, indexadas pelo valor guardado em {@code direcao} */
+    private static final Direction[] DIRECOES = Direction.values();
+
+    /** Largura da tela */
+    private final int larguraTela;
+    /** Altura da tela */
+    private final int alturaTela;
+
+    int[] x = new int[32];
+    int[] y = new int[32];
+    int[] largura = new int[32];
+    int[] altura = new int[32];
+    int[] velocidade = new int[32];
+    byte[] direcao = new byte[32];
+    int[] hp = new int[32];
+    int[] hpMaximo = new int[32];
+    long[] timer = new long[32];
+    int[] alerta = new int[32];
+    byte[] flags = new byte[32];
+    /** Visão de cada índice, usada para corrigir o índice da visão movida na remoção */
+    private Criatura[] visoes = new Criatura[32];
+    /** Quantidade de criaturas no sistema */
+    private int total = 0;
+
+    /**
+     * Construtor do sistema
+     *
+     * @param larguraTela Largura da tela (em pixels)
+     * @param alturaTela Altura da tela (em pixels)
+     */
+    public CreatureSystem(int larguraTela, int alturaTela){
+        this.larguraTela = larguraTela;
+        this.alturaTela = alturaTela;
+    }
+
+    /**
+     * Move todas as criaturas vivas que estão patrulhando. Uma criatura que sai da tela ou entra em uma parede (se
+     * não for voadora) volta para onde estava e dá meia-volta (ou escolhe uma direção aleatória). Deve ser chamado
+     * uma vez por passo de simulação, depois do comportamento das criaturas
+     *
+     * @param paredes Mapa das paredes da tela (ou {@code null} se não há paredes)
+     */
+    public void atualizar(WallGrid paredes){
+        final int[] x = this.x, y = this.y, largura = this.largura, altura = this.altura, velocidade = this.velocidade;
+        final byte[] direcao = this.direcao, flags = this.flags;
+        for(int i = 0; i < total; i++){
+            if((flags[i] & (VIVO | PATRULHA)) != (VIVO | PATRULHA) || velocidade[i] == 0) continue;
+            int dx = 0, dy = 0;
+            switch(DIRECOES[direcao[i]]){
+                case LEFT: dx = -velocidade[i]; break;
+                case RIGHT: dx = velocidade[i]; break;
+                case UP: dy = -velocidade[i]; break;
+                case DOWN: dy = velocidade[i]; break;
+            }
+            x[i] += dx;
+            y[i] += dy;
+
+            if(x[i] < 0 || x[i] > larguraTela - largura[i] || y[i] < 0 || y[i] > alturaTela - altura[i]){
+                x[i] -= dx;
+                y[i] -= dy;
+                rebater(i);
+            } else if((flags[i] & VOADOR) == 0 && paredes != null && paredes.bloqueado(x[i], y[i], largura[i], altura[i])){
+                x[i] -= dx;
+                y[i] -= dy;
+                rebater(i);
+            }
+        }
+    }
+
+    /**
+     * Troca a direção de uma criatura que bateu na borda da tela ou em uma parede
+     *
+     * @param i Índice da criatura
+     */
+    private void rebater(int i){
+        if((flags[i] & ALEATORIO) != 0) direcao[i] = (byte) visoes[i].aleatorio.nextInt(DIRECOES.length);
+        else direcao[i] = (byte) oposta(DIRECOES[direcao[i]]).ordinal();
+    }
+
+    /**
+     * @param d Uma direção
+     * @return A direção oposta
+     */
+    static Direction oposta(Direction d){
+        switch(d){
+            case LEFT: return Direction.RIGHT;
+            case RIGHT: return Direction.LEFT;
+            case UP: return Direction.DOWN;
+            default: return Direction.UP;
+        }
+    }
+
+    /**
+     * Reserva um índice para uma criatura. Os componentes devem ser gravados pela própria visão
+     *
+     * @param visao A criatura que passará a ler e escrever neste índice
+     * @return O índice reservado
+     */
+    int anexar(Criatura visao){
+        if(total == x.length) crescer();
+        int i = total++;
+        visoes[i] = visao;
+        return i;
+    }
+
+    /**
+     * Libera o índice de uma criatura, movendo a última criatura para o lugar dela
+     *
+     * @param i Índice a ser liberado
+     */
+    void desanexar(int i){
+        int ultimo = --total;
+        if(i != ultimo){
+            x[i] = x[ultimo]; y[i] = y[ultimo];
+            largura[i] = largura[ultimo]; altura[i] = altura[ultimo];
+            velocidade[i] = velocidade[ultimo]; direcao[i] = direcao[ultimo];
+            hp[i] = hp[ultimo]; hpMaximo[i] = hpMaximo[ultimo];
+            timer[i] = timer[ultimo];
+            alerta[i] = alerta[ultimo];
+            flags[i] = flags[ultimo];
+            visoes[i] = visoes[ultimo];
+            visoes[i].indice = i;
+        }
+        visoes[ultimo] = null;
+    }
+
+    /**
+     * @return Quantidade de criaturas no sistema
+     */
+    public int getTotal(){ return total; }
+
+    /**
+     * Dobra a capacidade dos vetores
+     */
+    private void crescer(){
+        int novo = x.length * 2;
+        x = Arrays.copyOf(x, novo);
+        y = Arrays.copyOf(y, novo);
+        largura = Arrays.copyOf(largura, novo);
+        altura = Arrays.copyOf(altura, novo);
+        velocidade = Arrays.copyOf(velocidade, novo);
+        direcao = Arrays.copyOf(direcao, novo);
+        hp = Arrays.copyOf(hp, novo);
+        hpMaximo = Arrays.copyOf(hpMaximo, novo);
+        timer = Arrays.copyOf(timer, novo);
+        alerta = Arrays.copyOf(alerta, novo);
+        flags = Arrays.copyOf(flags, novo);
+        visoes = Arrays.copyOf(visoes, novo);
+    }
+}
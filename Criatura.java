@@ -0,0 +1,294 @@
+import java.awt.Color;
+import java.util.SplittableRandom;
+
+/**
+ * Classe base para as criaturas do jogo (inimigos e bosses)
+ * <p>
+ * Reúne os componentes que antes eram repetidos em cada inimigo e boss: vida, velocidade e direção, o timer usado nos
+ * ataques, a partícula de alerta e os estados de alerta e ataque. Enquanto está registrada em uma tela, a criatura é
+ * apenas uma visão de um índice do {@link CreatureSystem}: a posição e os componentes ficam nos vetores do sistema.
+ * Fora do registro, o estado fica nos próprios campos do objeto.
+ * </p>
+ *
+ * @author Arthur dos Santos Rezende
+ * @version 1.0
+ */
+public abstract class Criatura extends ObjetoColidivel {
+    /** Direções, indexadas pelo valor guardado em {@code direcao} */
+    private static final Direction[] DIRECOES = Direction.values();
+    /** Relógio de simulação da tela da criatura */
+    protected final SimClock relogio;
+    /** Fluxo de números aleatórios da criatura */
+    protected final SplittableRandom aleatorio = GameRandom.novoFluxo();
+    /** Velocidade (se a criatura é estacionária, o valor é 0) */
+    private int velocidade;
+    /** Direção atual */
+    private byte direcao;
+    /** Pontos de vida */
+    private int hp;
+    /** Pontos de vida máximos */
+    private int hpMaximo;
+    /** Início do timer usado nos ataques */
+    private long timer;
+    /** Partícula de alerta da criatura */
+    private int alerta;
+    /** Flags de estado (ver {@link CreatureSystem}) */
+    private byte flags = CreatureSystem.VIVO;
+    /** Sistema de criaturas ao qual a criatura está anexada */
+    private CreatureSystem sistema;
+    /** Índice da criatura nos vetores do sistema (-1 se não está anexada) */
+    int indice = -1;
+
+    /**
+     * Construtor da classe Criatura
+     *
+     * @param x Posição x
+     * @param y Posição y
+     * @param largura Largura
+     * @param altura Altura
+     * @param cor Cor
+     * @param relogio Relógio de simulação da tela
+     * @param hp Pontos de vida
+     * @param velocidade Velocidade
+     * @param direcao Direção inicial
+     * @param isFlying Voa/Escala sobre paredes?
+     */
+    public Criatura(int x, int y, int largura, int altura, Color cor, SimClock relogio, int hp, int velocidade,
+                    Direction direcao, boolean isFlying){
+        super(x, y, largura, altura, cor, CollisionLayer.ENEMY);
+        this.relogio = relogio;
+        this.hp = hp;
+        this.hpMaximo = hp;
+        this.velocidade = velocidade;
+        this.direcao = (byte) direcao.ordinal();
+        if(isFlying) this.flags |= CreatureSystem.VOADOR;
+        this.timer = relogio.agora();
+    }
+
+    /**
+     * Anexa a criatura ao sistema de criaturas do registro, copiando seu estado para os vetores do sistema
+     */
+    @Override
+    void aoRegistrar(EntityRegistry registro){
+        if(indice >= 0) return;
+        sistema = registro.getCriaturas();
+        int i = indice = sistema.anexar(this);
+        sistema.x[i] = x; sistema.y[i] = y;
+        sistema.largura[i] = largura; sistema.altura[i] = altura;
+        sistema.velocidade[i] = velocidade; sistema.direcao[i] = direcao;
+        sistema.hp[i] = hp; sistema.hpMaximo[i] = hpMaximo;
+        sistema.timer[i] = timer;
+        sistema.alerta[i] = alerta;
+        sistema.flags[i] = flags;
+    }
+
+    /**
+     * Desanexa a criatura do sistema de criaturas, copiando seu estado de volta para os campos do objeto
+     */
+    @Override
+    void aoSairDoRegistro(){
+        if(indice < 0) return;
+        int i = indice;
+        x = sistema.x[i]; y = sistema.y[i];
+        velocidade = sistema.velocidade[i]; direcao = sistema.direcao[i];
+        hp = sistema.hp[i]; hpMaximo = sistema.hpMaximo[i];
+        timer = sistema.timer[i];
+        alerta = sistema.alerta[i];
+        flags = sistema.flags[i];
+        sistema.desanexar(i);
+        sistema = null;
+        indice = -1;
+    }
+
+    /**
+     * Reduz os pontos de vida da criatura
+     *
+     * @param dano O dano causado
+     * @return Os pontos de vida restantes
+     */
+    protected int reduzirHp(int dano){
+        if(indice < 0) return hp -= dano;
+        return sistema.hp[indice] -= dano;
+    }
+
+    /**
+     * Marca a criatura como morta. Criaturas mortas não são mais movidas pelo sistema
+     */
+    public void morrer(){ definirFlag(CreatureSystem.VIVO, false); }
+
+    /**
+     * Reinicia o timer da criatura (usado para medir a duração de alertas e ataques)
+     */
+    public void reiniciarTimer(){
+        if(indice < 0) timer = relogio.agora();
+        else sistema.timer[indice] = relogio.agora();
+    }
+
+    /**
+     * Emite os comandos de desenho da criatura na fila de renderização. Criaturas que controlam ataques visíveis
+     * (projéteis, braços, lasers) sobrescrevem este método para emitir também os ataques
+     *
+     * @param fila Fila de renderização da tela
+     * @param alfa Fração (de 0 a 1) decorrida entre o passo anterior e o atual
+     */
+    public void emitirComandos(RenderQueue fila, double alfa){ fila.objeto(RenderQueue.INIMIGO, this, alfa); }
+
+    /**
+     * Configura o que a criatura faz ao bater durante a patrulha
+     *
+     * @param aleatorio {@code true} para escolher uma direção aleatória, {@code false} para dar meia-volta
+     */
+    protected void setRebateAleatorio(boolean aleatorio){ definirFlag(CreatureSystem.ALEATORIO, aleatorio); }
+
+    // Getters
+
+    @Override
+    public int getX(){ return indice < 0 ? x : sistema.x[indice]; }
+
+    @Override
+    public int getY(){ return indice < 0 ? y : sistema.y[indice]; }
+
+    /**
+     * @return Pontos de vida
+     */
+    public int getHp(){ return indice < 0 ? hp : sistema.hp[indice]; }
+
+    /**
+     * @return Pontos de vida máximos
+     */
+    public int getHpMaximo(){ return indice < 0 ? hpMaximo : sistema.hpMaximo[indice]; }
+
+    /**
+     * @return Velocidade
+     */
+    public int getVelocidade(){ return indice < 0 ? velocidade : sistema.velocidade[indice]; }
+
+    /**
+     * @return Direção atual
+     */
+    public Direction getDirecao(){ return DIRECOES[indice < 0 ? direcao : sistema.direcao[indice]]; }
+
+    /**
+     * @return Tempo (em milissegundos de simulação) desde o último {@code reiniciarTimer}
+     */
+    public long getTempoDecorrido(){ return relogio.agora() - (indice < 0 ? timer : sistema.timer[indice]); }
+
+    /**
+     * @return Início do timer (em milissegundos de simulação)
+     */
+    public long getTimer(){ return indice < 0 ? timer : sistema.timer[indice]; }
+
+    /**
+     * @return Partícula de alerta da criatura
+     */
+    public int getAlerta(){ return indice < 0 ? alerta : sistema.alerta[indice]; }
+
+    /**
+     * @return Se está viva
+     */
+    public boolean isAlive(){ return temFlag(CreatureSystem.VIVO); }
+
+    /**
+     * @return Se pode passar por cima de paredes
+     */
+    public boolean isFlying(){ return temFlag(CreatureSystem.VOADOR); }
+
+    /**
+     * @return Se está patrulhando
+     */
+    public boolean isPatrulhando(){ return temFlag(CreatureSystem.PATRULHA); }
+
+    /**
+     * @return Se está em alerta
+     */
+    public boolean isTriggered(){ return temFlag(CreatureSystem.ALERTA); }
+
+    /**
+     * @return Se está atacando
+     */
+    public boolean isAttacking(){ return temFlag(CreatureSystem.ATACANDO); }
+
+    // Setters
+
+    @Override
+    public void setX(int x){
+        if(indice < 0) this.x = x;
+        else sistema.x[indice] = x;
+    }
+
+    @Override
+    public void setY(int y){
+        if(indice < 0) this.y = y;
+        else sistema.y[indice] = y;
+    }
+
+    /**
+     * Atualiza a velocidade
+     *
+     * @param velocidade a nova velocidade
+     */
+    public void setVelocidade(int velocidade){
+        if(indice < 0) this.velocidade = velocidade;
+        else sistema.velocidade[indice] = velocidade;
+    }
+
+    /**
+     * Atualiza a direção
+     *
+     * @param direcao a nova direção
+     */
+    public void setDirecao(Direction direcao){
+        if(indice < 0) this.direcao = (byte) direcao.ordinal();
+        else sistema.direcao[indice] = (byte) direcao.ordinal();
+    }
+
+    /**
+     * Atualiza a partícula de alerta
+     *
+     * @param alerta o identificador da nova partícula
+     */
+    public void setAlerta(int alerta){
+        if(indice < 0) this.alerta = alerta;
+        else sistema.alerta[indice] = alerta;
+    }
+
+    /**
+     * Liga ou desliga o movimento de patrulha
+     *
+     * @param patrulhando {@code true} para que o sistema passe a mover a criatura
+     */
+    public void setPatrulhando(boolean patrulhando){ definirFlag(CreatureSystem.PATRULHA, patrulhando); }
+
+    /**
+     * Atualiza o estado de alerta
+     *
+     * @param triggered o novo estado
+     */
+    public void setTriggered(boolean triggered){ definirFlag(CreatureSystem.ALERTA, triggered); }
+
+    /**
+     * Atualiza o estado de ataque
+     *
+     * @param attacking o novo estado
+     */
+    public void setAttacking(boolean attacking){ definirFlag(CreatureSystem.ATACANDO, attacking); }
+
+    /**
+     * @param flag A flag
+     * @return Se a flag está ligada
+     */
+    private boolean temFlag(byte flag){ return ((indice < 0 ? flags : sistema.flags[indice]) & flag) != 0; }
+
+    /**
+     * Liga ou desliga uma flag
+     *
+     * @param flag A flag
+     * @param valor {@code true} para ligar, {@code false} para desligar
+     */
+    private void definirFlag(byte flag, boolean valor){
+        byte atual = indice < 0 ? flags : sistema.flags[indice];
+        byte novo = (byte) (valor ? atual | flag : atual & ~flag);
+        if(indice < 0) flags = novo;
+        else sistema.flags[indice] = novo;
+    }
+}
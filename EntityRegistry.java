@@ -0,0 +1,245 @@
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Classe do registro de entidades (objetos colidíveis) de uma tela
+ * <p>
+ * As entidades ficam em um vetor denso, sem buracos, e cada uma recebe um identificador (handle) inteiro que não
+ * muda enquanto ela estiver registrada. Remover uma entidade não desloca o vetor: ela troca de lugar com a última
+ * (swap-remove), então a remoção custa tempo constante.
+ * </p>
+ * <p>
+ * A remoção é adiada: {@code remover} tira a entidade da grade espacial na hora, para que ela não colida mais, mas
+ * ela só sai do vetor em {@code aplicarRemocoes}, chamado no fim de cada passo de simulação. Assim é seguro remover
+ * entidades enquanto o registro está sendo percorrido.
+ * </p>
+ *
+ * @author Arthur dos Santos Rezende
+ * @version 1.0
+ */
+public class EntityRegistry implements Iterable<ObjetoColidivel> {
+    /** Identificador de uma entidade que não está registrada */
+    public static final int NENHUM = -1;
+    /** Quantidade de bits do identificador usados para o índice do slot; o restante guarda a geração */
+    private static final int BITS_SLOT = 20;
+    private static final int MASCARA_SLOT = (1 << BITS_SLOT) - 1;
+    private static final int MASCARA_GERACAO = (1 << (32 - BITS_SLOT)) - 1;
+
+    /** Grade espacial mantida em sincronia com o registro */
+    private final SpatialGrid grade;
+    /** Sistema onde ficam os dados dos projéteis registrados */
+    private final ProjectileSystem projeteis;
+    /** Sistema onde ficam os dados das criaturas registradas */
+    private final CreatureSystem criaturas;
+    /** Entidades registradas, sem buracos */
+    private ObjetoColidivel[] densos = new ObjetoColidivel[64];
+    /** Slot de cada entidade do vetor denso */
+    private int[] slotPorIndice = new int[64];
+    /** Índice no vetor denso de cada slot (ou {@code NENHUM} se o slot está livre) */
+    private int[] indicePorSlot = new int[64];
+    /** Geração de cada slot, incrementada a cada reutilização para invalidar identificadores antigos */
+    private int[] geracao = new int[64];
+    /** Pilha de slots livres */
+    private int[] slotsLivres = new int[64];
+    private int totalLivres = 0;
+    /** Quantidade de slots já usados ao menos uma vez */
+    private int totalSlots = 0;
+    /** Quantidade de entidades registradas */
+    private int tamanho = 0;
+    /** Entidades aguardando o fim do passo para saírem do registro */
+    private ObjetoColidivel[] pendentes = new ObjetoColidivel[16];
+    private int totalPendentes = 0;
+
+    /**
+     * Construtor do registro
+     *
+     * @param grade Grade espacial onde as entidades serão inseridas e removidas
+     * @param projeteis Sistema de projéteis ao qual os projéteis registrados são anexados
+     * @param criaturas Sistema de criaturas ao qual os inimigos e bosses registrados são anexados
+     */
+    public EntityRegistry(SpatialGrid grade, ProjectileSystem projeteis, CreatureSystem criaturas){
+        this.grade = grade;
+        this.projeteis = projeteis;
+        this.criaturas = criaturas;
+        Arrays.fill(indicePorSlot, NENHUM);
+    }
+
+    /**
+     * Registra uma entidade e a insere na grade espacial. Se ela estava aguardando remoção, a remoção é cancelada
+     *
+     * @param obj A entidade a ser registrada
+     * @return O identificador da entidade
+     */
+    public int adicionar(ObjetoColidivel obj){
+        if(obj.handleRegistro != NENHUM){
+            obj.remocaoPendente = false;
+            grade.inserir(obj);
+            return obj.handleRegistro;
+        }
+
+        int slot = totalLivres > 0 ? slotsLivres[--totalLivres] : novoSlot();
+        if(tamanho == densos.length){
+            densos = Arrays.copyOf(densos, tamanho * 2);
+            slotPorIndice = Arrays.copyOf(slotPorIndice, tamanho * 2);
+        }
+        densos[tamanho] = obj;
+        slotPorIndice[tamanho] = slot;
+        indicePorSlot[slot] = tamanho;
+        tamanho++;
+
+        obj.handleRegistro = (geracao[slot] << BITS_SLOT) | slot;
+        obj.remocaoPendente = false;
+        obj.aoRegistrar(this);
+        grade.inserir(obj);
+        return obj.handleRegistro;
+    }
+
+    /**
+     * Remove uma entidade da grade espacial imediatamente e agenda sua saída do registro para o fim do passo
+     *
+     * @param obj A entidade a ser removida
+     */
+    public void remover(ObjetoColidivel obj){
+        grade.remover(obj);
+        if(obj.handleRegistro == NENHUM || obj.remocaoPendente) return;
+        obj.remocaoPendente = true;
+        if(totalPendentes == pendentes.length) pendentes = Arrays.copyOf(pendentes, totalPendentes * 2);
+        pendentes[totalPendentes++] = obj;
+    }
+
+    /**
+     * Tira do registro as entidades cuja remoção foi agendada. Deve ser chamado no fim de cada passo de simulação
+     */
+    public void aplicarRemocoes(){
+        for(int i = 0; i < totalPendentes; i++){
+            ObjetoColidivel obj = pendentes[i];
+            pendentes[i] = null;
+            // A remoção pode ter sido cancelada por um novo adicionar
+            if(obj.remocaoPendente) removerAgora(obj);
+        }
+        totalPendentes = 0;
+    }
+
+    /**
+     * Remove todas as entidades do registro e da grade espacial
+     */
+    public void limpar(){
+        for(int i = 0; i < tamanho; i++){
+            densos[i].handleRegistro = NENHUM;
+            densos[i].remocaoPendente = false;
+            densos[i].aoSairDoRegistro();
+            densos[i] = null;
+        }
+        Arrays.fill(pendentes, 0, totalPendentes, null);
+        totalPendentes = 0;
+        for(int slot = 0; slot < totalSlots; slot++){
+            if(indicePorSlot[slot] != NENHUM) liberarSlot(slot);
+        }
+        tamanho = 0;
+        grade.limpar();
+    }
+
+    /**
+     * Busca a entidade de um identificador
+     *
+     * @param handle O identificador
+     * @return A entidade, ou {@code null} se o identificador não é mais válido
+     */
+    public ObjetoColidivel obter(int handle){
+        if(handle == NENHUM) return null;
+        int slot = handle & MASCARA_SLOT;
+        if(slot >= totalSlots || geracao[slot] != handle >>> BITS_SLOT || indicePorSlot[slot] == NENHUM) return null;
+        return densos[indicePorSlot[slot]];
+    }
+
+    /**
+     * @return Sistema de projéteis do registro
+     */
+    public ProjectileSystem getProjeteis(){ return projeteis; }
+
+    /**
+     * @return Sistema de criaturas do registro
+     */
+    public CreatureSystem getCriaturas(){ return criaturas; }
+
+    /**
+     * @return Quantidade de entidades registradas (incluindo as que aguardam remoção)
+     */
+    public int tamanho(){ return tamanho; }
+
+    /**
+     * @param indice Índice no vetor denso (de 0 a {@code tamanho() - 1})
+     * @return A entidade do índice
+     */
+    public ObjetoColidivel get(int indice){ return densos[indice]; }
+
+    /**
+     * Percorre as entidades registradas. Remoções durante o percurso são seguras, já que só são aplicadas no fim do
+     * passo; entidades adicionadas durante o percurso também são visitadas
+     */
+    @Override
+    public Iterator<ObjetoColidivel> iterator(){
+        return new Iterator<ObjetoColidivel>() {
+            private int i = 0;
+
+            @Override
+            public boolean hasNext(){ return i < tamanho; }
+
+            @Override
+            public ObjetoColidivel next(){
+                if(i >= tamanho) throw new NoSuchElementException();
+                return densos[i++];
+            }
+        };
+    }
+
+    /**
+     * Remove uma entidade do vetor denso, trocando-a de lugar com a última
+     *
+     * @param obj A entidade a ser removida
+     */
+    private void removerAgora(ObjetoColidivel obj){
+        int slot = obj.handleRegistro & MASCARA_SLOT;
+        int indice = indicePorSlot[slot];
+        int ultimo = tamanho - 1;
+
+        densos[indice] = densos[ultimo];
+        slotPorIndice[indice] = slotPorIndice[ultimo];
+        indicePorSlot[slotPorIndice[indice]] = indice;
+        densos[ultimo] = null;
+        tamanho--;
+
+        liberarSlot(slot);
+        obj.handleRegistro = NENHUM;
+        obj.remocaoPendente = false;
+        obj.aoSairDoRegistro();
+    }
+
+    /**
+     * Devolve um slot à pilha de slots livres, invalidando os identificadores que apontavam para ele
+     *
+     * @param slot O slot a ser liberado
+     */
+    private void liberarSlot(int slot){
+        indicePorSlot[slot] = NENHUM;
+        geracao[slot] = (geracao[slot] + 1) & MASCARA_GERACAO;
+        slotsLivres[totalLivres++] = slot;
+    }
+
+    /**
+     * Reserva um slot nunca usado, aumentando os vetores se necessário
+     *
+     * @return O novo slot
+     */
+    private int novoSlot(){
+        if(totalSlots == indicePorSlot.length){
+            int novo = totalSlots * 2;
+            indicePorSlot = Arrays.copyOf(indicePorSlot, novo);
+            Arrays.fill(indicePorSlot, totalSlots, novo, NENHUM);
+            geracao = Arrays.copyOf(geracao, novo);
+            slotsLivres = Arrays.copyOf(slotsLivres, novo);
+        }
+        return totalSlots++;
+    }
+}
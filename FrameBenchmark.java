@@ -0,0 +1,108 @@
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Medidor de quadros do modo headless
+ * <p>
+ * Carrega uma dungeon ou luta de boss sem janela, com uma semente fixa, e executa os passos de simulação. A cada
+ * intervalo, desenha a tela em uma imagem fora da tela, imprime o hash dos pixels do quadro e mede o tempo de desenho.
+ * No final, imprime o tempo médio de desenho de um quadro. Com a mesma semente, os hashes de duas versões do jogo só
+ * coincidem se os quadros forem idênticos.
+ * </p>
+ * <p>
+ * A classe só usa o que o jogo já tinha desde a sessão com semente ({@link GameRandom}): o carregamento headless do
+ * {@link HeadlessEngine} e o desenho e a atualização da {@link TelaBase}. Assim, ela pode ser compilada junto com
+ * versões antigas do jogo para comparar duas versões com a mesma medição.
+ * </p>
+ * <p>
+ * Uso: {@code java -Djava.awt.headless=true FrameBenchmark (dungeon|boss) <número> [ticks] [intervalo entre quadros] [semente]}
+ * </p>
+ *
+ * @author Arthur dos Santos Rezende
+ * @version 1.0
+ */
+public class FrameBenchmark {
+    /** Quantidade padrão de ticks simulados (30 segundos de jogo) */
+    private static final long TICKS_PADRAO = 3_000;
+    /** Intervalo padrão entre quadros desenhados (em ticks) */
+    private static final long INTERVALO_PADRAO = 50;
+    /** Semente padrão da sessão */
+    private static final long SEMENTE_PADRAO = 5;
+    /** Desenhos não medidos antes do primeiro quadro, para o JIT compilar o caminho de desenho */
+    private static final int AQUECIMENTO = 100;
+    /** Vezes que cada quadro é desenhado na medição do tempo */
+    private static final int REPETICOES = 10;
+    private static final String USO =
+        "Uso: java -Djava.awt.headless=true FrameBenchmark (dungeon <0-24> | boss <0-6>) [ticks] [intervalo entre quadros] [semente]";
+
+    /**
+     * Executa a medição
+     *
+     * @param args Tipo de fase, número da fase, quantidade de ticks, intervalo entre quadros e semente da sessão
+     * @throws IOException Se ocorrer um erro de I/O durante a leitura do arquivo de save
+     */
+    public static void main(String[] args) throws IOException {
+        if(args.length < 2){
+            System.err.println(USO);
+            System.exit(1);
+        }
+        System.setProperty("java.awt.headless", "true");
+        MusicPlayer.setAudioAtivo(false);
+
+        int numero = Integer.parseInt(args[1]);
+        long ticks = args.length > 2 ? Long.parseLong(args[2]) : TICKS_PADRAO;
+        long intervalo = args.length > 3 ? Long.parseLong(args[3]) : INTERVALO_PADRAO;
+        GameRandom.iniciar(args.length > 4 ? Long.parseLong(args[4]) : SEMENTE_PADRAO);
+        System.out.println("semente " + GameRandom.getSemente());
+
+        TelaBase tela;
+        switch(args[0]){
+            case "dungeon": tela = HeadlessEngine.carregarDungeon(numero); break;
+            case "boss": tela = HeadlessEngine.carregarBoss(numero); break;
+            default:
+                System.err.println(USO);
+                System.exit(1);
+                return;
+        }
+        desenharQuadros(tela, ticks, intervalo);
+        // Encerra as threads do AWT criadas pelos componentes Swing
+        System.exit(0);
+    }
+
+    /**
+     * Executa ticks de simulação e, a cada intervalo, desenha a tela em uma imagem fora da tela. Imprime o hash dos
+     * pixels de cada quadro e, no final, o tempo médio de desenho de um quadro
+     *
+     * @param tela Tela a ser simulada
+     * @param ticks Quantidade máxima de ticks
+     * @param intervalo Intervalo entre quadros desenhados (em ticks)
+     * @return Tempo médio de desenho de um quadro (em milissegundos)
+     */
+    public static double desenharQuadros(TelaBase tela, long ticks, long intervalo) {
+        BufferedImage quadro = new BufferedImage(TelaBase.LARGURA_TELA, TelaBase.ALTURA_TELA, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = quadro.createGraphics();
+        for(int i = 0; i < AQUECIMENTO; i++) tela.desenharTela(g);
+
+        long executados = 0;
+        long desenhados = 0;
+        long tempoDesenho = 0;
+        while(executados < ticks && tela.estado == TelaBase.EstadoJogo.RODANDO){
+            tela.atualizar();
+            executados++;
+            if(executados % intervalo == 0 && tela.estado == TelaBase.EstadoJogo.RODANDO){
+                long inicio = System.nanoTime();
+                for(int i = 0; i < REPETICOES; i++) tela.desenharTela(g);
+                tempoDesenho += System.nanoTime() - inicio;
+                desenhados++;
+                int[] pixels = quadro.getRGB(0, 0, quadro.getWidth(), quadro.getHeight(), null, 0, quadro.getWidth());
+                System.out.printf("quadro %d %08x%n", executados, Arrays.hashCode(pixels));
+            }
+        }
+        g.dispose();
+        double media = desenhados == 0 ? 0 : tempoDesenho / 1e6 / (desenhados * REPETICOES);
+        System.out.printf("%d quadros em %d ticks, %.3f ms/quadro%n", desenhados, executados, media);
+        return media;
+    }
+}
@@ -0,0 +1,154 @@
+import java.awt.DisplayMode;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsDevice;
+import java.awt.GraphicsEnvironment;
+import java.lang.reflect.InvocationTargetException;
+import javax.swing.SwingUtilities;
+
+/**
+ * Classe do loop principal do jogo
+ * <p>
+ * Roda em uma thread própria e avança a simulação da tela em passos fixos de {@code passo} milissegundos, usando um
+ * acumulador de tempo. A renderização acontece uma vez por quadro, independente de quantos passos foram simulados,
+ * e o número de passos por quadro é limitado para que um quadro lento não gere uma espiral de atrasos. O tempo que sobra
+ * no acumulador é passado para a renderização, que interpola as posições entre o passo anterior e o atual.
+ * </p>
+ * <p>
+ * A taxa de quadros acompanha a frequência de atualização do monitor (ex.: 120 ou 144 Hz), para que a interpolação
+ * também aproveite monitores mais rápidos que a simulação. Ela pode ser fixada com
+ * {@code -DquadrosPorSegundo=<taxa>}, e é de 60 quadros por segundo quando a frequência do monitor é desconhecida.
+ * </p>
+ * <p>
+ * Os passos e a renderização são executados na thread de eventos do Swing, então o estado do jogo continua sendo
+ * acessado por uma única thread.
+ * </p>
+ *
+ * @author Arthur dos Santos Rezende
+ * @version 1.0
+ */
+public class GameLoop implements Runnable {
+    /** Quantidade máxima de passos de simulação executados em um único quadro */
+    private static final int MAX_PASSOS_POR_QUADRO = 5;
+    /** Taxa de quadros usada quando a frequência do monitor é desconhecida */
+    private static final int QUADROS_PADRAO = 60;
+    /** Propriedade do sistema que fixa a taxa de quadros, no lugar da frequência do monitor */
+    public static final String PROPRIEDADE_QUADROS = "quadrosPorSegundo";
+
+    private final TelaBase tela;
+    private final long passoNanos;
+    private volatile Thread thread;
+
+    /**
+     * Construtor do loop
+     *
+     * @param tela Tela que será atualizada e renderizada
+     * @param passo Duração de um passo de simulação (em milissegundos)
+     */
+    public GameLoop(TelaBase tela, int passo){
+        this.tela = tela;
+        this.passoNanos = passo * 1_000_000L;
+    }
+
+    /**
+     * Inicia a thread do loop, caso ainda não esteja rodando
+     */
+    public synchronized void start(){
+        if(thread != null) return;
+        thread = new Thread(this, "GameLoop-" + tela.getClass().getSimpleName());
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Para o loop. A thread termina no próximo quadro, sem executar mais passos
+     */
+    public synchronized void stop(){
+        thread = null;
+    }
+
+    /**
+     * Verifica se o loop está rodando
+     *
+     * @return {@code true} se o loop está rodando
+     */
+    public boolean isRunning(){
+        return thread != null;
+    }
+
+    /**
+     * Verifica se a thread atual ainda é a thread ativa do loop
+     *
+     * @param t Thread do loop
+     * @return {@code true} se o loop não foi parado ou reiniciado
+     */
+    private boolean ativo(Thread t){
+        return thread == t;
+    }
+
+    /**
+     * Determina a taxa de quadros da renderização: a definida em {@link #PROPRIEDADE_QUADROS} ou, se não houver, a
+     * frequência de atualização do monitor em que a tela está
+     *
+     * @return A taxa de quadros (em quadros por segundo)
+     */
+    private int taxaDeQuadros(){
+        Integer fixa = Integer.getInteger(PROPRIEDADE_QUADROS);
+        if(fixa != null && fixa > 0) return fixa;
+        if(GraphicsEnvironment.isHeadless()) return QUADROS_PADRAO;
+
+        GraphicsConfiguration configuracao = tela.getGraphicsConfiguration();
+        GraphicsDevice monitor = configuracao != null ? configuracao.getDevice()
+            : GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice();
+        int frequencia = monitor.getDisplayMode().getRefreshRate();
+        return frequencia == DisplayMode.REFRESH_RATE_UNKNOWN ? QUADROS_PADRAO : frequencia;
+    }
+
+    /**
+     * Executa o loop de passo fixo até que ele seja parado
+     */
+    @Override
+    public void run(){
+        Thread atual = Thread.currentThread();
+        final long nanosPorQuadro = 1_000_000_000L / taxaDeQuadros();
+        long anterior = System.nanoTime();
+        long proximoQuadro = anterior;
+        long acumulador = 0;
+
+        while(ativo(atual)){
+            long agora = System.nanoTime();
+            acumulador += agora - anterior;
+            anterior = agora;
+
+            int passos = (int) Math.min(acumulador / passoNanos, MAX_PASSOS_POR_QUADRO);
+            acumulador -= passos * passoNanos;
+            // Descarta o atraso que passou do limite em vez de tentar recuperá-lo
+            if(acumulador >= passoNanos) acumulador %= passoNanos;
+
+            final int total = passos;
+            // Fração do próximo passo já decorrida, usada para interpolar as posições desenhadas
+            final double alfa = (double) acumulador / passoNanos;
+            try {
+                SwingUtilities.invokeAndWait(() -> {
+                    for(int i = 0; i < total && ativo(atual); i++) tela.atualizar();
+                    if(ativo(atual)) tela.renderizar(alfa);
+                });
+            } catch (InterruptedException e) {
+                break;
+            } catch (InvocationTargetException e) {
+                e.getCause().printStackTrace();
+            }
+
+            proximoQuadro += nanosPorQuadro;
+            long espera = proximoQuadro - System.nanoTime();
+            if(espera > 0){
+                try {
+                    Thread.sleep(espera / 1_000_000L, (int) (espera % 1_000_000L));
+                } catch (InterruptedException e) {
+                    break;
+                }
+            } else {
+                proximoQuadro = System.nanoTime();
+            }
+        }
+    }
+}
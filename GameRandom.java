@@ -0,0 +1,81 @@
+import java.util.SplittableRandom;
+
+/**
+ * Classe do gerador de números aleatórios da sessão de jogo
+ * <p>
+ * Toda a aleatoriedade do jogo vem de um único {@link SplittableRandom} criado a partir da semente da sessão. Cada
+ * entidade que precisa de números aleatórios recebe o seu próprio fluxo, obtido com {@code novoFluxo} (um
+ * {@code split} do gerador raiz), então as entidades não interferem na sequência umas das outras e nenhum gerador é
+ * criado durante a simulação. Como as entidades são criadas sempre na mesma ordem, a mesma semente reproduz a mesma
+ * partida, o que permite comparar execuções do modo headless.
+ * </p>
+ * <p>
+ * Cada execução do jogo é uma sessão nova, com uma semente nova ({@code novaSemente}), que é gravada junto com o save
+ * (segunda linha de {@code save_data/save.dat}). A semente gravada só é usada de novo quando isso é pedido, com
+ * {@code -DrepetirSemente=true}, para reproduzir a última sessão; o modo headless recebe a semente como argumento.
+ * </p>
+ *
+ * @author Arthur dos Santos Rezende
+ * @version 1.0
+ */
+public final class GameRandom {
+    /** Propriedade do sistema que faz a sessão repetir a semente gravada no save */
+    public static final String PROPRIEDADE_REPETIR = "repetirSemente";
+
+    /** Semente da sessão */
+    private static long semente;
+    /** Gerador raiz, de onde saem os fluxos das entidades ({@code null} até a sessão ser iniciada) */
+    private static SplittableRandom raiz;
+
+    /** A classe só tem métodos estáticos */
+    private GameRandom(){}
+
+    /**
+     * Inicia (ou reinicia) a sessão com uma semente
+     *
+     * @param semente A semente da sessão
+     */
+    public static synchronized void iniciar(long semente){
+        GameRandom.semente = semente;
+        GameRandom.raiz = new SplittableRandom(semente);
+    }
+
+    /**
+     * Cria um fluxo independente para uma entidade. Se a sessão ainda não foi iniciada, ela é iniciada com uma
+     * semente nova
+     *
+     * @return O fluxo da entidade
+     */
+    public static synchronized SplittableRandom novoFluxo(){
+        if(raiz == null) iniciar(novaSemente());
+        return raiz.split();
+    }
+
+    /**
+     * @return Uma semente nova, diferente a cada chamada
+     */
+    public static long novaSemente(){
+        return new SplittableRandom().nextLong();
+    }
+
+    // Getters
+
+    /**
+     * @return Se a semente gravada no save deve ser repetida (propriedade {@code repetirSemente}), em vez de a sessão
+     * começar com uma semente nova
+     */
+    public static boolean isRepetirSemente(){ return Boolean.getBoolean(PROPRIEDADE_REPETIR); }
+
+    /**
+     * @return Se a sessão já foi iniciada
+     */
+    public static synchronized boolean isIniciado(){ return raiz != null; }
+
+    /**
+     * @return A semente da sessão (se a sessão ainda não foi iniciada, ela é iniciada com uma semente nova)
+     */
+    public static synchronized long getSemente(){
+        if(raiz == null) iniciar(novaSemente());
+        return semente;
+    }
+}
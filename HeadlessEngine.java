@@ -0,0 +1,112 @@
+import java.io.IOException;
+
+/**
+ * Ponto de entrada do modo headless
+ * <p>
+ * Carrega qualquer dungeon ou luta de boss sem janela e sem áudio, executa os passos de simulação o mais rápido
+ * que o processador permitir e relata o estado do mundo periodicamente. Serve para medir a vazão da simulação e
+ * para execuções longas em máquinas sem tela.
+ * </p>
+ * <p>
+ * Uso: {@code java -Djava.awt.headless=true HeadlessEngine (dungeon|boss) <número> [ticks] [intervalo de relatório] [semente]}
+ * </p>
+ *
+ * @author Arthur dos Santos Rezende
+ * @version 1.0
+ */
+public class HeadlessEngine {
+    /** Quantidade padrão de ticks simulados (10 minutos de jogo) */
+    private static final long TICKS_PADRAO = 60_000;
+    /** Intervalo padrão entre relatórios (em ticks) */
+    private static final long RELATORIO_PADRAO = 6_000;
+    private static final String USO =
+        "Uso: java -Djava.awt.headless=true HeadlessEngine (dungeon <0-24> | boss <0-6>) [ticks] [intervalo de relatório] [semente]";
+
+    /**
+     * Executa a simulação headless
+     *
+     * @param args Tipo de fase, número da fase, quantidade de ticks, intervalo entre relatórios e semente da sessão
+     * @throws IOException Se ocorrer um erro de I/O durante a leitura do arquivo de save
+     */
+    public static void main(String[] args) throws IOException {
+        if(args.length < 2){
+            System.err.println(USO);
+            System.exit(1);
+        }
+        System.setProperty("java.awt.headless", "true");
+        MusicPlayer.setAudioAtivo(false);
+
+        int numero = Integer.parseInt(args[1]);
+        long ticks = args.length > 2 ? Long.parseLong(args[2]) : TICKS_PADRAO;
+        long relatorio = args.length > 3 ? Long.parseLong(args[3]) : RELATORIO_PADRAO;
+        // Com a mesma semente, duas execuções simulam exatamente a mesma partida. Sem semente, a sessão usa uma nova
+        // (mostrada no relatório), e o save não é alterado
+        GameRandom.iniciar(args.length > 4 ? Long.parseLong(args[4]) : GameRandom.novaSemente());
+        System.out.println("semente " + GameRandom.getSemente());
+
+        TelaBase tela;
+        switch(args[0]){
+            case "dungeon": tela = carregarDungeon(numero); break;
+            case "boss": tela = carregarBoss(numero); break;
+            default:
+                System.err.println(USO);
+                System.exit(1);
+                return;
+        }
+        executar(tela, ticks, relatorio);
+        // Encerra as threads do AWT criadas pelos componentes Swing
+        System.exit(0);
+    }
+
+    /**
+     * Carrega uma dungeon sem janela
+     *
+     * @param indice Índice da dungeon (de 0 a 24)
+     * @return A tela de jogo com a dungeon carregada
+     * @throws IOException Se ocorrer um erro de I/O durante a leitura do arquivo de save
+     */
+    public static TelaJogo carregarDungeon(int indice) throws IOException {
+        TelaJogo tela = new TelaJogo(new MusicPlayer());
+        tela.carregarDungeon(indice);
+        return tela;
+    }
+
+    /**
+     * Carrega uma luta de boss sem janela
+     *
+     * @param bossNum Número do boss (de 0 a 6)
+     * @return A tela de boss carregada
+     */
+    public static TelaBoss carregarBoss(int bossNum) {
+        return new TelaBoss(new MusicPlayer(), bossNum);
+    }
+
+    /**
+     * Executa ticks de simulação até atingir a quantidade pedida ou até a tela deixar de rodar (ex.: game over)
+     *
+     * @param tela Tela a ser simulada
+     * @param ticks Quantidade máxima de ticks
+     * @param intervaloRelatorio Intervalo entre relatórios (em ticks); 0 para relatar apenas no final
+     * @return Quantidade de ticks executados
+     */
+    public static long executar(TelaBase tela, long ticks, long intervaloRelatorio) {
+        System.out.println("inicio " + tela.descreverEstado());
+        long inicio = System.nanoTime();
+        long executados = 0;
+        while(executados < ticks && tela.estado == TelaBase.EstadoJogo.RODANDO){
+            tela.atualizar();
+            executados++;
+            if(intervaloRelatorio > 0 && executados % intervaloRelatorio == 0){
+                System.out.println(tela.descreverEstado());
+            }
+        }
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+        System.out.println("fim " + tela.descreverEstado());
+        System.out.printf("%d ticks em %.3f s (%.0f ticks/s, %.1fx tempo real)%n", executados, segundos,
+            executados / segundos, executados * TelaBase.INTERVALO / (segundos * 1000));
+        for(ProjectilePool pool : ProjectilePool.getPools()) System.out.println("pool " + pool);
+        System.out.println(ImageLoader.descrever());
+        System.out.println(AssetManager.descrever());
+        return executados;
+    }
+}
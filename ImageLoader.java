@@ -0,0 +1,178 @@
+import javax.imageio.ImageIO;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Classe do carregador de imagens do jogo
+ * <p>
+ * O {@code ImageIO.read} devolve as imagens no formato em que o PNG foi decodificado (normalmente
+ * {@code TYPE_4BYTE_ABGR} ou {@code TYPE_3BYTE_BGR}), que o Java2D precisa converter a cada vez que a imagem é
+ * desenhada. O carregador converte cada imagem, uma única vez, para uma imagem compatível com a tela
+ * ({@code GraphicsConfiguration.createCompatibleImage}), que pode ser desenhada pelo caminho acelerado e guardada
+ * em cache pelo Java2D. Fundos e paredes são carregados como imagens opacas; o resto mantém a transparência.
+ * </p>
+ * <p>
+ * O carregador conta quantas imagens chegaram em um formato diferente do compatível (e teriam ficado no caminho
+ * lento de desenho), o que pode ser consultado em {@code descrever}.
+ * </p>
+ *
+ * @author Arthur dos Santos Rezende
+ * @version 1.0
+ */
+public final class ImageLoader {
+    /** Quantidade de imagens carregadas */
+    private static final AtomicInteger total = new AtomicInteger();
+    /** Quantidade de imagens que chegaram em um formato diferente do compatível e precisaram ser convertidas */
+    private static final AtomicInteger convertidas = new AtomicInteger();
+
+    /** A classe só tem métodos estáticos */
+    private ImageLoader(){}
+
+    /**
+     * Carrega uma imagem, mantendo a transparência
+     *
+     * @param caminho Caminho do arquivo
+     * @return A imagem em um formato compatível com a tela
+     * @throws IOException Se ocorrer um erro de I/O durante a leitura do arquivo
+     */
+    public static BufferedImage carregar(String caminho) throws IOException {
+        return carregar(caminho, Transparency.TRANSLUCENT);
+    }
+
+    /**
+     * Carrega uma imagem opaca (fundos e paredes)
+     *
+     * @param caminho Caminho do arquivo
+     * @return A imagem em um formato opaco compatível com a tela
+     * @throws IOException Se ocorrer um erro de I/O durante a leitura do arquivo
+     */
+    public static BufferedImage carregarOpaca(String caminho) throws IOException {
+        return carregar(caminho, Transparency.OPAQUE);
+    }
+
+    /**
+     * Carrega uma imagem com a transparência pedida. Imagens com transparência vêm do {@link TextureAtlas} quando estão
+     * nele; as outras são lidas do próprio arquivo
+     *
+     * @param caminho Caminho do arquivo
+     * @param transparencia {@code Transparency.OPAQUE}, {@code BITMASK} ou {@code TRANSLUCENT}
+     * @return A imagem em um formato compatível com a tela
+     * @throws IOException Se ocorrer um erro de I/O durante a leitura do arquivo (ou se o arquivo não for uma imagem)
+     */
+    public static BufferedImage carregar(String caminho, int transparencia) throws IOException {
+        if(transparencia != Transparency.OPAQUE){
+            BufferedImage recorte = TextureAtlas.padrao().obter(caminho);
+            if(recorte != null) return recorte;
+        }
+        return carregarArquivo(caminho, transparencia);
+    }
+
+    /**
+     * Carrega uma imagem do próprio arquivo (sem passar pelo atlas), com a transparência pedida
+     *
+     * @param caminho Caminho do arquivo
+     * @param transparencia {@code Transparency.OPAQUE}, {@code BITMASK} ou {@code TRANSLUCENT}
+     * @return A imagem em um formato compatível com a tela
+     * @throws IOException Se ocorrer um erro de I/O durante a leitura do arquivo (ou se o arquivo não for uma imagem)
+     */
+    public static BufferedImage carregarArquivo(String caminho, int transparencia) throws IOException {
+        BufferedImage lida = ImageIO.read(new File(caminho));
+        if(lida == null) throw new IOException("Formato de imagem não reconhecido: " + caminho);
+        return compativel(lida, transparencia);
+    }
+
+    /**
+     * Converte uma imagem para o formato compatível com a tela, se ela ainda não estiver nele
+     *
+     * @param img A imagem
+     * @param transparencia {@code Transparency.OPAQUE}, {@code BITMASK} ou {@code TRANSLUCENT}
+     * @return A própria imagem, se ela já era compatível, ou uma cópia compatível
+     */
+    public static BufferedImage compativel(BufferedImage img, int transparencia) {
+        total.incrementAndGet();
+        if(isCompativel(img, transparencia)) return img;
+        convertidas.incrementAndGet();
+        BufferedImage nova = criar(img.getWidth(), img.getHeight(), transparencia);
+        Graphics2D g = nova.createGraphics();
+        g.drawImage(img, 0, 0, null);
+        g.dispose();
+        return nova;
+    }
+
+    /**
+     * Cria uma imagem vazia no formato compatível com a tela
+     *
+     * @param largura Largura
+     * @param altura Altura
+     * @param transparencia {@code Transparency.OPAQUE}, {@code BITMASK} ou {@code TRANSLUCENT}
+     * @return A imagem criada
+     */
+    public static BufferedImage criar(int largura, int altura, int transparencia) {
+        if(GraphicsEnvironment.isHeadless()) return new BufferedImage(largura, altura, tipoSemTela(transparencia));
+        return configuracao().createCompatibleImage(largura, altura, transparencia);
+    }
+
+    /**
+     * @param img Uma imagem
+     * @param transparencia A transparência desejada
+     * @return Se a imagem já está no formato compatível com a tela
+     */
+    private static boolean isCompativel(BufferedImage img, int transparencia) {
+        if(GraphicsEnvironment.isHeadless()) return img.getType() == tipoSemTela(transparencia);
+        return img.getTransparency() == transparencia && configuracao().getColorModel(transparencia).equals(img.getColorModel());
+    }
+
+    /**
+     * @param transparencia A transparência desejada
+     * @return O tipo de imagem usado quando não há tela (os formatos inteiros são os que o desenho por software trata
+     * mais rápido)
+     */
+    private static int tipoSemTela(int transparencia) {
+        return transparencia == Transparency.OPAQUE ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB;
+    }
+
+    /**
+     * @return A configuração gráfica da tela principal
+     */
+    private static GraphicsConfiguration configuracao() {
+        return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+    }
+
+    /**
+     * @param img Uma imagem
+     * @return A transparência da imagem ({@code Transparency.TRANSLUCENT} se ela não for uma {@code BufferedImage})
+     */
+    public static int transparencia(Image img) {
+        return img instanceof BufferedImage ? ((BufferedImage) img).getTransparency() : Transparency.TRANSLUCENT;
+    }
+
+    /**
+     * Descreve quantas imagens foram carregadas, quantas precisaram de conversão e quantas folhas do atlas foram
+     * decodificadas, usado nos relatórios do modo headless
+     *
+     * @return A descrição dos contadores
+     */
+    public static String descrever() {
+        return "imagens=" + total.get() + " convertidas=" + convertidas.get()
+            + " folhasAtlas=" + TextureAtlas.padrao().getFolhasCarregadas();
+    }
+
+    // Getters
+
+    /**
+     * @return Quantidade de imagens carregadas
+     */
+    public static int getTotal(){ return total.get(); }
+
+    /**
+     * @return Quantidade de imagens que chegaram em um formato diferente do compatível
+     */
+    public static int getConvertidas(){ return convertidas.get(); }
+}
@@ -1,7 +1,11 @@
 import javax.sound.sampled.*;
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 
 /** 
  * Classe para a reprodução de músicas e efeitos sonoros no jogo
@@ -16,6 +20,10 @@ public class MusicPlayer {
     private List<LineListener> lineListeners = new ArrayList<>();
     /** Indica se o clipe está tocando */
     private boolean isPlaying = false;
+    /** Indica se o áudio está habilitado (desabilitado no modo headless) */
+    private static boolean audioAtivo = true;
+    /** Conteúdo dos arquivos de áudio lidos com antecedência, pelo caminho (cada um é usado uma única vez) */
+    private static final ConcurrentHashMap<String, byte[]> precarregadas = new ConcurrentHashMap<>();
     
     /**
      * Começa a tocar um clipe
@@ -24,9 +32,12 @@ public class MusicPlayer {
      * @param loop Indica se o áudio ficará em loop ou não
      */
     public void playSong(String caminho, boolean loop) {
+        if (!audioAtivo) return;
         try {
-            File arquivoMusica = new File(caminho);
-            AudioInputStream audioInput = AudioSystem.getAudioInputStream(arquivoMusica);
+            byte[] dados = precarregadas.remove(caminho);
+            AudioInputStream audioInput = dados != null
+                ? AudioSystem.getAudioInputStream(new ByteArrayInputStream(dados))
+                : AudioSystem.getAudioInputStream(new File(caminho));
             clip = AudioSystem.getClip();
             clip.open(audioInput);
             
@@ -38,6 +49,21 @@ public class MusicPlayer {
         }
     }
     
+    /**
+     * Lê com antecedência um arquivo de áudio, para que o próximo {@code playSong} com ele não precise acessar o disco.
+     * Deve ser chamado fora da thread do Swing
+     *
+     * @param caminho O caminho do áudio em questão
+     */
+    public static void precarregar(String caminho) {
+        if (!audioAtivo || precarregadas.containsKey(caminho)) return;
+        try {
+            precarregadas.put(caminho, Files.readAllBytes(new File(caminho).toPath()));
+        } catch (IOException e) {
+            System.out.println("Erro ao pré-carregar música: " + e.getMessage());
+        }
+    }
+
     /**
      * Para a reprodução do clipe
      */
@@ -80,6 +106,13 @@ public class MusicPlayer {
         return lineListeners.toArray(new LineListener[0]);
     }
     
+    /**
+     * Habilita ou desabilita a reprodução de áudio em todos os players
+     * 
+     * @param ativo {@code false} para que os players ignorem os pedidos de reprodução
+     */
+    public static void setAudioAtivo(boolean ativo) { audioAtivo = ativo; }
+    
     // Getters
 
     /**
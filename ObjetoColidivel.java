@@ -1,5 +1,7 @@
 import java.awt.Color;
 import java.awt.Image;
+import java.util.EnumMap;
+import java.util.EnumSet;
 
 /**
  * Classe base abstrata para todos os objetos colidíveis do jogo. Fornece as funcionalidades comuns entre eles
@@ -18,6 +20,8 @@ public abstract class ObjetoColidivel {
         ENEMY,
         /** Projéteis e outros ataques inimigos */
         PROJECTILE,
+        /** Projéteis do jogador (cenouras) */
+        PLAYER_PROJECTILE,
         /** Paredes */
         WALL,
         /** Porta */
@@ -35,14 +39,40 @@ public abstract class ObjetoColidivel {
     protected int largura;
     /** Largura do objeto */
     protected int altura;
+    /** Posição x do objeto no passo de simulação anterior */
+    protected int xAnterior;
+    /** Posição y do objeto no passo de simulação anterior */
+    protected int yAnterior;
     /** Cor do objeto (caso sua imagem não carregue) */
     protected Color cor;
     /** Imagem atual do objeto */
     protected Image curImage;
+    /** Indica se o objeto está inserido na grade espacial */
+    boolean naGrade = false;
+    /** Ordem de inserção do objeto na grade espacial */
+    long ordemGrade;
+    /** Células da grade espacial ocupadas pelo objeto */
+    int celulaMinX, celulaMaxX, celulaMinY, celulaMaxY;
+    /** Última consulta da grade espacial que encontrou o objeto */
+    int marcaConsulta;
+    /** Identificador do objeto no registro de entidades */
+    int handleRegistro = EntityRegistry.NENHUM;
+    /** Indica se o objeto aguarda o fim do passo para sair do registro de entidades */
+    boolean remocaoPendente = false;
     /** Largura da tela */
     private static final int LARGURA_TELA = 1300;
     /** Altura da tela */
     private static final int ALTURA_TELA = 750;
+    /**
+     * Matriz de colisão: para cada camada, as camadas que ela pode atingir. As camadas que não aparecem aqui não
+     * atingem nada (são apenas atingidas)
+     */
+    private static final EnumMap<CollisionLayer, EnumSet<CollisionLayer>> MATRIZ_COLISAO = new EnumMap<>(CollisionLayer.class);
+    static {
+        for(CollisionLayer camada : CollisionLayer.values()) MATRIZ_COLISAO.put(camada, EnumSet.noneOf(CollisionLayer.class));
+        permitir(CollisionLayer.PLAYER_PROJECTILE, CollisionLayer.ENEMY, CollisionLayer.PROJECTILE, CollisionLayer.WALL);
+        permitir(CollisionLayer.PROJECTILE, CollisionLayer.PLAYER, CollisionLayer.WALL);
+    }
     
     /**
      * Construtor da classe ObjetoColidivel
@@ -57,6 +87,8 @@ public abstract class ObjetoColidivel {
     public ObjetoColidivel(int x, int y, int largura, int altura, Color cor, CollisionLayer layer) {
         this.x = x;
         this.y = y;
+        this.xAnterior = x;
+        this.yAnterior = y;
         this.largura = largura;
         this.altura = altura;
         this.cor = cor;
@@ -70,37 +102,62 @@ public abstract class ObjetoColidivel {
      * @return {@code true} se a colisão ocorreu. Caso contrário, {@code false}
      */
     public boolean colideCom(ObjetoColidivel outro) {
-        return x < outro.x + outro.largura &&
-               x + largura > outro.x &&
-               y < outro.y + outro.altura &&
-               y + altura > outro.y;
+        int ax = getX(), ay = getY(), bx = outro.getX(), by = outro.getY();
+        return ax < bx + outro.largura &&
+               ax + largura > bx &&
+               ay < by + outro.altura &&
+               ay + altura > by;
+    }
+
+    /**
+     * Registra na matriz de colisão as camadas que uma camada pode atingir
+     * 
+     * @param camada A camada que atinge
+     * @param alvos As camadas atingidas por ela
+     */
+    private static void permitir(CollisionLayer camada, CollisionLayer... alvos) {
+        for(CollisionLayer alvo : alvos) MATRIZ_COLISAO.get(camada).add(alvo);
     }
 
     /**
-     * Relevante apenas para a colisão de projéteis. Define quais layers podem colidir com o layer {@code PROJECTILE}
+     * Consulta a matriz de colisão para saber se este objeto pode atingir o outro
      * 
-     * @param other O objeto o qual o projétil chamando a função colidiu
+     * @param other O objeto o qual o objeto chamando a função colidiu
      * @return {@code true} se a colisão pode ocorrer. Caso contrário, {@code false}
      */
     public boolean shouldCollideWith(ObjetoColidivel other) {
-        if (this.layer == CollisionLayer.PROJECTILE) {
-            if(
-                other.layer == CollisionLayer.ENEMY ||
-                other.layer == CollisionLayer.WALL ||
-                other.layer == CollisionLayer.PLAYER ||
-                other.layer == CollisionLayer.PROJECTILE
-            ) return true;
-        }
-        return false;
+        return MATRIZ_COLISAO.get(layer).contains(other.layer);
     }
 
+    /**
+     * Guarda a posição atual como a posição do passo anterior. Deve ser chamado no início de cada passo de simulação
+     * e logo após teletransportes, para que o objeto não seja desenhado deslizando até a nova posição
+     */
+    public void salvarPosicaoAnterior() {
+        xAnterior = getX();
+        yAnterior = getY();
+    }
+
+    /**
+     * Chamado quando o objeto entra em um registro de entidades
+     * 
+     * @param registro O registro onde o objeto foi adicionado
+     */
+    void aoRegistrar(EntityRegistry registro) {}
+
+    /**
+     * Chamado quando o objeto sai definitivamente de um registro de entidades (no fim do passo ou na limpeza)
+     */
+    void aoSairDoRegistro() {}
+
     /**
      * Verifica se o objeto está fora da tela
      * 
      * @return {@code true} se ele está, de fato, fora da tela. Caso contrário, {@code false}
      */
     public boolean foraDaTela() {
-        return x < 0 || x > LARGURA_TELA - largura || y < 0 || y > ALTURA_TELA - altura;
+        int px = getX(), py = getY();
+        return px < 0 || px > LARGURA_TELA - largura || py < 0 || py > ALTURA_TELA - altura;
     }
     
     // Getters
@@ -115,6 +172,18 @@ public abstract class ObjetoColidivel {
      */
     public int getY() { return y; }
 
+    /**
+     * @param alfa Fração (de 0 a 1) decorrida entre o passo anterior e o atual
+     * @return Posição x interpolada entre o passo anterior e o atual
+     */
+    public int getXInterpolado(double alfa) { return (int) Math.round(xAnterior + (getX() - xAnterior) * alfa); }
+
+    /**
+     * @param alfa Fração (de 0 a 1) decorrida entre o passo anterior e o atual
+     * @return Posição y interpolada entre o passo anterior e o atual
+     */
+    public int getYInterpolado(double alfa) { return (int) Math.round(yAnterior + (getY() - yAnterior) * alfa); }
+
     /**
      * @return Largura
      */
@@ -135,6 +204,11 @@ public abstract class ObjetoColidivel {
      */
     public CollisionLayer getLayer() { return layer; }
 
+    /**
+     * @return Camadas que o objeto pode atingir, segundo a matriz de colisão (não deve ser modificado)
+     */
+    public EnumSet<CollisionLayer> getCamadasAlvo() { return MATRIZ_COLISAO.get(layer); }
+
     /**
      * @return Imagem atual
      */
@@ -0,0 +1,231 @@
+/**
+ * Classe do sistema de partículas de uma tela (pof! e alertas)
+ * <p>
+ * As partículas de pof! ficam em um buffer circular de capacidade fixa, guardado em vetores de tipos primitivos.
+ * Como todas duram a mesma quantidade de ticks, a mais antiga é sempre a primeira a expirar, então {@code atualizar}
+ * só precisa avançar o início do buffer. Se o buffer encher, a partícula mais antiga é descartada.
+ * </p>
+ * <p>
+ * Os alertas não têm duração fixa: ficam em uma tabela de capacidade fixa e são cancelados pelo identificador
+ * (handle) devolvido em {@code emitirAlerta}. O identificador guarda a geração do slot, então cancelar um alerta que
+ * já foi cancelado (ou cujo slot foi reaproveitado) não tem efeito.
+ * </p>
+ *
+ * @author Arthur dos Santos Rezende
+ * @version 1.0
+ */
+public class ParticleSystem {
+    /** Identificador que não corresponde a nenhum alerta (valor padrão dos campos {@code int}) */
+    public static final int NENHUM = 0;
+    /** Duração das partículas de pof! (em milissegundos) */
+    private static final int DURACAO_POF = 300;
+    /** Capacidade padrão do buffer de pof! */
+    private static final int CAPACIDADE_POFS = 1024;
+    /** Capacidade padrão da tabela de alertas */
+    private static final int CAPACIDADE_ALERTAS = 64;
+    /** Quantidade de bits do identificador usados para o slot do alerta */
+    private static final int BITS_SLOT = 16;
+    private static final int MASCARA_SLOT = (1 << BITS_SLOT) - 1;
+    private static final int MASCARA_GERACAO = (1 << (32 - BITS_SLOT)) - 1;
+
+    /** Relógio de simulação da tela */
+    private final SimClock relogio;
+    /** Duração das partículas de pof! (em ticks) */
+    private final int duracaoPof;
+
+    // Buffer circular de pof!
+    private final int[] pofX;
+    private final int[] pofY;
+    private final int[] pofTamanho;
+    /** Tick em que cada partícula de pof! expira */
+    private final long[] pofFim;
+    /** Índice da partícula mais antiga */
+    private int inicio = 0;
+    /** Quantidade de partículas de pof! ativas */
+    private int totalPofs = 0;
+
+    // Tabela de alertas
+    private final int[] alertaX;
+    private final int[] alertaY;
+    private final int[] alertaTamanho;
+    /** Geração de cada slot (ímpar enquanto o slot tem um alerta ativo) */
+    private final int[] geracao;
+    /** Pilha de slots livres */
+    private final int[] slotsLivres;
+    private int totalLivres;
+
+    /**
+     * Construtor do sistema, com as capacidades padrão
+     *
+     * @param relogio Relógio de simulação da tela
+     */
+    public ParticleSystem(SimClock relogio){
+        this(relogio, CAPACIDADE_POFS, CAPACIDADE_ALERTAS);
+    }
+
+    /**
+     * Construtor do sistema
+     *
+     * @param relogio Relógio de simulação da tela
+     * @param capacidadePofs Quantidade máxima de partículas de pof! ao mesmo tempo
+     * @param capacidadeAlertas Quantidade máxima de alertas ao mesmo tempo
+     */
+    public ParticleSystem(SimClock relogio, int capacidadePofs, int capacidadeAlertas){
+        this.relogio = relogio;
+        this.duracaoPof = (DURACAO_POF + relogio.getMsPorTick() - 1) / relogio.getMsPorTick();
+        this.pofX = new int[capacidadePofs];
+        this.pofY = new int[capacidadePofs];
+        this.pofTamanho = new int[capacidadePofs];
+        this.pofFim = new long[capacidadePofs];
+        this.alertaX = new int[capacidadeAlertas];
+        this.alertaY = new int[capacidadeAlertas];
+        this.alertaTamanho = new int[capacidadeAlertas];
+        this.geracao = new int[capacidadeAlertas];
+        this.slotsLivres = new int[capacidadeAlertas];
+        for(int i = 0; i < capacidadeAlertas; i++) slotsLivres[i] = capacidadeAlertas - 1 - i;
+        this.totalLivres = capacidadeAlertas;
+    }
+
+    /**
+     * Remove as partículas de pof! que expiraram. Deve ser chamado uma vez por passo de simulação
+     */
+    public void atualizar(){
+        long agora = relogio.getTick();
+        while(totalPofs > 0 && pofFim[inicio] <= agora){
+            inicio = (inicio + 1) % pofX.length;
+            totalPofs--;
+        }
+    }
+
+    /**
+     * Emite uma partícula de pof! (mostrada ao derrotar um inimigo)
+     *
+     * @param x Posição x
+     * @param y Posição y
+     * @param tamanho Tamanho
+     */
+    public void emitirPof(int x, int y, int tamanho){
+        if(totalPofs == pofX.length){
+            // Buffer cheio: descarta a partícula mais antiga
+            inicio = (inicio + 1) % pofX.length;
+            totalPofs--;
+        }
+        int i = (inicio + totalPofs) % pofX.length;
+        pofX[i] = x;
+        pofY[i] = y;
+        pofTamanho[i] = tamanho;
+        pofFim[i] = relogio.getTick() + duracaoPof;
+        totalPofs++;
+    }
+
+    /**
+     * Emite uma partícula de alerta, que fica na tela até ser cancelada
+     *
+     * @param x Posição x
+     * @param y Posição y
+     * @param tamanho Tamanho
+     * @return O identificador do alerta, ou {@code NENHUM} se a tabela de alertas estiver cheia
+     */
+    public int emitirAlerta(int x, int y, int tamanho){
+        if(totalLivres == 0) return NENHUM;
+        int slot = slotsLivres[--totalLivres];
+        geracao[slot] = (geracao[slot] + 1) & MASCARA_GERACAO;
+        alertaX[slot] = x;
+        alertaY[slot] = y;
+        alertaTamanho[slot] = tamanho;
+        return (geracao[slot] << BITS_SLOT) | slot;
+    }
+
+    /**
+     * Cancela um alerta. Não faz nada se o identificador for {@code NENHUM} ou se o alerta já tiver sido cancelado
+     *
+     * @param alerta O identificador do alerta
+     */
+    public void cancelarAlerta(int alerta){
+        if(!isAlertaAtivo(alerta)) return;
+        int slot = alerta & MASCARA_SLOT;
+        geracao[slot] = (geracao[slot] + 1) & MASCARA_GERACAO;
+        slotsLivres[totalLivres++] = slot;
+    }
+
+    /**
+     * Remove todas as partículas e cancela todos os alertas
+     */
+    public void limpar(){
+        inicio = 0;
+        totalPofs = 0;
+        for(int slot = 0; slot < geracao.length; slot++){
+            if((geracao[slot] & 1) != 0) cancelarAlerta((geracao[slot] << BITS_SLOT) | slot);
+        }
+    }
+
+    // Getters
+
+    /**
+     * @param alerta O identificador do alerta
+     * @return {@code true} se o alerta ainda está na tela
+     */
+    public boolean isAlertaAtivo(int alerta){
+        if(alerta == NENHUM) return false;
+        int slot = alerta & MASCARA_SLOT;
+        return slot < geracao.length && geracao[slot] == alerta >>> BITS_SLOT && (geracao[slot] & 1) != 0;
+    }
+
+    /**
+     * @return Quantidade de partículas de pof! ativas
+     */
+    public int getTotalPofs(){ return totalPofs; }
+
+    /**
+     * @param i Ordem da partícula (de 0, a mais antiga, até {@code getTotalPofs() - 1})
+     * @return Posição x da partícula
+     */
+    public int getPofX(int i){ return pofX[(inicio + i) % pofX.length]; }
+
+    /**
+     * @param i Ordem da partícula (de 0, a mais antiga, até {@code getTotalPofs() - 1})
+     * @return Posição y da partícula
+     */
+    public int getPofY(int i){ return pofY[(inicio + i) % pofX.length]; }
+
+    /**
+     * @param i Ordem da partícula (de 0, a mais antiga, até {@code getTotalPofs() - 1})
+     * @return Tamanho da partícula
+     */
+    public int getPofTamanho(int i){ return pofTamanho[(inicio + i) % pofX.length]; }
+
+    /**
+     * @return Quantidade de slots da tabela de alertas
+     */
+    public int getCapacidadeAlertas(){ return geracao.length; }
+
+    /**
+     * @param slot Slot da tabela de alertas
+     * @return {@code true} se o slot tem um alerta ativo
+     */
+    public boolean isSlotAtivo(int slot){ return (geracao[slot] & 1) != 0; }
+
+    /**
+     * @param slot Slot da tabela de alertas
+     * @return Posição x do alerta
+     */
+    public int getAlertaX(int slot){ return alertaX[slot]; }
+
+    /**
+     * @param slot Slot da tabela de alertas
+     * @return Posição y do alerta
+     */
+    public int getAlertaY(int slot){ return alertaY[slot]; }
+
+    /**
+     * @param slot Slot da tabela de alertas
+     * @return Largura do alerta
+     */
+    public int getAlertaLargura(int slot){ return alertaTamanho[slot] / 2; }
+
+    /**
+     * @param slot Slot da tabela de alertas
+     * @return Altura do alerta
+     */
+    public int getAlertaAltura(int slot){ return alertaTamanho[slot]; }
+}
@@ -11,6 +11,8 @@ public class Player extends ObjetoColidivel {
     private Direction ultimaDirecao;
     /** Tamanho do jogador */
     private static int tamanho = 50;
+    /** Relógio de simulação da tela */
+    private SimClock relogio;
     /** Ponto de vida do jogador (o máximo é 5)*/
     private int hp;
     /** Indica se o jogador está no estado temporário de invunerbilidade*/
@@ -19,19 +21,25 @@ public class Player extends ObjetoColidivel {
     private long painTimer = 0;
     /** Duração da invunerabilidade (2 segundos)*/
     private static final long PAIN_DURATION = 2000;
-    /** Velocidade de movimento do jogador */
-    private static final int PLAYER_SPEED = 4;
+    /** Velocidade de movimento do jogador (em pixels por segundo) */
+    private static final int PLAYER_SPEED = 250;
+    /** Deslocamento (em pixels) do jogador no passo de simulação atual */
+    private int passo = 0;
+    /** Fração de pixel acumulada dos passos anteriores (em milésimos de pixel) */
+    private int restoPasso = 0;
         
     /**
      * Construtor da classe Player 
      * 
      * @param x Posição x
      * @param y Posição y
+     * @param relogio Relógio de simulação da tela
      */
-    public Player(int x, int y){
+    public Player(int x, int y, SimClock relogio){
         super(x, y, tamanho, tamanho, Color.YELLOW, ObjetoColidivel.CollisionLayer.PLAYER);
         this.ultimaDirecao = Direction.RIGHT;
         this.hp = 5;
+        this.relogio = relogio;
     }
 
     /**
@@ -42,7 +50,7 @@ public class Player extends ObjetoColidivel {
     public void takeDamage(int damage){
         this.hp -= damage;
         this.inPain = true;
-        this.painTimer = System.currentTimeMillis();
+        this.painTimer = relogio.agora();
         this.cor = Color.RED;
     }
 
@@ -50,13 +58,23 @@ public class Player extends ObjetoColidivel {
      * Atualiza a invunerabilidade do jogador, caso o tempo tiver acabado.
      */
     public void updateInvulnerability() {
-        if (inPain && System.currentTimeMillis() - painTimer >= PAIN_DURATION){
+        if (inPain && relogio.agora() - painTimer >= PAIN_DURATION){
             inPain = false;
             this.cor = Color.YELLOW;
         }
     }
         
 
+    /**
+     * Calcula o deslocamento do jogador para o passo de simulação atual, acumulando as frações de pixel
+     * entre os passos para manter a velocidade constante
+     */
+    public void atualizarPasso() {
+        restoPasso += PLAYER_SPEED * relogio.getMsPorTick();
+        passo = restoPasso / 1000;
+        restoPasso %= 1000;
+    }
+
     /**
      * Atualiza a direção do jogador
      * 
@@ -83,7 +101,7 @@ public class Player extends ObjetoColidivel {
     public Direction getUltimaDirecao(){ return ultimaDirecao;}
 
     /**
-     * @return Velocidade
+     * @return Deslocamento (em pixels) do passo atual
      */
-    public int getVelocidade() { return PLAYER_SPEED; }
+    public int getVelocidade() { return passo; }
 }
\ No newline at end of file
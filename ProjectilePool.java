@@ -0,0 +1,138 @@
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Classe do pool de projéteis de um tipo
+ * <p>
+ * Guarda os projéteis que já saíram de jogo para que sejam reaproveitados no próximo tiro, em vez de criar um novo
+ * objeto a cada vez. Um projétil obtido de um pool volta para ele automaticamente quando sai do registro de entidades
+ * (no fim do passo em que foi removido), então os chamadores não precisam devolvê-lo. Projéteis obtidos que nunca
+ * chegaram a ser registrados devem ser devolvidos com {@code liberar}.
+ * </p>
+ *
+ * @author Arthur dos Santos Rezende
+ * @version 1.0
+ */
+public class ProjectilePool {
+    /** Todos os pools criados, usados para relatórios */
+    private static final List<ProjectilePool> POOLS = new ArrayList<>();
+
+    /** Nome do pool (usado nos relatórios) */
+    private final String nome;
+    /** Camada de colisão dos projéteis do pool */
+    private final ObjetoColidivel.CollisionLayer layer;
+    /** Projéteis livres, prontos para serem reaproveitados */
+    private Projetil[] livres = new Projetil[16];
+    private int totalLivres = 0;
+    /** Quantidade de projéteis do pool em jogo */
+    private int emUso = 0;
+    /** Maior quantidade de projéteis do pool em jogo ao mesmo tempo */
+    private int maximoEmUso = 0;
+    /** Quantidade de pedidos atendidos com um projétil reaproveitado */
+    private long acertos = 0;
+    /** Quantidade de pedidos que precisaram criar um projétil novo */
+    private long faltas = 0;
+
+    /**
+     * Construtor do pool
+     *
+     * @param nome Nome do pool
+     * @param layer Camada de colisão dos projéteis do pool
+     */
+    public ProjectilePool(String nome, ObjetoColidivel.CollisionLayer layer){
+        this.nome = nome;
+        this.layer = layer;
+        POOLS.add(this);
+    }
+
+    /**
+     * Obtém um projétil do pool, reaproveitando um livre se houver
+     *
+     * @param x Posição x
+     * @param y Posição y
+     * @param largura Largura
+     * @param altura Altura
+     * @param direcaoX Direção horizontal
+     * @param direcaoY Direção vertical
+     * @param cor Cor
+     * @param isCollidable Indica se ele é colidível com projéteis do jogador ou não
+     * @return O projétil, pronto para ser registrado
+     */
+    public Projetil obter(int x, int y, int largura, int altura, int direcaoX, int direcaoY, Color cor, boolean isCollidable){
+        Projetil p;
+        if(totalLivres > 0){
+            p = livres[--totalLivres];
+            livres[totalLivres] = null;
+            p.reiniciar(x, y, largura, altura, direcaoX, direcaoY, cor, isCollidable);
+            acertos++;
+        } else {
+            p = new Projetil(x, y, largura, altura, direcaoX, direcaoY, cor, isCollidable, layer);
+            p.pool = this;
+            faltas++;
+        }
+        p.noPool = false;
+        emUso++;
+        if(emUso > maximoEmUso) maximoEmUso = emUso;
+        return p;
+    }
+
+    /**
+     * Devolve um projétil ao pool. Não faz nada se ele já está no pool
+     *
+     * @param p O projétil a ser devolvido
+     */
+    public void liberar(Projetil p){
+        if(p.noPool || p.pool != this) return;
+        p.noPool = true;
+        p.curImage = null;
+        emUso--;
+        if(totalLivres == livres.length) livres = Arrays.copyOf(livres, totalLivres * 2);
+        livres[totalLivres++] = p;
+    }
+
+    // Getters
+
+    /**
+     * @return Nome do pool
+     */
+    public String getNome(){ return nome; }
+
+    /**
+     * @return Quantidade de pedidos atendidos com um projétil reaproveitado
+     */
+    public long getAcertos(){ return acertos; }
+
+    /**
+     * @return Quantidade de pedidos que precisaram criar um projétil novo
+     */
+    public long getFaltas(){ return faltas; }
+
+    /**
+     * @return Quantidade de projéteis do pool em jogo
+     */
+    public int getEmUso(){ return emUso; }
+
+    /**
+     * @return Maior quantidade de projéteis do pool em jogo ao mesmo tempo
+     */
+    public int getMaximoEmUso(){ return maximoEmUso; }
+
+    /**
+     * @return Quantidade de projéteis livres no pool
+     */
+    public int getLivres(){ return totalLivres; }
+
+    /**
+     * @return Todos os pools criados até agora
+     */
+    public static List<ProjectilePool> getPools(){ return Collections.unmodifiableList(POOLS); }
+
+    @Override
+    public String toString(){
+        return nome + ": acertos=" + acertos + " faltas=" + faltas + " emUso=" + emUso + " maximo=" + maximoEmUso +
+            " livres=" + totalLivres;
+    }
+}
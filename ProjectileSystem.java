@@ -0,0 +1,136 @@
+import java.util.Arrays;
+
+/**
+ * Classe do sistema de projéteis de uma tela
+ * <p>
+ * Guarda o estado de todos os projéteis registrados em vetores de tipos primitivos (um vetor por campo), em vez de
+ * espalhado em objetos pelo heap. Cada {@link Projetil} registrado passa a ser apenas uma visão de um índice desses
+ * vetores, então os chamadores existentes continuam funcionando sem mudanças.
+ * </p>
+ * <p>
+ * O movimento é feito de uma só vez por {@code atualizar}, que percorre os vetores em sequência, move os projéteis
+ * ativos e desativa os que saíram da tela. Os vetores só crescem, então criar e destruir projéteis não gera lixo
+ * além das próprias visões.
+ * </p>
+ *
+ * @author Arthur dos Santos Rezende
+ * @version 1.0
+ */
+public class ProjectileSystem {
+    /** Velocidade padrão dos projéteis (em pixels por passo, multiplicada pela direção) */
+    public static final int VELOCIDADE_PROJETIL = 5;
+    /** Indica que o projétil está ativo */
+    static final byte ATIVO = 1;
+    /** Indica que o projétil pode ser destruído por projéteis do jogador */
+    static final byte COLIDIVEL = 2;
+
+    /** Largura da tela */
+    private final int larguraTela;
+    /** Altura da tela */
+    private final int alturaTela;
+
+    int[] x = new int[64];
+    int[] y = new int[64];
+    int[] largura = new int[64];
+    int[] altura = new int[64];
+    int[] dirX = new int[64];
+    int[] dirY = new int[64];
+    byte[] flags = new byte[64];
+    /** Visão de cada índice, usada para corrigir o índice da visão movida na remoção */
+    private Projetil[] visoes = new Projetil[64];
+    /** Quantidade de projéteis no sistema */
+    private int total = 0;
+
+    /**
+     * Construtor do sistema
+     *
+     * @param larguraTela Largura da tela (em pixels)
+     * @param alturaTela Altura da tela (em pixels)
+     */
+    public ProjectileSystem(int larguraTela, int alturaTela){
+        this.larguraTela = larguraTela;
+        this.alturaTela = alturaTela;
+    }
+
+    /**
+     * Move todos os projéteis ativos com direção diferente de zero e desativa os que saíram da tela. Deve ser
+     * chamado uma vez por passo de simulação
+     */
+    public void atualizar(){
+        final int[] x = this.x, y = this.y, largura = this.largura, altura = this.altura;
+        final int[] dirX = this.dirX, dirY = this.dirY;
+        final byte[] flags = this.flags;
+        for(int i = 0; i < total; i++){
+            if((flags[i] & ATIVO) == 0 || (dirX[i] | dirY[i]) == 0) continue;
+            int nx = x[i] += dirX[i] * VELOCIDADE_PROJETIL;
+            int ny = y[i] += dirY[i] * VELOCIDADE_PROJETIL;
+            if(nx < 0 || nx > larguraTela - largura[i] || ny < 0 || ny > alturaTela - altura[i]) flags[i] &= ~ATIVO;
+        }
+    }
+
+    /**
+     * Move um único projétil, da mesma forma que {@code atualizar}
+     *
+     * @param i Índice do projétil
+     */
+    void mover(int i){
+        x[i] += dirX[i] * VELOCIDADE_PROJETIL;
+        y[i] += dirY[i] * VELOCIDADE_PROJETIL;
+        if(x[i] < 0 || x[i] > larguraTela - largura[i] || y[i] < 0 || y[i] > alturaTela - altura[i]) flags[i] &= ~ATIVO;
+    }
+
+    /**
+     * Reserva um índice para um projétil e grava seu estado nos vetores
+     *
+     * @param visao O projétil que passará a ler e escrever neste índice
+     * @return O índice reservado
+     */
+    int anexar(Projetil visao, int px, int py, int pLargura, int pAltura, int pDirX, int pDirY, byte pFlags){
+        if(total == x.length) crescer();
+        int i = total++;
+        x[i] = px; y[i] = py;
+        largura[i] = pLargura; altura[i] = pAltura;
+        dirX[i] = pDirX; dirY[i] = pDirY;
+        flags[i] = pFlags;
+        visoes[i] = visao;
+        return i;
+    }
+
+    /**
+     * Libera o índice de um projétil, movendo o último projétil para o lugar dele
+     *
+     * @param i Índice a ser liberado
+     */
+    void desanexar(int i){
+        int ultimo = --total;
+        if(i != ultimo){
+            x[i] = x[ultimo]; y[i] = y[ultimo];
+            largura[i] = largura[ultimo]; altura[i] = altura[ultimo];
+            dirX[i] = dirX[ultimo]; dirY[i] = dirY[ultimo];
+            flags[i] = flags[ultimo];
+            visoes[i] = visoes[ultimo];
+            visoes[i].indice = i;
+        }
+        visoes[ultimo] = null;
+    }
+
+    /**
+     * @return Quantidade de projéteis no sistema
+     */
+    public int getTotal(){ return total; }
+
+    /**
+     * Dobra a capacidade dos vetores
+     */
+    private void crescer(){
+        int novo = x.length * 2;
+        x = Arrays.copyOf(x, novo);
+        y = Arrays.copyOf(y, novo);
+        largura = Arrays.copyOf(largura, novo);
+        altura = Arrays.copyOf(altura, novo);
+        dirX = Arrays.copyOf(dirX, novo);
+        dirY = Arrays.copyOf(dirY, novo);
+        flags = Arrays.copyOf(flags, novo);
+        visoes = Arrays.copyOf(visoes, novo);
+    }
+}
@@ -1,8 +1,13 @@
 import java.awt.Color;
 
-/** 
+/**
  * Classe para os projéteis e outros ataques inimigos
- * 
+ * <p>
+ * Enquanto está registrado em uma tela, o projétil é apenas uma visão de um índice do {@link ProjectileSystem}: a
+ * posição, o tamanho, a direção e as flags ficam nos vetores do sistema, que move todos os projéteis de uma vez.
+ * Fora do registro, o estado fica nos próprios campos do objeto.
+ * </p>
+ *
  * @author Arthur dos Santos Rezende
  * @version 1.0
  */
@@ -15,12 +20,18 @@ public class Projetil extends ObjetoColidivel{
     private boolean ativo = true;
     /** Indica se ele é colidível com projéteis do jogador ou não */
     private boolean isCollidable;
-    /** Velocidade padrão do projétil */
-    private static final int VELOCIDADE_PROJETIL = 5;
+    /** Sistema de projéteis ao qual o projétil está anexado */
+    private ProjectileSystem sistema;
+    /** Índice do projétil nos vetores do sistema (-1 se não está anexado) */
+    int indice = -1;
+    /** Pool de onde o projétil veio (ou {@code null} se foi criado diretamente) */
+    ProjectilePool pool;
+    /** Indica se o projétil está livre no pool */
+    boolean noPool = false;
 
     /**
      * Construtor da classe projétil
-     * 
+     *
      * @param x Posição x
      * @param y Posição y
      * @param largura Largura
@@ -31,40 +42,124 @@ public class Projetil extends ObjetoColidivel{
      * @param isCollidable Indica se ele é colidível com projéteis do jogador ou não
      */
     public Projetil(int x, int y, int largura, int altura, int direcaoX, int direcaoY, Color cor, boolean isCollidable) {
-        super(x, y, largura, altura, cor, ObjetoColidivel.CollisionLayer.PROJECTILE);
+        this(x, y, largura, altura, direcaoX, direcaoY, cor, isCollidable, ObjetoColidivel.CollisionLayer.PROJECTILE);
+    }
+
+    /**
+     * Construtor da classe projétil com uma camada de colisão específica
+     *
+     * @param x Posição x
+     * @param y Posição y
+     * @param largura Largura
+     * @param altura Altura
+     * @param direcaoX Direção horizontal
+     * @param direcaoY Direção vertical
+     * @param cor Cor
+     * @param isCollidable Indica se ele é colidível com projéteis do jogador ou não
+     * @param layer Camada de colisão ({@code PROJECTILE} para ataques inimigos, {@code PLAYER_PROJECTILE} para cenouras)
+     */
+    public Projetil(int x, int y, int largura, int altura, int direcaoX, int direcaoY, Color cor, boolean isCollidable,
+                    ObjetoColidivel.CollisionLayer layer) {
+        super(x, y, largura, altura, cor, layer);
         this.direcaoX = direcaoX;
         this.direcaoY = direcaoY;
         this.isCollidable = isCollidable;
     }
 
     /**
-     * Move o projétil
+     * Reinicia um projétil reaproveitado de um pool, como se ele tivesse acabado de ser construído
+     *
+     * @param x Posição x
+     * @param y Posição y
+     * @param largura Largura
+     * @param altura Altura
+     * @param direcaoX Direção horizontal
+     * @param direcaoY Direção vertical
+     * @param cor Cor
+     * @param isCollidable Indica se ele é colidível com projéteis do jogador ou não
+     */
+    void reiniciar(int x, int y, int largura, int altura, int direcaoX, int direcaoY, Color cor, boolean isCollidable) {
+        this.x = x;
+        this.y = y;
+        this.xAnterior = x;
+        this.yAnterior = y;
+        this.largura = largura;
+        this.altura = altura;
+        this.cor = cor;
+        this.curImage = null;
+        this.direcaoX = direcaoX;
+        this.direcaoY = direcaoY;
+        this.isCollidable = isCollidable;
+        this.ativo = true;
+    }
+
+    /**
+     * Move o projétil. Projéteis registrados já são movidos pelo {@link ProjectileSystem} a cada passo
      */
     public void mover() {
-        this.x += direcaoX * VELOCIDADE_PROJETIL;
-        this.y += direcaoY * VELOCIDADE_PROJETIL;
-            
+        if (indice >= 0) {
+            sistema.mover(indice);
+            return;
+        }
+        this.x += direcaoX * ProjectileSystem.VELOCIDADE_PROJETIL;
+        this.y += direcaoY * ProjectileSystem.VELOCIDADE_PROJETIL;
+
         if (foraDaTela()) {
             desativar();
         }
     }
-    
+
+    /**
+     * Anexa o projétil ao sistema de projéteis do registro, copiando seu estado para os vetores do sistema
+     */
+    @Override
+    void aoRegistrar(EntityRegistry registro) {
+        if (indice >= 0) return;
+        sistema = registro.getProjeteis();
+        byte flags = (byte) ((ativo ? ProjectileSystem.ATIVO : 0) | (isCollidable ? ProjectileSystem.COLIDIVEL : 0));
+        indice = sistema.anexar(this, x, y, largura, altura, direcaoX, direcaoY, flags);
+    }
+
+    /**
+     * Desanexa o projétil do sistema de projéteis, copiando seu estado de volta para os campos do objeto, e o devolve
+     * ao pool de onde ele veio
+     */
+    @Override
+    void aoSairDoRegistro() {
+        if (indice < 0) return;
+        x = sistema.x[indice];
+        y = sistema.y[indice];
+        direcaoX = sistema.dirX[indice];
+        direcaoY = sistema.dirY[indice];
+        ativo = (sistema.flags[indice] & ProjectileSystem.ATIVO) != 0;
+        sistema.desanexar(indice);
+        sistema = null;
+        indice = -1;
+        if (pool != null) pool.liberar(this);
+    }
+
     // Getters
 
+    @Override
+    public int getX() { return indice < 0 ? x : sistema.x[indice]; }
+
+    @Override
+    public int getY() { return indice < 0 ? y : sistema.y[indice]; }
+
     /**
      * @return Direção horizontal
      */
-    public int getDirX(){ return direcaoX; }
+    public int getDirX(){ return indice < 0 ? direcaoX : sistema.dirX[indice]; }
 
     /**
      * @return Direção vertical
      */
-    public int getDirY(){ return direcaoY; }
+    public int getDirY(){ return indice < 0 ? direcaoY : sistema.dirY[indice]; }
 
     /**
      * @return Se está ativo
      */
-    public boolean isAtivo() { return ativo; }
+    public boolean isAtivo() { return indice < 0 ? ativo : (sistema.flags[indice] & ProjectileSystem.ATIVO) != 0; }
 
     /**
      * @return Se ele é colidível com projéteis do jogador
@@ -73,22 +168,43 @@ public class Projetil extends ObjetoColidivel{
 
     // Setters
 
+    @Override
+    public void setX(int x) {
+        if (indice < 0) this.x = x;
+        else sistema.x[indice] = x;
+    }
+
+    @Override
+    public void setY(int y) {
+        if (indice < 0) this.y = y;
+        else sistema.y[indice] = y;
+    }
+
     /**
      * Desativa o projétil
      */
-    public void desativar() { this.ativo = false;}
+    public void desativar() {
+        if (indice < 0) this.ativo = false;
+        else sistema.flags[indice] &= ~ProjectileSystem.ATIVO;
+    }
 
     /**
      * Atualiza a direção horizontal
-     * 
+     *
      * @param direcaoX a nova direção
      */
-    public void setDirX(int direcaoX){ this.direcaoX = direcaoX; }
+    public void setDirX(int direcaoX){
+        if (indice < 0) this.direcaoX = direcaoX;
+        else sistema.dirX[indice] = direcaoX;
+    }
 
     /**
      * Atualiza a direção vertical
-     * 
+     *
      * @param direcaoY a nova direção
      */
-    public void setDirY(int direcaoY){ this.direcaoY = direcaoY; }
-}
\ No newline at end of file
+    public void setDirY(int direcaoY){
+        if (indice < 0) this.direcaoY = direcaoY;
+        else sistema.dirY[indice] = direcaoY;
+    }
+}
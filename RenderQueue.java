@@ -0,0 +1,239 @@
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.Image;
+import java.awt.image.ImageObserver;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+
+/**
+ * Classe da fila de renderização de uma tela
+ * <p>
+ * Durante o desenho de um quadro, as entidades não desenham diretamente no {@link Graphics}: cada uma emite seus
+ * comandos de desenho (um sprite ou, se a imagem não existir, um retângulo ou oval colorido) nesta fila, com a
+ * camada em que devem aparecer. Ao final, {@code executar} ordena os comandos por camada e, dentro de cada camada,
+ * por textura, e desenha todos em um único laço. Comandos da mesma camada e da mesma textura mantêm a ordem em que
+ * foram emitidos.
+ * </p>
+ * <p>
+ * Os comandos ficam em vetores de tipos primitivos reaproveitados de um quadro para o outro, e a ordenação é feita
+ * sobre uma chave {@code long} por comando, então a fila não aloca memória depois que atinge o tamanho necessário.
+ * Os sprites são desenhados a partir das cópias pré-escaladas do {@link SpriteCache} da fila.
+ * </p>
+ *
+ * @author Arthur dos Santos Rezende
+ * @version 1.0
+ */
+public class RenderQueue {
+    // Camadas, da mais ao fundo para a mais à frente
+    /** Fundo da tela */
+    public static final int FUNDO = 0;
+    /** Paredes e porta */
+    public static final int CENARIO = 1;
+    /** Ataques inimigos que aparecem debaixo de quem os lançou */
+    public static final int ATAQUE_ABAIXO = 2;
+    /** Inimigos e bosses */
+    public static final int INIMIGO = 3;
+    /** Ataques inimigos que aparecem por cima de quem os lançou */
+    public static final int ATAQUE = 4;
+    /** Detalhes desenhados sobre os ataques (luvas) */
+    public static final int DETALHE = 5;
+    /** Jogador */
+    public static final int JOGADOR = 6;
+    /** Cenouras do jogador */
+    public static final int CENOURA = 7;
+    /** Partículas de pof! e alertas */
+    public static final int PARTICULA = 8;
+
+    /** Tipos de comando */
+    private static final byte SPRITE = 0, RETANGULO = 1, OVAL = 2;
+    /** Quantidade de bits da chave usados para a ordem de emissão */
+    private static final int BITS_ORDEM = 24;
+    /** Quantidade de bits da chave usados para a textura */
+    private static final int BITS_TEXTURA = 24;
+    private static final long MASCARA_ORDEM = (1L << BITS_ORDEM) - 1;
+
+    private byte[] tipo = new byte[256];
+    private Image[] imagem = new Image[256];
+    private Color[] cor = new Color[256];
+    private int[] x = new int[256];
+    private int[] y = new int[256];
+    private int[] largura = new int[256];
+    private int[] altura = new int[256];
+    /** Chave de ordenação de cada comando (camada, textura e ordem de emissão) */
+    private long[] chave = new long[256];
+    /** Quantidade de comandos na fila */
+    private int total = 0;
+    /** Identificador de textura de cada imagem já vista pela fila (0 é reservado para as formas coloridas) */
+    private final IdentityHashMap<Image, Integer> texturas = new IdentityHashMap<>();
+    /** Cópias pré-escaladas das imagens desenhadas pela fila */
+    private final SpriteCache sprites = new SpriteCache();
+
+    /**
+     * Emite o desenho de uma imagem
+     *
+     * @param camada Camada do comando
+     * @param img Imagem
+     * @param x Posição x
+     * @param y Posição y
+     * @param largura Largura
+     * @param altura Altura
+     */
+    public void sprite(int camada, Image img, int x, int y, int largura, int altura){
+        Integer textura = texturas.get(img);
+        if(textura == null){
+            textura = texturas.size() + 1;
+            texturas.put(img, textura);
+        }
+        int i = adicionar(camada, textura, SPRITE, x, y, largura, altura);
+        imagem[i] = img;
+    }
+
+    /**
+     * Emite o desenho de um retângulo colorido
+     *
+     * @param camada Camada do comando
+     * @param c Cor
+     * @param x Posição x
+     * @param y Posição y
+     * @param largura Largura
+     * @param altura Altura
+     */
+    public void retangulo(int camada, Color c, int x, int y, int largura, int altura){
+        int i = adicionar(camada, 0, RETANGULO, x, y, largura, altura);
+        cor[i] = c;
+    }
+
+    /**
+     * Emite o desenho de uma oval colorida
+     *
+     * @param camada Camada do comando
+     * @param c Cor
+     * @param x Posição x
+     * @param y Posição y
+     * @param largura Largura
+     * @param altura Altura
+     */
+    public void oval(int camada, Color c, int x, int y, int largura, int altura){
+        int i = adicionar(camada, 0, OVAL, x, y, largura, altura);
+        cor[i] = c;
+    }
+
+    /**
+     * Emite o desenho de um objeto na posição interpolada: a imagem atual do objeto ou, se ela não existir, um
+     * retângulo na cor do objeto
+     *
+     * @param camada Camada do comando
+     * @param obj O objeto
+     * @param alfa Fração (de 0 a 1) decorrida entre o passo anterior e o atual
+     */
+    public void objeto(int camada, ObjetoColidivel obj, double alfa){
+        objeto(camada, obj, alfa, false);
+    }
+
+    /**
+     * Emite o desenho de um objeto na posição interpolada: a imagem atual do objeto ou, se ela não existir, uma forma
+     * na cor do objeto
+     *
+     * @param camada Camada do comando
+     * @param obj O objeto
+     * @param alfa Fração (de 0 a 1) decorrida entre o passo anterior e o atual
+     * @param oval {@code true} para usar uma oval em vez de um retângulo quando não houver imagem
+     */
+    public void objeto(int camada, ObjetoColidivel obj, double alfa, boolean oval){
+        int ox = obj.getXInterpolado(alfa), oy = obj.getYInterpolado(alfa);
+        if(obj.getImage() != null) sprite(camada, obj.getImage(), ox, oy, obj.getLargura(), obj.getAltura());
+        else if(oval) oval(camada, obj.getCor(), ox, oy, obj.getLargura(), obj.getAltura());
+        else retangulo(camada, obj.getCor(), ox, oy, obj.getLargura(), obj.getAltura());
+    }
+
+    /**
+     * Ordena os comandos por camada e textura, desenha todos e esvazia a fila
+     *
+     * @param g Contexto gráfico para renderização
+     * @param observador Observador das imagens (normalmente a própria tela)
+     */
+    public void executar(Graphics g, ImageObserver observador){
+        Arrays.sort(chave, 0, total);
+        for(int k = 0; k < total; k++){
+            int i = (int) (chave[k] & MASCARA_ORDEM);
+            switch(tipo[i]){
+                case SPRITE:
+                    Image escalada = sprites.obter(imagem[i], largura[i], altura[i]);
+                    if(escalada != null) g.drawImage(escalada, x[i], y[i], observador);
+                    else g.drawImage(imagem[i], x[i], y[i], largura[i], altura[i], observador);
+                    break;
+                case RETANGULO:
+                    g.setColor(cor[i]);
+                    g.fillRect(x[i], y[i], largura[i], altura[i]);
+                    break;
+                default:
+                    g.setColor(cor[i]);
+                    g.fillOval(x[i], y[i], largura[i], altura[i]);
+                    break;
+            }
+        }
+        limpar();
+    }
+
+    /**
+     * Descarta os comandos da fila sem desenhá-los
+     */
+    public void limpar(){
+        Arrays.fill(imagem, 0, total, null);
+        Arrays.fill(cor, 0, total, null);
+        total = 0;
+    }
+
+    /**
+     * Descarta os identificadores de textura e as cópias pré-escaladas (usado quando a tela troca de imagens)
+     */
+    public void limparTexturas(){
+        limpar();
+        texturas.clear();
+        sprites.limpar();
+    }
+
+    // Getters
+
+    /**
+     * @return O cache de sprites pré-escalados da fila
+     */
+    public SpriteCache getSprites(){ return sprites; }
+
+    /**
+     * @return Quantidade de comandos na fila
+     */
+    public int getTotal(){ return total; }
+
+    /**
+     * Adiciona um comando à fila
+     *
+     * @return O índice do comando
+     */
+    private int adicionar(int camada, int textura, byte t, int cx, int cy, int w, int h){
+        if(total == tipo.length) crescer();
+        int i = total++;
+        tipo[i] = t;
+        x[i] = cx;
+        y[i] = cy;
+        largura[i] = w;
+        altura[i] = h;
+        chave[i] = ((long) camada << (BITS_TEXTURA + BITS_ORDEM)) | ((long) textura << BITS_ORDEM) | i;
+        return i;
+    }
+
+    /**
+     * Dobra a capacidade dos vetores
+     */
+    private void crescer(){
+        int novo = tipo.length * 2;
+        tipo = Arrays.copyOf(tipo, novo);
+        imagem = Arrays.copyOf(imagem, novo);
+        cor = Arrays.copyOf(cor, novo);
+        x = Arrays.copyOf(x, novo);
+        y = Arrays.copyOf(y, novo);
+        largura = Arrays.copyOf(largura, novo);
+        altura = Arrays.copyOf(altura, novo);
+        chave = Arrays.copyOf(chave, novo);
+    }
+}
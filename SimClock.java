@@ -0,0 +1,50 @@
+/**
+ * Classe do relógio de simulação
+ * <p>
+ * Conta os passos (ticks) de simulação executados por uma tela e converte essa contagem em milissegundos de jogo.
+ * Todos os temporizadores de entidades devem consultar este relógio em vez do relógio do sistema, para que o tempo
+ * de jogo congele durante a pausa e possa avançar mais rápido que o tempo real.
+ * </p>
+ *
+ * @author Arthur dos Santos Rezende
+ * @version 1.0
+ */
+public class SimClock {
+    /** Instante muito antigo, usado para temporizadores que ainda não dispararam */
+    public static final long NUNCA = Long.MIN_VALUE / 2;
+
+    /** Duração de um tick (em milissegundos) */
+    private final int msPorTick;
+    /** Quantidade de ticks simulados */
+    private long tick = 0;
+
+    /**
+     * Construtor do relógio
+     *
+     * @param msPorTick Duração de um tick (em milissegundos)
+     */
+    public SimClock(int msPorTick){
+        this.msPorTick = msPorTick;
+    }
+
+    /**
+     * Avança o relógio em um tick
+     */
+    public void avancar(){
+        tick++;
+    }
+
+    // Getters
+    /**
+     * @return Quantidade de ticks simulados
+     */
+    public long getTick(){ return tick; }
+    /**
+     * @return Tempo de jogo decorrido (em milissegundos)
+     */
+    public long agora(){ return tick * msPorTick; }
+    /**
+     * @return Duração de um tick (em milissegundos)
+     */
+    public int getMsPorTick(){ return msPorTick; }
+}
@@ -0,0 +1,195 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Classe da grade espacial usada como fase ampla da detecção de colisões
+ * <p>
+ * Divide a tela em células quadradas e guarda, em cada célula, os objetos cujo retângulo a sobrepõe, separados por
+ * camada de colisão. Uma consulta devolve apenas os objetos das camadas pedidas que estão nas células sobrepostas pela
+ * área consultada, que depois devem ser testados com {@code colideCom}. Objetos fora da tela são presos às células da
+ * borda, então nenhuma colisão é perdida.
+ * </p>
+ * <p>
+ * A grade é atualizada de forma incremental: {@code atualizar} só move o objeto entre células quando o conjunto de
+ * células sobrepostas mudou. Os resultados de uma consulta vêm na ordem em que os objetos foram inseridos, a mesma
+ * ordem da lista de objetos colidíveis das telas.
+ * </p>
+ *
+ * @author Arthur dos Santos Rezende
+ * @version 1.0
+ */
+public class SpatialGrid {
+    /** Tamanho (em pixels) de cada célula */
+    private final int tamanhoCelula;
+    /** Quantidade de colunas da grade */
+    private final int colunas;
+    /** Quantidade de linhas da grade */
+    private final int linhas;
+    /** Objetos de cada célula, indexados por camada e por linha * colunas + coluna */
+    private final ArrayList<ObjetoColidivel>[][] celulas;
+    /** Contador usado para definir a ordem de inserção dos objetos */
+    private long proximaOrdem = 0;
+    /** Marca da consulta atual, usada para não repetir objetos que ocupam várias células */
+    private int marcaConsulta = 0;
+
+    /**
+     * Construtor da grade
+     *
+     * @param largura Largura da área coberta (em pixels)
+     * @param altura Altura da área coberta (em pixels)
+     * @param tamanhoCelula Tamanho de cada célula (em pixels)
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public SpatialGrid(int largura, int altura, int tamanhoCelula){
+        this.tamanhoCelula = tamanhoCelula;
+        this.colunas = (largura + tamanhoCelula - 1) / tamanhoCelula;
+        this.linhas = (altura + tamanhoCelula - 1) / tamanhoCelula;
+        this.celulas = new ArrayList[ObjetoColidivel.CollisionLayer.values().length][colunas * linhas];
+        for(ArrayList<ObjetoColidivel>[] camada : celulas){
+            for(int i = 0; i < camada.length; i++) camada[i] = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Insere um objeto na grade
+     *
+     * @param obj O objeto a ser inserido
+     */
+    public void inserir(ObjetoColidivel obj){
+        if(obj.naGrade) return;
+        obj.ordemGrade = proximaOrdem++;
+        obj.naGrade = true;
+        calcularCelulas(obj);
+        adicionarNasCelulas(obj);
+    }
+
+    /**
+     * Remove um objeto da grade
+     *
+     * @param obj O objeto a ser removido
+     */
+    public void remover(ObjetoColidivel obj){
+        if(!obj.naGrade) return;
+        removerDasCelulas(obj);
+        obj.naGrade = false;
+    }
+
+    /**
+     * Atualiza as células de um objeto que pode ter se movido. Não faz nada se ele continua nas mesmas células
+     *
+     * @param obj O objeto a ser atualizado
+     */
+    public void atualizar(ObjetoColidivel obj){
+        if(!obj.naGrade) return;
+        int minX = coluna(obj.getX()), maxX = coluna(obj.getX() + obj.getLargura() - 1);
+        int minY = linha(obj.getY()), maxY = linha(obj.getY() + obj.getAltura() - 1);
+        if(minX == obj.celulaMinX && maxX == obj.celulaMaxX && minY == obj.celulaMinY && maxY == obj.celulaMaxY) return;
+
+        removerDasCelulas(obj);
+        obj.celulaMinX = minX; obj.celulaMaxX = maxX;
+        obj.celulaMinY = minY; obj.celulaMaxY = maxY;
+        adicionarNasCelulas(obj);
+    }
+
+    /**
+     * Remove todos os objetos da grade
+     */
+    public void limpar(){
+        for(ArrayList<ObjetoColidivel>[] camada : celulas){
+            for(ArrayList<ObjetoColidivel> celula : camada){
+                for(ObjetoColidivel obj : celula) obj.naGrade = false;
+                celula.clear();
+            }
+        }
+    }
+
+    /**
+     * Busca os objetos de algumas camadas que ocupam as mesmas células que um objeto. Os candidatos ainda precisam ser
+     * testados com {@code colideCom}; o próprio objeto consultado também aparece no resultado caso esteja na grade e
+     * sua camada tenha sido pedida
+     *
+     * @param area O objeto cuja área será consultada
+     * @param camadas As camadas consultadas (normalmente {@code getCamadasAlvo()} do objeto)
+     * @param resultado Lista que recebe os candidatos, em ordem de inserção (é limpa antes da consulta)
+     */
+    public void consultar(ObjetoColidivel area, Set<ObjetoColidivel.CollisionLayer> camadas, List<ObjetoColidivel> resultado){
+        resultado.clear();
+        int marca = ++marcaConsulta;
+        int minX = coluna(area.getX()), maxX = coluna(area.getX() + area.getLargura() - 1);
+        int minY = linha(area.getY()), maxY = linha(area.getY() + area.getAltura() - 1);
+        for(ObjetoColidivel.CollisionLayer camada : camadas){
+            ArrayList<ObjetoColidivel>[] celulasCamada = celulas[camada.ordinal()];
+            for(int l = minY; l <= maxY; l++){
+                for(int c = minX; c <= maxX; c++){
+                    for(ObjetoColidivel obj : celulasCamada[l * colunas + c]){
+                        if(obj.marcaConsulta != marca){
+                            obj.marcaConsulta = marca;
+                            resultado.add(obj);
+                        }
+                    }
+                }
+            }
+        }
+        ordenarPorInsercao(resultado);
+    }
+
+    /**
+     * Ordena os candidatos pela ordem de inserção (insertion sort, já que as listas são pequenas)
+     *
+     * @param lista Lista de candidatos
+     */
+    private void ordenarPorInsercao(List<ObjetoColidivel> lista){
+        for(int i = 1; i < lista.size(); i++){
+            ObjetoColidivel atual = lista.get(i);
+            int j = i - 1;
+            while(j >= 0 && lista.get(j).ordemGrade > atual.ordemGrade){
+                lista.set(j + 1, lista.get(j));
+                j--;
+            }
+            lista.set(j + 1, atual);
+        }
+    }
+
+    /**
+     * Calcula as células sobrepostas pelo objeto na posição atual
+     *
+     * @param obj O objeto
+     */
+    private void calcularCelulas(ObjetoColidivel obj){
+        obj.celulaMinX = coluna(obj.getX());
+        obj.celulaMaxX = coluna(obj.getX() + obj.getLargura() - 1);
+        obj.celulaMinY = linha(obj.getY());
+        obj.celulaMaxY = linha(obj.getY() + obj.getAltura() - 1);
+    }
+
+    private void adicionarNasCelulas(ObjetoColidivel obj){
+        ArrayList<ObjetoColidivel>[] celulasCamada = celulas[obj.getLayer().ordinal()];
+        for(int l = obj.celulaMinY; l <= obj.celulaMaxY; l++){
+            for(int c = obj.celulaMinX; c <= obj.celulaMaxX; c++) celulasCamada[l * colunas + c].add(obj);
+        }
+    }
+
+    private void removerDasCelulas(ObjetoColidivel obj){
+        ArrayList<ObjetoColidivel>[] celulasCamada = celulas[obj.getLayer().ordinal()];
+        for(int l = obj.celulaMinY; l <= obj.celulaMaxY; l++){
+            for(int c = obj.celulaMinX; c <= obj.celulaMaxX; c++) celulasCamada[l * colunas + c].remove(obj);
+        }
+    }
+
+    /**
+     * @param x Posição x (em pixels)
+     * @return Coluna da posição, presa aos limites da grade
+     */
+    private int coluna(int x){
+        return Math.max(0, Math.min(colunas - 1, Math.floorDiv(x, tamanhoCelula)));
+    }
+
+    /**
+     * @param y Posição y (em pixels)
+     * @return Linha da posição, presa aos limites da grade
+     */
+    private int linha(int y){
+        return Math.max(0, Math.min(linhas - 1, Math.floorDiv(y, tamanhoCelula)));
+    }
+}
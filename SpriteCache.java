@@ -0,0 +1,109 @@
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.util.IdentityHashMap;
+
+/**
+ * Classe do cache de sprites pré-escalados
+ * <p>
+ * A arte do jogo é bem maior do que o tamanho em que é desenhada (a maioria das imagens tem 400x400 pixels e é
+ * desenhada com 50x50), e desenhar uma imagem em outro tamanho faz o Java2D reamostrá-la a cada quadro. Este cache
+ * guarda uma cópia de cada imagem já escalada para cada tamanho em que ela é desenhada, criada no primeiro uso, para
+ * que os quadros seguintes só precisem copiar os pixels.
+ * </p>
+ * <p>
+ * Alguns ataques (braços e lasers que crescem) são desenhados com um tamanho diferente a cada passo. Para não encher o
+ * cache com cópias usadas uma única vez, cada imagem guarda no máximo {@code MAX_TAMANHOS} tamanhos; os tamanhos
+ * seguintes são desenhados escalando a imagem original, como antes.
+ * </p>
+ *
+ * @author Arthur dos Santos Rezende
+ * @version 1.0
+ */
+public class SpriteCache {
+    /** Quantidade máxima de tamanhos guardados para uma mesma imagem */
+    private static final int MAX_TAMANHOS = 4;
+
+    /** Cópias escaladas de cada imagem */
+    private final IdentityHashMap<Image, Escalada[]> cache = new IdentityHashMap<>();
+    /** Quantidade de cópias no cache */
+    private int total = 0;
+
+    /**
+     * Cópia de uma imagem em um tamanho específico
+     */
+    private static class Escalada {
+        final int largura, altura;
+        final Image img;
+
+        Escalada(int largura, int altura, Image img){
+            this.largura = largura;
+            this.altura = altura;
+            this.img = img;
+        }
+    }
+
+    /**
+     * Devolve a imagem escalada para o tamanho pedido, criando a cópia se ela ainda não existir
+     *
+     * @param img Imagem original
+     * @param largura Largura em que a imagem será desenhada
+     * @param altura Altura em que a imagem será desenhada
+     * @return A imagem já no tamanho pedido, ou {@code null} se a imagem não pode ser guardada (tamanho inválido,
+     * imagem ainda não carregada ou limite de tamanhos atingido) e deve ser escalada ao desenhar
+     */
+    public Image obter(Image img, int largura, int altura){
+        if(largura <= 0 || altura <= 0) return null;
+        int larguraOriginal = img.getWidth(null), alturaOriginal = img.getHeight(null);
+        if(larguraOriginal < 0 || alturaOriginal < 0) return null;
+        if(larguraOriginal == largura && alturaOriginal == altura) return img;
+
+        Escalada[] tamanhos = cache.get(img);
+        if(tamanhos == null){
+            tamanhos = new Escalada[MAX_TAMANHOS];
+            cache.put(img, tamanhos);
+        }
+        for(int i = 0; i < MAX_TAMANHOS; i++){
+            Escalada e = tamanhos[i];
+            if(e == null){
+                e = tamanhos[i] = new Escalada(largura, altura, escalar(img, largura, altura));
+                total++;
+                return e.img;
+            }
+            if(e.largura == largura && e.altura == altura) return e.img;
+        }
+        return null;
+    }
+
+    /**
+     * Descarta todas as cópias
+     */
+    public void limpar(){
+        cache.clear();
+        total = 0;
+    }
+
+    // Getters
+
+    /**
+     * @return Quantidade de cópias escaladas no cache
+     */
+    public int getTotal(){ return total; }
+
+    /**
+     * Escala uma imagem, com a mesma amostragem usada pelo {@code drawImage} com tamanho. A cópia fica no formato
+     * compatível com a tela, com a mesma transparência da original
+     *
+     * @param img Imagem original
+     * @param largura Nova largura
+     * @param altura Nova altura
+     * @return A cópia escalada
+     */
+    private static Image escalar(Image img, int largura, int altura){
+        BufferedImage copia = ImageLoader.criar(largura, altura, ImageLoader.transparencia(img));
+        Graphics2D g = copia.createGraphics();
+        g.drawImage(img, 0, 0, largura, altura, null);
+        g.dispose();
+        return copia;
+    }
+}
@@ -1,3 +1,5 @@
+import java.awt.*;
+import java.awt.image.BufferStrategy;
 import java.io.IOException;
 import javax.swing.*;
 
@@ -8,8 +10,12 @@ import javax.swing.*;
  * @version 1.0
  */
 public class Start extends JFrame {
+    /** Quantidade de buffers da renderização ativa (triple buffering) */
+    private static final int NUM_BUFFERS = 3;
     /** Music player usado para todas as telas do jogo */
     private MusicPlayer musica;
+    /** Buffers da janela usados na renderização ativa ({@code null} caso ela não esteja disponível) */
+    private BufferStrategy bufferStrategy;
 
     /**
      * Método main
@@ -18,6 +24,8 @@ public class Start extends JFrame {
      * @throws IOException Se ocorrer um erro de I/O durante a leitura do arquivo
      */
     public static void main(String[] args) throws IOException {
+        // O Swing não deve criar seus próprios buffers na janela, que são usados pela renderização ativa
+        System.setProperty("swing.bufferPerWindow", "false");
         new Start();
     }
     
@@ -34,5 +42,46 @@ public class Start extends JFrame {
         pack();
         setVisible(true);
         setLocationRelativeTo(null);
+        criarBufferStrategy();
+    }
+
+    /**
+     * Cria os buffers da renderização ativa. Caso não seja possível, as telas continuam sendo desenhadas pelo Swing
+     */
+    private void criarBufferStrategy() {
+        try {
+            createBufferStrategy(NUM_BUFFERS);
+            bufferStrategy = getBufferStrategy();
+        } catch (Exception e) {
+            System.out.println("Renderização ativa indisponível: " + e.getMessage());
+            bufferStrategy = null;
+        }
+    }
+
+    /**
+     * Desenha a tela diretamente no próximo buffer da janela e o apresenta, sem passar pela fila de repintura do Swing
+     * 
+     * @param tela A tela a ser desenhada
+     * @return {@code false} caso a renderização ativa não esteja disponível e a tela precise ser repintada pelo Swing
+     */
+    public boolean renderizarAtivo(TelaBase tela) {
+        if (bufferStrategy == null || !tela.isShowing()) return false;
+
+        Point origem = SwingUtilities.convertPoint(tela, 0, 0, this);
+        do {
+            do {
+                Graphics g = bufferStrategy.getDrawGraphics();
+                try {
+                    g.translate(origem.x, origem.y);
+                    g.clipRect(0, 0, tela.getWidth(), tela.getHeight());
+                    tela.paint(g);
+                } finally {
+                    g.dispose();
+                }
+            } while (bufferStrategy.contentsRestored());
+            bufferStrategy.show();
+        } while (bufferStrategy.contentsLost());
+        Toolkit.getDefaultToolkit().sync();
+        return true;
     }
 }
\ No newline at end of file
@@ -1,10 +1,11 @@
 import javax.swing.*;
 import java.awt.*;
-import java.awt.event.*;
+import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.util.ArrayList;
 
 /**
  * Classe base abstrata para todas as telas do jogo. Fornece as funcionalidades comuns entre as telas
@@ -12,17 +13,21 @@ import java.io.PrintWriter;
  * @author Arthur dos Santos Rezende
  * @version 1.0
  */
-public abstract class TelaBase extends JPanel implements ActionListener {
+public abstract class TelaBase extends JPanel {
     /** Largura padrão da tela (em pixels) */
     protected static final int LARGURA_TELA = 1300;
     /** Altura padrão da tela (em pixels) */
     protected static final int ALTURA_TELA = 750;
     /** Tamanho padrão (em pixels) para objetos colidíveis */
     protected static final int TAMANHO_BLOCO = 50;
-    /** Intervalo de tempo (em milissegundos) usado pelo timer do jogo */
+    /** Duração (em milissegundos) de um passo de simulação do loop do jogo */
     protected static final int INTERVALO = 10;
     /** Fonte padrão usada na maioria dos textos do jogo */
     protected static final String NOME_FONTE = "Papyrus";
+    /** Cor das partículas de pof! quando a imagem não existe */
+    private static final Color COR_POF = new Color(232, 67, 147);
+    /** Clipe usado para fazer o personagem invulnerável e os alertas piscarem (o quadro 0 é visível) */
+    protected static final AnimationClip PISCAR = new AnimationClip(100, 0, 1);
     
     /**
      * Representa os possíveis estados do jogo
@@ -33,7 +38,9 @@ public abstract class TelaBase extends JPanel implements ActionListener {
         /** Jogo pausado (execução suspensa) */
         PAUSADO, 
         /** Jogo parado (inativo) */
-        PARADO
+        PARADO,
+        /** Recursos da tela sendo carregados (a tela mostra o progresso do carregamento) */
+        CARREGANDO
     }
     
     /** Estado atual do jogo (inicialmente PARADO) */
@@ -44,8 +51,20 @@ public abstract class TelaBase extends JPanel implements ActionListener {
     protected MusicPlayer efeito = new MusicPlayer();
     /** Slot de save atual (determina qual mundo será carregado) */
     protected int save = 1;
-    /** Timer principal para atualização do jogo */
-    Timer timer;
+    /** Loop principal para atualização do jogo */
+    GameLoop gameLoop;
+    /** Relógio de simulação consultado por todos os temporizadores da tela */
+    protected final SimClock relogio = new SimClock(INTERVALO);
+    /** Fração (de 0 a 1) do passo de simulação seguinte já decorrida no quadro sendo desenhado */
+    protected double alfa = 1;
+    /** Fila de renderização, onde as entidades emitem seus comandos de desenho a cada quadro */
+    protected final RenderQueue fila = new RenderQueue();
+    /** Caminhos das imagens adquiridas do {@link AssetManager} por esta tela, na ordem em que foram adquiridas */
+    private final ArrayList<String> imagensAdquiridas = new ArrayList<>();
+    /** Carregamento das imagens declaradas em {@code recursos()} ({@code null} antes de começar e depois de liberado) */
+    private AssetManager.Carregamento carregamento;
+    /** Carregamento adiantado das imagens da próxima tela ({@code null} se nada foi adiantado) */
+    private AssetManager.Carregamento precarregamento;
 
     /**
      * Construtor da tela base
@@ -58,12 +77,10 @@ public abstract class TelaBase extends JPanel implements ActionListener {
         setPreferredSize(new Dimension(LARGURA_TELA, ALTURA_TELA));
         setBackground(Color.BLACK);
         setFocusable(true);
-
-        carregarImagens();
     }
 
     /**
-     * Salva o valor atual de {@code save} no arquivo de save
+     * Salva o valor atual de {@code save} e a semente da sessão ({@link GameRandom}) no arquivo de save
      */
     public void saveData() {
         try {
@@ -76,6 +93,7 @@ public abstract class TelaBase extends JPanel implements ActionListener {
             
             try (PrintWriter writer = new PrintWriter(new FileWriter(saveFile))) {
                 writer.println(this.save);
+                writer.println(GameRandom.getSemente());
                 System.out.println("Dados salvos com sucesso!");
             }
             
@@ -89,30 +107,215 @@ public abstract class TelaBase extends JPanel implements ActionListener {
     }
 
     /**
-     * Inicia o timer e muda o estado do jogo para RODANDO
+     * Inicia o loop do jogo e muda o estado do jogo para RODANDO
      */
     public void start(){
         estado = EstadoJogo.RODANDO;
-        timer = new Timer(INTERVALO, this);
-        timer.start();
+        iniciarLoop();
     }
 
     /**
-     * Carrega os recursos gráficos necessários para a tela.
+     * Cria (caso necessário) e inicia o loop de passo fixo da tela.
+     * No modo headless o loop não é criado, e quem controla a tela chama {@code atualizar()} diretamente
+     */
+    protected void iniciarLoop(){
+        if(GraphicsEnvironment.isHeadless()) return;
+        if(gameLoop == null) gameLoop = new GameLoop(this, INTERVALO);
+        gameLoop.start();
+    }
+
+    /**
+     * Declara as imagens de que a tela precisa. Elas são carregadas em paralelo por {@code carregarEIniciar()}.
+     * Deve ser implementado por subclasses.
+     *
+     * @return O conjunto de imagens da tela
+     */
+    protected abstract AssetBundle recursos();
+
+    /**
+     * Guarda nos campos da tela as imagens já carregadas (obtidas com {@code imagem()}).
      * Deve ser implementado por subclasses para carregar imagens específicas.
      */
     public abstract void carregarImagens();
 
+    /**
+     * Carrega as imagens de {@code recursos()} em segundo plano e inicia a tela quando todas estiverem prontas.
+     * Enquanto isso, a tela fica no estado CARREGANDO e mostra o progresso, sem travar a thread do Swing.
+     * No modo headless o carregamento é esperado e a tela é iniciada antes do retorno
+     */
+    protected void carregarEIniciar(){
+        estado = EstadoJogo.CARREGANDO;
+        AssetManager.Carregamento c = AssetManager.carregar(recursos(), this::repaint);
+        carregamento = c;
+        if(GraphicsEnvironment.isHeadless()){
+            c.aguardar();
+            concluirCarregamento(c);
+        } else {
+            c.aoConcluir(() -> concluirCarregamento(c));
+        }
+    }
+
+    /**
+     * Guarda as imagens carregadas e inicia a tela, a menos que ela tenha sido descartada durante o carregamento
+     *
+     * @param c O carregamento concluído
+     */
+    private void concluirCarregamento(AssetManager.Carregamento c){
+        if(c != carregamento || estado != EstadoJogo.CARREGANDO) return;
+        carregarImagens();
+        start();
+        repaint();
+    }
+
+    /**
+     * Troca as imagens da tela pelas de {@code recursos()}, quando o conjunto declarado muda com a tela já iniciada.
+     * O novo carregamento é esperado e só depois o anterior é liberado, para que as imagens comuns aos dois não sejam
+     * descartadas e decodificadas de novo
+     */
+    protected void recarregarRecursos(){
+        AssetManager.Carregamento anterior = carregamento;
+        AssetManager.Carregamento c = AssetManager.carregar(recursos(), null);
+        c.aguardar();
+        carregamento = c;
+        carregarImagens();
+        if(anterior != null) anterior.liberar();
+    }
+
+    /**
+     * Adianta, em segundo plano e com prioridade mínima, as imagens e a música da próxima tela, para que a troca de
+     * tela não precise esperar o disco. As imagens ficam guardadas até {@code liberarImagens()}
+     *
+     * @param conjunto As imagens da próxima tela
+     * @param musica Caminho da música da próxima tela (pode ser {@code null})
+     */
+    protected void precarregar(AssetBundle conjunto, String musica){
+        if(precarregamento != null) precarregamento.liberar();
+        precarregamento = AssetManager.precarregar(conjunto);
+        if(musica != null) AssetManager.emSegundoPlano(() -> MusicPlayer.precarregar(musica));
+    }
+
+    /**
+     * @param caminho Caminho de uma imagem declarada em {@code recursos()}
+     * @return A imagem, ou {@code null} se ela não pôde ser carregada
+     */
+    protected Image imagem(String caminho){
+        return carregamento == null ? null : carregamento.getImagem(caminho);
+    }
+
+    /**
+     * @param caminhos Caminhos de imagens declaradas em {@code recursos()}
+     * @return As imagens, na mesma ordem (com {@code null} nas que não puderam ser carregadas)
+     */
+    protected Image[] imagens(String... caminhos){
+        Image[] imgs = new Image[caminhos.length];
+        for(int i = 0; i < caminhos.length; i++) imgs[i] = imagem(caminhos[i]);
+        return imgs;
+    }
+
+    /**
+     * Obtém uma imagem que pode não ter sido declarada em {@code recursos()}. Imagens declaradas vêm do carregamento;
+     * as outras são adquiridas na hora (de forma síncrona) e liberadas por {@code liberarImagens()}
+     *
+     * @param caminho Caminho do arquivo
+     * @return A imagem, ou {@code null} se ela não pôde ser carregada
+     */
+    protected Image imagemSobDemanda(String caminho){
+        if(carregamento != null && carregamento.contem(caminho)) return carregamento.getImagem(caminho);
+        try {
+            return adquirir(caminho);
+        } catch (IOException e) {
+            System.err.println("Erro ao carregar imagem: " + caminho);
+            return null;
+        }
+    }
+
+    /**
+     * @param caminhos Caminhos dos arquivos
+     * @return As imagens, na mesma ordem (com {@code null} nas que não puderam ser carregadas)
+     * @see #imagemSobDemanda(String)
+     */
+    protected Image[] imagensSobDemanda(String... caminhos){
+        Image[] imgs = new Image[caminhos.length];
+        for(int i = 0; i < caminhos.length; i++) imgs[i] = imagemSobDemanda(caminhos[i]);
+        return imgs;
+    }
+
+    /**
+     * Adquire uma imagem do {@link AssetManager}, mantendo a transparência. A imagem é liberada por
+     * {@code liberarImagens()}
+     *
+     * @param caminho Caminho do arquivo
+     * @return A imagem
+     * @throws IOException Se ocorrer um erro de I/O durante a leitura do arquivo
+     */
+    protected BufferedImage adquirir(String caminho) throws IOException {
+        BufferedImage img = AssetManager.adquirir(caminho);
+        imagensAdquiridas.add(caminho);
+        return img;
+    }
+
+    /**
+     * Adquire uma imagem opaca (fundos e paredes) do {@link AssetManager}. A imagem é liberada por
+     * {@code liberarImagens()}
+     *
+     * @param caminho Caminho do arquivo
+     * @return A imagem
+     * @throws IOException Se ocorrer um erro de I/O durante a leitura do arquivo
+     */
+    protected BufferedImage adquirirOpaca(String caminho) throws IOException {
+        BufferedImage img = AssetManager.adquirirOpaca(caminho);
+        imagensAdquiridas.add(caminho);
+        return img;
+    }
+
+    /**
+     * Libera todas as imagens adquiridas pela tela (inclusive as do carregamento, mesmo que ele ainda não tenha
+     * terminado). As imagens são liberadas na ordem inversa da aquisição, para que as comuns a todas as telas
+     * (adquiridas primeiro) sejam as últimas a serem descartadas pelo {@link AssetManager}. As imagens adiantadas para
+     * a próxima tela são liberadas por último, já que ela vai adquiri-las em seguida
+     */
+    protected void liberarImagens(){
+        if(carregamento != null){
+            carregamento.liberar();
+            carregamento = null;
+        }
+        for(int i = imagensAdquiridas.size() - 1; i >= 0; i--) AssetManager.liberar(imagensAdquiridas.get(i));
+        imagensAdquiridas.clear();
+        if(precarregamento != null){
+            precarregamento.liberar();
+            precarregamento = null;
+        }
+    }
+
     /**
      * Método de renderização do Swing. Chama {@code desenharTela()} após
-     * a preparação básica do componente.
+     * a preparação básica do componente (ou {@code desenharCarregamento()}, enquanto a tela carrega).
      * 
      * @param g Contexto gráfico para renderização
      */
     @Override
     public void paintComponent(Graphics g) {
         super.paintComponent(g);
-        desenharTela(g);
+        if(estado == EstadoJogo.CARREGANDO) desenharCarregamento(g);
+        else desenharTela(g);
+    }
+
+    /**
+     * Desenha a tela de carregamento, com uma barra do progresso das imagens já carregadas
+     *
+     * @param g Contexto gráfico para renderização
+     */
+    protected void desenharCarregamento(Graphics g) {
+        AssetManager.Carregamento c = carregamento;
+        double progresso = c == null ? 0 : c.getProgresso();
+        g.setColor(Color.BLACK);
+        g.fillRect(0, 0, LARGURA_TELA, ALTURA_TELA);
+        g.setColor(Color.WHITE);
+        g.setFont(new Font(NOME_FONTE, Font.BOLD, 30));
+        FontMetrics metrics = getFontMetrics(g.getFont());
+        g.drawString("Carregando...", (LARGURA_TELA - metrics.stringWidth("Carregando...")) / 2, ALTURA_TELA / 2 - 20);
+        g.drawRect(LARGURA_TELA / 4, ALTURA_TELA / 2, LARGURA_TELA / 2, 20);
+        g.fillRect(LARGURA_TELA / 4, ALTURA_TELA / 2, (int) (LARGURA_TELA / 2 * progresso), 20);
     }
 
     /**
@@ -124,13 +327,100 @@ public abstract class TelaBase extends JPanel implements ActionListener {
     public abstract void desenharTela(Graphics g);
 
     /**
-     * Manipula eventos de ação, principalmente do timer, solicitando
-     * repintura do componente a cada intervalo definido.
+     * Avança a simulação da tela em um passo de {@code INTERVALO} milissegundos.
+     * Chamado pelo loop do jogo; telas sem simulação não precisam sobrescrevê-lo.
+     */
+    public void atualizar() {
+    }
+
+    /**
+     * Renderiza um quadro da tela. Chamado pelo loop do jogo após os passos de simulação do quadro.
+     * <p>
+     * Quando a tela está na janela principal, o quadro é desenhado e apresentado imediatamente pelos buffers da janela.
+     * Caso contrário, a tela é repintada pelo Swing.
+     * </p>
      * 
-     * @param e Evento de ação disparado
+     * @param alfa Fração (de 0 a 1) do próximo passo de simulação já decorrida, usada para interpolar as posições
      */
-    public void actionPerformed(ActionEvent e) {
-        repaint();
+    public void renderizar(double alfa) {
+        this.alfa = alfa;
+        Window janela = SwingUtilities.getWindowAncestor(this);
+        if (!(janela instanceof Start) || !((Start) janela).renderizarAtivo(this)) {
+            repaint();
+        }
+    }
+
+    /**
+     * @param obj Objeto a ser desenhado
+     * @return Posição x do objeto interpolada para o quadro atual
+     */
+    protected int xInterpolado(ObjetoColidivel obj) { return obj.getXInterpolado(alfa); }
+
+    /**
+     * @param obj Objeto a ser desenhado
+     * @return Posição y do objeto interpolada para o quadro atual
+     */
+    protected int yInterpolado(ObjetoColidivel obj) { return obj.getYInterpolado(alfa); }
+
+    /**
+     * Emite os comandos de desenho das paredes na camada de cenário
+     *
+     * @param paredes As paredes da tela
+     * @param img Imagem das paredes (ou {@code null} para desenhá-las na própria cor)
+     */
+    protected void emitirParedes(Iterable<Parede> paredes, Image img) {
+        for (Parede parede : paredes) {
+            if(img != null) fila.sprite(RenderQueue.CENARIO, img, xInterpolado(parede), yInterpolado(parede), parede.getLargura(), parede.getAltura());
+            else fila.retangulo(RenderQueue.CENARIO, parede.getCor(), xInterpolado(parede), yInterpolado(parede), parede.getLargura(), parede.getAltura());
+        }
+    }
+
+    /**
+     * Emite o comando de desenho do personagem. Enquanto está invulnerável, ele pisca a cada 100 milissegundos
+     *
+     * @param batata O personagem
+     * @param imgInvulneravel Imagem usada enquanto ele está invulnerável
+     * @param img Imagem usada no resto do tempo
+     */
+    protected void emitirPersonagem(Player batata, Image imgInvulneravel, Image img) {
+        Image atual = batata.isInvulnerable() ? imgInvulneravel : img;
+        if(atual == null) {
+            fila.oval(RenderQueue.JOGADOR, batata.getCor(), xInterpolado(batata), yInterpolado(batata), TAMANHO_BLOCO, TAMANHO_BLOCO);
+        } else if(!batata.isInvulnerable() || PISCAR.quadro(relogio) == 0) {
+            fila.sprite(RenderQueue.JOGADOR, atual, xInterpolado(batata), yInterpolado(batata), batata.getLargura(), batata.getAltura());
+        }
+    }
+
+    /**
+     * Emite os comandos de desenho das partículas de pof! e dos alertas (que piscam a cada 100 milissegundos)
+     *
+     * @param particulas Sistema de partículas da tela
+     * @param pofImage Imagem do pof! (ou {@code null} para desenhá-lo como um quadrado rosa)
+     * @param alertImage Imagem do alerta (ou {@code null} para desenhá-lo como um retângulo vermelho)
+     */
+    protected void emitirParticulas(ParticleSystem particulas, Image pofImage, Image alertImage) {
+        for (int i = 0; i < particulas.getTotalPofs(); i++) {
+            int px = particulas.getPofX(i), py = particulas.getPofY(i), tamanho = particulas.getPofTamanho(i);
+            if(pofImage != null) fila.sprite(RenderQueue.PARTICULA, pofImage, px, py, tamanho, tamanho);
+            else fila.retangulo(RenderQueue.PARTICULA, COR_POF, px, py, tamanho, tamanho);
+        }
+        if(PISCAR.quadro(relogio) != 0) return;
+        for (int slot = 0; slot < particulas.getCapacidadeAlertas(); slot++) {
+            if(!particulas.isSlotAtivo(slot)) continue;
+            int ax = particulas.getAlertaX(slot), ay = particulas.getAlertaY(slot);
+            int largura = particulas.getAlertaLargura(slot), altura = particulas.getAlertaAltura(slot);
+            if(alertImage != null) fila.sprite(RenderQueue.PARTICULA, alertImage, ax, ay, largura, altura);
+            else fila.retangulo(RenderQueue.PARTICULA, Color.RED, ax, ay, largura, altura);
+        }
+    }
+
+    /**
+     * Descreve o estado atual da simulação em uma linha, usado nos relatórios do modo headless
+     * 
+     * @return Descrição do estado da tela
+     */
+    public String descreverEstado() {
+        return "tick=" + relogio.getTick() + " estado=" + estado;
     }
 
     /**
@@ -1,4 +1,3 @@
-import javax.imageio.ImageIO;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
@@ -9,7 +8,6 @@ import java.io.PrintWriter;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.Random;
 import java.util.Set;
 
 /** 
@@ -25,8 +23,18 @@ public class TelaBoss extends TelaBase{
     private BossManager.BossLayout layout;
     /** Número identificador do boss atual (0 a 6) */
     private int bossNum;
-    /** Uma lista contendo todos os objetos colidíveis presentes na tela */
-    private ArrayList<ObjetoColidivel> objetosColidiveis = new ArrayList<>();
+    /** Grade espacial com os objetos colidíveis, usada para encontrar candidatos a colisão */
+    private final SpatialGrid grade = new SpatialGrid(LARGURA_TELA, ALTURA_TELA, TAMANHO_BLOCO);
+    /** Sistema com os dados de todos os projéteis registrados, que move todos eles de uma vez */
+    private final ProjectileSystem projeteis = new ProjectileSystem(LARGURA_TELA, ALTURA_TELA);
+    /** Sistema com os componentes de todas as criaturas registradas, que move as que estão patrulhando */
+    private final CreatureSystem criaturas = new CreatureSystem(LARGURA_TELA, ALTURA_TELA);
+    /** Registro com todos os objetos colidíveis presentes na tela (mantém a grade espacial e os sistemas atualizados) */
+    private final EntityRegistry entidades = new EntityRegistry(grade, projeteis, criaturas);
+    /** Grade de ocupação das paredes da dungeon atual */
+    private WallGrid mapaParedes;
+    /** Lista reaproveitada com os candidatos a colisão de uma consulta à grade */
+    private final ArrayList<ObjetoColidivel> candidatos = new ArrayList<>();
     /** Botão para pausar o jogo */
     private JButton pauseButton = new JButton("Pausa");
     /** O personagem jogável do jogo (Duque Batata, ou o caça X-Salada na luta final) */
@@ -37,16 +45,18 @@ public class TelaBoss extends TelaBase{
     private ArrayList<Projetil> cenouras = new ArrayList<>();
     /** O intervalo entre cada tiro do jogador (0,3 s) */
     private static final long INTERVALO_TIRO = 300;
+    /** Animação da faca girando do Sir Platoh */
+    private static final AnimationClip GIRO_FACA = new AnimationClip(50, 0, 1, 2, 3, 4, 5, 6, 7);
+    /** Animação do Cérbero balançando o corpo */
+    private static final AnimationClip BALANCO_CERBERO = new AnimationClip(100, 1, 2);
     /** O boss atual */
     private Boss curBoss;
     /** Uma lista contendo todas as paredes presentes na tela */
     private ArrayList<Parede> paredes = new ArrayList<>();
     /** A porta onde o jogador deve entrar para passar para o próximo mundo (ou entrar na sala secreta, no caso do boss secreto) */
     private Porta porta;
-    /** Uma lista contendo todas as partículas de alerta presentes na tela */
-    private ArrayList<Alert> alertas = new ArrayList<>();
-    /** Uma lista contendo todas as partículas de pof! presentes na tela */
-    private ArrayList<Pof> pofs = new ArrayList<>();
+    /** Sistema com todas as partículas de pof! e de alerta presentes na tela */
+    private final ParticleSystem particulas = new ParticleSystem(relogio);
     /** Imagem do ícone de pausa */
     private ImageIcon iconPause, vladmirCenoura;
     /** Imagens únicas */
@@ -54,6 +64,68 @@ public class TelaBoss extends TelaBase{
     /** Arrays de imagens */
     private Image[] backgroundImgs, portaImgs, batataImgs, cenouraImgs, gigaSlimeImgs, sirPlatohImgs, facaImgs, mofadaBombadaImgs,
     cerberoNimbusImgs, larryImgs, fioImgs, cappuccinoImgs;
+
+    // Caminhos das imagens (os vetores estão na mesma ordem dos vetores de imagens)
+    private static final String IMG_PAREDE = "assets/parede.png";
+    private static final String IMG_ALERTA = "assets/Warning.png";
+    private static final String IMG_POF = "assets/POF.png";
+    private static final String[] IMGS_FUNDO = {
+        "assets/secretBackground.png", "assets/BackgroundW1.png", "assets/background.png", "assets/BackgroundW3.png",
+        "assets/BackgroundW4.png", "assets/BackgroundW5.png", "assets/SpaceBackground.png"
+    };
+    private static final String[] IMGS_PORTA = {"assets/PortaFH.png", "assets/PortaAH.png"};
+    private static final String[] IMGS_BATATA = {
+        "assets/DuqueBatataD.png", "assets/DuqueBatataE.png", "assets/DuqueBatataC.png", "assets/DuqueBatataAD.png",
+        "assets/DuqueBatataAE.png", "assets/DuqueBatataAC.png", "assets/DuqueBatataAB.png", "assets/DuqueBatataX.png",
+        "assets/XSalada.png", "assets/XSaladaX.png"
+    };
+    private static final String[] IMGS_CENOURA = {
+        "assets/CenouraD.png", "assets/CenouraE.png", "assets/CenouraC.png", "assets/CenouraB.png"
+    };
+    private static final String[] IMGS_GIGA_SLIME = {
+        "assets/GigaSlimeD.png", "assets/GigaSlimeP.png", "assets/GigaSlimeA.png"
+    };
+    private static final String IMG_LANCA_CHAMAS = "assets/Fogo.png";
+    private static final String[] IMGS_SIR_PLATOH = {
+        "assets/SirPlatohD.png", "assets/SirPlatohG.png", "assets/SirPlatohF.png"
+    };
+    private static final String IMG_GARFO = "assets/Garfo.png";
+    private static final String[] IMGS_FACA = {
+        "assets/BigFacaDC.png", "assets/BigFacaD.png", "assets/BigFacaDB.png", "assets/BigFacaB.png",
+        "assets/BigFacaEB.png", "assets/BigFacaE.png", "assets/BigFacaEC.png", "assets/BigFacaC.png"
+    };
+    private static final String[] IMGS_MOFADA_BOMBADA = {
+        "assets/MofadaBombadaD.png", "assets/MofadaBombadaGD.png", "assets/MofadaBombadaAD.png",
+        "assets/MofadaBombadaGE.png", "assets/MofadaBombadaAE.png"
+    };
+    private static final String IMG_BRACO = "assets/BracoV.png";
+    private static final String IMG_LUVA = "assets/LuvaB.png";
+    private static final String IMG_MOFO = "assets/mofo.png";
+    private static final String[] IMGS_CERBERO_NIMBUS = {
+        "assets/CerberoNimbusD.png", "assets/CerberoNimbusB1.png", "assets/CerberoNimbusB2.png",
+        "assets/CerberoNimbusRB.png", "assets/CerberoNimbusRC.png"
+    };
+    private static final String IMG_ALGODAO = "assets/Algodao.png";
+    private static final String[] IMGS_LARRY = {"assets/LarryA.png", "assets/LarryD.png"};
+    private static final String IMG_TEIA = "assets/teia.png";
+    private static final String[] IMGS_FIO = {"assets/fio.png", "assets/fioH.png"};
+    private static final String IMG_NAVE_MAREANHA = "assets/NaveMaeranha.png";
+    private static final String[] IMGS_CAPPUCCINO = {
+        "assets/CappuccinoAssassinoD.png", "assets/CappuccinoAssassinoA.png", "assets/CappuccinoAssassinoX.png",
+        "assets/CappuccinoAssassinoC.png"
+    };
+
+    /** Imagens de cada boss (inclusive as dos seus ataques), pelo número do boss */
+    private static final AssetBundle[] IMAGENS_BOSSES = {
+        new AssetBundle().imagens(IMGS_CAPPUCCINO),
+        new AssetBundle().imagens(IMGS_GIGA_SLIME).imagens(IMG_LANCA_CHAMAS),
+        new AssetBundle().imagens(IMGS_SIR_PLATOH).imagens(IMG_GARFO).imagens(IMGS_FACA),
+        new AssetBundle().imagens(IMGS_MOFADA_BOMBADA).imagens(IMG_BRACO, IMG_LUVA, IMG_MOFO),
+        new AssetBundle().imagens(IMGS_CERBERO_NIMBUS).imagens(IMG_ALGODAO),
+        new AssetBundle().imagens(IMGS_LARRY).imagens(IMG_TEIA).imagens(IMGS_FIO),
+        new AssetBundle().imagens(IMG_NAVE_MAREANHA).imagens(IMG_TEIA).imagens(IMGS_FIO)
+    };
+
     
     /**
      * Construtor da tela de boss
@@ -66,32 +138,31 @@ public class TelaBoss extends TelaBase{
         this.bossNum = bossNum;
         this.bossManager = new BossManager();
 
-        if(bossNum == 6) musica.playSong("assets/no-mercy.wav", true);
-        else musica.playSong("assets/BossTheme_ADB.wav", true);
+        musica.playSong(musicaDoBoss(bossNum), true);
 
         setLayout(null);
 
         pauseButton();
         add(pauseButton);
-        start();
+        carregarEIniciar();
     }
 
     /**
      * Inicia a luta
      * <p>
-     * Inicia o timer e muda o estado do jogo para RODANDO, carrega o boss atual, o jogador e a porta.
+     * Inicia o loop do jogo e muda o estado do jogo para RODANDO, carrega o boss atual, o jogador e a porta.
      * </p>
      * 
      */
     public void start(){
         cleanKeyListeners();
         resetKeyState();
-        objetosColidiveis.clear();
+        entidades.limpar();
         layout = bossManager.getCurrentBoss();
 
-        batata = new Player(LARGURA_TELA/2, ALTURA_TELA - TAMANHO_BLOCO);
+        batata = new Player(LARGURA_TELA/2, ALTURA_TELA - TAMANHO_BLOCO, relogio);
         batata.setImage(batataImgs[0]);
-        objetosColidiveis.add(batata);
+        entidades.adicionar(batata);
 
         gameKeyAdapter = new GameKeyAdapter();
         addKeyListener(gameKeyAdapter);
@@ -101,11 +172,10 @@ public class TelaBoss extends TelaBase{
 
         porta = new Porta(LARGURA_TELA/2 - 50, 0, 100, 20);
         porta.setImage(portaImgs[0]);
-        objetosColidiveis.add(porta);
+        entidades.adicionar(porta);
 
         estado = EstadoJogo.RODANDO;
-        timer = new Timer(INTERVALO, this);
-        timer.start();
+        iniciarLoop();
     }
 
     /**
@@ -114,7 +184,7 @@ public class TelaBoss extends TelaBase{
     public void pauseButton(){
         try {
             // Carregar imagem do ícone de pausa
-            Image imgPause = ImageIO.read(new File("assets/pause.png"));
+            Image imgPause = adquirir("assets/pause.png");
             imgPause = imgPause.getScaledInstance(30, 30, Image.SCALE_SMOOTH);
             iconPause = new ImageIcon(imgPause);
             
@@ -136,9 +206,10 @@ public class TelaBoss extends TelaBase{
      * Mostra o menu de pausa. A partir dele, o jogador pode continuar o jogo ou voltar para a tela inicial
      */
     private void mostrarPausa(){
+        if(estado == EstadoJogo.CARREGANDO) return;
         if(estado == EstadoJogo.RODANDO) {
             estado = EstadoJogo.PAUSADO;
-            timer.stop();
+            gameLoop.stop();
             Object[] options = {"Continuar", "Menu Principal"};
             int opcao = JOptionPane.showOptionDialog(
                 this,
@@ -155,12 +226,12 @@ public class TelaBoss extends TelaBase{
                 voltarParaMenu();
             } else if(estado == EstadoJogo.PAUSADO) {
                 estado = EstadoJogo.RODANDO;
-                timer.start();
+                iniciarLoop();
                 requestFocusInWindow();
             }
 
         } else {
-            timer.start();
+            iniciarLoop();
             requestFocusInWindow();
         }
     }
@@ -184,101 +255,58 @@ public class TelaBoss extends TelaBase{
     }
 
     /**
-     * Carrega as imagens necessárias para a tela de jogo.
+     * Declara as imagens da tela de boss: as comuns a todos os bosses, o fundo da luta e as do boss atual (declaradas
+     * pelo seu layout). As imagens dos outros bosses não são carregadas.
+     *
+     * @return O conjunto de imagens da tela
      */
-    public void carregarImagens(){
-        backgroundImgs = new Image[7];
-        batataImgs = new Image[10]; cenouraImgs = new Image[4]; portaImgs = new Image[2]; gigaSlimeImgs = new Image[3];
-        sirPlatohImgs = new Image[3]; facaImgs = new Image[8]; mofadaBombadaImgs = new Image[5]; cerberoNimbusImgs = new Image[5];
-        larryImgs = new Image[2]; fioImgs = new Image[2]; cappuccinoImgs = new Image[4];
+    @Override
+    protected AssetBundle recursos(){
+        return recursosComuns(bossNum).juntar(bossManager.getCurrentBoss().getRecursos());
+    }
 
-        try {
-            paredeImg = ImageIO.read(new File("assets/parede.png"));
-            alertImage = ImageIO.read(new File("assets/Warning.png"));
-            pofImage = ImageIO.read(new File("assets/POF.png"));
-
-            backgroundImgs[0] = ImageIO.read(new File("assets/secretBackground.png"));
-            backgroundImgs[1] = ImageIO.read(new File("assets/BackgroundW1.png"));
-            backgroundImgs[2] = ImageIO.read(new File("assets/background.png"));
-            backgroundImgs[3] = ImageIO.read(new File("assets/BackgroundW3.png"));
-            backgroundImgs[4] = ImageIO.read(new File("assets/BackgroundW4.png"));
-            backgroundImgs[5] = ImageIO.read(new File("assets/BackgroundW5.png"));
-            backgroundImgs[6] = ImageIO.read(new File("assets/SpaceBackground.png"));
-
-            portaImgs[0] = ImageIO.read(new File("assets/PortaFH.png"));
-            portaImgs[1] = ImageIO.read(new File("assets/PortaAH.png"));
-
-            batataImgs[0] = ImageIO.read(new File("assets/DuqueBatataD.png"));
-            batataImgs[1] = ImageIO.read(new File("assets/DuqueBatataE.png"));
-            batataImgs[2] = ImageIO.read(new File("assets/DuqueBatataC.png"));
-            batataImgs[3] = ImageIO.read(new File("assets/DuqueBatataAD.png"));
-            batataImgs[4] = ImageIO.read(new File("assets/DuqueBatataAE.png"));
-            batataImgs[5] = ImageIO.read(new File("assets/DuqueBatataAC.png"));
-            batataImgs[6] = ImageIO.read(new File("assets/DuqueBatataAB.png"));
-            batataImgs[7] = ImageIO.read(new File("assets/DuqueBatataX.png"));
-            batataImgs[8] = ImageIO.read(new File("assets/XSalada.png"));
-            batataImgs[9] = ImageIO.read(new File("assets/XSaladaX.png"));
-
-            cenouraImgs[0] = ImageIO.read(new File("assets/CenouraD.png"));
-            cenouraImgs[1] = ImageIO.read(new File("assets/CenouraE.png"));
-            cenouraImgs[2] = ImageIO.read(new File("assets/CenouraC.png"));
-            cenouraImgs[3] = ImageIO.read(new File("assets/CenouraB.png"));
-
-            gigaSlimeImgs[0] = ImageIO.read(new File("assets/GigaSlimeD.png"));
-            gigaSlimeImgs[1] = ImageIO.read(new File("assets/GigaSlimeP.png"));
-            gigaSlimeImgs[2] = ImageIO.read(new File("assets/GigaSlimeA.png"));
-
-            lancaChamasImg = ImageIO.read(new File("assets/Fogo.png"));
-
-            sirPlatohImgs[0] = ImageIO.read(new File("assets/SirPlatohD.png"));
-            sirPlatohImgs[1] = ImageIO.read(new File("assets/SirPlatohG.png"));
-            sirPlatohImgs[2] = ImageIO.read(new File("assets/SirPlatohF.png"));
-
-            garfoImg = ImageIO.read(new File("assets/Garfo.png"));
-            facaImgs[0] = ImageIO.read(new File("assets/BigFacaDC.png"));
-            facaImgs[1] = ImageIO.read(new File("assets/BigFacaD.png"));
-            facaImgs[2] = ImageIO.read(new File("assets/BigFacaDB.png"));
-            facaImgs[3] = ImageIO.read(new File("assets/BigFacaB.png"));
-            facaImgs[4] = ImageIO.read(new File("assets/BigFacaEB.png"));
-            facaImgs[5] = ImageIO.read(new File("assets/BigFacaE.png"));
-            facaImgs[6] = ImageIO.read(new File("assets/BigFacaEC.png"));
-            facaImgs[7] = ImageIO.read(new File("assets/BigFacaC.png"));
-
-            mofadaBombadaImgs[0] = ImageIO.read(new File("assets/MofadaBombadaD.png"));
-            mofadaBombadaImgs[1] = ImageIO.read(new File("assets/MofadaBombadaGD.png"));
-            mofadaBombadaImgs[2] = ImageIO.read(new File("assets/MofadaBombadaAD.png"));
-            mofadaBombadaImgs[3] = ImageIO.read(new File("assets/MofadaBombadaGE.png"));
-            mofadaBombadaImgs[4] = ImageIO.read(new File("assets/MofadaBombadaAE.png"));
-
-            bracoImg = ImageIO.read(new File("assets/BracoV.png"));
-            luvaImg = ImageIO.read(new File("assets/LuvaB.png"));
-            mofoImg = ImageIO.read(new File("assets/mofo.png"));
-
-            cerberoNimbusImgs[0] = ImageIO.read(new File("assets/CerberoNimbusD.png"));
-            cerberoNimbusImgs[1] = ImageIO.read(new File("assets/CerberoNimbusB1.png"));
-            cerberoNimbusImgs[2] = ImageIO.read(new File("assets/CerberoNimbusB2.png"));
-            cerberoNimbusImgs[3] = ImageIO.read(new File("assets/CerberoNimbusRB.png"));
-            cerberoNimbusImgs[4] = ImageIO.read(new File("assets/CerberoNimbusRC.png"));
-
-            algodaoImg = ImageIO.read(new File("assets/Algodao.png"));
-
-            larryImgs[0] = ImageIO.read(new File("assets/LarryA.png"));
-            larryImgs[1] = ImageIO.read(new File("assets/LarryD.png"));
-
-            teiaImg = ImageIO.read(new File("assets/teia.png"));
-            fioImgs[0] = ImageIO.read(new File("assets/fio.png"));
-            fioImgs[1] = ImageIO.read(new File("assets/fioH.png"));
-
-            naveMareanhaImg = ImageIO.read(new File("assets/NaveMaeranha.png"));
-
-            cappuccinoImgs[0] = ImageIO.read(new File("assets/CappuccinoAssassinoD.png"));
-            cappuccinoImgs[1] = ImageIO.read(new File("assets/CappuccinoAssassinoA.png"));
-            cappuccinoImgs[2] = ImageIO.read(new File("assets/CappuccinoAssassinoX.png"));
-            cappuccinoImgs[3] = ImageIO.read(new File("assets/CappuccinoAssassinoC.png"));
-        } catch (IOException e) {
-            System.out.println("Erro ao carregar imagens");
-            e.printStackTrace();
-        }
+    /**
+     * Monta o conjunto de imagens da tela de boss de um boss, sem precisar da tela (usado para adiantar o carregamento
+     * enquanto o jogador está na tela anterior)
+     *
+     * @param bossNum Número identificador do boss
+     * @return O conjunto de imagens da tela de boss
+     */
+    static AssetBundle recursosDoBoss(int bossNum){
+        return recursosComuns(bossNum).juntar(IMAGENS_BOSSES[bossNum]);
+    }
+
+    /**
+     * @param bossNum Número identificador do boss
+     * @return As imagens comuns a todos os bosses, com o fundo da luta
+     */
+    private static AssetBundle recursosComuns(int bossNum){
+        return new AssetBundle()
+            .opacas(IMG_PAREDE, IMGS_FUNDO[bossNum])
+            .imagens(IMG_ALERTA, IMG_POF)
+            .imagens(IMGS_PORTA).imagens(IMGS_BATATA).imagens(IMGS_CENOURA);
+    }
+
+    /**
+     * @param bossNum Número identificador do boss
+     * @return Caminho da música da luta
+     */
+    static String musicaDoBoss(int bossNum){
+        return bossNum == 6 ? "assets/no-mercy.wav" : "assets/BossTheme_ADB.wav";
+    }
+
+    /**
+     * Guarda nos campos as imagens comuns carregadas para a tela de boss. As imagens de cada boss são obtidas pelo
+     * próprio boss, quando ele é criado.
+     */
+    public void carregarImagens(){
+        paredeImg = imagem(IMG_PAREDE);
+        alertImage = imagem(IMG_ALERTA);
+        pofImage = imagem(IMG_POF);
+        backgroundImgs = imagens(IMGS_FUNDO);
+        portaImgs = imagens(IMGS_PORTA);
+        batataImgs = imagens(IMGS_BATATA);
+        cenouraImgs = imagens(IMGS_CENOURA);
     }
 
     /**
@@ -291,249 +319,35 @@ public class TelaBoss extends TelaBase{
         if(estado != EstadoJogo.PARADO){
             // Desenhar fundo (se a imagem existir)
             if(backgroundImgs[bossNum] != null) {
-                g.drawImage(backgroundImgs[bossNum], 0, 0, LARGURA_TELA, ALTURA_TELA, this);
+                fila.sprite(RenderQueue.FUNDO, backgroundImgs[bossNum], 0, 0, LARGURA_TELA, ALTURA_TELA);
             } else {
-                g.setColor(Color.DARK_GRAY);
-                g.fillRect(0, 0, LARGURA_TELA, ALTURA_TELA);
+                fila.retangulo(RenderQueue.FUNDO, Color.DARK_GRAY, 0, 0, LARGURA_TELA, ALTURA_TELA);
             }
 
             //Desenhar paredes
-            if(!(bossNum == 6 && (curBoss == null || curBoss.getImage() != null || curBoss.hp <= 0))){
-                for (Parede parede : paredes) {
-                    if(paredeImg != null){
-                        g.drawImage(paredeImg, parede.getX(), parede.getY(), parede.getLargura(), parede.getAltura(), this);
-                    } else {
-                        g.setColor(parede.getCor());
-                        g.fillRect(parede.getX(), parede.getY(), parede.getLargura(), parede.getAltura());
-                    }
-                }
+            if(!(bossNum == 6 && (curBoss == null || curBoss.getImage() != null || curBoss.getHp() <= 0))){
+                emitirParedes(paredes, paredeImg);
             }
 
             //Desenhar porta
-            if(bossNum != 6){
-                if(porta.getImage() != null){
-                    g.drawImage(porta.getImage(), porta.getX(), porta.getY(), porta.getLargura(), porta.getAltura(), this);
-                } else {
-                    g.setColor(porta.getCor());
-                    g.fillRect(porta.getX(), porta.getY(), porta.getLargura(), porta.getAltura());
-                }
-            }
+            if(bossNum != 6) fila.objeto(RenderQueue.CENARIO, porta, alfa);
             
             // Desenhar bosses e seus projéteis
-            if(curBoss != null){
-                // Alguns projéteis estão fora de ordem para o Boss não aparecer debaixo deles
-                if(curBoss instanceof CerberoNimbus){
-                    for (Projetil p : ((CerberoNimbus) curBoss).algodoes) {
-                        if (p.isAtivo()) {
-                            if(p.getImage() != null) {
-                                g.drawImage(p.getImage(), p.getX(), p.getY(), p.getLargura(), p.getAltura(), this);
-                            } else {
-                                g.setColor(p.getCor());
-                                g.fillOval(p.getX(), p.getY(), p.getLargura(), p.getAltura());
-                            }
-                        }
-                    }
-                }
-                else if(curBoss instanceof NaveMaeranha){
-                    for (Projetil p : ((NaveMaeranha) curBoss).fios) {
-                        if (p.isAtivo()) {
-                            if(p.getImage() != null) {
-                                g.drawImage(p.getImage(), p.getX(), p.getY(), p.getLargura(),
-                                    p.getAltura(), this);
-                            } else {
-                                g.setColor(p.getCor());
-                                g.fillOval(p.getX(), p.getY(), p.getLargura(), p.getAltura());
-                            }
-                        }
-                    }
-                    for (Projetil p : ((NaveMaeranha) curBoss).teias) {
-                        if (p.isAtivo()) {
-                            if(p.getImage() != null) {
-                                g.drawImage(p.getImage(), p.getX(), p.getY(), p.getLargura(), p.getAltura(), this);
-                            } else {
-                                g.setColor(p.getCor());
-                                g.fillOval(p.getX(), p.getY(), p.getLargura(), p.getAltura());
-                            }
-                        }
-                    }
-                }
-                if(curBoss.getImage() != null){
-                    if(curBoss instanceof NaveMaeranha) g.drawImage(curBoss.getImage(), 0, 0, LARGURA_TELA, ALTURA_TELA, this);
-                    else g.drawImage(curBoss.getImage(), curBoss.getX(), curBoss.getY(), curBoss.getLargura(), curBoss.getAltura(), this);
-                } else {
-                    g.setColor(curBoss.getCor());
-                    g.fillRect(curBoss.getX(), curBoss.getY(), curBoss.getLargura(), curBoss.getAltura());
-                }
-                if(curBoss instanceof Cappuccino){
-                    for(Projetil p : ((Cappuccino) curBoss).clones){
-                        if(p != null && p.isAtivo()){
-                            if(p.getImage() != null){
-                                g.drawImage(p.getImage(), p.getX(), p.getY(), p.getLargura(), p.getAltura(), this);
-                            } else {
-                                g.setColor(p.cor);
-                                g.fillRect(p.getX(), p.getY(), p.getLargura(), p.getAltura());
-                            }
-                        }
-                    }
-                } else if(curBoss instanceof GigaSlime){
-                    if(((GigaSlime) curBoss).lancaChamas != null){
-                        Projetil l = ((GigaSlime) curBoss).lancaChamas;
-                        if(l.isAtivo()){
-                            if(l.getImage() != null){
-                                g.drawImage(l.getImage(), l.getX(), l.getY() - 100, l.getLargura(), l.getAltura() + 110, this);
-                            } else {
-                                g.setColor(l.cor);
-                                g.fillRect(l.getX(), l.getY(), l.getLargura(), l.getAltura());
-                            }
-                        }
-                    }
-                } else if(curBoss instanceof SirPlatoh){
-                    if(((SirPlatoh) curBoss).garfo != null){
-                        Projetil p = ((SirPlatoh) curBoss).garfo;
-                        if(p.isAtivo()){
-                            if(p.getImage() != null){
-                                g.drawImage(p.getImage(), p.getX(), p.getY(), p.getLargura(), p.getAltura(), this);
-                            } else {
-                                g.setColor(p.cor);
-                                g.fillRect(p.getX(), p.getY(), p.getLargura(), p.getAltura());
-                            }
-                        }
-                    }
-                    if(((SirPlatoh) curBoss).faca != null){
-                        Projetil p = ((SirPlatoh) curBoss).faca;
-                        if(p.isAtivo()){
-                            if(p.getImage() != null){
-                                g.drawImage(p.getImage(), p.getX(), p.getY(), p.getLargura(), p.getAltura(), this);
-                            } else {
-                                g.setColor(p.cor);
-                                g.fillRect(p.getX(), p.getY(), p.getLargura(), p.getAltura());
-                            }
-                        }
-                    }
-                } else if(curBoss instanceof MofadaBombada){
-                    for (Projetil p : ((MofadaBombada) curBoss).bolasDeMofo) {
-                        if (p.isAtivo()) {
-                            if(p.getImage() != null) {
-                                g.drawImage(p.getImage(), p.getX(), p.getY(), p.getLargura(), p.getAltura(), this);
-                            } else {
-                                g.setColor(p.getCor());
-                                g.fillOval(p.getX(), p.getY(), p.getLargura(), p.getAltura());
-                            }
-                        }
-                    }
-                    if(((MofadaBombada) curBoss).braco != null){
-                        Projetil p = ((MofadaBombada) curBoss).braco;
-                        if(p.isAtivo()){
-                            if(p.getImage() != null  && luvaImg != null){
-                                g.drawImage(p.getImage(), p.getX(), p.getY(), p.getLargura(), p.getAltura(), this);
-                                // Luva é desenhada separadamente
-                                g.drawImage(luvaImg, p.getX(), p.getY() + p.getAltura() - TAMANHO_BLOCO + 10, TAMANHO_BLOCO, TAMANHO_BLOCO, this);
-                            } else {
-                                g.setColor(p.cor);
-                                g.fillRect(p.getX(), p.getY(), p.getLargura(), p.getAltura());
-                                g.setColor(Color.RED);
-                                // Luva é desenhada separadamente
-                                g.fillRect(p.getX(), p.getY() + p.getAltura() - TAMANHO_BLOCO, TAMANHO_BLOCO, TAMANHO_BLOCO);
-                            }
-                        }
-                    }
-                } else if(curBoss instanceof Larry){
-                    for (Projetil p : ((Larry) curBoss).fios) {
-                        if (p.isAtivo()) {
-                            if(p.getImage() != null) {
-                                g.drawImage(p.getImage(), p.getX(), p.getY() - TAMANHO_BLOCO, p.getLargura(),
-                                    p.getAltura() + TAMANHO_BLOCO, this);
-                            } else {
-                                g.setColor(p.getCor());
-                                g.fillOval(p.getX(), p.getY(), p.getLargura(), p.getAltura());
-                            }
-                        }
-                    }
-                    for (Projetil p : ((Larry) curBoss).teias) {
-                        if (p.isAtivo()) {
-                            if(p.getImage() != null) {
-                                g.drawImage(p.getImage(), p.getX(), p.getY(), p.getLargura(), p.getAltura(), this);
-                            } else {
-                                g.setColor(p.getCor());
-                                g.fillOval(p.getX(), p.getY(), p.getLargura(), p.getAltura());
-                            }
-                        }
-                    }
-                }
-            }
+            if(curBoss != null) curBoss.emitirComandos(fila, alfa);
 
             // Desenhar personagem
-            if(bossNum != 6){
-                if(batata.isInvulnerable()){
-                    if(batataImgs[7] != null){
-                        if ((System.currentTimeMillis() / 100) % 2 == 0) {
-                            g.drawImage(batataImgs[7], batata.getX(), batata.getY(), batata.getLargura(), batata.getAltura(), this);
-                        }
-                    } else {
-                        g.setColor(batata.getCor());
-                        g.fillOval(batata.getX(), batata.getY(), TAMANHO_BLOCO, TAMANHO_BLOCO);
-                    }
-                } else {
-                    if(batata.getImage() != null) {
-                        g.drawImage(batata.getImage(), batata.getX(), batata.getY(), batata.getLargura(), batata.getAltura(), this);
-                    } else {
-                        g.setColor(batata.getCor());
-                        g.fillOval(batata.getX(), batata.getY(), TAMANHO_BLOCO, TAMANHO_BLOCO);
-                    }
-                }
-            } else {
-                if(batata.isInvulnerable()){
-                    if(batataImgs[9] != null){
-                        if ((System.currentTimeMillis() / 100) % 2 == 0) {
-                            g.drawImage(batataImgs[9], batata.getX(), batata.getY(), batata.getLargura(), batata.getAltura(), this);
-                        }
-                    } else {
-                        g.setColor(batata.getCor());
-                        g.fillOval(batata.getX(), batata.getY(), TAMANHO_BLOCO, TAMANHO_BLOCO);
-                    }
-                } else {
-                    if(batataImgs[8] != null) {
-                        g.drawImage(batataImgs[8], batata.getX(), batata.getY(), batata.getLargura(), batata.getAltura(), this);
-                    } else {
-                        g.setColor(batata.getCor());
-                        g.fillOval(batata.getX(), batata.getY(), TAMANHO_BLOCO, TAMANHO_BLOCO);
-                    }
-                }
-            }
+            if(bossNum != 6) emitirPersonagem(batata, batataImgs[7], batata.getImage());
+            else emitirPersonagem(batata, batataImgs[9], batataImgs[8]);
 
             // Desenhar cenouras
             for (Projetil p : cenouras) {
-                if (p.isAtivo()) {
-                    if(p.getImage() != null) {
-                        g.drawImage(p.getImage(), p.getX(), p.getY(), p.getLargura(), p.getAltura(), this);
-                    } else {
-                        g.setColor(p.getCor());
-                        g.fillOval(p.getX(), p.getY(), p.getLargura(), p.getAltura());
-                    }
-                }
+                if (p.isAtivo()) fila.objeto(RenderQueue.CENOURA, p, alfa, true);
             }
 
             // Particulas
-            for (Pof p : pofs) {
-                if(p.isAtivo()){
-                    if(pofImage != null) {
-                        g.drawImage(pofImage, p.getX(), p.getY(), p.getTamanho(), p.getTamanho(), this);
-                    } else {
-                        g.setColor(new Color(232, 67, 147));
-                        g.fillRect(p.getX(), p.getY(), p.getTamanho(), p.getTamanho());
-                    }
-                }
-            }
-            for (Alert a : alertas) {
-                if(a.isAtivo() && (System.currentTimeMillis() / 100) % 2 == 0){
-                    if(alertImage != null) {
-                        g.drawImage(alertImage, a.getX(), a.getY(), a.getLargura(), a.getAltura(), this);
-                    } else {
-                        g.setColor(Color.RED);
-                        g.fillRect(a.getX(), a.getY(), a.getLargura(), a.getAltura());
-                    }
-                }
-            }
+            emitirParticulas(particulas, pofImage, alertImage);
+
+            fila.executar(g, this);
 
             // Barra de HP do Duque
             g.setColor(Color.BLACK);
@@ -555,14 +369,14 @@ public class TelaBoss extends TelaBase{
                     g.setColor(Color.BLACK);
                     g.fillRect(5, 80, 235, 35);
                     g.setColor(Color.WHITE);
-                    g.drawString("Tempo: " + (System.currentTimeMillis() - ((Cappuccino) curBoss).timer) / 1000 + "s",
+                    g.drawString("Tempo: " + (relogio.agora() - ((Cappuccino) curBoss).getTimer()) / 1000 + "s",
                     20, 90 + g.getFont().getSize());
                 }
             }
             else g.drawString("BOSS  derrotado!", 20, 50 + g.getFont().getSize());
 
             //Barra de HP do Boss
-            if(!(curBoss == null || curBoss.hp <= 0)){
+            if(!(curBoss == null || curBoss.getHp() <= 0)){
                 g.setColor(Color.BLACK);
                 g.fillRect(LARGURA_TELA/2 - 250, 5, 500, 75);
                 g.setColor(Color.RED);
@@ -572,42 +386,48 @@ public class TelaBoss extends TelaBase{
                 
                 g.fillRect(LARGURA_TELA/2 - 225, 40, 450, 30);
                 g.setColor(Color.GREEN);
-                g.fillRect(LARGURA_TELA/2 - 225, 40, (int)(450 * ((float)curBoss.hp / curBoss.maxHp)), 30);
+                g.fillRect(LARGURA_TELA/2 - 225, 40, (int)(450 * ((float)curBoss.getHp() / curBoss.getHpMaximo())), 30);
             }
         }
     }
 
     /**
-     * Manipula eventos de ação.
+     * Avança a simulação em um passo.
      * 
      * <p>
      * Atualiza o estado de todos os objetos colidíveis e as interações entre eles, além das partículas de pof!.
-     * Solicita a repintura do componente a cada intervalo definido no timer.
      * </p>
-     * 
-     * @param e Evento de ação disparado
      */
-    public void actionPerformed(ActionEvent e) {
+    @Override
+    public void atualizar() {
         if(estado == EstadoJogo.RODANDO) {
+            relogio.avancar();
+            for (ObjetoColidivel obj : entidades) obj.salvarPosicaoAnterior();
+
+            // Entrada do jogador (pode trocar de dungeon ou de tela)
+            gameKeyAdapter.processarEntrada();
+            if(estado != EstadoJogo.RODANDO) return;
+            // Move todos os projéteis
+            projeteis.atualizar();
+
+            // Atualiza a grade com as posições após a entrada do jogador e o movimento dos projéteis
+            for (ObjetoColidivel obj : entidades) grade.atualizar(obj);
+
             // Atualiza as cenouras
             Iterator<Projetil> projIt = cenouras.iterator();
             while (projIt.hasNext()) {
                 Projetil p = projIt.next();
-                p.mover();
 
-                // Verifica colisão com todos os objetos
-                for (ObjetoColidivel obj : objetosColidiveis) {
+                // Verifica colisão com os objetos próximos que a cenoura pode atingir
+                grade.consultar(p, p.getCamadasAlvo(), candidatos);
+                for (ObjetoColidivel obj : candidatos) {
                     boolean collisionHappened = true;
-                    if (
-                        p.shouldCollideWith(obj) &&
-                        obj.getLayer() != ObjetoColidivel.CollisionLayer.PLAYER &&
-                        p.colideCom(obj)
-                    ){
+                    if (p.colideCom(obj)){
                         // Colisão com boss
                         if (obj.getLayer() == ObjetoColidivel.CollisionLayer.ENEMY && !(obj instanceof MofadaBombada)) {
                             if(
                                 obj instanceof NaveMaeranha &&
-                                ((NaveMaeranha) obj).hp <= (((NaveMaeranha) obj).maxHp)/3
+                                ((NaveMaeranha) obj).getHp() <= (((NaveMaeranha) obj).getHpMaximo())/3
                             ){
                                 if (!((Boss) obj).takeDamage(3)) collisionHappened = false;
                             } else if (!((Boss) obj).takeDamage(1)) collisionHappened = false;
@@ -621,7 +441,7 @@ public class TelaBoss extends TelaBase{
                         // Remove o projétil em qualquer colisão ocorrida
                         if(collisionHappened){
                             p.desativar();
-                            objetosColidiveis.remove(p);
+                            entidades.remover(p);
                             projIt.remove();
                             break;
                         }
@@ -630,7 +450,7 @@ public class TelaBoss extends TelaBase{
                 
                 // Remove se saiu da tela
                 if (p.foraDaTela()) {
-                    objetosColidiveis.remove(p);
+                    entidades.remover(p);
                     projIt.remove();
                 }
             }
@@ -638,9 +458,14 @@ public class TelaBoss extends TelaBase{
             // Atualiza bosses
             if(curBoss != null) {
                 curBoss.atacar();
-                if(!curBoss.isAlive){
-                    objetosColidiveis.remove(curBoss);
+                if(!curBoss.isAlive()){
+                    curBoss.removerProjeteis();
+                    entidades.remover(curBoss);
                     curBoss = null;
+                    // Com o boss derrotado, a próxima tela já é conhecida
+                    if(bossNum >= 1 && bossNum < 5){
+                        precarregar(TelaJogo.recursosDoMundo(bossNum + 1), TelaJogo.musicaDoMundo(bossNum + 1));
+                    } else if(bossNum == 5) precarregar(recursosDoBoss(6), musicaDoBoss(6));
                 }
             } else if (curBoss == null && !porta.isAberta()) {
                 if(bossNum < 5){
@@ -652,15 +477,16 @@ public class TelaBoss extends TelaBase{
                 else youWin();
             }
 
-            pofs.removeIf(Pof::timeOut);
+            particulas.atualizar();
+
+            // Tira do registro os objetos removidos durante o passo
+            entidades.aplicarRemocoes();
 
             batata.updateInvulnerability();
             if(batata.getHp() <= 0){
                 estado = EstadoJogo.PARADO;
                 gameOver();
             }
-
-            repaint();
         }
     }
 
@@ -679,7 +505,7 @@ public class TelaBoss extends TelaBase{
                             "\tlá fora com a X-Salada. Bora derrubar esse lugar!";
             
             try{
-                Image vladmirImg = ImageIO.read(new File("assets/VladmirCenoura.png"));
+                Image vladmirImg = adquirir("assets/VladmirCenoura.png");
                 vladmirImg = vladmirImg.getScaledInstance(64, 64, Image.SCALE_SMOOTH);
                 vladmirCenoura = new ImageIcon(vladmirImg);
                 JOptionPane.showMessageDialog(
@@ -704,6 +530,18 @@ public class TelaBoss extends TelaBase{
         }
     }
 
+    /**
+     * Descreve o boss atual, a quantidade de entidades e a vida do jogador
+     * 
+     * @return Descrição do estado da tela
+     */
+    @Override
+    public String descreverEstado() {
+        String boss = curBoss != null ? curBoss.nome + " hp=" + curBoss.getHp() + "/" + curBoss.getHpMaximo() : "nenhum";
+        return super.descreverEstado() + " boss=" + boss + " objetos=" + entidades.tamanho() +
+            " projeteis=" + projeteis.getTotal() + " cenouras=" + cenouras.size() + " pofs=" + particulas.getTotalPofs() + " hp=" + batata.getHp();
+    }
+
     /**
      * Carrega a tela de Game Over
      */
@@ -748,33 +586,40 @@ public class TelaBoss extends TelaBase{
         }
     }
 
+    /**
+     * Desativa um projétil e o remove do registro
+     *
+     * @param p O projétil (pode ser {@code null})
+     */
+    private void descartarProjetil(Projetil p){
+        if(p == null) return;
+        p.desativar();
+        entidades.remover(p);
+    }
+
+    /**
+     * Desativa e remove do registro todos os projéteis de uma lista, e esvazia a lista
+     *
+     * @param lista Os projéteis
+     */
+    private void descartarProjeteis(ArrayList<Projetil> lista){
+        for (Projetil p : lista) descartarProjetil(p);
+        lista.clear();
+    }
+
     /** 
      * Classe para os bosses do jogo
      * 
      * @author Arthur dos Santos Rezende
      * @version 1.0
      */
-    private abstract class Boss extends ObjetoColidivel {
+    private abstract class Boss extends Criatura {
         /** O tamnaho do boss (o padrão é 250px/200px) */
         protected int tamanho;
-        /** Os pontos de vida do boss */
-        protected int hp;
-        /** A quantidade de pontos de vida máxima do boss */
-        protected int maxHp;
-        /** Indica se o boss está vivo */
-        protected boolean isAlive = true;
         /** Nome do boss */
         protected String nome;
         /** Caminho do som de dano do boss */
         protected String caminho;
-        /** Partícula de alerta que aparece quando o boss realiza certos ataques */
-        protected Alert alerta;
-        /** Timer compartilhado entre bosses para certos ataques */
-        protected long timer = 0;
-        /** Indica se o boss está usando certos ataques */
-        protected boolean isAttacking = false;
-        /** Indica se o boss está em alerta (estado intermediário antes de atacar) */
-        protected boolean triggered = false;
         
         /**
          * Construtor da classe Boss
@@ -784,12 +629,9 @@ public class TelaBoss extends TelaBase{
          * @param hp Pontos de vida
          */
         public Boss(int tamanho, Color cor, int hp) {
-            super(LARGURA_TELA/2 - tamanho/2, 100, tamanho, (tamanho*4)/5, cor, CollisionLayer.ENEMY); // Tamanho do inimigo
+            super(LARGURA_TELA/2 - tamanho/2, 100, tamanho, (tamanho*4)/5, cor, TelaBoss.this.relogio, hp, 0, Direction.DOWN,
+                false); // Tamanho do inimigo
             this.tamanho = tamanho;
-            this.cor = cor;
-            this.hp = hp;
-            this.maxHp = hp;
-            this.timer = System.currentTimeMillis();
         }
 
         /**
@@ -799,15 +641,12 @@ public class TelaBoss extends TelaBase{
          * @return {@code true} (esse valor só poderá se tornar {@code false} para certos bosses)
          */
         public boolean takeDamage(int damage){
-            this.hp -= damage;
-            if(hp <= 0){
+            reduzirHp(damage);
+            if(getHp() <= 0){
                 efeito.playSong("assets/tiro.wav", false);
-                pofs.add(new Pof(x - tamanho/4, y - tamanho/4, tamanho + tamanho/2));
-                isAlive = false;
-                if(alerta != null) {
-                    alerta.desativar();
-                    alertas.remove(alerta);
-                }
+                particulas.emitirPof(getX() - tamanho/4, getY() - tamanho/4, tamanho + tamanho/2);
+                morrer();
+                particulas.cancelarAlerta(getAlerta());
             } else efeito.playSong(caminho, false);
             return true;
         }
@@ -817,6 +656,12 @@ public class TelaBoss extends TelaBase{
          * Deve ser implentado por subclasses para definir seu comportamento
          */
         public abstract void atacar();
+
+        /**
+         * Remove do registro os projéteis do boss. Chamado quando o boss derrotado sai da tela, já que os projéteis
+         * registrados continuam sendo movidos pelo {@link ProjectileSystem} mesmo sem o boss
+         */
+        protected void removerProjeteis(){}
     }
 
     /** 
@@ -844,11 +689,37 @@ public class TelaBoss extends TelaBase{
             super(TAMANHO_BLOCO*5, new Color(87, 43, 18), 15);
             this.nome = "CAPPUCCINO  ASSASSINO";
             this.caminho = "assets/spill.wav";
+            cappuccinoImgs = imagensSobDemanda(IMGS_CAPPUCCINO);
             this.curImage = cappuccinoImgs[0];
-            this.curHp = maxHp; // Garante que clones novos sejam criados cada vez que o cappuccino perde hp
+            this.curHp = getHpMaximo(); // Garante que clones novos sejam criados cada vez que o cappuccino perde hp
             this.centerPos = LARGURA_TELA/2 - tamanho/2; // Guarda a posição central
         }
 
+        /**
+         * Remove do registro os clones do Cappuccino
+         */
+        @Override
+        protected void removerProjeteis(){
+            for(int i = 0; i < clones.length; i++){
+                descartarProjetil(clones[i]);
+                clones[i] = null;
+            }
+        }
+
+        /**
+         * Emite os comandos de desenho do Cappuccino e dos seus clones
+         *
+         * @param fila Fila de renderização da tela
+         * @param alfa Fração (de 0 a 1) decorrida entre o passo anterior e o atual
+         */
+        @Override
+        public void emitirComandos(RenderQueue fila, double alfa){
+            super.emitirComandos(fila, alfa);
+            for(Projetil p : clones){
+                if(p != null && p.isAtivo()) fila.objeto(RenderQueue.ATAQUE, p, alfa);
+            }
+        }
+
         /**
          * Atualiza o dano causado ao Cappuccino
          * 
@@ -856,16 +727,13 @@ public class TelaBoss extends TelaBase{
          * @return {@code false} caso o Cappuccino não esteja em estado de ataque. Caso contrário, {@code true}
          */
         public boolean takeDamage(int damage){
-            if(!isAttacking) return false;
-            this.hp -= damage;
-            if(hp <= 0){
+            if(!isAttacking()) return false;
+            reduzirHp(damage);
+            if(getHp() <= 0){
                 efeito.playSong("assets/tiro.wav", false);
-                pofs.add(new Pof(x - tamanho/4, y - tamanho/4, tamanho + tamanho/2));
-                isAlive = false;
-                if(alerta != null) {
-                    alerta.desativar();
-                    alertas.remove(alerta);
-                }
+                particulas.emitirPof(getX() - tamanho/4, getY() - tamanho/4, tamanho + tamanho/2);
+                morrer();
+                particulas.cancelarAlerta(getAlerta());
             } else efeito.playSong(caminho, false);
             return true;
         }
@@ -877,7 +745,7 @@ public class TelaBoss extends TelaBase{
          * @return O clone criado
          */
         private Projetil criarClone(int xPos) {
-            return new Projetil(xPos, y, largura, altura, 0, 0, Color.GRAY, true);
+            return new Projetil(xPos, getY(), largura, altura, 0, 0, Color.GRAY, true);
         }
 
         /**
@@ -889,73 +757,73 @@ public class TelaBoss extends TelaBase{
          * </p>
          */
         public void atacar(){
-            if(!isAttacking){
-                if(!triggered){
+            if(!isAttacking()){
+                if(!isTriggered()){
                     for(Projetil p : clones) if(p != null){
                         p.desativar();
-                        objetosColidiveis.remove(p);
+                        entidades.remover(p);
                         p = null;
                     }
                     fail = false;
-                    timer = System.currentTimeMillis();
-                    triggered = true;
+                    reiniciarTimer();
+                    setTriggered(true);
                 }
-                if(System.currentTimeMillis() - timer >= 500 && triggered){
-                    curSpot = new Random().nextInt(3);
+                if(getTempoDecorrido() >= 500 && isTriggered()){
+                    curSpot = aleatorio.nextInt(3);
                 
                     // Atualiza posição do Cappuccino
                     switch(curSpot) {
                         case 0: // Esquerda
-                            this.x = centerPos - (tamanho + TAMANHO_BLOCO);
+                            setX(centerPos - (tamanho + TAMANHO_BLOCO));
                             clones[0] = criarClone(centerPos);
                             clones[1] = criarClone(centerPos + (tamanho + TAMANHO_BLOCO));
                             break;
                         case 1: // Centro
-                            this.x = centerPos;
+                            setX(centerPos);
                             clones[0] = criarClone(centerPos - (tamanho + TAMANHO_BLOCO));
                             clones[1] = criarClone(centerPos + (tamanho + TAMANHO_BLOCO));
                             break;
                         case 2: // Direita
-                            this.x = centerPos + (tamanho + TAMANHO_BLOCO);
+                            setX(centerPos + (tamanho + TAMANHO_BLOCO));
                             clones[0] = criarClone(centerPos - (tamanho + TAMANHO_BLOCO));
                             clones[1] = criarClone(centerPos);
                             break;
                     }
                     for(Projetil p : clones){
-                        objetosColidiveis.add(p);
+                        entidades.adicionar(p);
                         p.curImage = cappuccinoImgs[3];
                     }
                     curImage = cappuccinoImgs[0];
-                    timer = System.currentTimeMillis();
-                    curHp = hp;
-                    triggered = false;
-                    isAttacking = true;
+                    reiniciarTimer();
+                    curHp = getHp();
+                    setTriggered(false);
+                    setAttacking(true);
                 }
             } else {
-                if(System.currentTimeMillis() - timer >= 4000) fail = true;
+                if(getTempoDecorrido() >= 4000) fail = true;
                 if(fail){
                     curImage = cappuccinoImgs[1];
                     if(!batata.isInvulnerable()){
                         efeito.playSong("assets/Ouch.wav", false);
                         batata.takeDamage(1);
                     }
-                    isAttacking = false;
+                    setAttacking(false);
                 }
-                if(curHp > hp){
+                if(curHp > getHp()){
                     curImage = cappuccinoImgs[2];
-                    curHp = hp;
-                    isAttacking = false;
+                    curHp = getHp();
+                    setAttacking(false);
                 }
                 for(Projetil p : clones){
                     if(p != null){
                         if(p.colideCom(batata) && !batata.isInvulnerable()){
                             efeito.playSong("assets/Ouch.wav", false);
                             batata.takeDamage(1);
-                            isAttacking = false;
+                            setAttacking(false);
                         }
                         if(!p.isAtivo()){
                             fail = true;
-                            objetosColidiveis.remove(p);
+                            entidades.remover(p);
                             p = null;
                         }
                     }
@@ -981,9 +849,38 @@ public class TelaBoss extends TelaBase{
             super(TAMANHO_BLOCO*5, Color.RED, 150);
             this.nome = "GIGA  SLIME";
             this.caminho = "assets/danoSlime.wav";
+            gigaSlimeImgs = imagensSobDemanda(IMGS_GIGA_SLIME);
+            lancaChamasImg = imagemSobDemanda(IMG_LANCA_CHAMAS);
             this.curImage = gigaSlimeImgs[0];
         }
 
+        /**
+         * Remove do registro os projéteis do boss
+         */
+        @Override
+        protected void removerProjeteis(){
+            descartarProjetil(lancaChamas);
+            lancaChamas = null;
+        }
+
+        /**
+         * Emite os comandos de desenho do Giga Slime e do seu lança-chamas
+         *
+         * @param fila Fila de renderização da tela
+         * @param alfa Fração (de 0 a 1) decorrida entre o passo anterior e o atual
+         */
+        @Override
+        public void emitirComandos(RenderQueue fila, double alfa){
+            super.emitirComandos(fila, alfa);
+            if(lancaChamas != null && lancaChamas.isAtivo()){
+                Projetil l = lancaChamas;
+                if(l.getImage() != null){
+                    fila.sprite(RenderQueue.ATAQUE, l.getImage(), l.getXInterpolado(alfa), l.getYInterpolado(alfa) - 100,
+                        l.getLargura(), l.getAltura() + 110);
+                } else fila.objeto(RenderQueue.ATAQUE, l, alfa);
+            }
+        }
+
         /**
          * Gerencia o comportamento do Giga Slime
          * <p>
@@ -992,30 +889,26 @@ public class TelaBoss extends TelaBase{
          * </p>
          */
         public void atacar(){
-            if(!isAttacking){
-                if(System.currentTimeMillis() - timer >= 3500 && !triggered){
+            if(!isAttacking()){
+                if(getTempoDecorrido() >= 3500 && !isTriggered()){
                     efeito.playSong("assets/warning.wav", false);
-                    this.alerta = new Alert(LARGURA_TELA/2, ALTURA_TELA/2, TAMANHO_BLOCO);
-                    alertas.add(alerta);
-                    triggered = true;
+                    setAlerta(particulas.emitirAlerta(LARGURA_TELA/2, ALTURA_TELA/2, TAMANHO_BLOCO));
+                    setTriggered(true);
                     curImage = gigaSlimeImgs[1];
-                    timer = System.currentTimeMillis();
+                    reiniciarTimer();
                 }
-                if(System.currentTimeMillis() - timer >= 1500 && triggered){
-                    if(alerta != null) {
-                        alerta.desativar();
-                        alertas.remove(alerta);
-                    }
+                if(getTempoDecorrido() >= 1500 && isTriggered()){
+                    particulas.cancelarAlerta(getAlerta());
 
-                    lancaChamas = new Projetil(x, y + (tamanho*4)/5, tamanho, 450,
+                    lancaChamas = new Projetil(getX(), getY() + (tamanho*4)/5, tamanho, 450,
                         0, 0, Color.ORANGE, false);
                     lancaChamas.curImage = lancaChamasImg;
-                    objetosColidiveis.add(lancaChamas);
+                    entidades.adicionar(lancaChamas);
                     efeito.playSong("assets/gigaBarulho.wav", false);
                     curImage = gigaSlimeImgs[2];
-                    timer = System.currentTimeMillis();
-                    triggered = false;
-                    isAttacking = true;
+                    reiniciarTimer();
+                    setTriggered(false);
+                    setAttacking(true);
                 }
             } else {
                 if(lancaChamas.isAtivo()){
@@ -1023,13 +916,13 @@ public class TelaBoss extends TelaBase{
                         efeito.playSong("assets/Ouch.wav", false);
                         batata.takeDamage(1);
                     }
-                    if(System.currentTimeMillis() - timer >= 2000){
+                    if(getTempoDecorrido() >= 2000){
                         lancaChamas.desativar();
-                        objetosColidiveis.remove(lancaChamas);
+                        entidades.remover(lancaChamas);
                         lancaChamas = null;
                         curImage = gigaSlimeImgs[0];
-                        timer = System.currentTimeMillis();
-                        isAttacking = false;
+                        reiniciarTimer();
+                        setAttacking(false);
                     }
                 }
             }
@@ -1057,9 +950,36 @@ public class TelaBoss extends TelaBase{
             super(TAMANHO_BLOCO*5, Color.WHITE, 225);
             this.nome = "SIR.  PLATOH";
             this.caminho = "assets/estilhaco.wav";
+            sirPlatohImgs = imagensSobDemanda(IMGS_SIR_PLATOH);
+            garfoImg = imagemSobDemanda(IMG_GARFO);
+            facaImgs = imagensSobDemanda(IMGS_FACA);
             this.curImage = sirPlatohImgs[0];
         }
 
+        /**
+         * Remove do registro os projéteis do boss
+         */
+        @Override
+        protected void removerProjeteis(){
+            descartarProjetil(garfo);
+            descartarProjetil(faca);
+            garfo = null;
+            faca = null;
+        }
+
+        /**
+         * Emite os comandos de desenho do Sir Platoh, do seu garfo e da sua faca
+         *
+         * @param fila Fila de renderização da tela
+         * @param alfa Fração (de 0 a 1) decorrida entre o passo anterior e o atual
+         */
+        @Override
+        public void emitirComandos(RenderQueue fila, double alfa){
+            super.emitirComandos(fila, alfa);
+            if(garfo != null && garfo.isAtivo()) fila.objeto(RenderQueue.ATAQUE, garfo, alfa);
+            if(faca != null && faca.isAtivo()) fila.objeto(RenderQueue.ATAQUE, faca, alfa);
+        }
+
         /**
          * Gerencia o comportamento do Sir. Platoh
          * <p>
@@ -1068,43 +988,38 @@ public class TelaBoss extends TelaBase{
          * </p>
          */
         public void atacar(){
-            if(!isAttacking){
-                if(System.currentTimeMillis() - timer >= 3000 && !triggered){
+            if(!isAttacking()){
+                if(getTempoDecorrido() >= 3000 && !isTriggered()){
                     efeito.playSong("assets/warning.wav", false);
-                    if(lastAttack == 1) this.alerta = new Alert(x + tamanho/8, ALTURA_TELA/2, TAMANHO_BLOCO);
-                    else this.alerta = new Alert(x + tamanho/2, ALTURA_TELA/2, TAMANHO_BLOCO);
-                    alertas.add(alerta);
-                    triggered = true;
-                    timer = System.currentTimeMillis();
+                    if(lastAttack == 1) setAlerta(particulas.emitirAlerta(getX() + tamanho/8, ALTURA_TELA/2, TAMANHO_BLOCO));
+                    else setAlerta(particulas.emitirAlerta(getX() + tamanho/2, ALTURA_TELA/2, TAMANHO_BLOCO));
+                    setTriggered(true);
+                    reiniciarTimer();
                 }
-                if(System.currentTimeMillis() - timer >= 1000 && triggered){
-                    if(alerta != null) {
-                        alerta.desativar();
-                        alertas.remove(alerta);
-                    }
+                if(getTempoDecorrido() >= 1000 && isTriggered()){
+                    particulas.cancelarAlerta(getAlerta());
 
                     if(lastAttack == 1){
-                        garfo = new Projetil(x + tamanho/8, y + (tamanho*4)/5, TAMANHO_BLOCO, TAMANHO_BLOCO*4,
+                        garfo = new Projetil(getX() + tamanho/8, getY() + (tamanho*4)/5, TAMANHO_BLOCO, TAMANHO_BLOCO*4,
                         0, 4, Color.GRAY, false);
                         garfo.curImage = garfoImg;
-                        objetosColidiveis.add(garfo);
+                        entidades.adicionar(garfo);
                         efeito.playSong("assets/forkThrow.wav", false);
                         curImage = sirPlatohImgs[2];
                     } else {
-                        faca = new Projetil(x + tamanho/3 + TAMANHO_BLOCO, y + (tamanho*4)/5, TAMANHO_BLOCO*3, TAMANHO_BLOCO*3,
+                        faca = new Projetil(getX() + tamanho/3 + TAMANHO_BLOCO, getY() + (tamanho*4)/5, TAMANHO_BLOCO*3, TAMANHO_BLOCO*3,
                         0, 2, Color.LIGHT_GRAY, false);
-                        faca.curImage = facaImgs[(int)((System.currentTimeMillis() / 50) % 8)];
-                        objetosColidiveis.add(faca);
+                        faca.curImage = facaImgs[GIRO_FACA.quadro(relogio)];
+                        entidades.adicionar(faca);
                         efeito.playSong("assets/knifeThrow.wav", false);
                         curImage = sirPlatohImgs[1];
                     }
-                    timer = System.currentTimeMillis();
-                    triggered = false;
-                    isAttacking = true;
+                    reiniciarTimer();
+                    setTriggered(false);
+                    setAttacking(true);
                 }
             } else {
                 if(garfo != null && garfo.isAtivo()){
-                    garfo.mover();
                     if(garfo.colideCom(batata) && !batata.isInvulnerable()){
                         efeito.playSong("assets/Ouch.wav", false);
                         batata.takeDamage(1);
@@ -1112,16 +1027,15 @@ public class TelaBoss extends TelaBase{
                     if(garfo.getY() > 500) garfo.setDirY(-4);
                     else if(garfo.colideCom(this) && garfo.getDirY() < 0){
                         garfo.desativar();
-                        objetosColidiveis.remove(garfo);
+                        entidades.remover(garfo);
                         garfo = null;
                         curImage = sirPlatohImgs[0];
-                        timer = System.currentTimeMillis();
+                        reiniciarTimer();
                         lastAttack = 0;
-                        isAttacking = false;
+                        setAttacking(false);
                     }
                 } else if(faca != null && faca.isAtivo()){
-                    faca.mover();
-                    faca.curImage = facaImgs[(int)((System.currentTimeMillis() / 50) % 8)];
+                    faca.curImage = facaImgs[GIRO_FACA.quadro(relogio)];
                     if(faca.colideCom(batata) && !batata.isInvulnerable()){
                         efeito.playSong("assets/Ouch.wav", false);
                         batata.takeDamage(1);
@@ -1135,12 +1049,12 @@ public class TelaBoss extends TelaBase{
                         faca.setDirX(0);
                     } else if(faca.colideCom(this) && faca.getDirY() < 0){
                         faca.desativar();
-                        objetosColidiveis.remove(faca);
+                        entidades.remover(faca);
                         faca = null;
                         curImage = sirPlatohImgs[0];
-                        timer = System.currentTimeMillis();
+                        reiniciarTimer();
                         lastAttack = 1;
-                        isAttacking = false;
+                        setAttacking(false);
                     }
                 }
             }
@@ -1161,7 +1075,7 @@ public class TelaBoss extends TelaBase{
         /** Guarda a direção do último ataque de braço usado. */
         private Direction lastAttack = Direction.LEFT;
         /** Guarda a última vez que uma bola de mofo foi lançada */
-        private long ultimoTiro = 0;
+        private long ultimoTiro = SimClock.NUNCA;
         /** Indica se a Mofada tentou socar o jogador com um dos braços */
         private boolean hasPunched = false;
 
@@ -1172,9 +1086,50 @@ public class TelaBoss extends TelaBase{
             super(TAMANHO_BLOCO*5, Color.GREEN, 9);
             this.nome = "MOFADA  BOMBADA";
             this.caminho = "assets/cheeseOuch.wav";
+            mofadaBombadaImgs = imagensSobDemanda(IMGS_MOFADA_BOMBADA);
+            bracoImg = imagemSobDemanda(IMG_BRACO);
+            luvaImg = imagemSobDemanda(IMG_LUVA);
+            mofoImg = imagemSobDemanda(IMG_MOFO);
             this.curImage = mofadaBombadaImgs[0];
         }
 
+        /**
+         * Remove do registro os projéteis do boss
+         */
+        @Override
+        protected void removerProjeteis(){
+            descartarProjetil(braco);
+            braco = null;
+            descartarProjeteis(bolasDeMofo);
+        }
+
+        /**
+         * Emite os comandos de desenho da Mofada Bombada, das bolas de mofo e do seu braço
+         *
+         * @param fila Fila de renderização da tela
+         * @param alfa Fração (de 0 a 1) decorrida entre o passo anterior e o atual
+         */
+        @Override
+        public void emitirComandos(RenderQueue fila, double alfa){
+            super.emitirComandos(fila, alfa);
+            for (Projetil p : bolasDeMofo) {
+                if (p.isAtivo()) fila.objeto(RenderQueue.ATAQUE, p, alfa, true);
+            }
+            if(braco != null && braco.isAtivo()){
+                int bx = braco.getXInterpolado(alfa), by = braco.getYInterpolado(alfa);
+                int bl = braco.getLargura(), ba = braco.getAltura();
+                if(braco.getImage() != null && luvaImg != null){
+                    fila.sprite(RenderQueue.ATAQUE, braco.getImage(), bx, by, bl, ba);
+                    // Luva é desenhada separadamente
+                    fila.sprite(RenderQueue.DETALHE, luvaImg, bx, by + ba - TAMANHO_BLOCO + 10, TAMANHO_BLOCO, TAMANHO_BLOCO);
+                } else {
+                    fila.retangulo(RenderQueue.ATAQUE, braco.getCor(), bx, by, bl, ba);
+                    // Luva é desenhada separadamente
+                    fila.retangulo(RenderQueue.DETALHE, Color.RED, bx, by + ba - TAMANHO_BLOCO, TAMANHO_BLOCO, TAMANHO_BLOCO);
+                }
+            }
+        }
+
         /**
          * Gerencia o comportamento da Mofada Bombada
          * <p>
@@ -1184,77 +1139,69 @@ public class TelaBoss extends TelaBase{
          * </p>
          */
         public void atacar(){
-            if(!isAttacking){
-                if(System.currentTimeMillis() - timer >= 3000 && !triggered){
+            if(!isAttacking()){
+                if(getTempoDecorrido() >= 3000 && !isTriggered()){
                     efeito.playSong("assets/warning.wav", false);
-                    this.alerta = new Alert(LARGURA_TELA/2, ALTURA_TELA/2, TAMANHO_BLOCO);
-                    alertas.add(alerta);
-                    triggered = true;
-                    timer = System.currentTimeMillis();
+                    setAlerta(particulas.emitirAlerta(LARGURA_TELA/2, ALTURA_TELA/2, TAMANHO_BLOCO));
+                    setTriggered(true);
+                    reiniciarTimer();
                 }
-                if(System.currentTimeMillis() - timer >= 1000 && triggered){
-                    if(alerta != null) {
-                        alerta.desativar();
-                        alertas.remove(alerta);
-                    }
+                if(getTempoDecorrido() >= 1000 && isTriggered()){
+                    particulas.cancelarAlerta(getAlerta());
                     if(lastAttack == Direction.RIGHT) curImage = mofadaBombadaImgs[3];
                     else curImage = mofadaBombadaImgs[1];
-                    timer = System.currentTimeMillis();
-                    triggered = false;
-                    isAttacking = true;
+                    reiniciarTimer();
+                    setTriggered(false);
+                    setAttacking(true);
                 }
             } else {
-                long now = System.currentTimeMillis();
+                long now = relogio.agora();
                 if(!hasPunched){
                     if (now - ultimoTiro > INTERVALO_TIRO*3) {
-                        int pX = (new Random().nextInt(5))*TAMANHO_BLOCO + x;
-                        Projetil p = new Projetil(pX, y + (tamanho*4)/5, TAMANHO_BLOCO, TAMANHO_BLOCO, 0, 1,
+                        int pX = (aleatorio.nextInt(5))*TAMANHO_BLOCO + getX();
+                        Projetil p = new Projetil(pX, getY() + (tamanho*4)/5, TAMANHO_BLOCO, TAMANHO_BLOCO, 0, 1,
                             Color.GREEN, false);
                         p.curImage = mofoImg;
                         bolasDeMofo.add(p);
-                        objetosColidiveis.add(p);
+                        entidades.adicionar(p);
                         ultimoTiro = now;
                     }
-                    if(now - timer >= 4000 && !triggered){
+                    if(getTempoDecorrido() >= 4000 && !isTriggered()){
                         efeito.playSong("assets/warning.wav", false);
-                        if(lastAttack == Direction.RIGHT) this.alerta = new Alert(x, ALTURA_TELA/2, TAMANHO_BLOCO);
-                        else this.alerta = new Alert(x + (tamanho*6)/8, ALTURA_TELA/2, TAMANHO_BLOCO);
-                        alertas.add(alerta);
-                        triggered = true;
-                        timer = System.currentTimeMillis();
+                        if(lastAttack == Direction.RIGHT) setAlerta(particulas.emitirAlerta(getX(), ALTURA_TELA/2, TAMANHO_BLOCO));
+                        else setAlerta(particulas.emitirAlerta(getX() + (tamanho*6)/8, ALTURA_TELA/2, TAMANHO_BLOCO));
+                        setTriggered(true);
+                        reiniciarTimer();
                     }
-                    if(now - timer >= 600 && triggered){
-                        int pX = x + TAMANHO_BLOCO/2;
+                    if(getTempoDecorrido() >= 600 && isTriggered()){
+                        int pX = getX() + TAMANHO_BLOCO/2;
                         if(lastAttack == Direction.LEFT) pX += (tamanho*4)/5 - TAMANHO_BLOCO;
 
-                        if(alerta != null) {
-                            alerta.desativar();
-                            alertas.remove(alerta);
-                        }
+                        particulas.cancelarAlerta(getAlerta());
 
-                        braco = new Projetil(pX, y + (tamanho*4)/5, TAMANHO_BLOCO, 450,
+                        braco = new Projetil(pX, getY() + (tamanho*4)/5, TAMANHO_BLOCO, 450,
                             0, 0, Color.YELLOW, true);
                         braco.curImage = bracoImg;
-                        objetosColidiveis.add(braco);
+                        entidades.adicionar(braco);
                         efeito.playSong("assets/squish.wav", false);
                         if(lastAttack == Direction.RIGHT) curImage = mofadaBombadaImgs[4];
                         else curImage = mofadaBombadaImgs[2];
-                        timer = System.currentTimeMillis();
-                        triggered = false;
+                        reiniciarTimer();
+                        setTriggered(false);
                         hasPunched = true;
                     }
                 } else {
                     if(!braco.isAtivo()){
                         takeDamage(1);
                         braco.desativar();
-                        objetosColidiveis.remove(braco);
+                        entidades.remover(braco);
                         braco = null;
                         curImage = mofadaBombadaImgs[0];
-                        timer = System.currentTimeMillis();
+                        reiniciarTimer();
                         if(lastAttack == Direction.RIGHT) lastAttack = Direction.LEFT;
                         else lastAttack = Direction.RIGHT;
                         hasPunched = false;
-                        isAttacking = false;
+                        setAttacking(false);
                     }
                     else if(braco.colideCom(batata) && !batata.isInvulnerable()){
                         efeito.playSong("assets/Ouch.wav", false);
@@ -1265,7 +1212,6 @@ public class TelaBoss extends TelaBase{
             Iterator<Projetil> projIt = bolasDeMofo.iterator();
             while (projIt.hasNext()) {
                 Projetil p = projIt.next();
-                p.mover();
 
                 //Colisão com o Duque
                 if(p.colideCom(batata) && !batata.isInvulnerable()){
@@ -1275,9 +1221,9 @@ public class TelaBoss extends TelaBase{
                 }
 
                 // Remove se inativo ou se a Mofada morreu
-                if (!p.isAtivo() || !this.isAlive) {
+                if (!p.isAtivo() || !isAlive()) {
                     p.desativar();
-                    objetosColidiveis.remove(p);
+                    entidades.remover(p);
                     projIt.remove();
                 }
             }
@@ -1298,9 +1244,7 @@ public class TelaBoss extends TelaBase{
         /** Lugar seguro para o jogador se esconder durante a luta */
         private int skipSpot;
         /** Partículas de alertas que aparecem quando o Cérbero balança seu pelo */
-        private Alert[] shakeAlerts = new Alert[6];
-        /** Última direção do Cérbero */
-        private Direction ultimaDirecao = Direction.DOWN;
+        private int[] shakeAlerts = new int[6];
 
         /**
          * Construtor da classe CerberoNimbus
@@ -1309,9 +1253,34 @@ public class TelaBoss extends TelaBase{
             super(TAMANHO_BLOCO*5, Color.PINK, 150);
             this.nome = "CÉRBERO  NIMBUS";
             this.caminho = "assets/big-dog.wav";
+            cerberoNimbusImgs = imagensSobDemanda(IMGS_CERBERO_NIMBUS);
+            algodaoImg = imagemSobDemanda(IMG_ALGODAO);
             this.curImage = cerberoNimbusImgs[0];
         }
 
+        /**
+         * Remove do registro os projéteis do boss
+         */
+        @Override
+        protected void removerProjeteis(){
+            descartarProjeteis(algodoes);
+        }
+
+        /**
+         * Emite os comandos de desenho do Cérbero e dos algodões deixados por ele
+         *
+         * @param fila Fila de renderização da tela
+         * @param alfa Fração (de 0 a 1) decorrida entre o passo anterior e o atual
+         */
+        @Override
+        public void emitirComandos(RenderQueue fila, double alfa){
+            // Os algodões ficam debaixo do Cérbero
+            for (Projetil p : algodoes) {
+                if (p.isAtivo()) fila.objeto(RenderQueue.ATAQUE_ABAIXO, p, alfa, true);
+            }
+            super.emitirComandos(fila, alfa);
+        }
+
         /**
          * Atualiza o dano causado ao Cérbero, e remove os alertas caso seja derrotado
          * 
@@ -1319,20 +1288,14 @@ public class TelaBoss extends TelaBase{
          * @return O retorno é sempre {@code true} nesse caso
          */
         public boolean takeDamage(int damage){
-            this.hp -= damage;
-            if(hp <= 0){
+            reduzirHp(damage);
+            if(getHp() <= 0){
                 efeito.playSong("assets/tiro.wav", false);
-                pofs.add(new Pof(x, y, tamanho + tamanho / 2));
-                isAlive = false;
-                if(alerta != null) {
-                    alerta.desativar();
-                    alertas.remove(alerta);
-                }
+                particulas.emitirPof(getX(), getY(), tamanho + tamanho / 2);
+                morrer();
+                particulas.cancelarAlerta(getAlerta());
                 for(int i = 0; i < 6; i++){
-                    if(shakeAlerts[i] != null) {
-                        shakeAlerts[i].desativar();
-                        alertas.remove(shakeAlerts[i]);
-                    }
+                    particulas.cancelarAlerta(shakeAlerts[i]);
                 }
             } else efeito.playSong(caminho, false);
             return true;
@@ -1342,16 +1305,15 @@ public class TelaBoss extends TelaBase{
          * Gera os avisos antes do Cérbero balançar o corpo
          */
         private void genWarning(){
-            skipSpot = new Random().nextInt(6);
+            skipSpot = aleatorio.nextInt(6);
             efeito.playSong("assets/warning.wav", false);
             for(int i = 0; i < 6; i++){
                 if(i == skipSpot) continue;
-                if(i < 3) this.shakeAlerts[i] = new Alert(TAMANHO_BLOCO*9, TAMANHO_BLOCO*(i*3 + 6) - TAMANHO_BLOCO/2, TAMANHO_BLOCO);
+                if(i < 3) this.shakeAlerts[i] = particulas.emitirAlerta(TAMANHO_BLOCO*9, TAMANHO_BLOCO*(i*3 + 6) - TAMANHO_BLOCO/2, TAMANHO_BLOCO);
                 else {
-                    this.shakeAlerts[i] = new Alert(LARGURA_TELA - TAMANHO_BLOCO*10,
+                    this.shakeAlerts[i] = particulas.emitirAlerta(LARGURA_TELA - TAMANHO_BLOCO*10,
                         TAMANHO_BLOCO*((i - 3)*3 + 6) + TAMANHO_BLOCO/2, TAMANHO_BLOCO);
                 }
-                alertas.add(shakeAlerts[i]);
             }
         }
 
@@ -1362,7 +1324,7 @@ public class TelaBoss extends TelaBase{
                 Projetil p = it.next();
                 if (!p.isCollidable()) {
                     p.desativar();
-                    objetosColidiveis.remove(p);
+                    entidades.remover(p);
                     it.remove();
                 }
             }
@@ -1381,15 +1343,15 @@ public class TelaBoss extends TelaBase{
                 }
 
                 algodoes.add(p);
-                objetosColidiveis.add(p);
+                entidades.adicionar(p);
                 p.curImage = algodaoImg;
             }
         }
 
         /** Gera algodão enquanto o algodog rola */
         private void genRollingCotton(){
-            int a = new Random().nextInt(5);
-            int b = new Random().nextInt(5);
+            int a = aleatorio.nextInt(5);
+            int b = aleatorio.nextInt(5);
             if(b == a){
                 if(b < 4) b++;
                 else b--;
@@ -1397,8 +1359,8 @@ public class TelaBoss extends TelaBase{
             a *= TAMANHO_BLOCO; b *= TAMANHO_BLOCO;
 
             Projetil[] p = new Projetil[2];
-            p[0] = AlgodaoFactory.createProjectile(x + a, y + (tamanho*3)/5, true);
-            p[1] = AlgodaoFactory.createProjectile(x + b, y + (tamanho*3)/5, true);
+            p[0] = AlgodaoFactory.createProjectile(getX() + a, getY() + (tamanho*3)/5, true);
+            p[1] = AlgodaoFactory.createProjectile(getX() + b, getY() + (tamanho*3)/5, true);
 
             for(int i = 0; i < 2; i++){
                 // Verifica colisão com algodões existentes
@@ -1413,9 +1375,9 @@ public class TelaBoss extends TelaBase{
                 }
                 if(!colidiu){
                     algodoes.add(p[i]);
-                    objetosColidiveis.add(p[i]);
+                    entidades.adicionar(p[i]);
                     p[i].curImage = algodaoImg;
-                }
+                } else AlgodaoFactory.descartar(p[i]);
             }
         }
 
@@ -1432,78 +1394,70 @@ public class TelaBoss extends TelaBase{
                 efeito.playSong("assets/Ouch.wav", false);
                 batata.takeDamage(1);
             }
-            if(!isAttacking){
+            if(!isAttacking()){
                 if(lastAttack == 1){
-                    if(System.currentTimeMillis() - timer >= 2000 && !triggered){
+                    if(getTempoDecorrido() >= 2000 && !isTriggered()){
                         genWarning();
-                        triggered = true;
-                        timer = System.currentTimeMillis();
+                        setTriggered(true);
+                        reiniciarTimer();
                     }
-                    if(System.currentTimeMillis() - timer >= 500 && triggered){
+                    if(getTempoDecorrido() >= 500 && isTriggered()){
                         for(int i = 0; i < 6; i++){
-                            if(shakeAlerts[i] != null) {
-                                shakeAlerts[i].desativar();
-                                alertas.remove(shakeAlerts[i]);
-                            }
+                            particulas.cancelarAlerta(shakeAlerts[i]);
                         }
                         genShakingCotton();
                         this.curImage = cerberoNimbusImgs[2];
                         efeito.playSong("assets/big-dog-shaking.wav", false);
-                        timer = System.currentTimeMillis();
-                        triggered = false;
-                        isAttacking = true;
+                        reiniciarTimer();
+                        setTriggered(false);
+                        setAttacking(true);
                     }
                 } else {
-                    if(System.currentTimeMillis() - timer >= 3000 && !triggered){
+                    if(getTempoDecorrido() >= 3000 && !isTriggered()){
                         efeito.playSong("assets/warning.wav", false);
-                        this.alerta = new Alert(LARGURA_TELA/2, ALTURA_TELA/2, TAMANHO_BLOCO);
-                        alertas.add(alerta);
-                        triggered = true;
-                        timer = System.currentTimeMillis();
+                        setAlerta(particulas.emitirAlerta(LARGURA_TELA/2, ALTURA_TELA/2, TAMANHO_BLOCO));
+                        setTriggered(true);
+                        reiniciarTimer();
                     }
-                    if(System.currentTimeMillis() - timer >= 1000 && triggered){
-                        if(alerta != null) {
-                            alerta.desativar();
-                            alertas.remove(alerta);
-                        }
+                    if(getTempoDecorrido() >= 1000 && isTriggered()){
+                        particulas.cancelarAlerta(getAlerta());
                         curImage = cerberoNimbusImgs[3];
                         efeito.playSong("assets/big-dog-bark.wav", false);
-                        timer = System.currentTimeMillis();
-                        triggered = false;
-                        isAttacking = true;
+                        reiniciarTimer();
+                        setTriggered(false);
+                        setAttacking(true);
                     }
                 }
             } else {
                 if(lastAttack == 1){
-                    if ((System.currentTimeMillis() / 100) % 2 == 0) this.curImage = cerberoNimbusImgs[1];
-                    else this.curImage = cerberoNimbusImgs[2];
+                    this.curImage = cerberoNimbusImgs[BALANCO_CERBERO.quadro(relogio)];
 
-                    if(System.currentTimeMillis() - timer >= 500){
+                    if(getTempoDecorrido() >= 500){
                         curImage = cerberoNimbusImgs[0];
                         lastAttack = 0;
-                        timer = System.currentTimeMillis();
-                        isAttacking = false;
+                        reiniciarTimer();
+                        setAttacking(false);
                     }
                 } else {
-                    if(ultimaDirecao == Direction.DOWN){
-                        this.y += 3;
+                    if(getDirecao() == Direction.DOWN){
+                        setY(getY() + 3);
                         if(foraDaTela()){
                             this.curImage = cerberoNimbusImgs[4];
-                            this.y -= 3;
-                            this.ultimaDirecao = Direction.UP;
+                            setY(getY() - 3);
+                            setDirecao(Direction.UP);
                         }
                     } else {
-                        this.y -= 3;
-                        if(y > 49){
-                            if(y % TAMANHO_BLOCO/2 == 0) genRollingCotton();
+                        setY(getY() - 3);
+                        if(getY() > 49){
+                            if(getY() % TAMANHO_BLOCO/2 == 0) genRollingCotton();
                         }
                         else {
-                            y = 49;
-                            this.ultimaDirecao = Direction.DOWN;
+                            setY(49);
+                            setDirecao(Direction.DOWN);
                             this.curImage = cerberoNimbusImgs[0];
                             lastAttack = 1;
-                            timer = System.currentTimeMillis();
-                            isAttacking = false;
+                            reiniciarTimer();
+                            setAttacking(false);
                         }
                     }
                 }
@@ -1520,15 +1474,15 @@ public class TelaBoss extends TelaBase{
                 }
                     
                 // Remove se o Cérbero morreu
-                if (!this.isAlive) p.desativar();
+                if (!isAlive()) p.desativar();
 
                 // Verifica se foi destruido
                 if(!p.isAtivo()){
-                    objetosColidiveis.remove(p);
+                    entidades.remover(p);
                     projIt.remove();
-                    if(this.isAlive){
+                    if(isAlive()){
                         efeito.playSong("assets/tiro.wav", false);
-                        pofs.add(new Pof(p.x, p.y, TAMANHO_BLOCO + TAMANHO_BLOCO / 2));
+                        particulas.emitirPof(p.getX(), p.getY(), TAMANHO_BLOCO + TAMANHO_BLOCO / 2);
                     }
                 }
             }
@@ -1541,8 +1495,11 @@ public class TelaBoss extends TelaBase{
          * @version 1.0
          */
         public class AlgodaoFactory {
+            /** Pool dos algodões */
+            private static final ProjectilePool POOL = new ProjectilePool("algodoes do cerbero", ObjetoColidivel.CollisionLayer.PROJECTILE);
+
             /**
-             * Cria um novo algodão
+             * Cria um novo algodão, reaproveitando um do pool se houver
              * 
              * @param x Posição x
              * @param y Posição y
@@ -1550,7 +1507,16 @@ public class TelaBoss extends TelaBase{
              * @return O algodão criado
              */
             public static Projetil createProjectile(int x, int y, boolean isCollidable) {
-                return new Projetil(x, y, TAMANHO_BLOCO, TAMANHO_BLOCO, 0, 0, Color.PINK, isCollidable);
+                return POOL.obter(x, y, TAMANHO_BLOCO, TAMANHO_BLOCO, 0, 0, Color.PINK, isCollidable);
+            }
+
+            /**
+             * Devolve ao pool um algodão que foi criado mas não chegou a entrar em jogo
+             * 
+             * @param p O algodão descartado
+             */
+            public static void descartar(Projetil p) {
+                POOL.liberar(p);
             }
         }
     }
@@ -1567,11 +1533,11 @@ public class TelaBoss extends TelaBase{
         /** Uma lista para quardar os fios do Larry */
         private ArrayList<Projetil> fios = new ArrayList<>();
         /** Guarda a última vez que o Larry atirou */
-        private long ultimoTiro = 0;
+        private long ultimoTiro = SimClock.NUNCA;
         /** Indica se o Larry soltou o segundo set de fios */
         private boolean inDespair = false;
         /** Partículas de alerta que aparecem quando o Larry solta os seus fios */
-        private Alert[] stringAlerts = new Alert[2];
+        private int[] stringAlerts = new int[2];
 
         /**
          * Construtor da classe Larry
@@ -1580,9 +1546,42 @@ public class TelaBoss extends TelaBase{
             super(TAMANHO_BLOCO*5, Color.BLACK, 225);
             this.nome = "LARRY,  O  MUQUIARANHA";
             this.caminho = "assets/danoAranha.wav";
+            larryImgs = imagensSobDemanda(IMGS_LARRY);
+            teiaImg = imagemSobDemanda(IMG_TEIA);
+            fioImgs = imagensSobDemanda(IMGS_FIO);
             this.curImage = larryImgs[0];
         }
 
+        /**
+         * Remove do registro os projéteis do boss
+         */
+        @Override
+        protected void removerProjeteis(){
+            descartarProjeteis(teias);
+            descartarProjeteis(fios);
+        }
+
+        /**
+         * Emite os comandos de desenho do Larry, dos seus fios e das suas teias
+         *
+         * @param fila Fila de renderização da tela
+         * @param alfa Fração (de 0 a 1) decorrida entre o passo anterior e o atual
+         */
+        @Override
+        public void emitirComandos(RenderQueue fila, double alfa){
+            super.emitirComandos(fila, alfa);
+            for (Projetil p : fios) {
+                if (!p.isAtivo()) continue;
+                if(p.getImage() != null) {
+                    fila.sprite(RenderQueue.ATAQUE, p.getImage(), p.getXInterpolado(alfa), p.getYInterpolado(alfa) - TAMANHO_BLOCO,
+                        p.getLargura(), p.getAltura() + TAMANHO_BLOCO);
+                } else fila.objeto(RenderQueue.ATAQUE, p, alfa, true);
+            }
+            for (Projetil p : teias) {
+                if (p.isAtivo()) fila.objeto(RenderQueue.ATAQUE, p, alfa, true);
+            }
+        }
+
         /**
          * Atualiza o dano causado ao Larry
          * 
@@ -1590,8 +1589,8 @@ public class TelaBoss extends TelaBase{
          * @return O retorno é sempre {@code true} nesse caso
          */
         public boolean takeDamage(int damage){
-            this.hp -= damage;
-            if(hp > 0) efeito.playSong(caminho, false);
+            reduzirHp(damage);
+            if(getHp() > 0) efeito.playSong(caminho, false);
             return true;
         }
 
@@ -1599,21 +1598,18 @@ public class TelaBoss extends TelaBase{
          * Mostra a "animação" de derrota do Larry
          */
         public void playDefeatAnimation(){
-            if(!triggered){
+            if(!isTriggered()){
                 if(musica.isPlaying()) musica.stopSong();
                 curImage = larryImgs[1];
-                triggered = true;
-                timer = System.currentTimeMillis();
+                setTriggered(true);
+                reiniciarTimer();
                 for(int i = 0; i < 2; i++){
-                    if(stringAlerts[i] != null) {
-                        stringAlerts[i].desativar();
-                        alertas.remove(stringAlerts[i]);
-                    }
+                    particulas.cancelarAlerta(stringAlerts[i]);
                 }
             }
-            if(System.currentTimeMillis() - timer >= 2000 && triggered){
+            if(getTempoDecorrido() >= 2000 && isTriggered()){
                 efeito.playSong("assets/running.wav", false);
-                isAlive = false;
+                morrer();
             }
         }
 
@@ -1625,84 +1621,76 @@ public class TelaBoss extends TelaBase{
          * </p>
          */
         public void atacar(){
-            long now = System.currentTimeMillis();
-            if(hp <= 0) playDefeatAnimation();
+            long now = relogio.agora();
+            if(getHp() <= 0) playDefeatAnimation();
             else {
-                if(!inDespair && !triggered){
+                if(!inDespair && !isTriggered()){
                     if (now - ultimoTiro > INTERVALO_TIRO*3) {
-                        int pX = (new Random().nextInt(5))*TAMANHO_BLOCO + x;
-                        Projetil p = new Projetil(pX, y + (tamanho*3)/5, TAMANHO_BLOCO, TAMANHO_BLOCO, 0, 1,
+                        int pX = (aleatorio.nextInt(5))*TAMANHO_BLOCO + getX();
+                        Projetil p = new Projetil(pX, getY() + (tamanho*3)/5, TAMANHO_BLOCO, TAMANHO_BLOCO, 0, 1,
                             Color.LIGHT_GRAY, false);
                         p.curImage = teiaImg;
                         teias.add(p);
-                        objetosColidiveis.add(p);
+                        entidades.adicionar(p);
                         ultimoTiro = now;
                     }
                 }
-                if(!isAttacking){
-                    if(hp < maxHp/2 && !triggered){
+                if(!isAttacking()){
+                    if(getHp() < getHpMaximo()/2 && !isTriggered()){
                         efeito.playSong("assets/warning.wav", false);
-                        stringAlerts[0] = new Alert(x, ALTURA_TELA/2, TAMANHO_BLOCO);
-                        stringAlerts[1] = new Alert(x + (tamanho*4)/5, ALTURA_TELA/2, TAMANHO_BLOCO);
-                        for(int i = 0; i < 2; i++) alertas.add(stringAlerts[i]);
-                        triggered = true;
-                        timer = System.currentTimeMillis();
+                        stringAlerts[0] = particulas.emitirAlerta(getX(), ALTURA_TELA/2, TAMANHO_BLOCO);
+                        stringAlerts[1] = particulas.emitirAlerta(getX() + (tamanho*4)/5, ALTURA_TELA/2, TAMANHO_BLOCO);
+                        setTriggered(true);
+                        reiniciarTimer();
                     }
-                    if(now - timer >= 1000 && triggered){
-                        int pX = x;
+                    if(getTempoDecorrido() >= 1000 && isTriggered()){
+                        int pX = getX();
 
                         for(int i = 0; i < 2; i++){
-                            if(stringAlerts[i] != null) {
-                                stringAlerts[i].desativar();
-                                alertas.remove(stringAlerts[i]);
-                            }
+                            particulas.cancelarAlerta(stringAlerts[i]);
                         }
 
                         for(int i = 0; i < 2; i++){
                             if(i == 1) pX += (tamanho*9)/10;
-                            Projetil f = new Projetil(pX, y + (tamanho*4)/5, TAMANHO_BLOCO/2, 450,
+                            Projetil f = new Projetil(pX, getY() + (tamanho*4)/5, TAMANHO_BLOCO/2, 450,
                                 0, 0, Color.WHITE, false);
                             f.curImage = fioImgs[0];
                             fios.add(f);
-                            objetosColidiveis.add(f);
+                            entidades.adicionar(f);
                         }
                         
                         efeito.playSong("assets/squish.wav", false);
-                        timer = System.currentTimeMillis();
-                        triggered = false;
-                        isAttacking = true;
+                        reiniciarTimer();
+                        setTriggered(false);
+                        setAttacking(true);
                     }
                 } else if(!inDespair){
-                    if(hp < maxHp/20 && !triggered){
+                    if(getHp() < getHpMaximo()/20 && !isTriggered()){
                         efeito.playSong("assets/warning.wav", false);
-                        stringAlerts[0] = new Alert(x + tamanho/5, ALTURA_TELA/2, TAMANHO_BLOCO);
-                        stringAlerts[1] = new Alert(x + (tamanho*3)/5, ALTURA_TELA/2, TAMANHO_BLOCO);
-                        for(int i = 0; i < 2; i++) alertas.add(stringAlerts[i]);
-                        triggered = true;
-                        timer = System.currentTimeMillis();
+                        stringAlerts[0] = particulas.emitirAlerta(getX() + tamanho/5, ALTURA_TELA/2, TAMANHO_BLOCO);
+                        stringAlerts[1] = particulas.emitirAlerta(getX() + (tamanho*3)/5, ALTURA_TELA/2, TAMANHO_BLOCO);
+                        setTriggered(true);
+                        reiniciarTimer();
                     }
-                    if(now - timer >= 1000 && triggered){
-                        int pX = x + tamanho/5;
+                    if(getTempoDecorrido() >= 1000 && isTriggered()){
+                        int pX = getX() + tamanho/5;
 
                         for(int i = 0; i < 2; i++){
-                            if(stringAlerts[i] != null) {
-                                stringAlerts[i].desativar();
-                                alertas.remove(stringAlerts[i]);
-                            }
+                            particulas.cancelarAlerta(stringAlerts[i]);
                         }
 
                         for(int i = 0; i < 2; i++){
                             if(i == 1) pX += tamanho/2;
-                            Projetil f = new Projetil(pX, y + (tamanho*4)/5, TAMANHO_BLOCO/2, 450,
+                            Projetil f = new Projetil(pX, getY() + (tamanho*4)/5, TAMANHO_BLOCO/2, 450,
                                 0, 0, Color.WHITE, false);
                             f.curImage = fioImgs[0];
                             fios.add(f);
-                            objetosColidiveis.add(f);
+                            entidades.adicionar(f);
                         }
                         
                         efeito.playSong("assets/squish.wav", false);
-                        timer = System.currentTimeMillis();
-                        triggered = false;
+                        reiniciarTimer();
+                        setTriggered(false);
                         inDespair = true;
                     }
                 }
@@ -1711,7 +1699,6 @@ public class TelaBoss extends TelaBase{
             Iterator<Projetil> webIt = teias.iterator();
             while (webIt.hasNext()) {
                 Projetil p = webIt.next();
-                p.mover();
 
                 //Colisão com o Duque
                 if(p.colideCom(batata) && !batata.isInvulnerable()){
@@ -1721,9 +1708,9 @@ public class TelaBoss extends TelaBase{
                 }
 
                 // Remove se inativo ou se o Larry foi derrotado
-                if (!p.isAtivo() || hp <= 0) {
+                if (!p.isAtivo() || getHp() <= 0) {
                     p.desativar();
-                    objetosColidiveis.remove(p);
+                    entidades.remover(p);
                     webIt.remove();
                 }
             }
@@ -1738,9 +1725,9 @@ public class TelaBoss extends TelaBase{
                 }
 
                 // Remove se inativo ou se o Larry foi derrotado
-                if (!p.isAtivo() || hp <= 0) {
+                if (!p.isAtivo() || getHp() <= 0) {
                     p.desativar();
-                    objetosColidiveis.remove(p);
+                    entidades.remover(p);
                     stringIt.remove();
                 }
             }
@@ -1759,9 +1746,9 @@ public class TelaBoss extends TelaBase{
         /** Uma lista para quardar os fios da nave */
         private ArrayList<Projetil> fios = new ArrayList<>();
         /** Guarda a última vez que a nave atirou */
-        private long ultimoTiro = 0;
+        private long ultimoTiro = SimClock.NUNCA;
         /** Partículas de alerta que aparecem quando a nave solta os seus fios */
-        private Alert[] stringAlerts = new Alert[2];
+        private int[] stringAlerts = new int[2];
         /** Guarda onde os fios vão aparecer */
         private int[] stringYs = new int[2];
         /** Indica se a nave perdeu todos os seus pontos de vida */
@@ -1772,12 +1759,43 @@ public class TelaBoss extends TelaBase{
          */
         public NaveMaeranha(){
             super(LARGURA_TELA, Color.DARK_GRAY, 450);
-            this.x = 0; this.y = 0; this.altura = 250;
+            setX(0); setY(0); this.altura = 250;
             this.nome = "NAVE MÃERANHA";
             this.caminho = "assets/danoAranha.wav";
+            naveMareanhaImg = imagemSobDemanda(IMG_NAVE_MAREANHA);
+            teiaImg = imagemSobDemanda(IMG_TEIA);
+            fioImgs = imagensSobDemanda(IMGS_FIO);
             this.curImage = naveMareanhaImg;
         }
 
+        /**
+         * Remove do registro os projéteis do boss
+         */
+        @Override
+        protected void removerProjeteis(){
+            descartarProjeteis(teias);
+            descartarProjeteis(fios);
+        }
+
+        /**
+         * Emite os comandos de desenho da nave (que ocupa a tela inteira), dos seus fios e das suas teias
+         *
+         * @param fila Fila de renderização da tela
+         * @param alfa Fração (de 0 a 1) decorrida entre o passo anterior e o atual
+         */
+        @Override
+        public void emitirComandos(RenderQueue fila, double alfa){
+            // Os fios e as teias ficam debaixo da nave
+            for (Projetil p : fios) {
+                if (p.isAtivo()) fila.objeto(RenderQueue.ATAQUE_ABAIXO, p, alfa, true);
+            }
+            for (Projetil p : teias) {
+                if (p.isAtivo()) fila.objeto(RenderQueue.ATAQUE_ABAIXO, p, alfa, true);
+            }
+            if(getImage() != null) fila.sprite(RenderQueue.INIMIGO, getImage(), 0, 0, LARGURA_TELA, ALTURA_TELA);
+            else super.emitirComandos(fila, alfa);
+        }
+
         /**
          * Atualiza o dano causado à nave
          * 
@@ -1785,8 +1803,8 @@ public class TelaBoss extends TelaBase{
          * @return O retorno é sempre {@code true} nesse caso
          */
         public boolean takeDamage(int damage){
-            this.hp -= damage;
-            if(hp > 0) efeito.playSong(caminho, false);
+            reduzirHp(damage);
+            if(getHp() > 0) efeito.playSong(caminho, false);
             return true;
         }
 
@@ -1797,21 +1815,18 @@ public class TelaBoss extends TelaBase{
             if(!isBlowingUp){
                 if(musica.isPlaying()) musica.stopSong();
                 isBlowingUp = true;
-                timer = System.currentTimeMillis();
+                reiniciarTimer();
                 for(int i = 0; i < 2; i++){
-                    if(stringAlerts[i] != null) {
-                        stringAlerts[i].desativar();
-                        alertas.remove(stringAlerts[i]);
-                    }
+                    particulas.cancelarAlerta(stringAlerts[i]);
                 }
             } else {
-                if(System.currentTimeMillis() % 10 == 0){
-                    int pofX = new Random().nextInt(LARGURA_TELA - TAMANHO_BLOCO*2);
-                    int pofY = new Random().nextInt(altura - TAMANHO_BLOCO);
+                if(relogio.getTick() % 10 == 0){
+                    int pofX = aleatorio.nextInt(LARGURA_TELA - TAMANHO_BLOCO*2);
+                    int pofY = aleatorio.nextInt(altura - TAMANHO_BLOCO);
                     efeito.playSong("assets/tiro.wav", false);
-                    pofs.add(new Pof(pofX, pofY, TAMANHO_BLOCO*2));
+                    particulas.emitirPof(pofX, pofY, TAMANHO_BLOCO*2);
                 }
-                if(System.currentTimeMillis() - timer >= 5000) isAlive = false;
+                if(getTempoDecorrido() >= 5000) morrer();
             }
         }
 
@@ -1819,15 +1834,15 @@ public class TelaBoss extends TelaBase{
          * Gera as teias da nave
          */
         public void genTeias(){
-            long now = System.currentTimeMillis();
+            long now = relogio.agora();
             if (now - ultimoTiro > INTERVALO_TIRO*3) {
                 for(int i = 0; i < 4; i++){
-                    int pX = (new Random().nextInt(20) + 3)*TAMANHO_BLOCO;
+                    int pX = (aleatorio.nextInt(20) + 3)*TAMANHO_BLOCO;
                     Projetil p = new Projetil(pX, altura, TAMANHO_BLOCO, TAMANHO_BLOCO, 0, 1,
                             Color.LIGHT_GRAY, false);
                     p.curImage = teiaImg;
                     teias.add(p);
-                    objetosColidiveis.add(p);
+                    entidades.adicionar(p);
                     ultimoTiro = now;
                 }
             }
@@ -1839,13 +1854,12 @@ public class TelaBoss extends TelaBase{
         public void genWarning(){
             efeito.playSong("assets/warning.wav", false);
             for(int i = 0; i < 2; i++){
-                stringYs[i] = (new Random().nextInt(4))*TAMANHO_BLOCO*3 + TAMANHO_BLOCO/4 + altura;
+                stringYs[i] = (aleatorio.nextInt(4))*TAMANHO_BLOCO*3 + TAMANHO_BLOCO/4 + altura;
 
-                stringAlerts[i] = new Alert(LARGURA_TELA/2, stringYs[i] - TAMANHO_BLOCO/2, TAMANHO_BLOCO);
-                alertas.add(stringAlerts[i]);
+                stringAlerts[i] = particulas.emitirAlerta(LARGURA_TELA/2, stringYs[i] - TAMANHO_BLOCO/2, TAMANHO_BLOCO);
             }
-            triggered = true;
-            timer = System.currentTimeMillis();
+            setTriggered(true);
+            reiniciarTimer();
         }
 
         /**
@@ -1857,12 +1871,12 @@ public class TelaBoss extends TelaBase{
                     0, 0, Color.WHITE, false);
                 f.curImage = fioImgs[1];
                 fios.add(f);
-                objetosColidiveis.add(f);
+                entidades.adicionar(f);
             }
             efeito.playSong("assets/LaserSwitch.wav", false);
-            timer = System.currentTimeMillis();
-            triggered = false;
-            isAttacking = true;
+            reiniciarTimer();
+            setTriggered(false);
+            setAttacking(true);
         }
 
         /**
@@ -1872,28 +1886,25 @@ public class TelaBoss extends TelaBase{
          * soltar fios em duas de quatro posições, limitando onde o jogador pode desviar das teias.
          */
         public void atacar(){
-            if(hp <= 0) playDefeatAnimation();
+            if(getHp() <= 0) playDefeatAnimation();
             else{
                 genTeias();
-                if(!isAttacking){
-                    if(!triggered) genWarning();
-                    if(System.currentTimeMillis() - timer >= 2000 && triggered){
+                if(!isAttacking()){
+                    if(!isTriggered()) genWarning();
+                    if(getTempoDecorrido() >= 2000 && isTriggered()){
                         for(int i = 0; i < 2; i++){
-                            if(stringAlerts[i] != null) {
-                                stringAlerts[i].desativar();
-                                alertas.remove(stringAlerts[i]);
-                            }
+                            particulas.cancelarAlerta(stringAlerts[i]);
                         }
                         genString();
                     }
                 } else {
-                    if(System.currentTimeMillis() - timer >= 1000){
+                    if(getTempoDecorrido() >= 1000){
                         Iterator<Projetil> stringIt = fios.iterator();
                         while (stringIt.hasNext()) stringIt.next().desativar();
 
                         efeito.playSong("assets/LaserSwitch.wav", false);
-                        timer = System.currentTimeMillis();
-                        isAttacking = false;
+                        reiniciarTimer();
+                        setAttacking(false);
                     }
                 }
             }
@@ -1901,7 +1912,6 @@ public class TelaBoss extends TelaBase{
             Iterator<Projetil> webIt = teias.iterator();
             while (webIt.hasNext()) {
                 Projetil p = webIt.next();
-                p.mover();
 
                 //Colisão com o Duque
                 if(p.colideCom(batata) && !batata.isInvulnerable()){
@@ -1911,9 +1921,9 @@ public class TelaBoss extends TelaBase{
                 }
 
                 // Remove se inativo ou se a nave foi destruída
-                if (!p.isAtivo() || hp <= 0) {
+                if (!p.isAtivo() || getHp() <= 0) {
                     p.desativar();
-                    objetosColidiveis.remove(p);
+                    entidades.remover(p);
                     webIt.remove();
                 }
             }
@@ -1929,8 +1939,8 @@ public class TelaBoss extends TelaBase{
                 }
 
                 // Remove se inativo ou se a nave foi destruída
-                if (!p.isAtivo() || hp <= 0) {
-                    objetosColidiveis.remove(p);
+                if (!p.isAtivo() || getHp() <= 0) {
+                    entidades.remover(p);
                     stringIt.remove();
                 }
             }
@@ -1946,22 +1956,20 @@ public class TelaBoss extends TelaBase{
     private boolean verificarColisaoParede(ObjetoColidivel entity) {         
         if(entity.layer == ObjetoColidivel.CollisionLayer.PLAYER){
             Player jogador = (Player) entity;
-            for (Parede parede : paredes) {
-                if (entity.colideCom(parede)) {
-                    if(bossNum == 6 && !batata.isInvulnerable()){
-                        efeito.playSong("assets/Ouch.wav", false);
-                        batata.takeDamage(1);
-                    }
+            if (mapaParedes.bloqueado(entity)) {
+                if(bossNum == 6 && !batata.isInvulnerable()){
+                    efeito.playSong("assets/Ouch.wav", false);
+                    batata.takeDamage(1);
+                }
 
-                    // Reverte o movimento
-                    switch (jogador.getUltimaDirecao()) {
-                        case LEFT: entity.x += batata.getVelocidade(); break;
-                        case RIGHT: entity.x -= batata.getVelocidade(); break;
-                        case UP: entity.y += batata.getVelocidade(); break;
-                        case DOWN: entity.y -= batata.getVelocidade(); break;
-                    }
-                    return true;
+                // Reverte o movimento
+                switch (jogador.getUltimaDirecao()) {
+                    case LEFT: entity.x += batata.getVelocidade(); break;
+                    case RIGHT: entity.x -= batata.getVelocidade(); break;
+                    case UP: entity.y += batata.getVelocidade(); break;
+                    case DOWN: entity.y -= batata.getVelocidade(); break;
                 }
+                return true;
             }
             if (curBoss != null && curBoss.colideCom(jogador)) {
                 if(!batata.isInvulnerable()){
@@ -1978,9 +1986,7 @@ public class TelaBoss extends TelaBase{
                 return true;
             }
         } else if(entity.layer == ObjetoColidivel.CollisionLayer.PROJECTILE){
-            for (Parede parede : paredes) {
-                if (entity.colideCom(parede)) return true;
-            }
+            return mapaParedes.bloqueado(entity);
         }
         return false;
     }
@@ -2001,20 +2007,17 @@ public class TelaBoss extends TelaBase{
         /** Última direção de tiro do jogador */
         private Direction ultimaDirecaoTiro = null;
         /** Guarda a última vez que o jogador atirou */
-        private long ultimoTiro = 0;
-        /** Timer para processar ações do jogador de forma contínua (~60 FPS)*/
-        private Timer continuousActionTimer;
+        private long ultimoTiro = SimClock.NUNCA;
 
         /**
-         * Construtor da classe GameKeyAdapter
+         * Fase de entrada do passo de simulação. Consome o estado atual das teclas para mover o jogador, atirar e
+         * atualizar a animação, antes que o resto do mundo seja atualizado
          */
-        public GameKeyAdapter() {
-            continuousActionTimer = new Timer(16, e -> {
-                processMovement();
-                processShooting();
-                updateAnimation();
-            });
-            continuousActionTimer.start();
+        public void processarEntrada() {
+            batata.atualizarPasso();
+            processMovement();
+            processShooting();
+            updateAnimation();
         }
 
         /**
@@ -2137,7 +2140,7 @@ public class TelaBoss extends TelaBase{
         private void processShooting() {
             if (activeShootingKeys.isEmpty()) return;
             
-            long now = System.currentTimeMillis();
+            long now = relogio.agora();
             if (now - ultimoTiro <= INTERVALO_TIRO) return;
             
             Direction direction = null;
@@ -2174,7 +2177,7 @@ public class TelaBoss extends TelaBase{
                     case DOWN: p.setImage(cenouraImgs[3]); break;
                 }
                 cenouras.add(p);
-                objetosColidiveis.add(p);
+                entidades.adicionar(p);
                 ultimoTiro = now;
             }
         }
@@ -2183,7 +2186,7 @@ public class TelaBoss extends TelaBase{
          * Atualiza a imagem atual do jogador baseado no que ele está fazendo no moemento
          */
         private void updateAnimation() {
-            boolean isAtirando = (System.currentTimeMillis() - ultimoTiro) < 200 && ultimaDirecaoTiro != null;
+            boolean isAtirando = (relogio.agora() - ultimoTiro) < 200 && ultimaDirecaoTiro != null;
             boolean isMoving = !activeMovementKeys.isEmpty();
             
             // Prioridade para animação de tiro se estiver atirando agora
@@ -2206,11 +2209,10 @@ public class TelaBoss extends TelaBase{
             }
         }
         
-        /** Para o timer de ação contínua*/
+        /** Descarta as teclas ativas */
         public void dispose() {
-            if (continuousActionTimer != null) {
-                continuousActionTimer.stop();
-            }
+            activeMovementKeys.clear();
+            activeShootingKeys.clear();
         }
     }
 
@@ -2391,6 +2393,18 @@ public class TelaBoss extends TelaBase{
             public BossLayout(int lay){
                 this.lay = lay;
             }
+
+            /** Grade de ocupação das paredes, gerada na primeira vez que a dungeon é carregada */
+            private WallGrid ocupacao;
+
+            /**
+             * Declara as imagens do boss deste layout (e dos seus ataques)
+             *
+             * @return O conjunto de imagens do boss
+             */
+            AssetBundle getRecursos(){
+                return IMAGENS_BOSSES[lay];
+            }
             
             /**
              * Adciona as paredes da dungeon
@@ -2440,7 +2454,9 @@ public class TelaBoss extends TelaBase{
                         paredes.add(new Parede(LARGURA_TELA - TAMANHO_BLOCO*2, 0, TAMANHO_BLOCO*9, ALTURA_TELA));
                     break;
                 }
-                for (Parede paredes : paredes) objetosColidiveis.add(paredes);
+                for (Parede paredes : paredes) entidades.adicionar(paredes);
+                if (ocupacao == null) ocupacao = WallGrid.construir(paredes, LARGURA_TELA, ALTURA_TELA);
+                mapaParedes = ocupacao;
             }
 
             /**
@@ -2456,7 +2472,7 @@ public class TelaBoss extends TelaBase{
                     case 5: curBoss = new Larry(); break;
                     case 6: curBoss = new NaveMaeranha(); break;
                 }
-                objetosColidiveis.add(curBoss);
+                entidades.adicionar(curBoss);
             }
         }
     }
@@ -2467,9 +2483,9 @@ public class TelaBoss extends TelaBase{
     public void cleanUp() {
         // Parar sistemas
         estado = EstadoJogo.PARADO;
-        if (timer != null) {
-            timer.stop();
-            timer = null;
+        if (gameLoop != null) {
+            gameLoop.stop();
+            gameLoop = null;
         }
         if (gameKeyAdapter != null) {
             gameKeyAdapter.dispose();
@@ -2484,29 +2500,11 @@ public class TelaBoss extends TelaBase{
         
         // Liberar listas
         softClean();
-        objetosColidiveis.clear();
+        entidades.limpar();
 
-        // Liberar imagens
-        cleanImgArray(backgroundImgs); alertImage = null; pofImage = null; paredeImg = null; iconPause = null;
-        cleanImgArray(batataImgs); cleanImgArray(cenouraImgs); cleanImgArray(portaImgs); cleanImgArray(gigaSlimeImgs); lancaChamasImg = null;
-        cleanImgArray(sirPlatohImgs); garfoImg = null; cleanImgArray(facaImgs); cleanImgArray(mofadaBombadaImgs); bracoImg = null;
-        luvaImg = null; mofoImg = null; cleanImgArray(cerberoNimbusImgs); algodaoImg = null; cleanImgArray(larryImgs);
-        teiaImg = null; cleanImgArray(fioImgs); naveMareanhaImg = null; vladmirCenoura = null; cleanImgArray(cappuccinoImgs);
-
-        // Otimização final: Garbage Colector
-        System.gc();
-    }
-
-    /**
-     * Limpa um array de imagem
-     * 
-     * @param imgs o array a ser limpo
-     */
-    private void cleanImgArray(Image[] imgs){
-        if (imgs != null) {
-            for (int i = 0; i < imgs.length; i++) imgs[i] = null;
-            imgs = null;
-        }
+        // Liberar imagens (inclusive as cópias pré-escaladas)
+        fila.limparTexturas();
+        liberarImagens();
     }
 
     /**
@@ -2531,8 +2529,7 @@ public class TelaBoss extends TelaBase{
     private void softClean() {
         paredes.clear();
         cenouras.clear();
-        alertas.clear();
-        pofs.clear();
+        particulas.limpar();
         curBoss = null;
     }
 }
@@ -1,10 +1,7 @@
-import javax.imageio.ImageIO;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
-import java.io.File;
 import java.io.IOException;
-import java.util.Random;
 
 /** 
  * Classe da Tela de Game Over do jogo
@@ -20,6 +17,8 @@ public class TelaGameOver extends TelaBase{
 
     /** Imagem de Game Over */
     private Image fritoImg;
+    // Caminhos das imagens
+    private static final String IMG_FRITO = "assets/Frito.png";
 
     /** Valor gerado aleatoreamente ao carregar a tela. Caso seja 0, a dica de como entrar na sala secreta será carregada */
     private int showTip;
@@ -46,9 +45,9 @@ public class TelaGameOver extends TelaBase{
         add(returnButton, gbc);
         
         // 10% de chance de mostrar a dica de como entrar na sala secreta.
-        showTip = new Random().nextInt(10);
+        showTip = GameRandom.novoFluxo().nextInt(10);
 
-        start();
+        carregarEIniciar();
     }
 
     /**
@@ -146,16 +145,21 @@ public class TelaGameOver extends TelaBase{
         });
     }
 
+    /**
+     * Declara as imagens da tela.
+     *
+     * @return O conjunto de imagens da tela
+     */
+    @Override
+    protected AssetBundle recursos(){
+        return new AssetBundle().imagens(IMG_FRITO);
+    }
+
     /**
      * Carrega a imagem de Game Over.
      */
     public void carregarImagens(){
-        try {
-            fritoImg = ImageIO.read(new File("assets/Frito.png"));
-        } catch (IOException e) {
-            System.out.println("Erro ao carregar imagens");
-            e.printStackTrace();
-        }
+        fritoImg = imagem(IMG_FRITO);
     }
 
     /**
@@ -191,9 +195,9 @@ public class TelaGameOver extends TelaBase{
      * Realiza limpeza de recursos antes da tela ser descartada.
      */
     public void cleanUp() {
-        // Parar o timer
-        if (timer != null && timer.isRunning()) {
-            timer.stop();
+        // Parar o loop do jogo
+        if (gameLoop != null && gameLoop.isRunning()) {
+            gameLoop.stop();
         }
         
         // Remover botões e seus listeners
@@ -201,9 +205,7 @@ public class TelaGameOver extends TelaBase{
         for (ActionListener al : returnButton.getActionListeners()) returnButton.removeActionListener(al);
         
         // Liberar imagens
+        liberarImagens();
         fritoImg = null;
-        
-        // Coleta de lixo explícita
-        System.gc();
     }
 }
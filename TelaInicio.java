@@ -1,4 +1,3 @@
-import javax.imageio.ImageIO;
 import javax.sound.sampled.LineEvent;
 import javax.sound.sampled.LineListener;
 import javax.swing.*;
@@ -29,6 +28,9 @@ public class TelaInicio extends TelaBase{
 
     /** Imagens */
     private Image backgroundImg, logoImg;
+    // Caminhos das imagens
+    private static final String IMG_FUNDO = "assets/background.png";
+    private static final String IMG_LOGO = "assets/Logo.png";
 
     /** Indica se o jogador derrotou o boss secreto */
     private boolean wasCappuccinoDefeated;
@@ -75,7 +77,7 @@ public class TelaInicio extends TelaBase{
 
         gbc.gridy = 2;
         add(secreteTextField, gbc);
-        start();
+        carregarEIniciar();
     }
 
     /**
@@ -335,17 +337,22 @@ public class TelaInicio extends TelaBase{
         }
     }
 
+    /**
+     * Declara as imagens da tela.
+     *
+     * @return O conjunto de imagens da tela
+     */
+    @Override
+    protected AssetBundle recursos(){
+        return new AssetBundle().opacas(IMG_FUNDO).imagens(IMG_LOGO);
+    }
+
     /**
      * Carrega as imagens necessárias para a tela inicial.
      */
     public void carregarImagens(){
-        try {
-            backgroundImg = ImageIO.read(new File("assets/background.png"));
-            logoImg = ImageIO.read(new File("assets/Logo.png"));
-        } catch (IOException e) {
-            System.out.println("Erro ao carregar imagens");
-            e.printStackTrace();
-        }
+        backgroundImg = imagem(IMG_FUNDO);
+        logoImg = imagem(IMG_LOGO);
     }
 
     /**
@@ -382,9 +389,9 @@ public class TelaInicio extends TelaBase{
      * Realiza limpeza de recursos antes da tela ser descartada.
      */
     public void cleanUp() {
-        // Parar o timer
-        if (timer != null && timer.isRunning()) {
-            timer.stop();
+        // Parar o loop do jogo
+        if (gameLoop != null && gameLoop.isRunning()) {
+            gameLoop.stop();
         }
         
         // Remover botões e seus listeners
@@ -394,10 +401,8 @@ public class TelaInicio extends TelaBase{
         remove(instrucoesButton);
         
         // Liberar imagens
+        liberarImagens();
         backgroundImg = null;
         logoImg = null;
-        
-        // Coleta de lixo explícita
-        System.gc();
     }
 }
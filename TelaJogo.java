@@ -1,4 +1,3 @@
-import javax.imageio.ImageIO;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
@@ -12,7 +11,6 @@ import java.io.PrintWriter;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.Random;
 import java.util.Scanner;
 import java.util.Set;
 
@@ -27,8 +25,18 @@ public class TelaJogo extends TelaBase {
     private DungeonManager dungeonManager;
     /** O layout da dungeon atual */
     private DungeonManager.DungeonLayout layout;
-    /** Uma lista contendo todos os objetos colidíveis presentes na tela */
-    private ArrayList<ObjetoColidivel> objetosColidiveis = new ArrayList<>();
+    /** Grade espacial com os objetos colidíveis, usada para encontrar candidatos a colisão */
+    private final SpatialGrid grade = new SpatialGrid(LARGURA_TELA, ALTURA_TELA, TAMANHO_BLOCO);
+    /** Sistema com os dados de todos os projéteis registrados, que move todos eles de uma vez */
+    private final ProjectileSystem projeteis = new ProjectileSystem(LARGURA_TELA, ALTURA_TELA);
+    /** Sistema com os componentes de todas as criaturas registradas, que move as que estão patrulhando */
+    private final CreatureSystem criaturas = new CreatureSystem(LARGURA_TELA, ALTURA_TELA);
+    /** Registro com todos os objetos colidíveis presentes na tela (mantém a grade espacial e os sistemas atualizados) */
+    private final EntityRegistry entidades = new EntityRegistry(grade, projeteis, criaturas);
+    /** Grade de ocupação das paredes da dungeon atual */
+    private WallGrid mapaParedes;
+    /** Lista reaproveitada com os candidatos a colisão de uma consulta à grade */
+    private final ArrayList<ObjetoColidivel> candidatos = new ArrayList<>();
     /** Botão para pausar o jogo */
     private JButton pauseButton = new JButton("Pausa");
     /** O personagem jogável do jogo (Duque Batata) */
@@ -39,6 +47,10 @@ public class TelaJogo extends TelaBase {
     private ArrayList<Projetil> cenouras = new ArrayList<>();
     /** O intervalo entre cada tiro do jogador (0,3 s) */
     private static final long INTERVALO_TIRO = 300;
+    /** Animação do voo do flyme (índices relativos à primeira imagem da direção) */
+    private static final AnimationClip VOO_FLYME = new AnimationClip(100, 0, 1, 2, 1);
+    /** Animação do voo do morcerango (índices relativos à primeira imagem da direção) */
+    private static final AnimationClip VOO_MORCERANGO = new AnimationClip(100, 0, 1);
     /** Uma lista contendo todos os inimigos presentes na tela */
     private ArrayList<Inimigo> inimigos = new ArrayList<>();
     /** Guarda a quantidade de inimigos na tela */
@@ -47,10 +59,8 @@ public class TelaJogo extends TelaBase {
     private ArrayList<Parede> paredes = new ArrayList<>();
     /** A porta onde o jogador deve entrar para passar para a próxima dungeon */
     private Porta porta;
-    /** Uma lista contendo todas as partículas de alerta presentes na tela */
-    private ArrayList<Alert> alertas = new ArrayList<>();
-    /** Uma lista contendo todas as partículas de pof! presentes na tela */
-    private ArrayList<Pof> pofs = new ArrayList<>();
+    /** Sistema com todas as partículas de pof! e de alerta presentes na tela */
+    private final ParticleSystem particulas = new ParticleSystem(relogio);
     /** Imagem do ícone de pausa */
     private ImageIcon iconPause;
     /** Imagens únicas */
@@ -60,6 +70,379 @@ public class TelaJogo extends TelaBase {
     morcerangoImgs, queijoBoxerImgs, bracoImgs, luvaImgs, chocochatoImgs, algodogDoceImgs, slimeBotImgs, laserImgs, gigaBotImgs,
     gLaserImgs, malandranhaImgs, alhoImgs;
 
+    // Caminhos das imagens (os vetores estão na mesma ordem dos vetores de imagens)
+    private static final String IMG_PAREDE = "assets/parede.png";
+    private static final String IMG_ALERTA = "assets/Warning.png";
+    private static final String IMG_POF = "assets/POF.png";
+    private static final String[] IMGS_FUNDO = {
+        "assets/BackgroundW1.png", "assets/background.png", "assets/BackgroundW3.png", "assets/BackgroundW4.png",
+        "assets/BackgroundW5.png"
+    };
+    private static final String[] IMGS_BATATA = {
+        "assets/DuqueBatataD.png", "assets/DuqueBatataE.png", "assets/DuqueBatataC.png", "assets/DuqueBatataAD.png",
+        "assets/DuqueBatataAE.png", "assets/DuqueBatataAC.png", "assets/DuqueBatataAB.png", "assets/DuqueBatataX.png"
+    };
+    private static final String[] IMGS_CENOURA = {
+        "assets/CenouraD.png", "assets/CenouraE.png", "assets/CenouraC.png", "assets/CenouraB.png"
+    };
+    private static final String[] IMGS_SLIME = {"assets/SlimeD.png", "assets/SlimeE.png"};
+    private static final String[] IMGS_FLYME = {
+        "assets/FlymeD1.png", "assets/FlymeD2.png", "assets/FlymeD3.png", "assets/FlymeE1.png", "assets/FlymeE2.png",
+        "assets/FlymeE3.png"
+    };
+    private static final String[] IMGS_PRATO = {"assets/PratoD.png", "assets/PratoE.png"};
+    private static final String[] IMGS_FACA = {
+        "assets/FacaD.png", "assets/FacaE.png", "assets/FacaC.png", "assets/FacaB.png"
+    };
+    private static final String[] IMGS_ARMANDIBULA = {"assets/ArmandibulaD.png", "assets/ArmandibulaA.png"};
+    private static final String[] IMGS_MORCERANGO = {
+        "assets/MorcerangoD.png", "assets/MorcerangoAD1.png", "assets/MorcerangoAD2.png", "assets/MorcerangoAE1.png",
+        "assets/MorcerangoAE2.png"
+    };
+    private static final String[] IMGS_QUEIJO_BOXER = {
+        "assets/QueijoBoxerD.png", "assets/QueijoBoxerE.png", "assets/QueijoBoxerC.png", "assets/QueijoBoxerB.png"
+    };
+    private static final String[] IMGS_BRACO = {"assets/BracoH.png", "assets/BracoV.png"};
+    private static final String[] IMGS_LUVA = {
+        "assets/LuvaD.png", "assets/LuvaE.png", "assets/LuvaC.png", "assets/LuvaB.png"
+    };
+    private static final String[] IMGS_CHOCOCHATO = {"assets/Chocochato.png", "assets/ChocochatoD.png"};
+    private static final String[] IMGS_ALGODOG_DOCE = {
+        "assets/AlgodogDoceD.png", "assets/AlgodogDoceE.png", "assets/AlgodogDoceC.png", "assets/AlgodogDoceB.png",
+        "assets/AlgodogDoceRD.png", "assets/AlgodogDoceRE.png"
+    };
+    private static final String IMG_ALGODAO = "assets/Algodao.png";
+    private static final String[] IMGS_SLIME_BOT = {
+        "assets/SlimeBotD.png", "assets/SlimeBotE.png", "assets/SlimeBotC.png", "assets/SlimeBotB.png"
+    };
+    private static final String[] IMGS_LASER = {"assets/laserH.png", "assets/laserV.png"};
+    private static final String[] IMGS_GIGA_BOT = {
+        "assets/GigaBotD.png", "assets/GigaBotE.png", "assets/GigaBotC.png", "assets/GigaBotB.png"
+    };
+    private static final String[] IMGS_G_LASER = {"assets/laserGH.png", "assets/laserGV.png"};
+    private static final String[] IMGS_MALANDRANHA = {"assets/MalandranhaD.png", "assets/MalandranhaE.png"};
+    private static final String[] IMGS_ALHO = {
+        "assets/Alho.png", "assets/DentalhoD.png", "assets/DentalhoE.png", "assets/DescascalhoD.png",
+        "assets/DescascalhoE.png"
+    };
+    private static final String[] IMGS_PORTA = {"assets/PortaFV.png", "assets/PortaAV.png"};
+
+    /**
+     * Tipos de inimigo que as dungeons criam, com as imagens de cada um (inclusive as dos seus ataques)
+     */
+    private enum TipoInimigo {
+        SLIME(new AssetBundle().imagens(IMGS_SLIME)),
+        FLYME(new AssetBundle().imagens(IMGS_FLYME)),
+        PRATO(new AssetBundle().imagens(IMGS_PRATO).imagens(IMGS_FACA)),
+        ARMANDIBULA(new AssetBundle().imagens(IMGS_ARMANDIBULA)),
+        MORCERANGO(new AssetBundle().imagens(IMGS_MORCERANGO)),
+        QUEIJO_BOXER(new AssetBundle().imagens(IMGS_QUEIJO_BOXER).imagens(IMGS_BRACO).imagens(IMGS_LUVA)),
+        CHOCOCHATO(new AssetBundle().imagens(IMGS_CHOCOCHATO)),
+        ALGODOG_DOCE(new AssetBundle().imagens(IMGS_ALGODOG_DOCE).imagens(IMG_ALGODAO)),
+        SLIME_BOT(new AssetBundle().imagens(IMGS_SLIME_BOT).imagens(IMGS_LASER)),
+        GIGA_BOT(new AssetBundle().imagens(IMGS_GIGA_BOT).imagens(IMGS_G_LASER)),
+        MALANDRANHA(new AssetBundle().imagens(IMGS_MALANDRANHA)),
+        ALHO(new AssetBundle().imagens(IMGS_ALHO));
+
+        /** Imagens usadas pelo tipo de inimigo */
+        private final AssetBundle imagens;
+
+        TipoInimigo(AssetBundle imagens){
+            this.imagens = imagens;
+        }
+    }
+
+    /**
+     * Um inimigo criado no início de uma dungeon: o tipo, a posição inicial e os parâmetros do construtor que o tipo
+     * usar (direção inicial e alcance, vida ou tamanho do laser)
+     */
+    private static final class Aparicao {
+        private final TipoInimigo tipo;
+        private final int x, y;
+        private final Direction direcao;
+        private final int parametro;
+
+        Aparicao(TipoInimigo tipo, int x, int y){
+            this(tipo, x, y, null, 0);
+        }
+
+        Aparicao(TipoInimigo tipo, int x, int y, Direction direcao){
+            this(tipo, x, y, direcao, 0);
+        }
+
+        Aparicao(TipoInimigo tipo, int x, int y, Direction direcao, int parametro){
+            this.tipo = tipo;
+            this.x = x;
+            this.y = y;
+            this.direcao = direcao;
+            this.parametro = parametro;
+        }
+    }
+
+    /**
+     * Inimigos criados por cada dungeon, na ordem de criação. É a única declaração dos inimigos das dungeons: a
+     * {@code DungeonLayout} cria os inimigos a partir dela, e {@link #imagensDoMundo(int)} monta as imagens de cada mundo
+     * com os tipos que aparecem nela
+     */
+    private static final Aparicao[][] APARICOES_POR_DUNGEON = {
+        // Mundo 1, dungeon 0
+        {
+            new Aparicao(TipoInimigo.SLIME, LARGURA_TELA/2 - TAMANHO_BLOCO/2, 200, Direction.UP),
+            new Aparicao(TipoInimigo.SLIME, LARGURA_TELA/2 - TAMANHO_BLOCO/2, 500, Direction.DOWN)
+        },
+        // Mundo 1, dungeon 1
+        {
+            new Aparicao(TipoInimigo.FLYME, LARGURA_TELA/2 - TAMANHO_BLOCO/2, 200, Direction.DOWN)
+        },
+        // Mundo 1, dungeon 2
+        {
+            new Aparicao(TipoInimigo.SLIME, LARGURA_TELA/2 - TAMANHO_BLOCO/2, 200, Direction.UP),
+            new Aparicao(TipoInimigo.SLIME, LARGURA_TELA/2 - TAMANHO_BLOCO/2, 500, Direction.DOWN),
+            new Aparicao(TipoInimigo.FLYME, LARGURA_TELA/2 - TAMANHO_BLOCO/2, 200, Direction.DOWN)
+        },
+        // Mundo 1, dungeon 3
+        {
+            new Aparicao(TipoInimigo.SLIME, 50, ALTURA_TELA - TAMANHO_BLOCO*2, Direction.UP),
+            new Aparicao(TipoInimigo.SLIME, LARGURA_TELA - TAMANHO_BLOCO*2, ALTURA_TELA - TAMANHO_BLOCO*2, Direction.UP),
+            new Aparicao(TipoInimigo.FLYME, 50, 50, Direction.RIGHT),
+            new Aparicao(TipoInimigo.FLYME, LARGURA_TELA - TAMANHO_BLOCO*2, 50, Direction.LEFT)
+        },
+        // Mundo 1, dungeon 4
+        {
+            new Aparicao(TipoInimigo.ALHO, LARGURA_TELA/2 - TAMANHO_BLOCO/2, ALTURA_TELA/2 - TAMANHO_BLOCO/2, Direction.LEFT, 3)
+        },
+        // Mundo 2, dungeon 5
+        {
+            new Aparicao(TipoInimigo.PRATO, LARGURA_TELA/2 - TAMANHO_BLOCO, 50, Direction.DOWN),
+            new Aparicao(TipoInimigo.PRATO, LARGURA_TELA/2 + TAMANHO_BLOCO, 650, Direction.UP)
+        },
+        // Mundo 2, dungeon 6
+        {
+            new Aparicao(TipoInimigo.ARMANDIBULA, LARGURA_TELA/2 - TAMANHO_BLOCO/2, ALTURA_TELA/2 - TAMANHO_BLOCO/2)
+        },
+        // Mundo 2, dungeon 7
+        {
+            new Aparicao(TipoInimigo.PRATO, 75, 50, Direction.DOWN),
+            new Aparicao(TipoInimigo.PRATO, LARGURA_TELA - TAMANHO_BLOCO*2, 75, Direction.LEFT),
+            new Aparicao(TipoInimigo.PRATO, 75, ALTURA_TELA - TAMANHO_BLOCO*5, Direction.DOWN),
+            new Aparicao(TipoInimigo.PRATO, LARGURA_TELA - TAMANHO_BLOCO*2, ALTURA_TELA - (TAMANHO_BLOCO*5)/2, Direction.LEFT),
+            new Aparicao(TipoInimigo.PRATO, LARGURA_TELA - (TAMANHO_BLOCO*5)/2, 200, Direction.DOWN),
+            new Aparicao(TipoInimigo.PRATO, 200, 225, Direction.RIGHT),
+            new Aparicao(TipoInimigo.PRATO, TAMANHO_BLOCO*7, 375, Direction.RIGHT),
+            new Aparicao(TipoInimigo.PRATO, TAMANHO_BLOCO*7, 475, Direction.RIGHT),
+            new Aparicao(TipoInimigo.ARMANDIBULA, LARGURA_TELA/2 - TAMANHO_BLOCO/2, 75),
+            new Aparicao(TipoInimigo.ARMANDIBULA, LARGURA_TELA - TAMANHO_BLOCO*4, 375),
+            new Aparicao(TipoInimigo.ARMANDIBULA, 150, ALTURA_TELA - (TAMANHO_BLOCO*5)/2)
+        },
+        // Mundo 2, dungeon 8
+        {
+            new Aparicao(TipoInimigo.SLIME, 50, ALTURA_TELA - TAMANHO_BLOCO*2, Direction.UP),
+            new Aparicao(TipoInimigo.SLIME, LARGURA_TELA - TAMANHO_BLOCO*2, ALTURA_TELA - TAMANHO_BLOCO*2, Direction.UP),
+            new Aparicao(TipoInimigo.FLYME, 50, 50, Direction.RIGHT),
+            new Aparicao(TipoInimigo.FLYME, LARGURA_TELA - TAMANHO_BLOCO*2, 50, Direction.LEFT),
+            new Aparicao(TipoInimigo.PRATO, 75, 200, Direction.UP),
+            new Aparicao(TipoInimigo.ARMANDIBULA, 150, ALTURA_TELA/2 - TAMANHO_BLOCO),
+            new Aparicao(TipoInimigo.ARMANDIBULA, LARGURA_TELA - TAMANHO_BLOCO*4, ALTURA_TELA/2 - TAMANHO_BLOCO)
+        },
+        // Mundo 2, dungeon 9
+        {
+            new Aparicao(TipoInimigo.ALHO, LARGURA_TELA/2 - TAMANHO_BLOCO/2, ALTURA_TELA/2 - TAMANHO_BLOCO/2, Direction.UP, 3),
+            new Aparicao(TipoInimigo.ALHO, LARGURA_TELA - TAMANHO_BLOCO*2, 200, Direction.LEFT, 3),
+            new Aparicao(TipoInimigo.ALHO, LARGURA_TELA - TAMANHO_BLOCO*2, 500, Direction.LEFT, 3)
+        },
+        // Mundo 3, dungeon 10
+        {
+            new Aparicao(TipoInimigo.QUEIJO_BOXER, LARGURA_TELA/2 - TAMANHO_BLOCO/2, 50, Direction.DOWN, ALTURA_TELA - TAMANHO_BLOCO*3)
+        },
+        // Mundo 3, dungeon 11
+        {
+            new Aparicao(TipoInimigo.SLIME, LARGURA_TELA/2 - TAMANHO_BLOCO/2, ALTURA_TELA/2 - TAMANHO_BLOCO/2, Direction.UP),
+            new Aparicao(TipoInimigo.MORCERANGO, LARGURA_TELA/2 - TAMANHO_BLOCO/2, ALTURA_TELA/2 - TAMANHO_BLOCO*4, Direction.UP),
+            new Aparicao(TipoInimigo.MORCERANGO, LARGURA_TELA/2 - TAMANHO_BLOCO*3, ALTURA_TELA/2 - TAMANHO_BLOCO*4, Direction.DOWN),
+            new Aparicao(TipoInimigo.MORCERANGO, LARGURA_TELA/2 + TAMANHO_BLOCO*2, ALTURA_TELA/2 - TAMANHO_BLOCO*4, Direction.DOWN)
+        },
+        // Mundo 3, dungeon 12
+        {
+            new Aparicao(TipoInimigo.QUEIJO_BOXER, 100, 50, Direction.DOWN, ALTURA_TELA - TAMANHO_BLOCO*3),
+            new Aparicao(TipoInimigo.QUEIJO_BOXER, 200, 50, Direction.DOWN, ALTURA_TELA - TAMANHO_BLOCO*3),
+            new Aparicao(TipoInimigo.QUEIJO_BOXER, 300, 50, Direction.DOWN, ALTURA_TELA - TAMANHO_BLOCO*3),
+            new Aparicao(TipoInimigo.QUEIJO_BOXER, 400, 50, Direction.DOWN, ALTURA_TELA - TAMANHO_BLOCO*3),
+            new Aparicao(TipoInimigo.QUEIJO_BOXER, 500, 50, Direction.DOWN, ALTURA_TELA - TAMANHO_BLOCO*3),
+            new Aparicao(TipoInimigo.QUEIJO_BOXER, 600, 50, Direction.DOWN, ALTURA_TELA - TAMANHO_BLOCO*3),
+            new Aparicao(TipoInimigo.QUEIJO_BOXER, 700, 50, Direction.DOWN, ALTURA_TELA - TAMANHO_BLOCO*3),
+            new Aparicao(TipoInimigo.QUEIJO_BOXER, 800, 50, Direction.DOWN, ALTURA_TELA - TAMANHO_BLOCO*3),
+            new Aparicao(TipoInimigo.QUEIJO_BOXER, 900, 50, Direction.DOWN, ALTURA_TELA - TAMANHO_BLOCO*3),
+            new Aparicao(TipoInimigo.QUEIJO_BOXER, 1000, 50, Direction.DOWN, ALTURA_TELA - TAMANHO_BLOCO*3),
+            new Aparicao(TipoInimigo.QUEIJO_BOXER, 1100, 50, Direction.DOWN, ALTURA_TELA - TAMANHO_BLOCO*3),
+            new Aparicao(TipoInimigo.QUEIJO_BOXER, 1200, 50, Direction.DOWN, ALTURA_TELA - TAMANHO_BLOCO*3),
+            new Aparicao(TipoInimigo.MORCERANGO, 0, 250, Direction.DOWN),
+            new Aparicao(TipoInimigo.MORCERANGO, LARGURA_TELA - TAMANHO_BLOCO, 250, Direction.DOWN)
+        },
+        // Mundo 3, dungeon 13
+        {
+            new Aparicao(TipoInimigo.SLIME, 50, ALTURA_TELA - TAMANHO_BLOCO*2, Direction.UP),
+            new Aparicao(TipoInimigo.SLIME, LARGURA_TELA - TAMANHO_BLOCO*2, ALTURA_TELA - TAMANHO_BLOCO*2, Direction.UP),
+            new Aparicao(TipoInimigo.FLYME, 50, 50, Direction.RIGHT),
+            new Aparicao(TipoInimigo.FLYME, LARGURA_TELA - TAMANHO_BLOCO*2, 50, Direction.LEFT),
+            new Aparicao(TipoInimigo.PRATO, 75, 200, Direction.UP),
+            new Aparicao(TipoInimigo.ARMANDIBULA, 150, ALTURA_TELA/2 - TAMANHO_BLOCO),
+            new Aparicao(TipoInimigo.ARMANDIBULA, LARGURA_TELA - TAMANHO_BLOCO*4, ALTURA_TELA/2 - TAMANHO_BLOCO),
+            new Aparicao(TipoInimigo.QUEIJO_BOXER, 350, 450, Direction.UP, TAMANHO_BLOCO*5),
+            new Aparicao(TipoInimigo.QUEIJO_BOXER, LARGURA_TELA/2 + TAMANHO_BLOCO*2, 200, Direction.DOWN, TAMANHO_BLOCO*5),
+            new Aparicao(TipoInimigo.MORCERANGO, 150, ALTURA_TELA - TAMANHO_BLOCO*5, Direction.RIGHT),
+            new Aparicao(TipoInimigo.MORCERANGO, LARGURA_TELA - TAMANHO_BLOCO*4, ALTURA_TELA - TAMANHO_BLOCO*5, Direction.LEFT),
+            new Aparicao(TipoInimigo.MORCERANGO, 300, 300, Direction.RIGHT),
+            new Aparicao(TipoInimigo.MORCERANGO, LARGURA_TELA - TAMANHO_BLOCO*7, 300, Direction.LEFT)
+        },
+        // Mundo 3, dungeon 14
+        {
+            new Aparicao(TipoInimigo.ALHO, LARGURA_TELA/2 - TAMANHO_BLOCO/2, ALTURA_TELA/2 - TAMANHO_BLOCO/2, Direction.UP, 3),
+            new Aparicao(TipoInimigo.ALHO, LARGURA_TELA - TAMANHO_BLOCO*2, 200, Direction.LEFT, 3),
+            new Aparicao(TipoInimigo.ALHO, LARGURA_TELA - TAMANHO_BLOCO*2, 500, Direction.LEFT, 3),
+            new Aparicao(TipoInimigo.ALHO, 50, 200, Direction.RIGHT, 3),
+            new Aparicao(TipoInimigo.ALHO, 50, 500, Direction.RIGHT, 3)
+        },
+        // Mundo 4, dungeon 15
+        {
+            new Aparicao(TipoInimigo.ALGODOG_DOCE, 50, 50, Direction.DOWN, ALTURA_TELA - TAMANHO_BLOCO*3),
+            new Aparicao(TipoInimigo.ALGODOG_DOCE, 50, 650, Direction.UP, ALTURA_TELA - TAMANHO_BLOCO*3),
+            new Aparicao(TipoInimigo.ALGODOG_DOCE, LARGURA_TELA - TAMANHO_BLOCO*2, 200, Direction.LEFT, LARGURA_TELA - TAMANHO_BLOCO*3),
+            new Aparicao(TipoInimigo.ALGODOG_DOCE, LARGURA_TELA - TAMANHO_BLOCO*2, 500, Direction.LEFT, LARGURA_TELA - TAMANHO_BLOCO*3)
+        },
+        // Mundo 4, dungeon 16
+        {
+            new Aparicao(TipoInimigo.CHOCOCHATO, LARGURA_TELA/2 - TAMANHO_BLOCO, 100),
+            new Aparicao(TipoInimigo.CHOCOCHATO, LARGURA_TELA/2 + TAMANHO_BLOCO, 600),
+            new Aparicao(TipoInimigo.PRATO, LARGURA_TELA/2 - TAMANHO_BLOCO, 50, Direction.DOWN),
+            new Aparicao(TipoInimigo.PRATO, LARGURA_TELA/2 + TAMANHO_BLOCO, 650, Direction.UP)
+        },
+        // Mundo 4, dungeon 17
+        {
+            new Aparicao(TipoInimigo.PRATO, LARGURA_TELA - TAMANHO_BLOCO*2, 300, Direction.LEFT),
+            new Aparicao(TipoInimigo.PRATO, LARGURA_TELA - TAMANHO_BLOCO*2, 400, Direction.LEFT),
+            new Aparicao(TipoInimigo.QUEIJO_BOXER, 50, 50, Direction.RIGHT, LARGURA_TELA - TAMANHO_BLOCO*3),
+            new Aparicao(TipoInimigo.QUEIJO_BOXER, 50, ALTURA_TELA - TAMANHO_BLOCO*2, Direction.RIGHT, LARGURA_TELA - TAMANHO_BLOCO*3),
+            new Aparicao(TipoInimigo.QUEIJO_BOXER, LARGURA_TELA - TAMANHO_BLOCO*2, 350, Direction.LEFT, LARGURA_TELA - TAMANHO_BLOCO*2),
+            new Aparicao(TipoInimigo.ALGODOG_DOCE, LARGURA_TELA/2 + TAMANHO_BLOCO*2, 300, Direction.LEFT, TAMANHO_BLOCO*15),
+            new Aparicao(TipoInimigo.ALGODOG_DOCE, LARGURA_TELA/2 + TAMANHO_BLOCO*2, 350, Direction.LEFT, TAMANHO_BLOCO*15),
+            new Aparicao(TipoInimigo.ALGODOG_DOCE, LARGURA_TELA/2 + TAMANHO_BLOCO*2, 400, Direction.LEFT, TAMANHO_BLOCO*15),
+            new Aparicao(TipoInimigo.CHOCOCHATO, LARGURA_TELA/2 - TAMANHO_BLOCO*4, 300),
+            new Aparicao(TipoInimigo.CHOCOCHATO, LARGURA_TELA/2 - TAMANHO_BLOCO*4, 350),
+            new Aparicao(TipoInimigo.CHOCOCHATO, LARGURA_TELA/2 - TAMANHO_BLOCO*4, 400),
+            new Aparicao(TipoInimigo.CHOCOCHATO, LARGURA_TELA/2 + TAMANHO_BLOCO*3, 300),
+            new Aparicao(TipoInimigo.CHOCOCHATO, LARGURA_TELA/2 + TAMANHO_BLOCO*3, 350),
+            new Aparicao(TipoInimigo.CHOCOCHATO, LARGURA_TELA/2 + TAMANHO_BLOCO*3, 400),
+            new Aparicao(TipoInimigo.CHOCOCHATO, LARGURA_TELA - TAMANHO_BLOCO*3, 300),
+            new Aparicao(TipoInimigo.CHOCOCHATO, LARGURA_TELA - TAMANHO_BLOCO*3, 350),
+            new Aparicao(TipoInimigo.CHOCOCHATO, LARGURA_TELA - TAMANHO_BLOCO*3, 400),
+            new Aparicao(TipoInimigo.CHOCOCHATO, 100, 50),
+            new Aparicao(TipoInimigo.CHOCOCHATO, 100, ALTURA_TELA - TAMANHO_BLOCO*2)
+        },
+        // Mundo 4, dungeon 18
+        {
+            new Aparicao(TipoInimigo.SLIME, 50, ALTURA_TELA - TAMANHO_BLOCO*2, Direction.UP),
+            new Aparicao(TipoInimigo.SLIME, LARGURA_TELA - TAMANHO_BLOCO*2, ALTURA_TELA - TAMANHO_BLOCO*2, Direction.UP),
+            new Aparicao(TipoInimigo.FLYME, 50, 50, Direction.RIGHT),
+            new Aparicao(TipoInimigo.FLYME, LARGURA_TELA - TAMANHO_BLOCO*2, 50, Direction.LEFT),
+            new Aparicao(TipoInimigo.PRATO, 75, 200, Direction.UP),
+            new Aparicao(TipoInimigo.ARMANDIBULA, 150, ALTURA_TELA/2 - TAMANHO_BLOCO),
+            new Aparicao(TipoInimigo.ARMANDIBULA, LARGURA_TELA - TAMANHO_BLOCO*4, ALTURA_TELA/2 - TAMANHO_BLOCO),
+            new Aparicao(TipoInimigo.QUEIJO_BOXER, 350, 450, Direction.UP, TAMANHO_BLOCO*5),
+            new Aparicao(TipoInimigo.QUEIJO_BOXER, LARGURA_TELA/2 + TAMANHO_BLOCO*2, 200, Direction.DOWN, TAMANHO_BLOCO*5),
+            new Aparicao(TipoInimigo.MORCERANGO, 150, ALTURA_TELA - TAMANHO_BLOCO*5, Direction.RIGHT),
+            new Aparicao(TipoInimigo.MORCERANGO, LARGURA_TELA - TAMANHO_BLOCO*4, ALTURA_TELA - TAMANHO_BLOCO*5, Direction.LEFT),
+            new Aparicao(TipoInimigo.MORCERANGO, 300, 300, Direction.RIGHT),
+            new Aparicao(TipoInimigo.MORCERANGO, LARGURA_TELA - TAMANHO_BLOCO*7, 300, Direction.LEFT),
+            new Aparicao(TipoInimigo.ALGODOG_DOCE, 250, 350, Direction.LEFT, TAMANHO_BLOCO*5),
+            new Aparicao(TipoInimigo.ALGODOG_DOCE, LARGURA_TELA - TAMANHO_BLOCO, 300, Direction.LEFT, TAMANHO_BLOCO*5),
+            new Aparicao(TipoInimigo.CHOCOCHATO, LARGURA_TELA/2 - TAMANHO_BLOCO, 150),
+            new Aparicao(TipoInimigo.CHOCOCHATO, LARGURA_TELA/2, 150),
+            new Aparicao(TipoInimigo.CHOCOCHATO, LARGURA_TELA/2 - TAMANHO_BLOCO, 350),
+            new Aparicao(TipoInimigo.CHOCOCHATO, LARGURA_TELA/2, 350),
+            new Aparicao(TipoInimigo.CHOCOCHATO, LARGURA_TELA/2 - TAMANHO_BLOCO, 500),
+            new Aparicao(TipoInimigo.CHOCOCHATO, LARGURA_TELA/2, 500),
+            new Aparicao(TipoInimigo.CHOCOCHATO, 50, 150),
+            new Aparicao(TipoInimigo.CHOCOCHATO, 100, 150),
+            new Aparicao(TipoInimigo.CHOCOCHATO, LARGURA_TELA - TAMANHO_BLOCO*2, 150),
+            new Aparicao(TipoInimigo.CHOCOCHATO, LARGURA_TELA - TAMANHO_BLOCO*3, 150)
+        },
+        // Mundo 4, dungeon 19
+        {
+            new Aparicao(TipoInimigo.ALHO, LARGURA_TELA/4 - TAMANHO_BLOCO/2, ALTURA_TELA/2 - TAMANHO_BLOCO/2, Direction.UP, 3),
+            new Aparicao(TipoInimigo.ALHO, (LARGURA_TELA*3)/4 - TAMANHO_BLOCO/2, ALTURA_TELA/2 - TAMANHO_BLOCO/2, Direction.UP, 3),
+            new Aparicao(TipoInimigo.ALHO, LARGURA_TELA - TAMANHO_BLOCO*2, 200, Direction.LEFT, 3),
+            new Aparicao(TipoInimigo.ALHO, LARGURA_TELA - TAMANHO_BLOCO*2, 500, Direction.LEFT, 3),
+            new Aparicao(TipoInimigo.ALHO, 50, 200, Direction.RIGHT, 3),
+            new Aparicao(TipoInimigo.ALHO, 50, 500, Direction.RIGHT, 3)
+        },
+        // Mundo 5, dungeon 20
+        {
+            new Aparicao(TipoInimigo.MALANDRANHA, 50, 50),
+            new Aparicao(TipoInimigo.MALANDRANHA, LARGURA_TELA - TAMANHO_BLOCO*2, 50),
+            new Aparicao(TipoInimigo.MALANDRANHA, LARGURA_TELA - TAMANHO_BLOCO*2, 650)
+        },
+        // Mundo 5, dungeon 21
+        {
+            new Aparicao(TipoInimigo.SLIME_BOT, LARGURA_TELA/2 - TAMANHO_BLOCO/2, 50, Direction.DOWN, ALTURA_TELA - TAMANHO_BLOCO*3),
+            new Aparicao(TipoInimigo.SLIME_BOT, LARGURA_TELA/2 - TAMANHO_BLOCO*3, 50, Direction.DOWN, ALTURA_TELA - TAMANHO_BLOCO*3),
+            new Aparicao(TipoInimigo.SLIME_BOT, LARGURA_TELA/2 + TAMANHO_BLOCO*2, 50, Direction.DOWN, ALTURA_TELA - TAMANHO_BLOCO*3),
+            new Aparicao(TipoInimigo.CHOCOCHATO, LARGURA_TELA/2 - TAMANHO_BLOCO, 100),
+            new Aparicao(TipoInimigo.CHOCOCHATO, LARGURA_TELA/2, 100),
+            new Aparicao(TipoInimigo.CHOCOCHATO, LARGURA_TELA/2 - TAMANHO_BLOCO*3, 100),
+            new Aparicao(TipoInimigo.CHOCOCHATO, LARGURA_TELA/2 + TAMANHO_BLOCO*2, 100)
+        },
+        // Mundo 5, dungeon 22
+        {
+            new Aparicao(TipoInimigo.CHOCOCHATO, 100, ALTURA_TELA - TAMANHO_BLOCO*2),
+            new Aparicao(TipoInimigo.CHOCOCHATO, LARGURA_TELA - TAMANHO_BLOCO*3, ALTURA_TELA - TAMANHO_BLOCO*2),
+            new Aparicao(TipoInimigo.SLIME_BOT, 50, ALTURA_TELA - TAMANHO_BLOCO*2, Direction.RIGHT, TAMANHO_BLOCO*9),
+            new Aparicao(TipoInimigo.CHOCOCHATO, LARGURA_TELA/2 - TAMANHO_BLOCO, 550),
+            new Aparicao(TipoInimigo.CHOCOCHATO, LARGURA_TELA/2, 550),
+            new Aparicao(TipoInimigo.MALANDRANHA, LARGURA_TELA/2  - TAMANHO_BLOCO, 650),
+            new Aparicao(TipoInimigo.MALANDRANHA, LARGURA_TELA/2, 650),
+            new Aparicao(TipoInimigo.SLIME_BOT, LARGURA_TELA - TAMANHO_BLOCO*2, ALTURA_TELA - TAMANHO_BLOCO*2, Direction.LEFT, TAMANHO_BLOCO*9),
+            new Aparicao(TipoInimigo.GIGA_BOT, LARGURA_TELA/2 - TAMANHO_BLOCO, ALTURA_TELA - TAMANHO_BLOCO*3, Direction.UP, ALTURA_TELA - TAMANHO_BLOCO*4)
+        },
+        // Mundo 5, dungeon 23
+        {
+            new Aparicao(TipoInimigo.SLIME, 50, ALTURA_TELA - TAMANHO_BLOCO*2, Direction.UP),
+            new Aparicao(TipoInimigo.SLIME, LARGURA_TELA - TAMANHO_BLOCO*2, ALTURA_TELA - TAMANHO_BLOCO*2, Direction.UP),
+            new Aparicao(TipoInimigo.FLYME, 50, 50, Direction.RIGHT),
+            new Aparicao(TipoInimigo.FLYME, LARGURA_TELA - TAMANHO_BLOCO*2, 50, Direction.LEFT),
+            new Aparicao(TipoInimigo.PRATO, 75, 200, Direction.UP),
+            new Aparicao(TipoInimigo.ARMANDIBULA, 150, ALTURA_TELA/2 - TAMANHO_BLOCO),
+            new Aparicao(TipoInimigo.ARMANDIBULA, LARGURA_TELA - TAMANHO_BLOCO*4, ALTURA_TELA/2 - TAMANHO_BLOCO),
+            new Aparicao(TipoInimigo.QUEIJO_BOXER, 350, 450, Direction.UP, TAMANHO_BLOCO*5),
+            new Aparicao(TipoInimigo.QUEIJO_BOXER, LARGURA_TELA/2 + TAMANHO_BLOCO*2, 200, Direction.DOWN, TAMANHO_BLOCO*5),
+            new Aparicao(TipoInimigo.MORCERANGO, 150, ALTURA_TELA - TAMANHO_BLOCO*5, Direction.RIGHT),
+            new Aparicao(TipoInimigo.MORCERANGO, LARGURA_TELA - TAMANHO_BLOCO*4, ALTURA_TELA - TAMANHO_BLOCO*5, Direction.LEFT),
+            new Aparicao(TipoInimigo.MORCERANGO, 300, 300, Direction.RIGHT),
+            new Aparicao(TipoInimigo.MORCERANGO, LARGURA_TELA - TAMANHO_BLOCO*7, 300, Direction.LEFT),
+            new Aparicao(TipoInimigo.ALGODOG_DOCE, 250, 350, Direction.LEFT, TAMANHO_BLOCO*5),
+            new Aparicao(TipoInimigo.ALGODOG_DOCE, LARGURA_TELA - TAMANHO_BLOCO, 300, Direction.LEFT, TAMANHO_BLOCO*5),
+            new Aparicao(TipoInimigo.CHOCOCHATO, LARGURA_TELA/2 - TAMANHO_BLOCO, 150),
+            new Aparicao(TipoInimigo.CHOCOCHATO, LARGURA_TELA/2, 150),
+            new Aparicao(TipoInimigo.CHOCOCHATO, LARGURA_TELA/2 - TAMANHO_BLOCO, 350),
+            new Aparicao(TipoInimigo.CHOCOCHATO, LARGURA_TELA/2, 350),
+            new Aparicao(TipoInimigo.CHOCOCHATO, LARGURA_TELA/2 - TAMANHO_BLOCO, 500),
+            new Aparicao(TipoInimigo.CHOCOCHATO, LARGURA_TELA/2, 500),
+            new Aparicao(TipoInimigo.CHOCOCHATO, 50, 150),
+            new Aparicao(TipoInimigo.CHOCOCHATO, 100, 150),
+            new Aparicao(TipoInimigo.CHOCOCHATO, LARGURA_TELA - TAMANHO_BLOCO*2, 150),
+            new Aparicao(TipoInimigo.CHOCOCHATO, LARGURA_TELA - TAMANHO_BLOCO*3, 150),
+            new Aparicao(TipoInimigo.MALANDRANHA, 250, 450),
+            new Aparicao(TipoInimigo.MALANDRANHA, LARGURA_TELA - TAMANHO_BLOCO*6, 450),
+            new Aparicao(TipoInimigo.SLIME_BOT, LARGURA_TELA - (TAMANHO_BLOCO*5)/2, 200, Direction.UP, TAMANHO_BLOCO*3),
+            new Aparicao(TipoInimigo.GIGA_BOT, LARGURA_TELA/2 - TAMANHO_BLOCO, 50, Direction.DOWN, ALTURA_TELA - TAMANHO_BLOCO*4)
+        },
+        // Mundo 5, dungeon 24
+        {
+            new Aparicao(TipoInimigo.ALHO, LARGURA_TELA/2 - TAMANHO_BLOCO/2, ALTURA_TELA/2 - TAMANHO_BLOCO/2, Direction.UP, 3),
+            new Aparicao(TipoInimigo.GIGA_BOT, 50, 100, Direction.RIGHT, LARGURA_TELA - TAMANHO_BLOCO*4),
+            new Aparicao(TipoInimigo.GIGA_BOT, LARGURA_TELA - TAMANHO_BLOCO*3, ALTURA_TELA - TAMANHO_BLOCO*4, Direction.LEFT, LARGURA_TELA - TAMANHO_BLOCO*4)
+        }
+    };
+
     /**
      * Construtor da tela de jogo
      * 
@@ -71,23 +454,18 @@ public class TelaJogo extends TelaBase {
         readSaveData();
         this.dungeonManager = new DungeonManager();
 
-        switch(save){
-            case 2: musica.playSong("assets/ruins.wav", true); break;
-            case 3: musica.playSong("assets/AnInvitation.wav", true); break;
-            case 4: musica.playSong("assets/majesty.wav", true); break;
-            case 5: musica.playSong("assets/BackgroundSound2_ADB.wav", true); break;
-            default: musica.playSong("assets/BackgroundSound_ADB.wav", true); break;
-        }
+        musica.playSong(musicaDoMundo(save), true);
         
         setLayout(null);
 
         pauseButton();
         add(pauseButton);
-        start();
+        carregarEIniciar();
     }
 
     /**
-     * Lê o arquivo de save para determinar qual mundo deve ser carregado
+     * Lê o arquivo de save para determinar qual mundo deve ser carregado. Na primeira leitura da execução, também inicia
+     * a sessão do {@link GameRandom}, com uma semente nova. Ela só é gravada no save quando o jogo for salvo
      * 
      * @throws IOException Se ocorrer um erro de I/O durante a leitura do arquivo de save
      */
@@ -124,6 +502,16 @@ public class TelaJogo extends TelaBase {
             } else {
                 this.save = 1;
             }
+
+            // A segunda linha guarda a semente da última sessão (saves antigos não têm essa linha). Uma sessão nova
+            // usa uma semente nova, e a semente gravada só é repetida quando isso é pedido
+            if (!GameRandom.isIniciado()) {
+                if (GameRandom.isRepetirSemente() && s.hasNextLong()) {
+                    GameRandom.iniciar(s.nextLong());
+                } else {
+                    GameRandom.iniciar(GameRandom.novaSemente());
+                }
+            }
             
         } catch (FileNotFoundException e) {
             // Arquivo não encontrado - tentar criar um
@@ -145,7 +533,7 @@ public class TelaJogo extends TelaBase {
     }
 
     /** 
-     * Cria um novo arquivo de save com o valor padrão (1).
+     * Cria um novo arquivo de save com o valor padrão (1) e a semente da sessão.
      * 
      * @param saveFile Arquivo a ser criado
      * @throws IOException Se ocorrer um erro de I/O durante a criação do arquivo
@@ -153,6 +541,7 @@ public class TelaJogo extends TelaBase {
     private void newSave(File saveFile) throws IOException {
         try (PrintWriter writer = new PrintWriter(new FileWriter(saveFile))) {
             writer.println("1");
+            writer.println(GameRandom.getSemente());
             System.out.println("Arquivo de save criado com sucesso!");
         }
     }
@@ -160,19 +549,19 @@ public class TelaJogo extends TelaBase {
     /**
      * Inicia o jogo
      * <p>
-     * Inicia o timer e muda o estado do jogo para RODANDO, carrega o layout inicial do mundo atual, o jogador e a porta.
+     * Inicia o loop do jogo e muda o estado do jogo para RODANDO, carrega o layout inicial do mundo atual, o jogador e a porta.
      * </p>
      */
     @Override
     public void start(){
         cleanKeyListeners();
         resetKeyState();
-        objetosColidiveis.clear();
+        entidades.limpar();
         layout = dungeonManager.getCurrentDungeon();
 
-        batata = new Player(0, ALTURA_TELA/2);
+        batata = new Player(0, ALTURA_TELA/2, relogio);
         batata.setImage(batataImgs[0]);
-        objetosColidiveis.add(batata);
+        entidades.adicionar(batata);
 
         gameKeyAdapter = new GameKeyAdapter();
         addKeyListener(gameKeyAdapter);
@@ -182,11 +571,10 @@ public class TelaJogo extends TelaBase {
 
         porta = new Porta(LARGURA_TELA - 20, ALTURA_TELA/2 - 50, 20, 100);
         porta.setImage(portaImgs[0]);
-        objetosColidiveis.add(porta);
+        entidades.adicionar(porta);
 
         estado = EstadoJogo.RODANDO;
-        timer = new Timer(INTERVALO, this);
-        timer.start();
+        iniciarLoop();
     }
 
     /**
@@ -195,7 +583,7 @@ public class TelaJogo extends TelaBase {
     public void pauseButton(){
         try {
             // Carregar imagem do ícone de pausa
-            Image imgPause = ImageIO.read(new File("assets/pause.png"));
+            Image imgPause = adquirir("assets/pause.png");
             imgPause = imgPause.getScaledInstance(30, 30, Image.SCALE_SMOOTH);
             iconPause = new ImageIcon(imgPause);
             
@@ -217,9 +605,10 @@ public class TelaJogo extends TelaBase {
      * Mostra o menu de pausa. A partir dele, o jogador pode continuar o jogo ou voltar para a tela inicial
      */
     private void mostrarPausa(){
+        if(estado == EstadoJogo.CARREGANDO) return;
         if(estado == EstadoJogo.RODANDO) {
             estado = EstadoJogo.PAUSADO;
-            timer.stop();
+            gameLoop.stop();
             Object[] options = {"Continuar", "Menu Principal"};
             int opcao = JOptionPane.showOptionDialog(
                 this,
@@ -236,12 +625,12 @@ public class TelaJogo extends TelaBase {
                 voltarParaMenu();
             } else if(estado == EstadoJogo.PAUSADO) {
                 estado = EstadoJogo.RODANDO;
-                timer.start();
+                iniciarLoop();
                 requestFocusInWindow();
             }
 
         } else {
-            timer.start();
+            iniciarLoop();
             requestFocusInWindow();
         }
     }
@@ -265,126 +654,90 @@ public class TelaJogo extends TelaBase {
     }
 
     /**
-     * Carrega as imagens necessárias para a tela de jogo.
+     * Declara as imagens da tela de jogo: as comuns a todos os mundos (com o fundo do mundo atual) e as dos inimigos
+     * do mundo atual.
+     *
+     * @return O conjunto de imagens da tela
      */
-    public void carregarImagens(){
-        backgroundImgs = new Image[5];
-        batataImgs = new Image[8]; cenouraImgs = new Image[4]; slimeImgs = new Image[2]; flymeImgs = new Image[6];
-        pratoImgs = new Image[2]; facaImgs = new Image[4]; armandibulaImgs = new Image[2]; morcerangoImgs = new Image[5];
-        queijoBoxerImgs = new Image[4]; bracoImgs = new Image[2]; luvaImgs = new Image[4]; chocochatoImgs = new Image[2];
-        algodogDoceImgs = new Image[6]; slimeBotImgs = new Image[4]; laserImgs = new Image[2]; gigaBotImgs = new Image[4];
-        gLaserImgs = new Image[2]; malandranhaImgs = new Image[2]; alhoImgs = new Image[5]; portaImgs = new Image[2];
+    @Override
+    protected AssetBundle recursos(){
+        return recursosDoMundo(save);
+    }
 
-        try {
-            paredeImg = ImageIO.read(new File("assets/parede.png"));
-            alertImage = ImageIO.read(new File("assets/Warning.png"));
-            pofImage = ImageIO.read(new File("assets/POF.png"));
-
-            backgroundImgs[0] = ImageIO.read(new File("assets/BackgroundW1.png"));
-            backgroundImgs[1] = ImageIO.read(new File("assets/background.png"));
-            backgroundImgs[2] = ImageIO.read(new File("assets/BackgroundW3.png"));
-            backgroundImgs[3] = ImageIO.read(new File("assets/BackgroundW4.png"));
-            backgroundImgs[4] = ImageIO.read(new File("assets/BackgroundW5.png"));
-
-            batataImgs[0] = ImageIO.read(new File("assets/DuqueBatataD.png"));
-            batataImgs[1] = ImageIO.read(new File("assets/DuqueBatataE.png"));
-            batataImgs[2] = ImageIO.read(new File("assets/DuqueBatataC.png"));
-            batataImgs[3] = ImageIO.read(new File("assets/DuqueBatataAD.png"));
-            batataImgs[4] = ImageIO.read(new File("assets/DuqueBatataAE.png"));
-            batataImgs[5] = ImageIO.read(new File("assets/DuqueBatataAC.png"));
-            batataImgs[6] = ImageIO.read(new File("assets/DuqueBatataAB.png"));
-            batataImgs[7] = ImageIO.read(new File("assets/DuqueBatataX.png"));
-
-            cenouraImgs[0] = ImageIO.read(new File("assets/CenouraD.png"));
-            cenouraImgs[1] = ImageIO.read(new File("assets/CenouraE.png"));
-            cenouraImgs[2] = ImageIO.read(new File("assets/CenouraC.png"));
-            cenouraImgs[3] = ImageIO.read(new File("assets/CenouraB.png"));
-
-            slimeImgs[0] = ImageIO.read(new File("assets/SlimeD.png"));
-            slimeImgs[1] = ImageIO.read(new File("assets/SlimeE.png"));
-
-            flymeImgs[0] = ImageIO.read(new File("assets/FlymeD1.png"));
-            flymeImgs[1] = ImageIO.read(new File("assets/FlymeD2.png"));
-            flymeImgs[2] = ImageIO.read(new File("assets/FlymeD3.png"));
-            flymeImgs[3] = ImageIO.read(new File("assets/FlymeE1.png"));
-            flymeImgs[4] = ImageIO.read(new File("assets/FlymeE2.png"));
-            flymeImgs[5] = ImageIO.read(new File("assets/FlymeE3.png"));
-
-            pratoImgs[0] = ImageIO.read(new File("assets/PratoD.png"));
-            pratoImgs[1] = ImageIO.read(new File("assets/PratoE.png"));
-
-            facaImgs[0] = ImageIO.read(new File("assets/FacaD.png"));
-            facaImgs[1] = ImageIO.read(new File("assets/FacaE.png"));
-            facaImgs[2] = ImageIO.read(new File("assets/FacaC.png"));
-            facaImgs[3] = ImageIO.read(new File("assets/FacaB.png"));
-            
-            armandibulaImgs[0] = ImageIO.read(new File("assets/ArmandibulaD.png"));
-            armandibulaImgs[1] = ImageIO.read(new File("assets/ArmandibulaA.png"));
-
-            morcerangoImgs[0] = ImageIO.read(new File("assets/MorcerangoD.png"));
-            morcerangoImgs[1] = ImageIO.read(new File("assets/MorcerangoAD1.png"));
-            morcerangoImgs[2] = ImageIO.read(new File("assets/MorcerangoAD2.png"));
-            morcerangoImgs[3] = ImageIO.read(new File("assets/MorcerangoAE1.png"));
-            morcerangoImgs[4] = ImageIO.read(new File("assets/MorcerangoAE2.png"));
-
-            queijoBoxerImgs[0] = ImageIO.read(new File("assets/QueijoBoxerD.png"));
-            queijoBoxerImgs[1] = ImageIO.read(new File("assets/QueijoBoxerE.png"));
-            queijoBoxerImgs[2] = ImageIO.read(new File("assets/QueijoBoxerC.png"));
-            queijoBoxerImgs[3] = ImageIO.read(new File("assets/QueijoBoxerB.png"));
-
-            bracoImgs[0] = ImageIO.read(new File("assets/BracoH.png"));
-            bracoImgs[1] = ImageIO.read(new File("assets/BracoV.png"));
-
-            luvaImgs[0] = ImageIO.read(new File("assets/LuvaD.png"));
-            luvaImgs[1] = ImageIO.read(new File("assets/LuvaE.png"));
-            luvaImgs[2] = ImageIO.read(new File("assets/LuvaC.png"));
-            luvaImgs[3] = ImageIO.read(new File("assets/LuvaB.png"));
-
-            chocochatoImgs[0] = ImageIO.read(new File("assets/Chocochato.png"));
-            chocochatoImgs[1] = ImageIO.read(new File("assets/ChocochatoD.png"));
-
-            algodogDoceImgs[0] = ImageIO.read(new File("assets/AlgodogDoceD.png"));
-            algodogDoceImgs[1] = ImageIO.read(new File("assets/AlgodogDoceE.png"));
-            algodogDoceImgs[2] = ImageIO.read(new File("assets/AlgodogDoceC.png"));
-            algodogDoceImgs[3] = ImageIO.read(new File("assets/AlgodogDoceB.png"));
-            algodogDoceImgs[4] = ImageIO.read(new File("assets/AlgodogDoceRD.png"));
-            algodogDoceImgs[5] = ImageIO.read(new File("assets/AlgodogDoceRE.png"));
-
-            algodaoImg = ImageIO.read(new File("assets/Algodao.png"));
-
-            slimeBotImgs[0] = ImageIO.read(new File("assets/SlimeBotD.png"));
-            slimeBotImgs[1] = ImageIO.read(new File("assets/SlimeBotE.png"));
-            slimeBotImgs[2] = ImageIO.read(new File("assets/SlimeBotC.png"));
-            slimeBotImgs[3] = ImageIO.read(new File("assets/SlimeBotB.png"));
-
-            laserImgs[0] = ImageIO.read(new File("assets/laserH.png"));
-            laserImgs[1] = ImageIO.read(new File("assets/laserV.png"));
-
-            gigaBotImgs[0] = ImageIO.read(new File("assets/GigaBotD.png"));
-            gigaBotImgs[1] = ImageIO.read(new File("assets/GigaBotE.png"));
-            gigaBotImgs[2] = ImageIO.read(new File("assets/GigaBotC.png"));
-            gigaBotImgs[3] = ImageIO.read(new File("assets/GigaBotB.png"));
-
-            gLaserImgs[0] = ImageIO.read(new File("assets/laserGH.png"));
-            gLaserImgs[1] = ImageIO.read(new File("assets/laserGV.png"));
-
-            malandranhaImgs[0] = ImageIO.read(new File("assets/MalandranhaD.png"));
-            malandranhaImgs[1] = ImageIO.read(new File("assets/MalandranhaE.png"));
-
-            alhoImgs[0] = ImageIO.read(new File("assets/Alho.png"));
-            alhoImgs[1] = ImageIO.read(new File("assets/DentalhoD.png"));
-            alhoImgs[2] = ImageIO.read(new File("assets/DentalhoE.png"));
-            alhoImgs[3] = ImageIO.read(new File("assets/DescascalhoD.png"));
-            alhoImgs[4] = ImageIO.read(new File("assets/DescascalhoE.png"));
-
-            portaImgs[0] = ImageIO.read(new File("assets/PortaFV.png"));
-            portaImgs[1] = ImageIO.read(new File("assets/PortaAV.png"));
-        } catch (IOException e) {
-            System.out.println("Erro ao carregar imagens");
-            e.printStackTrace();
+    /**
+     * Monta o conjunto de imagens da tela de jogo em um mundo (também usado para adiantar o carregamento do próximo
+     * mundo durante a luta contra o boss)
+     *
+     * @param mundo O mundo (de 1 a 5)
+     * @return O conjunto de imagens da tela no mundo
+     */
+    static AssetBundle recursosDoMundo(int mundo){
+        return new AssetBundle()
+            .opacas(IMG_PAREDE, IMGS_FUNDO[mundo - 1])
+            .imagens(IMG_ALERTA, IMG_POF)
+            .imagens(IMGS_BATATA).imagens(IMGS_CENOURA).imagens(IMGS_PORTA)
+            .juntar(imagensDoMundo(mundo));
+    }
+
+    /**
+     * @param mundo O mundo (de 1 a 5)
+     * @return Caminho da música do mundo
+     */
+    static String musicaDoMundo(int mundo){
+        switch(mundo){
+            case 2: return "assets/ruins.wav";
+            case 3: return "assets/AnInvitation.wav";
+            case 4: return "assets/majesty.wav";
+            case 5: return "assets/BackgroundSound2_ADB.wav";
+            default: return "assets/BackgroundSound_ADB.wav";
         }
     }
 
+    /**
+     * Monta o conjunto de imagens dos inimigos de um mundo, a partir dos inimigos que as dungeons dele criam
+     *
+     * @param mundo O mundo (de 1 a 5)
+     * @return As imagens dos inimigos do mundo
+     */
+    static AssetBundle imagensDoMundo(int mundo){
+        AssetBundle conjunto = new AssetBundle();
+        for(int d = (mundo - 1)*5; d < mundo*5; d++){
+            for(Aparicao aparicao : APARICOES_POR_DUNGEON[d]) conjunto.juntar(aparicao.tipo.imagens);
+        }
+        return conjunto;
+    }
+
+    /**
+     * Guarda nos campos as imagens carregadas para a tela de jogo.
+     */
+    public void carregarImagens(){
+        paredeImg = imagem(IMG_PAREDE);
+        alertImage = imagem(IMG_ALERTA);
+        pofImage = imagem(IMG_POF);
+        backgroundImgs = imagens(IMGS_FUNDO);
+        batataImgs = imagens(IMGS_BATATA);
+        cenouraImgs = imagens(IMGS_CENOURA);
+        slimeImgs = imagens(IMGS_SLIME);
+        flymeImgs = imagens(IMGS_FLYME);
+        pratoImgs = imagens(IMGS_PRATO);
+        facaImgs = imagens(IMGS_FACA);
+        armandibulaImgs = imagens(IMGS_ARMANDIBULA);
+        morcerangoImgs = imagens(IMGS_MORCERANGO);
+        queijoBoxerImgs = imagens(IMGS_QUEIJO_BOXER);
+        bracoImgs = imagens(IMGS_BRACO);
+        luvaImgs = imagens(IMGS_LUVA);
+        chocochatoImgs = imagens(IMGS_CHOCOCHATO);
+        algodogDoceImgs = imagens(IMGS_ALGODOG_DOCE);
+        algodaoImg = imagem(IMG_ALGODAO);
+        slimeBotImgs = imagens(IMGS_SLIME_BOT);
+        laserImgs = imagens(IMGS_LASER);
+        gigaBotImgs = imagens(IMGS_GIGA_BOT);
+        gLaserImgs = imagens(IMGS_G_LASER);
+        malandranhaImgs = imagens(IMGS_MALANDRANHA);
+        alhoImgs = imagens(IMGS_ALHO);
+        portaImgs = imagens(IMGS_PORTA);
+    }
+
     /**
      * Renderiza os elementos visuais da tela de jogo, incluindo todos os objetos colidíveis e partículas.
      * 
@@ -396,192 +749,34 @@ public class TelaJogo extends TelaBase {
         if(estado != EstadoJogo.PARADO){
             // Desenhar fundo (se a imagem existir)
             if(backgroundImgs != null) {
-                g.drawImage(backgroundImgs[save - 1], 0, 0, LARGURA_TELA, ALTURA_TELA, this);
+                fila.sprite(RenderQueue.FUNDO, backgroundImgs[save - 1], 0, 0, LARGURA_TELA, ALTURA_TELA);
             } else {
-                g.setColor(Color.DARK_GRAY);
-                g.fillRect(0, 0, LARGURA_TELA, ALTURA_TELA);
+                fila.retangulo(RenderQueue.FUNDO, Color.DARK_GRAY, 0, 0, LARGURA_TELA, ALTURA_TELA);
             }
 
             //Desenhar paredes
-            for (Parede parede : paredes) {
-                if(paredeImg != null){
-                    g.drawImage(paredeImg, parede.getX(), parede.getY(), parede.getLargura(), parede.getAltura(), this);
-                } else {
-                    g.setColor(parede.getCor());
-                    g.fillRect(parede.getX(), parede.getY(), parede.getLargura(), parede.getAltura());
-                }
-            }
+            emitirParedes(paredes, paredeImg);
 
             //Desenhar porta
-            if(porta.getImage() != null){
-                g.drawImage(porta.getImage(), porta.getX(), porta.getY(), porta.getLargura(), porta.getAltura(), this);
-            } else {
-                g.setColor(porta.getCor());
-                g.fillRect(porta.getX(), porta.getY(), porta.getLargura(), porta.getAltura());
-            }
+            fila.objeto(RenderQueue.CENARIO, porta, alfa);
 
-            
             // Desenhar inimigos e seus projéteis
             for (Inimigo ini : inimigos) {
-                if(ini.isAlive){
-                    if(ini instanceof Prato){
-                        for (Projetil p : ((Prato) ini).facas) {
-                            if (p.isAtivo()) {
-                                if(p.getImage() != null) {
-                                    g.drawImage(p.getImage(), p.getX(), p.getY(), p.getLargura(), p.getAltura(), this);
-                                } else {
-                                    g.setColor(p.getCor());
-                                    g.fillOval(p.getX(), p.getY(), p.getLargura(), p.getAltura());
-                                }
-                            }
-                        }
-                    } else if(ini instanceof QueijoBoxer){
-                        // Inimigo.CampoDeVisao c = ((QueijoBoxer) ini).campoDeVisao;
-                        // g.setColor(c.cor);
-                        // g.fillRect(c.getX(), c.getY(), c.getLargura(), c.getAltura());
-
-                        if(((QueijoBoxer) ini).braco != null){
-                            Projetil b = ((QueijoBoxer) ini).braco;
-                            if(b.isAtivo()){
-                                if(b.getImage() != null && luvaImgs != null){
-                                    g.drawImage(b.getImage(), b.getX(), b.getY(), b.getLargura(), b.getAltura(), this);
-                                    // Luva é desenhada separadamente
-                                    switch(((QueijoBoxer) ini).ultimaDirecao){
-                                        case LEFT: g.drawImage(luvaImgs[1], b.getX() - 5, b.getY(),
-                                            TAMANHO_BLOCO/2, TAMANHO_BLOCO/2, this);
-                                        break;
-                                        case RIGHT:
-                                            g.drawImage(luvaImgs[0], b.getX() + b.getLargura() - TAMANHO_BLOCO/2 + 5, b.getY(),
-                                                TAMANHO_BLOCO/2, TAMANHO_BLOCO/2, this);
-                                        break;
-                                        case UP: g.drawImage(luvaImgs[2], b.getX(), b.getY() - 5,
-                                            TAMANHO_BLOCO/2, TAMANHO_BLOCO/2, this);
-                                        break;
-                                        case DOWN:
-                                            g.drawImage(luvaImgs[3], b.getX(), b.getY() + b.getAltura() - TAMANHO_BLOCO/2 + 5,
-                                                TAMANHO_BLOCO/2, TAMANHO_BLOCO/2, this);
-                                        break;                                    
-                                    }
-                                } else {
-                                    g.setColor(b.cor);
-                                    g.fillRect(b.getX(), b.getY(), b.getLargura(), b.getAltura());
-                                    g.setColor(Color.RED);
-                                    // Luva é desenhada separadamente
-                                    switch(((QueijoBoxer) ini).ultimaDirecao){
-                                        case LEFT: g.fillRect(b.getX(), b.getY(), TAMANHO_BLOCO/2, TAMANHO_BLOCO/2); break;
-                                        case RIGHT:
-                                            g.fillRect(b.getX() + b.getLargura() - TAMANHO_BLOCO/2, b.getY(), TAMANHO_BLOCO/2, TAMANHO_BLOCO/2);
-                                        break;
-                                        case UP: g.fillRect(b.getX(), b.getY(), TAMANHO_BLOCO/2, TAMANHO_BLOCO/2); break;
-                                        case DOWN:
-                                            g.fillRect(b.getX(), b.getY() + b.getAltura() - TAMANHO_BLOCO/2, TAMANHO_BLOCO/2, TAMANHO_BLOCO/2);
-                                        break;                                    
-                                    }
-                                }
-                            }
-                        }
-                    } else if(ini instanceof AlgodogDoce){
-                        // Inimigo.CampoDeVisao c = ((AlgodogDoce) ini).campoDeVisao;
-                        // g.setColor(c.cor);
-                        // g.fillRect(c.getX(), c.getY(), c.getLargura(), c.getAltura());
-
-                        for (Projetil p : ((AlgodogDoce) ini).algodoes) {
-                            if (p.isAtivo()) {
-                                if(p.getImage() != null) {
-                                    g.drawImage(p.getImage(), p.getX(), p.getY(), p.getLargura(), p.getAltura(), this);
-                                } else {
-                                    g.setColor(p.getCor());
-                                    g.fillOval(p.getX(), p.getY(), p.getLargura(), p.getAltura());
-                                }
-                            }
-                        }
-                    } else if(ini instanceof SlimeBot){
-                        if(((SlimeBot) ini).laser != null){
-                            Projetil l = ((SlimeBot) ini).laser;
-                            if(l.isAtivo()){
-                                if(l.getImage() != null){
-                                    g.drawImage(l.getImage(), l.getX(), l.getY(), l.getLargura(), l.getAltura(), this);
-                                } else {
-                                    g.setColor(l.cor);
-                                    g.fillRect(l.getX(), l.getY(), l.getLargura(), l.getAltura());
-                                }
-                            }
-                        }
-                    } else if(ini instanceof GigaBot){
-                        if(((GigaBot) ini).laser != null){
-                            Projetil l = ((GigaBot) ini).laser;
-                            if(l.isAtivo()){
-                                if(l.getImage() != null){
-                                    g.drawImage(l.getImage(), l.getX(), l.getY(), l.getLargura(), l.getAltura(), this);
-                                } else {
-                                    g.setColor(l.cor);
-                                    g.fillRect(l.getX(), l.getY(), l.getLargura(), l.getAltura());
-                                }
-                            }
-                        }
-                    }
-
-                    if(ini.getImage() != null) {
-                        g.drawImage(ini.getImage(), ini.getX(), ini.getY(), ini.getLargura(), ini.getAltura(), this);
-                    } else {
-                        g.setColor(ini.cor);
-                        g.fillRect(ini.getX(), ini.getY(), ini.getLargura(), ini.getAltura());
-                    }
-                }
+                if(ini.isAlive()) ini.emitirComandos(fila, alfa);
             }
 
             // Desenhar personagem
-            if(batata.isInvulnerable()){
-                if(batataImgs[7] != null){
-                    if ((System.currentTimeMillis() / 100) % 2 == 0) {
-                        g.drawImage(batataImgs[7], batata.getX(), batata.getY(), batata.getLargura(), batata.getAltura(), this);
-                    }
-                } else {
-                    g.setColor(batata.getCor());
-                    g.fillOval(batata.getX(), batata.getY(), TAMANHO_BLOCO, TAMANHO_BLOCO);
-                }
-            } else {
-                if(batata.getImage() != null) {
-                    g.drawImage(batata.getImage(), batata.getX(), batata.getY(), batata.getLargura(), batata.getAltura(), this);
-                } else {
-                    g.setColor(batata.getCor());
-                    g.fillOval(batata.getX(), batata.getY(), TAMANHO_BLOCO, TAMANHO_BLOCO);
-                }
-            }
+            emitirPersonagem(batata, batataImgs[7], batata.getImage());
 
             // Desenhar cenouras
             for (Projetil p : cenouras) {
-                if (p.isAtivo()) {
-                    if(p.getImage() != null) {
-                        g.drawImage(p.getImage(), p.getX(), p.getY(), p.getLargura(), p.getAltura(), this);
-                    } else {
-                        g.setColor(p.getCor());
-                        g.fillOval(p.getX(), p.getY(), p.getLargura(), p.getAltura());
-                    }
-                }
+                if (p.isAtivo()) fila.objeto(RenderQueue.CENOURA, p, alfa, true);
             }
 
             // Particulas
-            for (Pof p : pofs) {
-                if(p.isAtivo()){
-                    if(pofImage != null) {
-                        g.drawImage(pofImage, p.getX(), p.getY(), p.getTamanho(), p.getTamanho(), this);
-                    } else {
-                        g.setColor(new Color(232, 67, 147));
-                        g.fillRect(p.getX(), p.getY(), p.getTamanho(), p.getTamanho());
-                    }
-                }
-            }
-            for (Alert a : alertas) {
-                if(a.isAtivo() && (System.currentTimeMillis() / 100) % 2 == 0){
-                    if(alertImage != null) {
-                        g.drawImage(alertImage, a.getX(), a.getY(), a.getLargura(), a.getAltura(), this);
-                    } else {
-                        g.setColor(Color.RED);
-                        g.fillRect(a.getX(), a.getY(), a.getLargura(), a.getAltura());
-                    }
-                }
-            }
+            emitirParticulas(particulas, pofImage, alertImage);
+
+            fila.executar(g, this);
 
             // Barra de HP do Duque e Contador de mortes
             g.setColor(Color.BLACK);
@@ -604,33 +799,39 @@ public class TelaJogo extends TelaBase {
     }
 
     /**
-     * Manipula eventos de ação.
+     * Avança a simulação em um passo.
      * 
      * <p>
      * Atualiza o estado de todos os objetos colidíveis e as interações entre eles, além das partículas de pof!.
-     * Solicita a repintura do componente a cada intervalo definido no timer.
      * </p>
-     * 
-     * @param e Evento de ação disparado
      */
-    public void actionPerformed(ActionEvent e) {
+    @Override
+    public void atualizar() {
         if(estado == EstadoJogo.RODANDO) {
+            relogio.avancar();
+            for (ObjetoColidivel obj : entidades) obj.salvarPosicaoAnterior();
+
+            // Entrada do jogador (pode trocar de dungeon ou de tela)
+            gameKeyAdapter.processarEntrada();
+            if(estado != EstadoJogo.RODANDO) return;
             enemyCount = inimigos.size();
             
+            // Move todos os projéteis
+            projeteis.atualizar();
+
+            // Atualiza a grade com as posições após a entrada do jogador e o movimento dos projéteis
+            for (ObjetoColidivel obj : entidades) grade.atualizar(obj);
+
             // Atualiza as cenouras
             Iterator<Projetil> projIt = cenouras.iterator();
             while (projIt.hasNext()) {
                 Projetil p = projIt.next();
-                p.mover();
 
-                // Verifica colisão com todos os objetos
-                for (ObjetoColidivel obj : objetosColidiveis) {
+                // Verifica colisão com os objetos próximos que a cenoura pode atingir
+                grade.consultar(p, p.getCamadasAlvo(), candidatos);
+                for (ObjetoColidivel obj : candidatos) {
                     boolean collisionHappened = true;
-                    if (
-                        p.shouldCollideWith(obj) &&
-                        obj.getLayer() != ObjetoColidivel.CollisionLayer.PLAYER &&
-                        p.colideCom(obj)
-                    ){
+                    if (p.colideCom(obj)){
                         // Colisão com inimigo
                         if (obj.getLayer() == ObjetoColidivel.CollisionLayer.ENEMY) {
                             if (!((Inimigo) obj).takeDamage(1)) collisionHappened = false;
@@ -646,7 +847,7 @@ public class TelaJogo extends TelaBase {
                         // Remove o projétil em qualquer colisão ocorrida
                         if(collisionHappened){
                             p.desativar();
-                            objetosColidiveis.remove(p);
+                            entidades.remover(p);
                             projIt.remove();
                             break;
                         }
@@ -655,7 +856,7 @@ public class TelaJogo extends TelaBase {
                 
                 // Remove se saiu da tela
                 if (p.foraDaTela()) {
-                    objetosColidiveis.remove(p);
+                    entidades.remover(p);
                     projIt.remove();
                 }
             }
@@ -667,30 +868,47 @@ public class TelaJogo extends TelaBase {
                 porta.abrir();
             }
 
-            pofs.removeIf(Pof::timeOut);
+            particulas.atualizar();
 
             Iterator<Inimigo> iniIt = inimigos.iterator();
             while (iniIt.hasNext()) {
                 Inimigo ini = iniIt.next();
-                if(ini.isAlive){
+                if(ini.isAlive()){
                     ini.atacar();
-                    verificarColisaoParede(ini);
                 } else {
-                    objetosColidiveis.remove(ini);
+                    ini.removerProjeteis();
+                    entidades.remover(ini);
                     iniIt.remove();
                 }
             }
 
+            // Move os inimigos que estão patrulhando
+            criaturas.atualizar(mapaParedes);
+            for (Inimigo ini : inimigos) grade.atualizar(ini);
+
+            // Tira do registro os objetos removidos durante o passo
+            entidades.aplicarRemocoes();
+
             batata.updateInvulnerability();
             if(batata.getHp() <= 0){
                 estado = EstadoJogo.PARADO;
                 gameOver();
             }
-
-            repaint();
         }
     }
 
+    /**
+     * Descreve a dungeon atual, a quantidade de entidades e a vida do jogador
+     * 
+     * @return Descrição do estado da tela
+     */
+    @Override
+    public String descreverEstado() {
+        return super.descreverEstado() + " dungeon=" + dungeonManager.currentDungeon + " inimigos=" + inimigos.size() +
+            " objetos=" + entidades.tamanho() + " projeteis=" + projeteis.getTotal() + " cenouras=" + cenouras.size() + " pofs=" + particulas.getTotalPofs() +
+            " hp=" + batata.getHp();
+    }
+
     /**
      * Carrega a tela de Game Over
      */
@@ -713,25 +931,36 @@ public class TelaJogo extends TelaBase {
         }
     }
 
+    /**
+     * Desativa um projétil e o remove do registro
+     *
+     * @param p O projétil (pode ser {@code null})
+     */
+    private void descartarProjetil(Projetil p){
+        if(p == null) return;
+        p.desativar();
+        entidades.remover(p);
+    }
+
+    /**
+     * Desativa e remove do registro todos os projéteis de uma lista, e esvazia a lista
+     *
+     * @param lista Os projéteis
+     */
+    private void descartarProjeteis(ArrayList<Projetil> lista){
+        for (Projetil p : lista) descartarProjetil(p);
+        lista.clear();
+    }
+
     /** 
      * Classe para os inimigos do jogo
      * 
      * @author Arthur dos Santos Rezende
      * @version 1.0
      */
-    private abstract class Inimigo extends ObjetoColidivel {
+    private abstract class Inimigo extends Criatura {
         /** O tamanho do inimigo (o padrão é 50px) */
         protected int tamanho;
-        /** Os pontos de vida do inimigo (o padrão é 1) */
-        protected int hp;
-        /** A velocidade do inimigo (se ele é estacionário, o valor é 0) */
-        protected int velocidade;
-        /** A última direção do inimigo */
-        protected Direction ultimaDirecao;
-        /** Indica se o inimigo pode passar por cima de paredes */
-        protected boolean isFlying;
-        /** Indica se o inimigo está vivo */
-        protected boolean isAlive = true;
         
         /**
          * Construtor da classe Inimigo
@@ -746,13 +975,8 @@ public class TelaJogo extends TelaBase {
          * @param isFlying Voa/Escala sobre paredes?
          */
         public Inimigo(int x, int y, int tamanho, Color cor, int hp, int velocidade, Direction ultimaDirecao, boolean isFlying) {
-            super(x, y, tamanho, tamanho, cor, CollisionLayer.ENEMY); // Tamanho do inimigo
+            super(x, y, tamanho, tamanho, cor, TelaJogo.this.relogio, hp, velocidade, ultimaDirecao, isFlying); // Tamanho do inimigo
             this.tamanho = tamanho;
-            this.cor = cor;
-            this.hp = hp;  
-            this.velocidade = velocidade;
-            this.ultimaDirecao = ultimaDirecao;
-            this.isFlying = isFlying;
         }
 
         /**
@@ -762,11 +986,11 @@ public class TelaJogo extends TelaBase {
          * @return {@code true} (esse valor só poderá se tornar {@code false} para certos inimigos)
          */
         public boolean takeDamage(int damage){
-            this.hp -= damage;
-            if(hp <= 0){
+            reduzirHp(damage);
+            if(getHp() <= 0){
                 efeito.playSong("assets/tiro.wav", false);
-                pofs.add(new Pof(x, y, tamanho + tamanho / 2));
-                isAlive = false;
+                particulas.emitirPof(getX(), getY(), tamanho + tamanho / 2);
+                morrer();
             }
             return true;
         }
@@ -777,6 +1001,12 @@ public class TelaJogo extends TelaBase {
          */
         public abstract void atacar();
 
+        /**
+         * Remove do registro os projéteis do inimigo. Chamado quando o inimigo morto sai da lista de inimigos, já que
+         * os projéteis registrados continuam sendo movidos pelo {@link ProjectileSystem} mesmo sem o inimigo
+         */
+        protected void removerProjeteis(){}
+
         /**
          * Campo de visão usado por certos inimigos em seus ataques
          * @author Arthur dos Santos Rezende
@@ -813,54 +1043,20 @@ public class TelaJogo extends TelaBase {
          */     
         public Slime(int x, int y, Direction dirInicial){
             super(x, y, TAMANHO_BLOCO, Color.GREEN, 1, 2, dirInicial, false);
+            setPatrulhando(true);
         }
 
         /**
-         * Faz com que o slime se mova de um lado para o outro
+         * Faz com que o slime se mova de um lado para o outro (o movimento em si é feito pelo sistema de criaturas)
          */
         public void atacar(){
             if(colideCom(batata) && !batata.isInvulnerable()){
                 efeito.playSong("assets/Ouch.wav", false);
                 batata.takeDamage(1);
             }
-            switch(this.ultimaDirecao){
-                case LEFT:
-                    this.x -= velocidade;
-                    this.curImage = slimeImgs[1];
-                break;
-                case RIGHT:
-                    this.x += velocidade;
-                    this.curImage = slimeImgs[0];
-                break;
-                case UP:
-                    this.y -= velocidade;
-                    this.curImage = slimeImgs[1];
-                break;
-                case DOWN:
-                    this.y += velocidade;
-                    this.curImage = slimeImgs[0];
-                break;
-            }
-
-            if(foraDaTela()){
-                switch(this.ultimaDirecao){
-                    case LEFT:
-                        this.x += velocidade;
-                        this.ultimaDirecao = Direction.RIGHT;
-                    break;
-                    case RIGHT:
-                        this.x -= velocidade;
-                        this.ultimaDirecao = Direction.LEFT;
-                    break;
-                    case UP:
-                        this.y += velocidade;
-                        this.ultimaDirecao = Direction.DOWN;
-                    break;
-                    case DOWN:
-                        this.y -= velocidade;
-                        this.ultimaDirecao = Direction.UP;
-                    break;
-                }
+            switch(getDirecao()){
+                case LEFT: case UP: this.curImage = slimeImgs[1]; break;
+                case RIGHT: case DOWN: this.curImage = slimeImgs[0]; break;
             }
         }
     }
@@ -881,75 +1077,20 @@ public class TelaJogo extends TelaBase {
          */  
         public Flyme(int x, int y, Direction dirInicial){
             super(x, y, TAMANHO_BLOCO, Color.CYAN, 1, 2, dirInicial, true);
+            setPatrulhando(true);
         }
 
         /**
-         * Faz com que o flyme se mova de um lado para o outro
+         * Faz com que o flyme se mova de um lado para o outro (o movimento em si é feito pelo sistema de criaturas)
          */
         public void atacar(){
             if(colideCom(batata) && !batata.isInvulnerable()){
                 efeito.playSong("assets/Ouch.wav", false);
                 batata.takeDamage(1);
             }
-            switch(this.ultimaDirecao){
-                case LEFT:
-                    this.x -= velocidade;
-                    if ((System.currentTimeMillis() / 100) % 4 == 0) this.curImage = flymeImgs[3];
-                    else if (
-                        (System.currentTimeMillis() / 100) % 4 == 1 ||
-                        (System.currentTimeMillis() / 100) % 4 == 3
-                    ) this.curImage = flymeImgs[4];
-                    else this.curImage = flymeImgs[5];
-                break;
-                case RIGHT:
-                    this.x += velocidade;
-                    if ((System.currentTimeMillis() / 100) % 4 == 0) this.curImage = flymeImgs[0];
-                    else if (
-                        (System.currentTimeMillis() / 100) % 4 == 1 ||
-                        (System.currentTimeMillis() / 100) % 4 == 3
-                    ) this.curImage = flymeImgs[1];
-                    else this.curImage = flymeImgs[2];
-                break;
-                case UP:
-                    this.y -= velocidade;
-                    if ((System.currentTimeMillis() / 100) % 4 == 0) this.curImage = flymeImgs[3];
-                    else if (
-                        (System.currentTimeMillis() / 100) % 4 == 1 ||
-                        (System.currentTimeMillis() / 100) % 4 == 3
-                    ) this.curImage = flymeImgs[4];
-                    else this.curImage = flymeImgs[5];
-                break;
-                case DOWN:
-                    this.y += velocidade;
-                    if ((System.currentTimeMillis() / 100) % 4 == 0) this.curImage = flymeImgs[0];
-                    else if (
-                        (System.currentTimeMillis() / 100) % 4 == 1 ||
-                        (System.currentTimeMillis() / 100) % 4 == 3
-                    ) this.curImage = flymeImgs[1];
-                    else this.curImage = flymeImgs[2];
-                break;
-            }
-
-            if(foraDaTela()){
-                switch(this.ultimaDirecao){
-                    case LEFT:
-                        this.x += velocidade;
-                        this.ultimaDirecao = Direction.RIGHT;
-                    break;
-                    case RIGHT:
-                        this.x -= velocidade;
-                        this.ultimaDirecao = Direction.LEFT;
-                    break;
-                    case UP:
-                        this.y += velocidade;
-                        this.ultimaDirecao = Direction.DOWN;
-                    break;
-                    case DOWN:
-                        this.y -= velocidade;
-                        this.ultimaDirecao = Direction.UP;
-                    break;
-                }
-            }
+            // Imagens voltadas para a esquerda começam no índice 3
+            int base = (getDirecao() == Direction.LEFT || getDirecao() == Direction.UP) ? 3 : 0;
+            this.curImage = flymeImgs[base + VOO_FLYME.quadro(relogio)];
         }
     }
 
@@ -963,7 +1104,7 @@ public class TelaJogo extends TelaBase {
         /** Uma lista para gerenciar os projéteis do prato (as facas) */
         private ArrayList<Projetil> facas = new ArrayList<>();
         /** Guarda a última vez que o prato atirou */
-        private long ultimoTiro = 0;
+        private long ultimoTiro = SimClock.NUNCA;
 
         /**
          * Construtor da classe Prato
@@ -982,11 +1123,33 @@ public class TelaJogo extends TelaBase {
             }
         }
 
+        /**
+         * Remove do registro as facas do prato
+         */
+        @Override
+        protected void removerProjeteis(){
+            descartarProjeteis(facas);
+        }
+
+        /**
+         * Emite os comandos de desenho do prato e das suas facas
+         *
+         * @param fila Fila de renderização da tela
+         * @param alfa Fração (de 0 a 1) decorrida entre o passo anterior e o atual
+         */
+        @Override
+        public void emitirComandos(RenderQueue fila, double alfa){
+            for (Projetil p : facas) {
+                if (p.isAtivo()) fila.objeto(RenderQueue.ATAQUE_ABAIXO, p, alfa, true);
+            }
+            super.emitirComandos(fila, alfa);
+        }
+
         /**
          * Faz com que o prato atire suas facas na direção especificada e gerencia as facas
          */
         public void atacar(){
-            long now = System.currentTimeMillis();
+            long now = relogio.agora();
             int offsetX = 0, offsetY = 0;
             
             if(colideCom(batata) && !batata.isInvulnerable()){
@@ -995,7 +1158,7 @@ public class TelaJogo extends TelaBase {
             }
 
             if (now - ultimoTiro > INTERVALO_TIRO*5) {
-                switch(this.ultimaDirecao){
+                switch(getDirecao()){
                     case LEFT:
                         offsetY = TAMANHO_BLOCO/2;
                     break;
@@ -1011,32 +1174,27 @@ public class TelaJogo extends TelaBase {
                         offsetY = TAMANHO_BLOCO;
                     break;
                 }
-                Projetil p = KnifeFactory.createProjectile(this.x + offsetX, this.y + offsetY, this.ultimaDirecao);
+                Projetil p = KnifeFactory.createProjectile(getX() + offsetX, getY() + offsetY, getDirecao());
                 // Verifica a direção para definir a imagem
-                switch(ultimaDirecao){
+                switch(getDirecao()){
                     case LEFT: p.setImage(facaImgs[1]); break;
                     case RIGHT: p.setImage(facaImgs[0]); break;
                     case UP: p.setImage(facaImgs[2]); break;
                     case DOWN: p.setImage(facaImgs[3]); break;
                 }
                 facas.add(p);
-                objetosColidiveis.add(p);
+                entidades.adicionar(p);
                 ultimoTiro = now;
             }
 
             Iterator<Projetil> projIt = facas.iterator();
             while (projIt.hasNext()) {
                 Projetil p = projIt.next();
-                p.mover();
-
-                // Verifica colisão com todos os objetos
-                for (ObjetoColidivel obj : objetosColidiveis) {
-                    if (
-                        p.shouldCollideWith(obj) &&
-                        obj.getLayer() != ObjetoColidivel.CollisionLayer.ENEMY &&
-                        obj.getLayer() != ObjetoColidivel.CollisionLayer.PROJECTILE &&
-                        p.colideCom(obj)
-                    ){
+
+                // Verifica colisão com os objetos próximos que a faca pode atingir
+                grade.consultar(p, p.getCamadasAlvo(), candidatos);
+                for (ObjetoColidivel obj : candidatos) {
+                    if (p.colideCom(obj)){
                         // Colisão com o Duque
                         if (obj.getLayer() == ObjetoColidivel.CollisionLayer.PLAYER && !batata.isInvulnerable()) {
                             efeito.playSong("assets/Ouch.wav", false);
@@ -1045,16 +1203,16 @@ public class TelaJogo extends TelaBase {
 
                         // Remove o projétil em qualquer colisão
                         p.desativar();
-                        objetosColidiveis.remove(p);
+                        entidades.remover(p);
                         projIt.remove();
                         break;
                     }
                 }
                 
-                // Remove se saiu da tela ou se o prato morreu
-                if (p.foraDaTela() || !this.isAlive) {
+                // Remove se saiu da tela (as facas de um prato morto são removidas por removerProjeteis)
+                if (p.foraDaTela()) {
                     p.desativar();
-                    objetosColidiveis.remove(p);
+                    entidades.remover(p);
                     projIt.remove();
                 }
             }
@@ -1067,8 +1225,11 @@ public class TelaJogo extends TelaBase {
          * @version 1.0
          */
         public class KnifeFactory {
+            /** Pool das facas */
+            private static final ProjectilePool POOL = new ProjectilePool("facas", ObjetoColidivel.CollisionLayer.PROJECTILE);
+
             /**
-             * Cria uma nova faca
+             * Cria uma nova faca, reaproveitando uma do pool se houver
              * 
              * @param x Posição x
              * @param y Posição y
@@ -1081,16 +1242,16 @@ public class TelaJogo extends TelaBase {
 
                 if(direction == Direction.UP){
                     dirY = -2;
-                    return new Projetil(x, y, 10, 40, dirX, dirY, color, false);
+                    return POOL.obter(x, y, 10, 40, dirX, dirY, color, false);
                 } else if(direction == Direction.DOWN){
                     dirY = 2;
-                    return new Projetil(x, y, 10, 40, dirX, dirY, color, false);
+                    return POOL.obter(x, y, 10, 40, dirX, dirY, color, false);
                 } else if(direction == Direction.LEFT){
                     dirX = -2;
-                    return new Projetil(x, y, 40, 10, dirX, dirY, color, false);
+                    return POOL.obter(x, y, 40, 10, dirX, dirY, color, false);
                 } else {
                     dirX = 2;
-                    return new Projetil(x, y, 40, 10, dirX, dirY, color, false);
+                    return POOL.obter(x, y, 40, 10, dirX, dirY, color, false);
                 }
             }
         }
@@ -1103,12 +1264,8 @@ public class TelaJogo extends TelaBase {
      * @version 1.0
      */
     private class Armandibula extends Inimigo {
-        /** Indicam se o armandíbula está dormindo/ em alerta */
-        private boolean isSleeping = true, triggered = false;
-        /** Tempo de alerta */
-        private long triggerTimer = 0;
-        /** A partícula de alerta que aparece quando o jogador pisa no (colide com o) Armandíbula */
-        private Alert alerta;
+        /** Indica se o armandíbula está dormindo */
+        private boolean isSleeping = true;
 
         /**
          * Construtor da classe Armandibula
@@ -1128,15 +1285,12 @@ public class TelaJogo extends TelaBase {
          */
         public boolean takeDamage(int damage){
             if(!isSleeping){
-                this.hp -= damage;
-                if(hp <= 0){
+                reduzirHp(damage);
+                if(getHp() <= 0){
                     efeito.playSong("assets/tiro.wav", false);
-                    pofs.add(new Pof(x, y, tamanho + tamanho / 2));
-                    if(alerta != null) {
-                        alerta.desativar();
-                        alertas.remove(alerta);
-                    }
-                    isAlive = false;
+                    particulas.emitirPof(getX(), getY(), tamanho + tamanho / 2);
+                    particulas.cancelarAlerta(getAlerta());
+                    morrer();
                 }
                 return true;
             }
@@ -1150,17 +1304,15 @@ public class TelaJogo extends TelaBase {
         public void atacar(){
             if(isSleeping){
                 this.curImage = armandibulaImgs[0];
-                if(colideCom(batata) && !triggered){
+                if(colideCom(batata) && !isTriggered()){
                     efeito.playSong("assets/warning.wav", false);
                     efeito.playSong("assets/bite.wav", false);
-                    alerta = new Alert(x + tamanho/2 - TAMANHO_BLOCO/6, y - TAMANHO_BLOCO, (TAMANHO_BLOCO*2)/3);
-                    alertas.add(alerta);
-                    triggered = true;
-                    triggerTimer = System.currentTimeMillis();
+                    setAlerta(particulas.emitirAlerta(getX() + tamanho/2 - TAMANHO_BLOCO/6, getY() - TAMANHO_BLOCO, (TAMANHO_BLOCO*2)/3));
+                    setTriggered(true);
+                    reiniciarTimer();
                 }
-                if(triggered && System.currentTimeMillis() - triggerTimer >= 800){
-                    alerta.desativar();
-                    alertas.remove(alerta);
+                if(isTriggered() && getTempoDecorrido() >= 800){
+                    particulas.cancelarAlerta(getAlerta());
                     isSleeping = false;
                     this.cor = new Color(22, 160, 133);
                 }
@@ -1182,14 +1334,10 @@ public class TelaJogo extends TelaBase {
      * @version 1.0
      */
     private class Morcerango extends Inimigo {
-        /** Indicam se o morcerango está dormindo/ em alerta */
-        private boolean isSleeping = true, triggered = false;
-        /** Tempo de alerta */
-        private long triggerTimer = 0;
+        /** Indica se o morcerango está dormindo */
+        private boolean isSleeping = true;
         /** Guarda quantos inimigos haviam na dungeon inicialmente */
         private int inicialEnemyCount = -1;
-        /** A partícula de alerta que aparece quando um inimigo é estourado */
-        private Alert alerta;
         
         /**
          * Construtor da classe Morcerango
@@ -1210,15 +1358,12 @@ public class TelaJogo extends TelaBase {
          */
         public boolean takeDamage(int damage){
             if(!isSleeping){
-                this.hp -= damage;
-                if(hp <= 0){
+                reduzirHp(damage);
+                if(getHp() <= 0){
                     efeito.playSong("assets/tiro.wav", false);
-                    pofs.add(new Pof(x, y, tamanho + tamanho / 2));
-                    if(alerta != null) {
-                        alerta.desativar();
-                        alertas.remove(alerta);
-                    }
-                    isAlive = false;
+                    particulas.emitirPof(getX(), getY(), tamanho + tamanho / 2);
+                    particulas.cancelarAlerta(getAlerta());
+                    morrer();
                 }
                 return true;
             }
@@ -1245,66 +1390,23 @@ public class TelaJogo extends TelaBase {
                 if(inicialEnemyCount < 0){
                     this.inicialEnemyCount = enemyCount;
                 }
-                else if(enemyCount < inicialEnemyCount && !triggered){
+                else if(enemyCount < inicialEnemyCount && !isTriggered()){
                     efeito.playSong("assets/warning.wav", false);
-                    this.alerta = new Alert(x + tamanho/2 - TAMANHO_BLOCO/6, y - TAMANHO_BLOCO, (TAMANHO_BLOCO*2)/3);
-                    alertas.add(alerta);
-                    triggered = true;
-                    triggerTimer = System.currentTimeMillis();
+                    setAlerta(particulas.emitirAlerta(getX() + tamanho/2 - TAMANHO_BLOCO/6, getY() - TAMANHO_BLOCO, (TAMANHO_BLOCO*2)/3));
+                    setTriggered(true);
+                    reiniciarTimer();
                 }
-                if(triggered && System.currentTimeMillis() - triggerTimer >= 400){
-                    if(alerta != null) {
-                        alerta.desativar();
-                        alertas.remove(alerta);
-                    }
+                if(isTriggered() && getTempoDecorrido() >= 400){
+                    particulas.cancelarAlerta(getAlerta());
                     isSleeping = false;
                     this.cor = Color.RED;
                 }
             }
             else {
-                switch(this.ultimaDirecao){
-                    case LEFT:
-                        this.x -= velocidade;
-                        if ((System.currentTimeMillis() / 100) % 2 == 0) this.curImage = morcerangoImgs[3];
-                        else this.curImage = morcerangoImgs[4];
-                    break;
-                    case RIGHT:
-                        this.x += velocidade;
-                        if ((System.currentTimeMillis() / 100) % 2 == 0) this.curImage = morcerangoImgs[1];
-                        else this.curImage = morcerangoImgs[2];
-                    break;
-                    case UP:
-                        this.y -= velocidade;
-                        if ((System.currentTimeMillis() / 100) % 2 == 0) this.curImage = morcerangoImgs[3];
-                        else this.curImage = morcerangoImgs[4];
-                    break;
-                    case DOWN:
-                        this.y += velocidade;
-                        if ((System.currentTimeMillis() / 100) % 2 == 0) this.curImage = morcerangoImgs[1];
-                        else this.curImage = morcerangoImgs[2];
-                    break;
-                }
-
-                if(foraDaTela()){
-                    switch(this.ultimaDirecao){
-                        case LEFT:
-                            this.x += velocidade;
-                            this.ultimaDirecao = Direction.RIGHT;
-                        break;
-                        case RIGHT:
-                            this.x -= velocidade;
-                            this.ultimaDirecao = Direction.LEFT;
-                        break;
-                        case UP:
-                            this.y += velocidade;
-                            this.ultimaDirecao = Direction.DOWN;
-                        break;
-                        case DOWN:
-                            this.y -= velocidade;
-                            this.ultimaDirecao = Direction.UP;
-                        break;
-                    }
-                }
+                setPatrulhando(true);
+                // Imagens voltadas para a esquerda começam no índice 3
+                int base = (getDirecao() == Direction.LEFT || getDirecao() == Direction.UP) ? 3 : 1;
+                this.curImage = morcerangoImgs[base + VOO_MORCERANGO.quadro(relogio)];
             }
         }
     }
@@ -1316,12 +1418,8 @@ public class TelaJogo extends TelaBase {
      * @version 1.0
      */
     private class QueijoBoxer extends Inimigo {
-        /** Indicam se o queijo boxer já atacou/ está em alerta */
-        private boolean hasAttacked = false, triggered = false;
-        /** Tempo de alerta */
-        private long triggerTimer = 0;
-        /** A partícula de alerta que aparece caso o queijo boxer perceba o jogador */
-        private Alert alerta;
+        /** Indica se o queijo boxer já atacou */
+        private boolean hasAttacked = false;
         /** O campo de visão do queijo boxer */
         private CampoDeVisao campoDeVisao;
         /** O alcance do campo de visão/braço do queijo boxer */
@@ -1360,6 +1458,39 @@ public class TelaJogo extends TelaBase {
             }
         }
 
+        /**
+         * Emite os comandos de desenho do queijo boxer e do seu braço
+         *
+         * @param fila Fila de renderização da tela
+         * @param alfa Fração (de 0 a 1) decorrida entre o passo anterior e o atual
+         */
+        @Override
+        public void emitirComandos(RenderQueue fila, double alfa){
+            if(braco != null && braco.isAtivo()){
+                int bx = braco.getXInterpolado(alfa), by = braco.getYInterpolado(alfa);
+                int bl = braco.getLargura(), ba = braco.getAltura(), t = TAMANHO_BLOCO/2;
+                if(braco.getImage() != null && luvaImgs != null){
+                    fila.sprite(RenderQueue.ATAQUE_ABAIXO, braco.getImage(), bx, by, bl, ba);
+                    // Luva é desenhada separadamente
+                    switch(getDirecao()){
+                        case LEFT: fila.sprite(RenderQueue.DETALHE, luvaImgs[1], bx - 5, by, t, t); break;
+                        case RIGHT: fila.sprite(RenderQueue.DETALHE, luvaImgs[0], bx + bl - t + 5, by, t, t); break;
+                        case UP: fila.sprite(RenderQueue.DETALHE, luvaImgs[2], bx, by - 5, t, t); break;
+                        case DOWN: fila.sprite(RenderQueue.DETALHE, luvaImgs[3], bx, by + ba - t + 5, t, t); break;
+                    }
+                } else {
+                    fila.retangulo(RenderQueue.ATAQUE_ABAIXO, braco.getCor(), bx, by, bl, ba);
+                    // Luva é desenhada separadamente
+                    switch(getDirecao()){
+                        case LEFT: case UP: fila.retangulo(RenderQueue.DETALHE, Color.RED, bx, by, t, t); break;
+                        case RIGHT: fila.retangulo(RenderQueue.DETALHE, Color.RED, bx + bl - t, by, t, t); break;
+                        case DOWN: fila.retangulo(RenderQueue.DETALHE, Color.RED, bx, by + ba - t, t, t); break;
+                    }
+                }
+            }
+            super.emitirComandos(fila, alfa);
+        }
+
         /**
          * Atualiza o dano causado ao queijo boxer, e remove o braço e alerta caso seja derrotado
          * 
@@ -1367,19 +1498,16 @@ public class TelaJogo extends TelaBase {
          * @return O retorno é sempre {@code true} nesse caso
          */
         public boolean takeDamage(int damage){
-            this.hp -= damage;
-            if(hp <= 0){
+            reduzirHp(damage);
+            if(getHp() <= 0){
                 efeito.playSong("assets/tiro.wav", false);
-                pofs.add(new Pof(x, y, tamanho + tamanho / 2));
+                particulas.emitirPof(getX(), getY(), tamanho + tamanho / 2);
                 if(braco != null){
                     braco.desativar();
-                    objetosColidiveis.remove(braco);
+                    entidades.remover(braco);
                 }
-                if(alerta != null) {
-                    alerta.desativar();
-                    alertas.remove(alerta);
-                }
-                isAlive = false;
+                particulas.cancelarAlerta(getAlerta());
+                morrer();
             }
             return true;
         }
@@ -1394,46 +1522,42 @@ public class TelaJogo extends TelaBase {
             }
 
             if(!hasAttacked){
-                if(batata.colideCom(campoDeVisao) && !triggered){
+                if(batata.colideCom(campoDeVisao) && !isTriggered()){
                     efeito.playSong("assets/warning.wav", false);
-                    this.alerta = new Alert(x + tamanho/2 - TAMANHO_BLOCO/6, y - TAMANHO_BLOCO, (TAMANHO_BLOCO*2)/3);
-                    alertas.add(alerta);
-                    triggered = true;
-                    triggerTimer = System.currentTimeMillis();
+                    setAlerta(particulas.emitirAlerta(getX() + tamanho/2 - TAMANHO_BLOCO/6, getY() - TAMANHO_BLOCO, (TAMANHO_BLOCO*2)/3));
+                    setTriggered(true);
+                    reiniciarTimer();
                 }
-                if(triggered && System.currentTimeMillis() - triggerTimer >= 1000){
-                    if(alerta != null) {
-                        alerta.desativar();
-                        alertas.remove(alerta);
-                    }
-                    switch(ultimaDirecao){
+                if(isTriggered() && getTempoDecorrido() >= 1000){
+                    particulas.cancelarAlerta(getAlerta());
+                    switch(getDirecao()){
                         case LEFT:
-                            braco = new Projetil(x - alcanceDeVisao + 5, y + TAMANHO_BLOCO/4, alcanceDeVisao, TAMANHO_BLOCO/2,
+                            braco = new Projetil(getX() - alcanceDeVisao + 5, getY() + TAMANHO_BLOCO/4, alcanceDeVisao, TAMANHO_BLOCO/2,
                                 0, 0, Color.YELLOW, true);
                             braco.curImage = bracoImgs[0];
                         break;
                         case RIGHT:
-                            braco = new Projetil(x + tamanho - 5, y + TAMANHO_BLOCO/4, alcanceDeVisao, TAMANHO_BLOCO/2,
+                            braco = new Projetil(getX() + tamanho - 5, getY() + TAMANHO_BLOCO/4, alcanceDeVisao, TAMANHO_BLOCO/2,
                                 0, 0, Color.YELLOW, true);
                             braco.curImage = bracoImgs[0];
                         break;
                         case UP:
-                            braco = new Projetil(x + TAMANHO_BLOCO/4, y - alcanceDeVisao + 5, TAMANHO_BLOCO/2, alcanceDeVisao,
+                            braco = new Projetil(getX() + TAMANHO_BLOCO/4, getY() - alcanceDeVisao + 5, TAMANHO_BLOCO/2, alcanceDeVisao,
                                 0, 0, Color.YELLOW, true);
                             braco.curImage = bracoImgs[1];
                         break;
                         case DOWN:
-                            braco = new Projetil(x + TAMANHO_BLOCO/4, y + tamanho - 5, TAMANHO_BLOCO/2, alcanceDeVisao,
+                            braco = new Projetil(getX() + TAMANHO_BLOCO/4, getY() + tamanho - 5, TAMANHO_BLOCO/2, alcanceDeVisao,
                                 0, 0, Color.YELLOW, true);
                             braco.curImage = bracoImgs[1];
                         break;
                     }
-                    objetosColidiveis.add(braco);
+                    entidades.adicionar(braco);
                     efeito.playSong("assets/squish.wav", false);
                     hasAttacked = true;
                 }
             } else {
-                if(!braco.isAtivo()) takeDamage(hp);
+                if(!braco.isAtivo()) takeDamage(getHp());
                 else if(braco.colideCom(batata) && !batata.isInvulnerable()){
                     efeito.playSong("assets/Ouch.wav", false);
                     batata.takeDamage(1);
@@ -1449,8 +1573,6 @@ public class TelaJogo extends TelaBase {
      * @version 1.0
      */
     private class Chocochato extends Inimigo {
-        /** Duração de sua "animação" de dano */
-        private long dmgTimer;
 
         /**
          * Construtor da classe Chocochato
@@ -1470,15 +1592,15 @@ public class TelaJogo extends TelaBase {
          * @return O retorno é sempre {@code true} nesse caso
          */
         public boolean takeDamage(int damage){
-            this.hp -= damage;
-            if(hp <= 0){
+            reduzirHp(damage);
+            if(getHp() <= 0){
                 efeito.playSong("assets/tiro.wav", false);
-                pofs.add(new Pof(x, y, tamanho + tamanho / 2));
-                isAlive = false;
+                particulas.emitirPof(getX(), getY(), tamanho + tamanho / 2);
+                morrer();
             } else {
                 efeito.playSong("assets/crunchy.wav", false);
                 curImage = chocochatoImgs[1];
-                dmgTimer = System.currentTimeMillis();
+                reiniciarTimer();
             }
             return true;
         }
@@ -1487,7 +1609,7 @@ public class TelaJogo extends TelaBase {
          * Impede o jogador de passar por ele e gerencia a "animação" de dano
          */
         public void atacar(){
-            if(System.currentTimeMillis() - dmgTimer >= 1000) curImage = chocochatoImgs[0];
+            if(getTempoDecorrido() >= 1000) curImage = chocochatoImgs[0];
             if (colideCom(batata)) {
                 // Reverte o movimento
                 switch (batata.getUltimaDirecao()) {
@@ -1496,6 +1618,7 @@ public class TelaJogo extends TelaBase {
                     case UP: batata.y += batata.getVelocidade(); break;
                     case DOWN: batata.y -= batata.getVelocidade(); break;
                 }
+                grade.atualizar(batata);
             }
         }
     }
@@ -1507,12 +1630,8 @@ public class TelaJogo extends TelaBase {
      * @version 1.0
      */
     private class AlgodogDoce extends Inimigo {
-        /** Indicam se o algodog está rolando/ em alerta */
-        private boolean isRolling = false, triggered = false;
-        /** Tempo de alerta */
-        private long triggerTimer = 0;
-        /** A partícula de alerta que aparece caso o algodog perceba o jogador */
-        private Alert alerta;
+        /** Indica se o algodog está rolando */
+        private boolean isRolling = false;
         /** Uma variável de direção auxiliar */
         private Direction curDirection;
         /** O campo de visão do algodog */
@@ -1536,6 +1655,20 @@ public class TelaJogo extends TelaBase {
             changeSight();
         }
 
+        /**
+         * Emite os comandos de desenho do algodog e dos algodões deixados por ele
+         *
+         * @param fila Fila de renderização da tela
+         * @param alfa Fração (de 0 a 1) decorrida entre o passo anterior e o atual
+         */
+        @Override
+        public void emitirComandos(RenderQueue fila, double alfa){
+            for (Projetil p : algodoes) {
+                if (p.isAtivo()) fila.objeto(RenderQueue.ATAQUE_ABAIXO, p, alfa, true);
+            }
+            super.emitirComandos(fila, alfa);
+        }
+
         /**
          * Atualiza o dano causado ao algodog, e remove os algodões e alerta caso seja derrotado
          * 
@@ -1543,20 +1676,17 @@ public class TelaJogo extends TelaBase {
          * @return O retorno é sempre {@code true} nesse caso
          */
         public boolean takeDamage(int damage){
-            this.hp -= damage;
-            if(hp <= 0){
+            reduzirHp(damage);
+            if(getHp() <= 0){
                 efeito.playSong("assets/tiro.wav", false);
-                pofs.add(new Pof(x, y, tamanho + tamanho / 2));
-                if(alerta != null) {
-                    alerta.desativar();
-                    alertas.remove(alerta);
-                }
-                isAlive = false;
+                particulas.emitirPof(getX(), getY(), tamanho + tamanho / 2);
+                particulas.cancelarAlerta(getAlerta());
+                morrer();
                 Iterator<Projetil> projIt = algodoes.iterator();
                 while (projIt.hasNext()) {
                     Projetil p = projIt.next();
                     p.desativar();
-                    objetosColidiveis.remove(p);
+                    entidades.remover(p);
                     projIt.remove();
                 }
             }
@@ -1568,21 +1698,21 @@ public class TelaJogo extends TelaBase {
          */
         public void changeSight(){
             if(campoDeVisao != null) campoDeVisao = null;
-            switch(this.ultimaDirecao){
+            switch(getDirecao()){
                 case LEFT:
-                    campoDeVisao = new CampoDeVisao(x - alcanceDeVisao, y, alcanceDeVisao, TAMANHO_BLOCO);
+                    campoDeVisao = new CampoDeVisao(getX() - alcanceDeVisao, getY(), alcanceDeVisao, TAMANHO_BLOCO);
                     this.curImage = algodogDoceImgs[1];
                 break;
                 case RIGHT:
-                    campoDeVisao = new CampoDeVisao(x + tamanho, y, alcanceDeVisao, TAMANHO_BLOCO);
+                    campoDeVisao = new CampoDeVisao(getX() + tamanho, getY(), alcanceDeVisao, TAMANHO_BLOCO);
                     this.curImage = algodogDoceImgs[0];
                 break;
                 case UP:
-                    campoDeVisao = new CampoDeVisao(x, y - alcanceDeVisao, TAMANHO_BLOCO, alcanceDeVisao);
+                    campoDeVisao = new CampoDeVisao(getX(), getY() - alcanceDeVisao, TAMANHO_BLOCO, alcanceDeVisao);
                     this.curImage = algodogDoceImgs[2];
                 break;
                 case DOWN:
-                    campoDeVisao = new CampoDeVisao(x, y + tamanho, TAMANHO_BLOCO, alcanceDeVisao);
+                    campoDeVisao = new CampoDeVisao(getX(), getY() + tamanho, TAMANHO_BLOCO, alcanceDeVisao);
                     this.curImage = algodogDoceImgs[3];
                 break;
             }
@@ -1603,75 +1733,38 @@ public class TelaJogo extends TelaBase {
                 efeito.playSong("assets/Ouch.wav", false);
                 batata.takeDamage(1);
             }
+            if(isRolling && curDirection != getDirecao()){
+                // Bateu e trocou de direção
+                setPatrulhando(false);
+                setTriggered(false);
+                isRolling = false;
+                changeSight();
+            }
             if(!isRolling){
-                if(batata.colideCom(campoDeVisao) && !triggered){
+                if(batata.colideCom(campoDeVisao) && !isTriggered()){
                     efeito.playSong("assets/warning.wav", false);
-                    this.alerta = new Alert(x + tamanho/2 - TAMANHO_BLOCO/6, y - TAMANHO_BLOCO, (TAMANHO_BLOCO*2)/3);
-                    alertas.add(alerta);
-                    triggered = true;
-                    triggerTimer = System.currentTimeMillis();
+                    setAlerta(particulas.emitirAlerta(getX() + tamanho/2 - TAMANHO_BLOCO/6, getY() - TAMANHO_BLOCO, (TAMANHO_BLOCO*2)/3));
+                    setTriggered(true);
+                    reiniciarTimer();
                 }
-                if(triggered && System.currentTimeMillis() - triggerTimer >= 600){
-                    if(alerta != null) {
-                        alerta.desativar();
-                        alertas.remove(alerta);
-                    }
+                if(isTriggered() && getTempoDecorrido() >= 600){
+                    particulas.cancelarAlerta(getAlerta());
                     efeito.playSong("assets/dog-bark.wav", false);
                     isRolling = true;
-                    curDirection = ultimaDirecao;
+                    curDirection = getDirecao();
                 }
             } else {
-                if(getX() % TAMANHO_BLOCO/2 == 0 && getY() % TAMANHO_BLOCO/2 == 0 && new Random().nextInt(2) == 1){
-                    Projetil p = AlgodaoFactory.createProjectile(this.x, this.y);
+                if(getX() % TAMANHO_BLOCO/2 == 0 && getY() % TAMANHO_BLOCO/2 == 0 && aleatorio.nextInt(2) == 1){
+                    Projetil p = AlgodaoFactory.createProjectile(getX(), getY());
                     algodoes.add(p);
-                    objetosColidiveis.add(p);
+                    entidades.adicionar(p);
                     p.curImage = algodaoImg;
                 }
-                switch(this.ultimaDirecao){
-                    case LEFT:
-                        this.x -= velocidade;
-                        this.curImage = algodogDoceImgs[5];
-                    break;
-                    case RIGHT:
-                        this.x += velocidade;
-                        this.curImage = algodogDoceImgs[4];
-                    break;
-                    case UP:
-                        this.y -= velocidade;
-                        this.curImage = algodogDoceImgs[5];
-                    break;
-                    case DOWN:
-                        this.y += velocidade;
-                        this.curImage = algodogDoceImgs[4];
-                    break;
-                }
-
-                if(foraDaTela()){
-                    switch(this.ultimaDirecao){
-                        case LEFT:
-                            this.x += velocidade;
-                            this.ultimaDirecao = Direction.RIGHT;
-                        break;
-                        case RIGHT:
-                            this.x -= velocidade;
-                            this.ultimaDirecao = Direction.LEFT;
-                        break;
-                        case UP:
-                            this.y += velocidade;
-                            this.ultimaDirecao = Direction.DOWN;
-                        break;
-                        case DOWN:
-                            this.y -= velocidade;
-                            this.ultimaDirecao = Direction.UP;
-                        break;
-                    }
-                }
-
-                if(curDirection != ultimaDirecao){
-                    triggered = false;
-                    isRolling = false;
-                    changeSight();
+                switch(getDirecao()){
+                    case LEFT: case UP: this.curImage = algodogDoceImgs[5]; break;
+                    case RIGHT: case DOWN: this.curImage = algodogDoceImgs[4]; break;
                 }
+                setPatrulhando(true);
             }
 
             Iterator<Projetil> projIt = algodoes.iterator();
@@ -1685,15 +1778,15 @@ public class TelaJogo extends TelaBase {
                 }
                     
                 // Remove se o Algodog morreu
-                if (!this.isAlive) p.desativar();
+                if (!isAlive()) p.desativar();
 
                 // Verifica se foi destruido
                 if(!p.isAtivo()){
-                    objetosColidiveis.remove(p);
+                    entidades.remover(p);
                     projIt.remove();
-                    if(this.isAlive){
+                    if(isAlive()){
                         efeito.playSong("assets/tiro.wav", false);
-                        pofs.add(new Pof(p.x, p.y, tamanho + tamanho / 2));
+                        particulas.emitirPof(p.getX(), p.getY(), tamanho + tamanho / 2);
                     }
                 }
             }
@@ -1706,15 +1799,18 @@ public class TelaJogo extends TelaBase {
          * @version 1.0
          */
         public class AlgodaoFactory {
+            /** Pool dos algodões */
+            private static final ProjectilePool POOL = new ProjectilePool("algodoes do algodog", ObjetoColidivel.CollisionLayer.PROJECTILE);
+
             /**
-             * Cria um novo algodão
+             * Cria um novo algodão, reaproveitando um do pool se houver
              * 
              * @param x Posição x
              * @param y Posição y
              * @return O algodão criado
              */
             public static Projetil createProjectile(int x, int y) {
-                return new Projetil(x, y, TAMANHO_BLOCO, TAMANHO_BLOCO, 0, 0, Color.PINK, true);
+                return POOL.obter(x, y, TAMANHO_BLOCO, TAMANHO_BLOCO, 0, 0, Color.PINK, true);
             }
         }
     }
@@ -1726,10 +1822,6 @@ public class TelaJogo extends TelaBase {
      * @version 1.0
      */
     private class SlimeBot extends Inimigo {
-        /** Indica se o slimebot está atacando */
-        private boolean isAttacking = false;
-        /** Timer que gerencia a duração de seu laser */
-        private long timer = 0;
         /** O alcance do laser do slimebot */
         private int alcanceDeLaser;
         /** O laser do slimebot */
@@ -1746,7 +1838,6 @@ public class TelaJogo extends TelaBase {
         public SlimeBot(int x, int y, Direction dir, int laserRange){
             super(x, y, TAMANHO_BLOCO, Color.DARK_GRAY, 1, 0, dir, false);
             this.alcanceDeLaser = laserRange;
-            this.timer = System.currentTimeMillis();
             switch(dir){
                 case LEFT: this.curImage = slimeBotImgs[1]; break;
                 case RIGHT: this.curImage = slimeBotImgs[0]; break;
@@ -1755,6 +1846,18 @@ public class TelaJogo extends TelaBase {
             }
         }
 
+        /**
+         * Emite os comandos de desenho do slimebot e do seu laser
+         *
+         * @param fila Fila de renderização da tela
+         * @param alfa Fração (de 0 a 1) decorrida entre o passo anterior e o atual
+         */
+        @Override
+        public void emitirComandos(RenderQueue fila, double alfa){
+            if(laser != null && laser.isAtivo()) fila.objeto(RenderQueue.ATAQUE_ABAIXO, laser, alfa);
+            super.emitirComandos(fila, alfa);
+        }
+
         /**
          * Atualiza o dano causado ao slimebot, e remove o laser caso seja derrotado
          * 
@@ -1762,15 +1865,15 @@ public class TelaJogo extends TelaBase {
          * @return O retorno é sempre {@code true} nesse caso
          */
         public boolean takeDamage(int damage){
-            this.hp -= damage;
-            if(hp <= 0){
+            reduzirHp(damage);
+            if(getHp() <= 0){
                 efeito.playSong("assets/tiro.wav", false);
-                pofs.add(new Pof(x, y, tamanho + tamanho / 2));
+                particulas.emitirPof(getX(), getY(), tamanho + tamanho / 2);
                 if(laser != null){
                     laser.desativar();
-                    objetosColidiveis.remove(laser);
+                    entidades.remover(laser);
                 }
-                isAlive = false;
+                morrer();
             }
             return true;
         }
@@ -1784,34 +1887,34 @@ public class TelaJogo extends TelaBase {
                 batata.takeDamage(1);
             }
 
-            if(!isAttacking){
-                if(System.currentTimeMillis() - timer >= 1500){
-                    switch(ultimaDirecao){
+            if(!isAttacking()){
+                if(getTempoDecorrido() >= 1500){
+                    switch(getDirecao()){
                         case LEFT:
-                            laser = new Projetil(x - alcanceDeLaser, y + TAMANHO_BLOCO/4, alcanceDeLaser, TAMANHO_BLOCO/2,
+                            laser = new Projetil(getX() - alcanceDeLaser, getY() + TAMANHO_BLOCO/4, alcanceDeLaser, TAMANHO_BLOCO/2,
                                 0, 0, Color.RED, false);
                             laser.curImage = laserImgs[0];
                         break;
                         case RIGHT:
-                            laser = new Projetil(x + tamanho, y + TAMANHO_BLOCO/4, alcanceDeLaser, TAMANHO_BLOCO/2,
+                            laser = new Projetil(getX() + tamanho, getY() + TAMANHO_BLOCO/4, alcanceDeLaser, TAMANHO_BLOCO/2,
                                 0, 0, Color.RED, false);
                             laser.curImage = laserImgs[0];
                         break;
                         case UP:
-                            laser = new Projetil(x + TAMANHO_BLOCO/4, y - alcanceDeLaser, TAMANHO_BLOCO/2, alcanceDeLaser,
+                            laser = new Projetil(getX() + TAMANHO_BLOCO/4, getY() - alcanceDeLaser, TAMANHO_BLOCO/2, alcanceDeLaser,
                                 0, 0, Color.RED, false);
                             laser.curImage = laserImgs[1];
                         break;
                         case DOWN:
-                            laser = new Projetil(x + TAMANHO_BLOCO/4, y + tamanho, TAMANHO_BLOCO/2, alcanceDeLaser,
+                            laser = new Projetil(getX() + TAMANHO_BLOCO/4, getY() + tamanho, TAMANHO_BLOCO/2, alcanceDeLaser,
                                 0, 0, Color.RED, false);
                             laser.curImage = laserImgs[1];
                         break;
                     }
-                    objetosColidiveis.add(laser);
+                    entidades.adicionar(laser);
                     efeito.playSong("assets/LaserSwitch.wav", false);
-                    timer = System.currentTimeMillis();
-                    isAttacking = true;
+                    reiniciarTimer();
+                    setAttacking(true);
                 }
             } else {
                 if(laser.isAtivo()){
@@ -1819,13 +1922,13 @@ public class TelaJogo extends TelaBase {
                         efeito.playSong("assets/Ouch.wav", false);
                         batata.takeDamage(1);
                     }
-                    if(System.currentTimeMillis() - timer >= 1000){
+                    if(getTempoDecorrido() >= 1000){
                         laser.desativar();
-                        objetosColidiveis.remove(laser);
+                        entidades.remover(laser);
                         laser = null;
                         efeito.playSong("assets/LaserSwitch.wav", false);
-                        timer = System.currentTimeMillis();
-                        isAttacking = false;
+                        reiniciarTimer();
+                        setAttacking(false);
                     }
                 }
             }
@@ -1839,10 +1942,6 @@ public class TelaJogo extends TelaBase {
      * @version 1.0
      */
     private class GigaBot extends Inimigo {
-        /** Indica se o gigabot está atacando */
-        private boolean isAttacking = false;
-        /** Timer que gerencia a duração de seu laser */
-        private long timer = 0;
         /** O alcance do laser do gigabot */
         private int alcanceDeLaser;
         /** O laser do gigabot */
@@ -1859,7 +1958,6 @@ public class TelaJogo extends TelaBase {
         public GigaBot(int x, int y, Direction dir, int laserRange){
             super(x, y, TAMANHO_BLOCO*2, Color.DARK_GRAY, 3, 0, dir, false);
             this.alcanceDeLaser = laserRange;
-            this.timer = System.currentTimeMillis();
             switch(dir){
                 case LEFT: this.curImage = gigaBotImgs[1]; break;
                 case RIGHT: this.curImage = gigaBotImgs[0]; break;
@@ -1868,6 +1966,18 @@ public class TelaJogo extends TelaBase {
             }
         }
 
+        /**
+         * Emite os comandos de desenho do gigabot e do seu laser
+         *
+         * @param fila Fila de renderização da tela
+         * @param alfa Fração (de 0 a 1) decorrida entre o passo anterior e o atual
+         */
+        @Override
+        public void emitirComandos(RenderQueue fila, double alfa){
+            if(laser != null && laser.isAtivo()) fila.objeto(RenderQueue.ATAQUE_ABAIXO, laser, alfa);
+            super.emitirComandos(fila, alfa);
+        }
+
         /**
          * Atualiza o dano causado ao gigabot, e remove o laser caso seja derrotado
          * 
@@ -1875,15 +1985,15 @@ public class TelaJogo extends TelaBase {
          * @return O retorno é sempre {@code true} nesse caso
          */
         public boolean takeDamage(int damage){
-            this.hp -= damage;
-            if(hp <= 0){
+            reduzirHp(damage);
+            if(getHp() <= 0){
                 efeito.playSong("assets/tiro.wav", false);
-                pofs.add(new Pof(x, y, tamanho + tamanho / 2));
+                particulas.emitirPof(getX(), getY(), tamanho + tamanho / 2);
                 if(laser != null){
                     laser.desativar();
-                    objetosColidiveis.remove(laser);
+                    entidades.remover(laser);
                 }
-                isAlive = false;
+                morrer();
             } else efeito.playSong("assets/Glitch.wav", false);
             return true;
         }
@@ -1897,34 +2007,34 @@ public class TelaJogo extends TelaBase {
                 batata.takeDamage(1);
             }
 
-            if(!isAttacking){
-                if(System.currentTimeMillis() - timer >= 1500){
-                    switch(ultimaDirecao){
+            if(!isAttacking()){
+                if(getTempoDecorrido() >= 1500){
+                    switch(getDirecao()){
                         case LEFT:
-                            laser = new Projetil(x - alcanceDeLaser, y + TAMANHO_BLOCO/2, alcanceDeLaser, TAMANHO_BLOCO,
+                            laser = new Projetil(getX() - alcanceDeLaser, getY() + TAMANHO_BLOCO/2, alcanceDeLaser, TAMANHO_BLOCO,
                                 0, 0, Color.ORANGE, false);
                             laser.curImage = gLaserImgs[0];
                         break;
                         case RIGHT:
-                            laser = new Projetil(x + tamanho, y + TAMANHO_BLOCO/2, alcanceDeLaser, TAMANHO_BLOCO,
+                            laser = new Projetil(getX() + tamanho, getY() + TAMANHO_BLOCO/2, alcanceDeLaser, TAMANHO_BLOCO,
                                 0, 0, Color.ORANGE, false);
                             laser.curImage = gLaserImgs[0];
                         break;
                         case UP:
-                            laser = new Projetil(x + TAMANHO_BLOCO/2, y - alcanceDeLaser, TAMANHO_BLOCO, alcanceDeLaser,
+                            laser = new Projetil(getX() + TAMANHO_BLOCO/2, getY() - alcanceDeLaser, TAMANHO_BLOCO, alcanceDeLaser,
                                 0, 0, Color.ORANGE, false);
                             laser.curImage = gLaserImgs[1];
                         break;
                         case DOWN:
-                            laser = new Projetil(x + TAMANHO_BLOCO/2, y + tamanho, TAMANHO_BLOCO, alcanceDeLaser,
+                            laser = new Projetil(getX() + TAMANHO_BLOCO/2, getY() + tamanho, TAMANHO_BLOCO, alcanceDeLaser,
                                 0, 0, Color.ORANGE, false);
                             laser.curImage = gLaserImgs[1];
                         break;
                     }
-                    objetosColidiveis.add(laser);
+                    entidades.adicionar(laser);
                     efeito.playSong("assets/LaserSwitch.wav", false);
-                    timer = System.currentTimeMillis();
-                    isAttacking = true;
+                    reiniciarTimer();
+                    setAttacking(true);
                 }
             } else {
                 if(laser.isAtivo()){
@@ -1932,13 +2042,13 @@ public class TelaJogo extends TelaBase {
                         efeito.playSong("assets/Ouch.wav", false);
                         batata.takeDamage(1);
                     }
-                    if(System.currentTimeMillis() - timer >= 1000){
+                    if(getTempoDecorrido() >= 1000){
                         laser.desativar();
-                        objetosColidiveis.remove(laser);
+                        entidades.remover(laser);
                         laser = null;
                         efeito.playSong("assets/LaserSwitch.wav", false);
-                        timer = System.currentTimeMillis();
-                        isAttacking = false;
+                        reiniciarTimer();
+                        setAttacking(false);
                     }
                 }
             }
@@ -1963,7 +2073,7 @@ public class TelaJogo extends TelaBase {
         }
 
         /**
-         * Faz com que o Malandranha se mova na direção do jogador. Nesse caso o {@code ultimaDirecao} não é usado para a movimentação.
+         * Faz com que o Malandranha se mova na direção do jogador. Nesse caso a direção não é usada para a movimentação.
          */
         public void atacar(){
             if(colideCom(batata) && !batata.isInvulnerable()){
@@ -1971,15 +2081,15 @@ public class TelaJogo extends TelaBase {
                 batata.takeDamage(1);
             }
 
-            if(batata.getX() < this.x){
-                this.x -= velocidade;
+            if(batata.getX() < getX()){
+                setX(getX() - getVelocidade());
                 this.curImage = malandranhaImgs[1];
-            } else if(batata.getX() > this.x){
-                this.x += velocidade;
+            } else if(batata.getX() > getX()){
+                setX(getX() + getVelocidade());
                 this.curImage = malandranhaImgs[0];
             }
-            if(batata.getY() < this.y) this.y -= velocidade;
-            else if(batata.getY() > this.y) this.y += velocidade;
+            if(batata.getY() < getY()) setY(getY() - getVelocidade());
+            else if(batata.getY() > getY()) setY(getY() + getVelocidade());
         }
     }
 
@@ -2016,6 +2126,8 @@ public class TelaJogo extends TelaBase {
          */
         public Alho(int x, int y, Direction dir, int hp) {
             super(x, y, TAMANHO_BLOCO, Color.WHITE, hp, 0, dir, false);
+            setRebateAleatorio(true);
+            setPatrulhando(true);
             atualizarEstagio();
         }
 
@@ -2026,32 +2138,32 @@ public class TelaJogo extends TelaBase {
          * @return O retorno é sempre {@code true} nesse caso
          */
         public boolean takeDamage(int damage){
-            this.hp -= damage;
-            if (estagio == Estagio.ALHO && hp < 3){
+            reduzirHp(damage);
+            if (estagio == Estagio.ALHO && getHp() < 3){
                 Alho child;
-                switch(ultimaDirecao){
+                switch(getDirecao()){
                     case LEFT:
-                        child = new Alho(x, y, Direction.RIGHT, 2);
+                        child = new Alho(getX(), getY(), Direction.RIGHT, 2);
                     break;
                     case RIGHT:
-                        child = new Alho(x, y, Direction.LEFT, 2);
+                        child = new Alho(getX(), getY(), Direction.LEFT, 2);
                     break;
                     case UP:
-                        child = new Alho(x, y, Direction.DOWN, 2);
+                        child = new Alho(getX(), getY(), Direction.DOWN, 2);
                     break;
                     default:
-                        child = new Alho(x, y, Direction.UP, 2);
+                        child = new Alho(getX(), getY(), Direction.UP, 2);
                     break;
                 }
                 inimigos.add(child);
-                objetosColidiveis.add(child);
+                entidades.adicionar(child);
             }
             atualizarEstagio();
 
             efeito.playSong("assets/tiro.wav", false);
-            pofs.add(new Pof(x, y, tamanho + tamanho / 2));
+            particulas.emitirPof(getX(), getY(), tamanho + tamanho / 2);
 
-            if(hp <= 0) isAlive = false;
+            if(getHp() <= 0) morrer();
             return true;
         }
 
@@ -2059,23 +2171,24 @@ public class TelaJogo extends TelaBase {
          * Atualiza o estágio do alho baseado no seu hp atual
          */
         private void atualizarEstagio() {
-            if (hp == 3){
+            if (getHp() == 3){
                 estagio = Estagio.ALHO;
                 curImage = alhoImgs[0];
             }
-            else if (hp == 2) {
+            else if (getHp() == 2) {
                 estagio = Estagio.DENTALHO;
-                velocidade = 2;
+                setVelocidade(2);
                 imgSet = 1;
             } else {
                 estagio = Estagio.DESCASCALHO;
-                velocidade = 4;
+                setVelocidade(4);
                 imgSet = 3;
             }
         }
 
         /**
-         * Gerencia o comportamento do alho (nesse caso a movimentação).
+         * Gerencia o comportamento do alho (nesse caso a imagem da movimentação, já que o movimento em si é feito pelo
+         * sistema de criaturas).
          * 
          * <p>
          * Em seus estágios {@code DENTALHO} e {@code DESCASCALHO}, o alho se move de maneira mais errática que outros
@@ -2089,113 +2202,28 @@ public class TelaJogo extends TelaBase {
                 batata.takeDamage(1);
             }
 
-            if(estagio != Estagio.ALHO) switch(this.ultimaDirecao){
-                case LEFT:
-                    this.x -= velocidade;
-                    this.curImage = alhoImgs[imgSet + 1];
-                break;
-                case RIGHT:
-                    this.x += velocidade;
-                    this.curImage = alhoImgs[imgSet];
-                break;
-                case UP:
-                    this.y -= velocidade;
-                    this.curImage = alhoImgs[imgSet + 1];
-                break;
-                case DOWN:
-                    this.y += velocidade;
-                    this.curImage = alhoImgs[imgSet];
-                break;
-            }
-
-            if(foraDaTela()){
-                switch(this.ultimaDirecao){
-                    case LEFT:
-                        this.x += velocidade;
-                        ultimaDirecao = Direction.values()[new Random().nextInt(4)];
-                    break;
-                    case RIGHT:
-                        this.x -= velocidade;
-                        ultimaDirecao = Direction.values()[new Random().nextInt(4)];
-                    break;
-                    case UP:
-                        this.y += velocidade;
-                        ultimaDirecao = Direction.values()[new Random().nextInt(4)];
-                    break;
-                    case DOWN:
-                        this.y -= velocidade;
-                        ultimaDirecao = Direction.values()[new Random().nextInt(4)];
-                    break;
-                }
+            if(estagio != Estagio.ALHO) switch(getDirecao()){
+                case LEFT: case UP: this.curImage = alhoImgs[imgSet + 1]; break;
+                case RIGHT: case DOWN: this.curImage = alhoImgs[imgSet]; break;
             }
         }
     }
 
     /**
-     * Gerencia a colisão entre paredes e outros objetos colidíveis
+     * Gerencia a colisão entre paredes e o jogador (a dos inimigos é feita pelo sistema de criaturas)
      * 
      * @param entity A entidade colidindo com a parede
      */
     private void verificarColisaoParede(ObjetoColidivel entity) { 
         if(entity.layer == ObjetoColidivel.CollisionLayer.PLAYER){
             Player jogador = (Player) entity;
-            for (Parede parede : paredes) {
-                if (entity.colideCom(parede)) {
-                    // Reverte o movimento
-                    switch (jogador.getUltimaDirecao()) {
-                        case LEFT: entity.x += batata.getVelocidade(); break;
-                        case RIGHT: entity.x -= batata.getVelocidade(); break;
-                        case UP: entity.y += batata.getVelocidade(); break;
-                        case DOWN: entity.y -= batata.getVelocidade(); break;
-                    }
-                    break;
-                }
-            }
-        }
-        else if(
-            entity.layer == ObjetoColidivel.CollisionLayer.ENEMY &&
-            ((Inimigo)entity).velocidade != 0 &&
-            !((Inimigo)entity).isFlying
-        ){
-            if(entity instanceof Alho){
-                Alho alho = (Alho) entity;
-                for (Parede parede : paredes) {
-                    if (entity.colideCom(parede)) {
-                        // Reverte o movimento
-                        switch(alho.ultimaDirecao){
-                            case LEFT:
-                                alho.x += alho.velocidade;
-                                alho.ultimaDirecao = Direction.values()[new Random().nextInt(4)];
-                            break;
-                            case RIGHT:
-                                alho.x -= alho.velocidade;
-                                alho.ultimaDirecao = Direction.values()[new Random().nextInt(4)];
-                            break;
-                            case UP:
-                                alho.y += alho.velocidade;
-                                alho.ultimaDirecao = Direction.values()[new Random().nextInt(4)];
-                            break;
-                            case DOWN:
-                                alho.y -= alho.velocidade;
-                                alho.ultimaDirecao = Direction.values()[new Random().nextInt(4)];
-                            break;
-                        }
-                        break;
-                    }
-                }   
-            } else {
-                Inimigo inimigo = (Inimigo) entity;
-                for (Parede parede : paredes) {
-                    if (entity.colideCom(parede)) {
-                        // Reverte o movimento
-                        switch (inimigo.ultimaDirecao) {
-                            case LEFT: inimigo.x += inimigo.velocidade; inimigo.ultimaDirecao = Direction.RIGHT; break;
-                            case RIGHT: inimigo.x -= inimigo.velocidade; inimigo.ultimaDirecao = Direction.LEFT; break;
-                            case UP: inimigo.y += inimigo.velocidade; inimigo.ultimaDirecao = Direction.DOWN; break;
-                            case DOWN: inimigo.y -= inimigo.velocidade; inimigo.ultimaDirecao = Direction.UP; break;
-                        }
-                        break;
-                    }
+            if (mapaParedes.bloqueado(entity)) {
+                // Reverte o movimento
+                switch (jogador.getUltimaDirecao()) {
+                    case LEFT: entity.x += batata.getVelocidade(); break;
+                    case RIGHT: entity.x -= batata.getVelocidade(); break;
+                    case UP: entity.y += batata.getVelocidade(); break;
+                    case DOWN: entity.y -= batata.getVelocidade(); break;
                 }
             }
         }
@@ -2217,20 +2245,17 @@ public class TelaJogo extends TelaBase {
         /** Última direção de tiro do jogador */
         private Direction ultimaDirecaoTiro = null;
         /** Guarda a última vez que o jogador atirou */
-        private long ultimoTiro = 0;
-        /** Timer para processar ações do jogador de forma contínua (~60 FPS)*/
-        private Timer continuousActionTimer;
+        private long ultimoTiro = SimClock.NUNCA;
 
         /**
-         * Construtor da classe GameKeyAdapter
+         * Fase de entrada do passo de simulação. Consome o estado atual das teclas para mover o jogador, atirar e
+         * atualizar a animação, antes que o resto do mundo seja atualizado
          */
-        public GameKeyAdapter() {
-            continuousActionTimer = new Timer(16, e -> {
-                processMovement();
-                processShooting();
-                updateAnimation();
-            });
-            continuousActionTimer.start();
+        public void processarEntrada() {
+            batata.atualizarPasso();
+            processMovement();
+            processShooting();
+            updateAnimation();
         }
 
         /**
@@ -2347,7 +2372,7 @@ public class TelaJogo extends TelaBase {
         private void processShooting() {
             if (activeShootingKeys.isEmpty()) return;
             
-            long now = System.currentTimeMillis();
+            long now = relogio.agora();
             if (now - ultimoTiro <= INTERVALO_TIRO) return;
             
             Direction direction = null;
@@ -2384,7 +2409,7 @@ public class TelaJogo extends TelaBase {
                     case DOWN: p.setImage(cenouraImgs[3]); break;
                 }
                 cenouras.add(p);
-                objetosColidiveis.add(p);
+                entidades.adicionar(p);
                 ultimoTiro = now;
             }
         }
@@ -2393,7 +2418,7 @@ public class TelaJogo extends TelaBase {
          * Atualiza a imagem atual do jogador baseado no que ele está fazendo no moemento
          */
         private void updateAnimation() {
-            boolean isAtirando = (System.currentTimeMillis() - ultimoTiro) < 200 && ultimaDirecaoTiro != null;
+            boolean isAtirando = (relogio.agora() - ultimoTiro) < 200 && ultimaDirecaoTiro != null;
             boolean isMoving = !activeMovementKeys.isEmpty();
             
             // Prioridade para animação de tiro se estiver atirando agora
@@ -2416,11 +2441,10 @@ public class TelaJogo extends TelaBase {
             }
         }
         
-        /** Para o timer de ação contínua*/
+        /** Descarta as teclas ativas */
         public void dispose() {
-            if (continuousActionTimer != null) {
-                continuousActionTimer.stop();
-            }
+            activeMovementKeys.clear();
+            activeShootingKeys.clear();
         }
     }
 
@@ -2488,6 +2512,9 @@ public class TelaJogo extends TelaBase {
             public DungeonLayout(int lay){
                 this.lay = lay;
             }
+
+            /** Grade de ocupação das paredes, gerada na primeira vez que a dungeon é carregada */
+            private WallGrid ocupacao;
             
             /**
              * Adciona as paredes da dungeon
@@ -2675,247 +2702,45 @@ public class TelaJogo extends TelaBase {
                         paredes.add(new Parede(LARGURA_TELA/2 + TAMANHO_BLOCO, 450, TAMANHO_BLOCO*11, TAMANHO_BLOCO*2));
                     break;
                 }
-                for (Parede paredes : paredes) objetosColidiveis.add(paredes);
+                for (Parede paredes : paredes) entidades.adicionar(paredes);
+                if (ocupacao == null) ocupacao = WallGrid.construir(paredes, LARGURA_TELA, ALTURA_TELA);
+                mapaParedes = ocupacao;
             }
 
             /**
              * Adiciona os inimigos da dungeon
              */
             void getInimigos(){
-                switch(lay){
-                    case 0:
-                        inimigos.add(new Slime(LARGURA_TELA/2 - TAMANHO_BLOCO/2, 200, Direction.UP));
-                        inimigos.add(new Slime(LARGURA_TELA/2 - TAMANHO_BLOCO/2, 500, Direction.DOWN));
-                    break;
-                    case 1:
-                        inimigos.add(new Flyme(LARGURA_TELA/2 - TAMANHO_BLOCO/2, 200, Direction.DOWN));
-                    break;
-                    case 2:
-                        inimigos.add(new Slime(LARGURA_TELA/2 - TAMANHO_BLOCO/2, 200, Direction.UP));
-                        inimigos.add(new Slime(LARGURA_TELA/2 - TAMANHO_BLOCO/2, 500, Direction.DOWN));
-                        inimigos.add(new Flyme(LARGURA_TELA/2 - TAMANHO_BLOCO/2, 200, Direction.DOWN));
-                    break;
-                    case 3:
-                        inimigos.add(new Slime(50, ALTURA_TELA - TAMANHO_BLOCO*2, Direction.UP));
-                        inimigos.add(new Slime(LARGURA_TELA - TAMANHO_BLOCO*2, ALTURA_TELA - TAMANHO_BLOCO*2, Direction.UP));
-                        inimigos.add(new Flyme(50, 50, Direction.RIGHT));
-                        inimigos.add(new Flyme(LARGURA_TELA - TAMANHO_BLOCO*2, 50, Direction.LEFT));
-                    break;
-                    case 4:
-                        inimigos.add(new Alho(LARGURA_TELA/2 - TAMANHO_BLOCO/2, ALTURA_TELA/2 - TAMANHO_BLOCO/2, Direction.LEFT, 3));
-                    break;
-                    case 5:
-                        inimigos.add(new Prato(LARGURA_TELA/2 - TAMANHO_BLOCO, 50, Direction.DOWN));
-                        inimigos.add(new Prato(LARGURA_TELA/2 + TAMANHO_BLOCO, 650, Direction.UP));
-                    break;
-                    case 6:
-                        inimigos.add(new Armandibula(LARGURA_TELA/2 - TAMANHO_BLOCO/2, ALTURA_TELA/2 - TAMANHO_BLOCO/2));
-                    break;
-                    case 7:
-                        inimigos.add(new Prato(75, 50, Direction.DOWN));
-                        inimigos.add(new Prato(LARGURA_TELA - TAMANHO_BLOCO*2, 75, Direction.LEFT));
-                        inimigos.add(new Prato(75, ALTURA_TELA - TAMANHO_BLOCO*5, Direction.DOWN));
-                        inimigos.add(new Prato(LARGURA_TELA - TAMANHO_BLOCO*2, ALTURA_TELA - (TAMANHO_BLOCO*5)/2, Direction.LEFT));
-                        inimigos.add(new Prato(LARGURA_TELA - (TAMANHO_BLOCO*5)/2, 200, Direction.DOWN));
-                        inimigos.add(new Prato(200, 225, Direction.RIGHT));
-                        inimigos.add(new Prato(TAMANHO_BLOCO*7, 375, Direction.RIGHT));
-                        inimigos.add(new Prato(TAMANHO_BLOCO*7, 475, Direction.RIGHT));
-                        inimigos.add(new Armandibula(LARGURA_TELA/2 - TAMANHO_BLOCO/2, 75));
-                        inimigos.add(new Armandibula(LARGURA_TELA - TAMANHO_BLOCO*4, 375));
-                        inimigos.add(new Armandibula(150, ALTURA_TELA - (TAMANHO_BLOCO*5)/2));
-                    break;
-                    case 8:
-                        inimigos.add(new Slime(50, ALTURA_TELA - TAMANHO_BLOCO*2, Direction.UP));
-                        inimigos.add(new Slime(LARGURA_TELA - TAMANHO_BLOCO*2, ALTURA_TELA - TAMANHO_BLOCO*2, Direction.UP));
-                        inimigos.add(new Flyme(50, 50, Direction.RIGHT));
-                        inimigos.add(new Flyme(LARGURA_TELA - TAMANHO_BLOCO*2, 50, Direction.LEFT));
-                        inimigos.add(new Prato(75, 200, Direction.UP));
-                        inimigos.add(new Armandibula(150, ALTURA_TELA/2 - TAMANHO_BLOCO));
-                        inimigos.add(new Armandibula(LARGURA_TELA - TAMANHO_BLOCO*4, ALTURA_TELA/2 - TAMANHO_BLOCO));
-                    break;
-                    case 9:
-                        inimigos.add(new Alho(LARGURA_TELA/2 - TAMANHO_BLOCO/2, ALTURA_TELA/2 - TAMANHO_BLOCO/2, Direction.UP, 3));
-                        inimigos.add(new Alho(LARGURA_TELA - TAMANHO_BLOCO*2, 200, Direction.LEFT, 3));
-                        inimigos.add(new Alho(LARGURA_TELA - TAMANHO_BLOCO*2, 500, Direction.LEFT, 3));
-                    break;
-                    case 10:
-                        inimigos.add(new QueijoBoxer(LARGURA_TELA/2 - TAMANHO_BLOCO/2, 50, Direction.DOWN, ALTURA_TELA - TAMANHO_BLOCO*3));
-                    break;
-                    case 11:
-                        inimigos.add(new Slime(LARGURA_TELA/2 - TAMANHO_BLOCO/2, ALTURA_TELA/2 - TAMANHO_BLOCO/2, Direction.UP));
-                        inimigos.add(new Morcerango(LARGURA_TELA/2 - TAMANHO_BLOCO/2, ALTURA_TELA/2 - TAMANHO_BLOCO*4, Direction.UP));
-                        inimigos.add(new Morcerango(LARGURA_TELA/2 - TAMANHO_BLOCO*3, ALTURA_TELA/2 - TAMANHO_BLOCO*4, Direction.DOWN));
-                        inimigos.add(new Morcerango(LARGURA_TELA/2 + TAMANHO_BLOCO*2, ALTURA_TELA/2 - TAMANHO_BLOCO*4, Direction.DOWN));
-                    break;
-                    case 12:
-                        inimigos.add(new QueijoBoxer(100, 50, Direction.DOWN, ALTURA_TELA - TAMANHO_BLOCO*3));
-                        inimigos.add(new QueijoBoxer(200, 50, Direction.DOWN, ALTURA_TELA - TAMANHO_BLOCO*3));
-                        inimigos.add(new QueijoBoxer(300, 50, Direction.DOWN, ALTURA_TELA - TAMANHO_BLOCO*3));
-                        inimigos.add(new QueijoBoxer(400, 50, Direction.DOWN, ALTURA_TELA - TAMANHO_BLOCO*3));
-                        inimigos.add(new QueijoBoxer(500, 50, Direction.DOWN, ALTURA_TELA - TAMANHO_BLOCO*3));
-                        inimigos.add(new QueijoBoxer(600, 50, Direction.DOWN, ALTURA_TELA - TAMANHO_BLOCO*3));
-                        inimigos.add(new QueijoBoxer(700, 50, Direction.DOWN, ALTURA_TELA - TAMANHO_BLOCO*3));
-                        inimigos.add(new QueijoBoxer(800, 50, Direction.DOWN, ALTURA_TELA - TAMANHO_BLOCO*3));
-                        inimigos.add(new QueijoBoxer(900, 50, Direction.DOWN, ALTURA_TELA - TAMANHO_BLOCO*3));
-                        inimigos.add(new QueijoBoxer(1000, 50, Direction.DOWN, ALTURA_TELA - TAMANHO_BLOCO*3));
-                        inimigos.add(new QueijoBoxer(1100, 50, Direction.DOWN, ALTURA_TELA - TAMANHO_BLOCO*3));
-                        inimigos.add(new QueijoBoxer(1200, 50, Direction.DOWN, ALTURA_TELA - TAMANHO_BLOCO*3));
-                        inimigos.add(new Morcerango(0, 250, Direction.DOWN));
-                        inimigos.add(new Morcerango(LARGURA_TELA - TAMANHO_BLOCO, 250, Direction.DOWN));
-                    break;
-                    case 13:
-                        inimigos.add(new Slime(50, ALTURA_TELA - TAMANHO_BLOCO*2, Direction.UP));
-                        inimigos.add(new Slime(LARGURA_TELA - TAMANHO_BLOCO*2, ALTURA_TELA - TAMANHO_BLOCO*2, Direction.UP));
-                        inimigos.add(new Flyme(50, 50, Direction.RIGHT));
-                        inimigos.add(new Flyme(LARGURA_TELA - TAMANHO_BLOCO*2, 50, Direction.LEFT));
-                        inimigos.add(new Prato(75, 200, Direction.UP));
-                        inimigos.add(new Armandibula(150, ALTURA_TELA/2 - TAMANHO_BLOCO));
-                        inimigos.add(new Armandibula(LARGURA_TELA - TAMANHO_BLOCO*4, ALTURA_TELA/2 - TAMANHO_BLOCO));
-                        inimigos.add(new QueijoBoxer(350, 450, Direction.UP, TAMANHO_BLOCO*5));
-                        inimigos.add(new QueijoBoxer(LARGURA_TELA/2 + TAMANHO_BLOCO*2, 200, Direction.DOWN, TAMANHO_BLOCO*5));
-                        inimigos.add(new Morcerango(150, ALTURA_TELA - TAMANHO_BLOCO*5, Direction.RIGHT));
-                        inimigos.add(new Morcerango(LARGURA_TELA - TAMANHO_BLOCO*4, ALTURA_TELA - TAMANHO_BLOCO*5, Direction.LEFT));
-                        inimigos.add(new Morcerango(300, 300, Direction.RIGHT));
-                        inimigos.add(new Morcerango(LARGURA_TELA - TAMANHO_BLOCO*7, 300, Direction.LEFT));
-                    break;
-                    case 14:
-                        inimigos.add(new Alho(LARGURA_TELA/2 - TAMANHO_BLOCO/2, ALTURA_TELA/2 - TAMANHO_BLOCO/2, Direction.UP, 3));
-                        inimigos.add(new Alho(LARGURA_TELA - TAMANHO_BLOCO*2, 200, Direction.LEFT, 3));
-                        inimigos.add(new Alho(LARGURA_TELA - TAMANHO_BLOCO*2, 500, Direction.LEFT, 3));
-                        inimigos.add(new Alho(50, 200, Direction.RIGHT, 3));
-                        inimigos.add(new Alho(50, 500, Direction.RIGHT, 3));
-                    break;
-                    case 15:
-                        inimigos.add(new AlgodogDoce(50, 50, Direction.DOWN, ALTURA_TELA - TAMANHO_BLOCO*3));
-                        inimigos.add(new AlgodogDoce(50, 650, Direction.UP, ALTURA_TELA - TAMANHO_BLOCO*3));
-                        inimigos.add(new AlgodogDoce(LARGURA_TELA - TAMANHO_BLOCO*2, 200, Direction.LEFT, LARGURA_TELA - TAMANHO_BLOCO*3));
-                        inimigos.add(new AlgodogDoce(LARGURA_TELA - TAMANHO_BLOCO*2, 500, Direction.LEFT, LARGURA_TELA - TAMANHO_BLOCO*3));
-                    break;
-                    case 16:
-                        inimigos.add(new Chocochato(LARGURA_TELA/2 - TAMANHO_BLOCO, 100));
-                        inimigos.add(new Chocochato(LARGURA_TELA/2 + TAMANHO_BLOCO, 600));
-                        inimigos.add(new Prato(LARGURA_TELA/2 - TAMANHO_BLOCO, 50, Direction.DOWN));
-                        inimigos.add(new Prato(LARGURA_TELA/2 + TAMANHO_BLOCO, 650, Direction.UP));
-                    break;
-                    case 17:
-                        inimigos.add(new Prato(LARGURA_TELA - TAMANHO_BLOCO*2, 300, Direction.LEFT));
-                        inimigos.add(new Prato(LARGURA_TELA - TAMANHO_BLOCO*2, 400, Direction.LEFT));
-                        inimigos.add(new QueijoBoxer(50, 50, Direction.RIGHT, LARGURA_TELA - TAMANHO_BLOCO*3));
-                        inimigos.add(new QueijoBoxer(50, ALTURA_TELA - TAMANHO_BLOCO*2, Direction.RIGHT, LARGURA_TELA - TAMANHO_BLOCO*3));
-                        inimigos.add(new QueijoBoxer(LARGURA_TELA - TAMANHO_BLOCO*2, 350, Direction.LEFT, LARGURA_TELA - TAMANHO_BLOCO*2));
-                        inimigos.add(new AlgodogDoce(LARGURA_TELA/2 + TAMANHO_BLOCO*2, 300, Direction.LEFT, TAMANHO_BLOCO*15));
-                        inimigos.add(new AlgodogDoce(LARGURA_TELA/2 + TAMANHO_BLOCO*2, 350, Direction.LEFT, TAMANHO_BLOCO*15));
-                        inimigos.add(new AlgodogDoce(LARGURA_TELA/2 + TAMANHO_BLOCO*2, 400, Direction.LEFT, TAMANHO_BLOCO*15));
-                        inimigos.add(new Chocochato(LARGURA_TELA/2 - TAMANHO_BLOCO*4, 300));
-                        inimigos.add(new Chocochato(LARGURA_TELA/2 - TAMANHO_BLOCO*4, 350));
-                        inimigos.add(new Chocochato(LARGURA_TELA/2 - TAMANHO_BLOCO*4, 400));
-                        inimigos.add(new Chocochato(LARGURA_TELA/2 + TAMANHO_BLOCO*3, 300));
-                        inimigos.add(new Chocochato(LARGURA_TELA/2 + TAMANHO_BLOCO*3, 350));
-                        inimigos.add(new Chocochato(LARGURA_TELA/2 + TAMANHO_BLOCO*3, 400));
-                        inimigos.add(new Chocochato(LARGURA_TELA - TAMANHO_BLOCO*3, 300));
-                        inimigos.add(new Chocochato(LARGURA_TELA - TAMANHO_BLOCO*3, 350));
-                        inimigos.add(new Chocochato(LARGURA_TELA - TAMANHO_BLOCO*3, 400));
-                        inimigos.add(new Chocochato(100, 50));
-                        inimigos.add(new Chocochato(100, ALTURA_TELA - TAMANHO_BLOCO*2));
-                    break;
-                    case 18:
-                        inimigos.add(new Slime(50, ALTURA_TELA - TAMANHO_BLOCO*2, Direction.UP));
-                        inimigos.add(new Slime(LARGURA_TELA - TAMANHO_BLOCO*2, ALTURA_TELA - TAMANHO_BLOCO*2, Direction.UP));
-                        inimigos.add(new Flyme(50, 50, Direction.RIGHT));
-                        inimigos.add(new Flyme(LARGURA_TELA - TAMANHO_BLOCO*2, 50, Direction.LEFT));
-                        inimigos.add(new Prato(75, 200, Direction.UP));
-                        inimigos.add(new Armandibula(150, ALTURA_TELA/2 - TAMANHO_BLOCO));
-                        inimigos.add(new Armandibula(LARGURA_TELA - TAMANHO_BLOCO*4, ALTURA_TELA/2 - TAMANHO_BLOCO));
-                        inimigos.add(new QueijoBoxer(350, 450, Direction.UP, TAMANHO_BLOCO*5));
-                        inimigos.add(new QueijoBoxer(LARGURA_TELA/2 + TAMANHO_BLOCO*2, 200, Direction.DOWN, TAMANHO_BLOCO*5));
-                        inimigos.add(new Morcerango(150, ALTURA_TELA - TAMANHO_BLOCO*5, Direction.RIGHT));
-                        inimigos.add(new Morcerango(LARGURA_TELA - TAMANHO_BLOCO*4, ALTURA_TELA - TAMANHO_BLOCO*5, Direction.LEFT));
-                        inimigos.add(new Morcerango(300, 300, Direction.RIGHT));
-                        inimigos.add(new Morcerango(LARGURA_TELA - TAMANHO_BLOCO*7, 300, Direction.LEFT));
-                        inimigos.add(new AlgodogDoce(250, 350, Direction.LEFT, TAMANHO_BLOCO*5));
-                        inimigos.add(new AlgodogDoce(LARGURA_TELA - TAMANHO_BLOCO, 300, Direction.LEFT, TAMANHO_BLOCO*5));
-                        inimigos.add(new Chocochato(LARGURA_TELA/2 - TAMANHO_BLOCO, 150));
-                        inimigos.add(new Chocochato(LARGURA_TELA/2, 150));
-                        inimigos.add(new Chocochato(LARGURA_TELA/2 - TAMANHO_BLOCO, 350));
-                        inimigos.add(new Chocochato(LARGURA_TELA/2, 350));
-                        inimigos.add(new Chocochato(LARGURA_TELA/2 - TAMANHO_BLOCO, 500));
-                        inimigos.add(new Chocochato(LARGURA_TELA/2, 500));
-                        inimigos.add(new Chocochato(50, 150));
-                        inimigos.add(new Chocochato(100, 150));
-                        inimigos.add(new Chocochato(LARGURA_TELA - TAMANHO_BLOCO*2, 150));
-                        inimigos.add(new Chocochato(LARGURA_TELA - TAMANHO_BLOCO*3, 150));
-                    break;
-                    case 19:
-                        inimigos.add(new Alho(LARGURA_TELA/4 - TAMANHO_BLOCO/2, ALTURA_TELA/2 - TAMANHO_BLOCO/2, Direction.UP, 3));
-                        inimigos.add(new Alho((LARGURA_TELA*3)/4 - TAMANHO_BLOCO/2, ALTURA_TELA/2 - TAMANHO_BLOCO/2, Direction.UP, 3));
-                        inimigos.add(new Alho(LARGURA_TELA - TAMANHO_BLOCO*2, 200, Direction.LEFT, 3));
-                        inimigos.add(new Alho(LARGURA_TELA - TAMANHO_BLOCO*2, 500, Direction.LEFT, 3));
-                        inimigos.add(new Alho(50, 200, Direction.RIGHT, 3));
-                        inimigos.add(new Alho(50, 500, Direction.RIGHT, 3));
-                    break;
-                    case 20:
-                        inimigos.add(new Malandranha(50, 50));
-                        inimigos.add(new Malandranha(LARGURA_TELA - TAMANHO_BLOCO*2, 50));
-                        inimigos.add(new Malandranha(LARGURA_TELA - TAMANHO_BLOCO*2, 650));
-                    break;
-                    case 21:
-                        inimigos.add(new SlimeBot(LARGURA_TELA/2 - TAMANHO_BLOCO/2, 50, Direction.DOWN, ALTURA_TELA - TAMANHO_BLOCO*3));
-                        inimigos.add(new SlimeBot(LARGURA_TELA/2 - TAMANHO_BLOCO*3, 50, Direction.DOWN, ALTURA_TELA - TAMANHO_BLOCO*3));
-                        inimigos.add(new SlimeBot(LARGURA_TELA/2 + TAMANHO_BLOCO*2, 50, Direction.DOWN, ALTURA_TELA - TAMANHO_BLOCO*3));
-                        inimigos.add(new Chocochato(LARGURA_TELA/2 - TAMANHO_BLOCO, 100));
-                        inimigos.add(new Chocochato(LARGURA_TELA/2, 100));
-                        inimigos.add(new Chocochato(LARGURA_TELA/2 - TAMANHO_BLOCO*3, 100));
-                        inimigos.add(new Chocochato(LARGURA_TELA/2 + TAMANHO_BLOCO*2, 100));
-                    break;
-                    case 22:
-                        inimigos.add(new Chocochato(100, ALTURA_TELA - TAMANHO_BLOCO*2));
-                        inimigos.add(new Chocochato(LARGURA_TELA - TAMANHO_BLOCO*3, ALTURA_TELA - TAMANHO_BLOCO*2));
-                        inimigos.add(new SlimeBot(50, ALTURA_TELA - TAMANHO_BLOCO*2, Direction.RIGHT, TAMANHO_BLOCO*9));
-                        inimigos.add(new Chocochato(LARGURA_TELA/2 - TAMANHO_BLOCO, 550));
-                        inimigos.add(new Chocochato(LARGURA_TELA/2, 550));
-                        inimigos.add(new Malandranha(LARGURA_TELA/2  - TAMANHO_BLOCO, 650));
-                        inimigos.add(new Malandranha(LARGURA_TELA/2, 650));
-                        inimigos.add(new SlimeBot(LARGURA_TELA - TAMANHO_BLOCO*2, ALTURA_TELA - TAMANHO_BLOCO*2, Direction.LEFT, TAMANHO_BLOCO*9));
-                        inimigos.add(new GigaBot(LARGURA_TELA/2 - TAMANHO_BLOCO, ALTURA_TELA - TAMANHO_BLOCO*3, Direction.UP, ALTURA_TELA - TAMANHO_BLOCO*4));
-                    break;
-                    case 23:
-                        inimigos.add(new Slime(50, ALTURA_TELA - TAMANHO_BLOCO*2, Direction.UP));
-                        inimigos.add(new Slime(LARGURA_TELA - TAMANHO_BLOCO*2, ALTURA_TELA - TAMANHO_BLOCO*2, Direction.UP));
-                        inimigos.add(new Flyme(50, 50, Direction.RIGHT));
-                        inimigos.add(new Flyme(LARGURA_TELA - TAMANHO_BLOCO*2, 50, Direction.LEFT));
-                        inimigos.add(new Prato(75, 200, Direction.UP));
-                        inimigos.add(new Armandibula(150, ALTURA_TELA/2 - TAMANHO_BLOCO));
-                        inimigos.add(new Armandibula(LARGURA_TELA - TAMANHO_BLOCO*4, ALTURA_TELA/2 - TAMANHO_BLOCO));
-                        inimigos.add(new QueijoBoxer(350, 450, Direction.UP, TAMANHO_BLOCO*5));
-                        inimigos.add(new QueijoBoxer(LARGURA_TELA/2 + TAMANHO_BLOCO*2, 200, Direction.DOWN, TAMANHO_BLOCO*5));
-                        inimigos.add(new Morcerango(150, ALTURA_TELA - TAMANHO_BLOCO*5, Direction.RIGHT));
-                        inimigos.add(new Morcerango(LARGURA_TELA - TAMANHO_BLOCO*4, ALTURA_TELA - TAMANHO_BLOCO*5, Direction.LEFT));
-                        inimigos.add(new Morcerango(300, 300, Direction.RIGHT));
-                        inimigos.add(new Morcerango(LARGURA_TELA - TAMANHO_BLOCO*7, 300, Direction.LEFT));
-                        inimigos.add(new AlgodogDoce(250, 350, Direction.LEFT, TAMANHO_BLOCO*5));
-                        inimigos.add(new AlgodogDoce(LARGURA_TELA - TAMANHO_BLOCO, 300, Direction.LEFT, TAMANHO_BLOCO*5));
-                        inimigos.add(new Chocochato(LARGURA_TELA/2 - TAMANHO_BLOCO, 150));
-                        inimigos.add(new Chocochato(LARGURA_TELA/2, 150));
-                        inimigos.add(new Chocochato(LARGURA_TELA/2 - TAMANHO_BLOCO, 350));
-                        inimigos.add(new Chocochato(LARGURA_TELA/2, 350));
-                        inimigos.add(new Chocochato(LARGURA_TELA/2 - TAMANHO_BLOCO, 500));
-                        inimigos.add(new Chocochato(LARGURA_TELA/2, 500));
-                        inimigos.add(new Chocochato(50, 150));
-                        inimigos.add(new Chocochato(100, 150));
-                        inimigos.add(new Chocochato(LARGURA_TELA - TAMANHO_BLOCO*2, 150));
-                        inimigos.add(new Chocochato(LARGURA_TELA - TAMANHO_BLOCO*3, 150));
-                        inimigos.add(new Malandranha(250, 450));
-                        inimigos.add(new Malandranha(LARGURA_TELA - TAMANHO_BLOCO*6, 450));
-                        inimigos.add(new SlimeBot(LARGURA_TELA - (TAMANHO_BLOCO*5)/2, 200, Direction.UP, TAMANHO_BLOCO*3));
-                        inimigos.add(new GigaBot(LARGURA_TELA/2 - TAMANHO_BLOCO, 50, Direction.DOWN, ALTURA_TELA - TAMANHO_BLOCO*4));
-                    break;
-                    case 24:
-                        inimigos.add(new Alho(LARGURA_TELA/2 - TAMANHO_BLOCO/2, ALTURA_TELA/2 - TAMANHO_BLOCO/2, Direction.UP, 3));
-                        inimigos.add(new GigaBot(50, 100, Direction.RIGHT, LARGURA_TELA - TAMANHO_BLOCO*4));
-                        inimigos.add(new GigaBot(LARGURA_TELA - TAMANHO_BLOCO*3, ALTURA_TELA - TAMANHO_BLOCO*4, Direction.LEFT, LARGURA_TELA - TAMANHO_BLOCO*4));
-                    break;
+                for (Aparicao aparicao : APARICOES_POR_DUNGEON[lay]){
+                    inimigos.add(criarInimigo(aparicao));
+                }
+                for (Inimigo inimigo : inimigos){
+                    entidades.adicionar(inimigo);
+                }
+            }
+
+            /**
+             * Cria o inimigo descrito por uma aparição da tabela de inimigos das dungeons
+             *
+             * @param a A aparição
+             * @return O inimigo criado
+             */
+            private Inimigo criarInimigo(Aparicao a){
+                switch(a.tipo){
+                    case SLIME: return new Slime(a.x, a.y, a.direcao);
+                    case FLYME: return new Flyme(a.x, a.y, a.direcao);
+                    case PRATO: return new Prato(a.x, a.y, a.direcao);
+                    case ARMANDIBULA: return new Armandibula(a.x, a.y);
+                    case MORCERANGO: return new Morcerango(a.x, a.y, a.direcao);
+                    case QUEIJO_BOXER: return new QueijoBoxer(a.x, a.y, a.direcao, a.parametro);
+                    case CHOCOCHATO: return new Chocochato(a.x, a.y);
+                    case ALGODOG_DOCE: return new AlgodogDoce(a.x, a.y, a.direcao, a.parametro);
+                    case SLIME_BOT: return new SlimeBot(a.x, a.y, a.direcao, a.parametro);
+                    case GIGA_BOT: return new GigaBot(a.x, a.y, a.direcao, a.parametro);
+                    case MALANDRANHA: return new Malandranha(a.x, a.y);
+                    case ALHO: return new Alho(a.x, a.y, a.direcao, a.parametro);
+                    default: throw new IllegalArgumentException("Tipo de inimigo desconhecido: " + a.tipo);
                 }
-                for (Inimigo inimigo : inimigos) objetosColidiveis.add(inimigo);
             }
         }
     }
@@ -2926,24 +2751,51 @@ public class TelaJogo extends TelaBase {
     private void carregarProximaDungeon() {
         dungeonManager.nextDungeon();
         if(dungeonManager.currentDungeon < dungeonManager.dungeonAmount){
-            softClean();
-            Iterator<ObjetoColidivel> it = objetosColidiveis.iterator();
-            while (it.hasNext()) {
-                ObjetoColidivel obj = it.next();
-                if (obj.getLayer() != ObjetoColidivel.CollisionLayer.PLAYER && obj.getLayer() != ObjetoColidivel.CollisionLayer.DOOR) {
-                    it.remove();
-                }
+            montarDungeonAtual();
+        }
+    }
+
+    /**
+     * Carrega diretamente qualquer uma das dungeons, sem passar pelas anteriores. Se a dungeon for de outro mundo,
+     * as imagens da tela são trocadas pelas do novo mundo (esperando o carregamento)
+     * 
+     * @param indice Índice da dungeon (de 0 a 24)
+     */
+    void carregarDungeon(int indice) {
+        dungeonManager.currentDungeon = indice;
+        if(save != indice/5 + 1){
+            // As imagens carregadas são só as do mundo do save
+            save = indice/5 + 1;
+            recarregarRecursos();
+        }
+        montarDungeonAtual();
+    }
+
+    /**
+     * Limpa a dungeon anterior e monta a dungeon atual do {@code dungeonManager}, com o jogador na entrada
+     */
+    private void montarDungeonAtual() {
+        softClean();
+        for (ObjetoColidivel obj : entidades) {
+            if (obj.getLayer() != ObjetoColidivel.CollisionLayer.PLAYER && obj.getLayer() != ObjetoColidivel.CollisionLayer.DOOR) {
+                entidades.remover(obj);
             }
+        }
+        entidades.aplicarRemocoes();
 
-            batata.setX(0);
-            batata.setY(ALTURA_TELA/2);
+        batata.setX(0);
+        batata.setY(ALTURA_TELA/2);
+        batata.salvarPosicaoAnterior();
 
-                    
-            layout = dungeonManager.getCurrentDungeon();
-            layout.getInimigos();
-            layout.getParedes();
-            porta.setImage(portaImgs[0]);
-            porta.fechar();
+        layout = dungeonManager.getCurrentDungeon();
+        layout.getInimigos();
+        layout.getParedes();
+        porta.setImage(portaImgs[0]);
+        porta.fechar();
+
+        // A última dungeon de um mundo sempre leva ao boss, então o carregamento dele já pode começar
+        if((dungeonManager.currentDungeon + 1) % 5 == 0){
+            precarregar(TelaBoss.recursosDoBoss(save), TelaBoss.musicaDoBoss(save));
         }
     }
 
@@ -2977,9 +2829,9 @@ public class TelaJogo extends TelaBase {
     public void cleanUp() {
         // Parar sistemas
         estado = EstadoJogo.PARADO;
-        if (timer != null) {
-            timer.stop();
-            timer = null;
+        if (gameLoop != null) {
+            gameLoop.stop();
+            gameLoop = null;
         }
         if (gameKeyAdapter != null) {
             gameKeyAdapter.dispose();
@@ -2994,30 +2846,11 @@ public class TelaJogo extends TelaBase {
         
         // Liberar listas
         softClean();
-        objetosColidiveis.clear();
-
-        // Liberar imagens
-        cleanImgArray(backgroundImgs); algodaoImg = null; alertImage = null; pofImage = null; paredeImg = null; iconPause = null;
-        cleanImgArray(batataImgs); cleanImgArray(cenouraImgs); cleanImgArray(slimeImgs); cleanImgArray(flymeImgs);
-        cleanImgArray(pratoImgs); cleanImgArray(facaImgs); cleanImgArray(armandibulaImgs); cleanImgArray(morcerangoImgs);
-        cleanImgArray(queijoBoxerImgs); cleanImgArray(bracoImgs); cleanImgArray(luvaImgs); cleanImgArray(chocochatoImgs);
-        cleanImgArray(algodogDoceImgs); cleanImgArray(slimeBotImgs); cleanImgArray(laserImgs); cleanImgArray(gigaBotImgs);
-        cleanImgArray(gLaserImgs); cleanImgArray(malandranhaImgs); cleanImgArray(alhoImgs); cleanImgArray(portaImgs);
-
-        // Otimização final: Garbage Colector
-        System.gc();
-    }
+        entidades.limpar();
 
-    /**
-     * Limpa um array de imagem
-     * 
-     * @param imgs o array a ser limpo
-     */
-    private void cleanImgArray(Image[] imgs){
-        if (imgs != null) {
-            for (int i = 0; i < imgs.length; i++) imgs[i] = null;
-            imgs = null;
-        }
+        // Liberar imagens (inclusive as cópias pré-escaladas)
+        fila.limparTexturas();
+        liberarImagens();
     }
 
     /**
@@ -3043,7 +2876,6 @@ public class TelaJogo extends TelaBase {
         inimigos.clear();
         paredes.clear();
         cenouras.clear();
-        alertas.clear();
-        pofs.clear();
+        particulas.limpar();
     }
 }
\ No newline at end of file
@@ -1,8 +1,6 @@
-import javax.imageio.ImageIO;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
-import java.io.File;
 import java.io.IOException;
 
 /** 
@@ -19,6 +17,8 @@ public class TelaSecreta extends TelaBase{
 
     /** Imagem de fundo */
     private Image backgroundImg;
+    // Caminhos das imagens
+    private static final String IMG_FUNDO = "assets/secretBackground.png";
 
     /**
      * Construtor da tela secreta
@@ -43,7 +43,7 @@ public class TelaSecreta extends TelaBase{
             add(worldButtons[i], gbc);
         }
         
-        start();
+        carregarEIniciar();
     }
 
     /**
@@ -156,16 +156,21 @@ public class TelaSecreta extends TelaBase{
         });
     }
 
+    /**
+     * Declara as imagens da tela.
+     *
+     * @return O conjunto de imagens da tela
+     */
+    @Override
+    protected AssetBundle recursos(){
+        return new AssetBundle().opacas(IMG_FUNDO);
+    }
+
     /**
      * Carrega a imagem de fundo.
      */
     public void carregarImagens(){
-        try {
-            backgroundImg = ImageIO.read(new File("assets/secretBackground.png"));
-        } catch (IOException e) {
-            System.out.println("Erro ao carregar imagens");
-            e.printStackTrace();
-        }
+        backgroundImg = imagem(IMG_FUNDO);
     }
 
     /**
@@ -195,9 +200,9 @@ public class TelaSecreta extends TelaBase{
      * Realiza limpeza de recursos antes da tela ser descartada.
      */
     public void cleanUp() {
-        // Parar o timer
-        if (timer != null && timer.isRunning()) {
-            timer.stop();
+        // Parar o loop do jogo
+        if (gameLoop != null && gameLoop.isRunning()) {
+            gameLoop.stop();
         }
         
         // Remover botões e seus listeners
@@ -205,9 +210,7 @@ public class TelaSecreta extends TelaBase{
         for (ActionListener al : returnButton.getActionListeners()) returnButton.removeActionListener(al);
         
         // Liberar imagens
+        liberarImagens();
         backgroundImg = null;
-        
-        // Coleta de lixo explícita
-        System.gc();
     }
 }
\ No newline at end of file
@@ -1,9 +1,6 @@
-import javax.imageio.ImageIO;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
-import java.io.File;
-import java.io.IOException;
 
 /** 
  * Classe da Tela de Vitória do jogo
@@ -16,6 +13,8 @@ public class TelaVitoria extends TelaBase{
     private JButton returnButton = new JButton("Voltar ao menu");
     /** Imagem de fundo */
     private Image backgroundImage;
+    // Caminhos das imagens
+    private static final String IMG_FUNDO = "assets/backgroundVictory.png";
 
     /**
      * Construtor da tela secreta
@@ -35,7 +34,7 @@ public class TelaVitoria extends TelaBase{
         gbc.insets = new Insets(0, 0, 20, 0);
         
         add(returnButton, gbc);
-        start();
+        carregarEIniciar();
     }
 
     /**
@@ -66,16 +65,21 @@ public class TelaVitoria extends TelaBase{
         });
     }
 
+    /**
+     * Declara as imagens da tela.
+     *
+     * @return O conjunto de imagens da tela
+     */
+    @Override
+    protected AssetBundle recursos(){
+        return new AssetBundle().opacas(IMG_FUNDO);
+    }
+
     /**
      * Carrega a imagem de fundo.
      */
     public void carregarImagens(){
-        try {
-            backgroundImage = ImageIO.read(new File("assets/backgroundVictory.png"));
-        } catch (IOException e) {
-            System.out.println("Erro ao carregar imagens");
-            e.printStackTrace();
-        }
+        backgroundImage = imagem(IMG_FUNDO);
     }
 
     /**
@@ -110,18 +114,16 @@ public class TelaVitoria extends TelaBase{
      * Realiza limpeza de recursos antes da tela ser descartada.
      */
     public void cleanUp() {
-        // Parar o timer
-        if (timer != null && timer.isRunning()) {
-            timer.stop();
+        // Parar o loop do jogo
+        if (gameLoop != null && gameLoop.isRunning()) {
+            gameLoop.stop();
         }
         
         // Remover botões e seus listeners
         for (ActionListener al : returnButton.getActionListeners()) returnButton.removeActionListener(al);
         
         // Liberar imagens
+        liberarImagens();
         backgroundImage = null;
-        
-        // Coleta de lixo explícita
-        System.gc();
     }
 }
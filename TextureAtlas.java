@@ -0,0 +1,416 @@
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Classe do atlas de texturas do jogo
+ * <p>
+ * O atlas junta os sprites de {@code assets/} em poucas folhas grandes, com um índice que diz em qual folha e em qual
+ * retângulo cada sprite ficou. Assim, em vez de abrir e decodificar um arquivo por sprite, o jogo decodifica a folha
+ * e entrega recortes ({@code getSubimage}) que compartilham os pixels dela. O atlas só muda o carregamento: na hora de
+ * desenhar, os recortes são imagens como as outras, e a {@link RenderQueue} desenha as cópias pré-escaladas deles do
+ * {@link SpriteCache}.
+ * </p>
+ * <p>
+ * Cada folha é um recurso do {@link AssetManager}, com o seu próprio contador de referências: cada recorte em uso
+ * adquire a folha, e a folha é liberada junto com o último recorte dela (e só então pode ser descartada, com a memória
+ * da folha inteira contada no limite do gerenciador). O atlas não guarda referências fortes às folhas nem aos recortes.
+ * </p>
+ * <p>
+ * As folhas são montadas pelos conjuntos de imagens das telas ({@code TelaJogo.recursosDoMundo} e
+ * {@code TelaBoss.recursosDoBoss}): sprites usados exatamente pelos mesmos conjuntos ficam juntos, e cada grupo começa
+ * uma folha nova. Assim, uma tela só decodifica folhas com sprites de que ela precisa.
+ * </p>
+ * <p>
+ * As folhas e o índice ficam em {@code assets/atlas} e são gerados pelo próprio jogo: se o índice não existe, não pode
+ * ser lido ou está desatualizado (o índice guarda o tamanho do arquivo de cada sprite, e algum deles mudou), o atlas
+ * fica vazio e as folhas são geradas de novo em uma thread de baixa prioridade. Enquanto isso, o {@link ImageLoader}
+ * carrega os arquivos individuais, e os carregamentos seguintes já usam as folhas novas. Elas também podem ser geradas
+ * pelo método {@code main} (a partir da raiz do projeto, depois de compilar):
+ * {@code java TextureAtlas [diretório de origem] [diretório de destino] [tamanho da folha]}. Fundos e outras imagens
+ * opacas não entram no atlas.
+ * </p>
+ *
+ * @author Arthur dos Santos Rezende
+ * @version 1.0
+ */
+public class TextureAtlas {
+    /** Diretório padrão das folhas e do índice */
+    public static final String DIRETORIO = "assets/atlas";
+    /** Diretório padrão dos sprites empacotados */
+    private static final String ORIGEM = "assets";
+    /** Nome do arquivo de índice */
+    private static final String INDICE = "atlas.txt";
+    /** Tamanho padrão (largura e altura máximas) de uma folha */
+    private static final int TAMANHO_FOLHA = 2048;
+    /** Espaço deixado entre os sprites de uma folha */
+    private static final int ESPACO = 2;
+    /** Atlas padrão do jogo ({@code null} até o primeiro uso) */
+    private static TextureAtlas padrao;
+
+    /** Caminho do arquivo de cada folha */
+    private final ArrayList<String> arquivos = new ArrayList<>();
+    /** Trava de cada folha, para que duas threads não decodifiquem a mesma folha ao mesmo tempo */
+    private final ArrayList<Object> travas = new ArrayList<>();
+    /** Região de cada sprite, pelo caminho original do arquivo */
+    private final HashMap<String, Regiao> regioes = new HashMap<>();
+    /**
+     * Região de cada recorte entregue. As chaves são fracas: a entrada some quando o recorte deixa de
+     * ser usado ({@code BufferedImage} não redefine {@code equals}, então as chaves são comparadas por identidade)
+     */
+    private final WeakHashMap<Image, Regiao> porRecorte = new WeakHashMap<>();
+
+    /**
+     * Região de um sprite dentro de uma folha
+     */
+    public static class Regiao {
+        /** Índice da folha */
+        final int folha;
+        /** Retângulo do sprite na folha */
+        final int x, y, largura, altura;
+        /** Caminho do arquivo da folha (a chave dela no {@link AssetManager}) */
+        final String caminhoFolha;
+        /** Tamanho (em bytes) do arquivo do sprite quando a folha foi gerada ({@code -1} se o índice não o tem) */
+        final long bytes;
+
+        Regiao(int folha, int x, int y, int largura, int altura, String caminhoFolha, long bytes){
+            this.folha = folha;
+            this.x = x;
+            this.y = y;
+            this.largura = largura;
+            this.altura = altura;
+            this.caminhoFolha = caminhoFolha;
+            this.bytes = bytes;
+        }
+
+        /**
+         * @return Caminho do arquivo da folha, pelo qual ela é adquirida e liberada no {@link AssetManager}
+         */
+        public String getCaminhoFolha(){ return caminhoFolha; }
+
+        /**
+         * @return Posição x do sprite na folha
+         */
+        public int getX(){ return x; }
+
+        /**
+         * @return Posição y do sprite na folha
+         */
+        public int getY(){ return y; }
+
+        /**
+         * @return Largura do sprite
+         */
+        public int getLargura(){ return largura; }
+
+        /**
+         * @return Altura do sprite
+         */
+        public int getAltura(){ return altura; }
+    }
+
+    /**
+     * Construtor de um atlas vazio
+     */
+    private TextureAtlas(){}
+
+    /**
+     * Lê o índice do atlas padrão na primeira chamada. Se o índice não existir, não puder ser lido ou estiver
+     * desatualizado, o atlas fica vazio (as imagens são carregadas dos arquivos individuais) e as folhas são geradas
+     * em segundo plano, substituindo o atlas padrão quando ficarem prontas
+     *
+     * @return O atlas padrão do jogo
+     */
+    public static synchronized TextureAtlas padrao(){
+        if(padrao == null){
+            File diretorio = new File(DIRETORIO);
+            try {
+                padrao = ler(diretorio);
+            } catch (IOException e) {
+                System.err.println("Erro ao ler o atlas de texturas: " + e.getMessage());
+                padrao = new TextureAtlas();
+            }
+            if(padrao.regioes.isEmpty() || padrao.desatualizado()){
+                padrao = new TextureAtlas();
+                gerarEmSegundoPlano(diretorio);
+            }
+        }
+        return padrao;
+    }
+
+    /**
+     * Gera as folhas do atlas padrão em uma thread de baixa prioridade e, quando elas ficam prontas, troca o atlas
+     * padrão (vazio até então) pelo atlas gerado
+     *
+     * @param diretorio Diretório das folhas e do índice
+     */
+    private static void gerarEmSegundoPlano(File diretorio){
+        Thread gerador = new Thread(() -> {
+            try {
+                empacotar(new File(ORIGEM), diretorio, TAMANHO_FOLHA, conjuntosDasTelas());
+                TextureAtlas gerado = ler(diretorio);
+                synchronized(TextureAtlas.class){
+                    padrao = gerado;
+                }
+            } catch (IOException e) {
+                System.err.println("Erro ao gerar o atlas de texturas: " + e.getMessage());
+            }
+        }, "TextureAtlas");
+        gerador.setDaemon(true);
+        gerador.setPriority(Thread.MIN_PRIORITY);
+        gerador.start();
+    }
+
+    /**
+     * @return Se algum sprite do índice mudou (ou sumiu) desde que as folhas foram geradas
+     */
+    private boolean desatualizado(){
+        for(Map.Entry<String, Regiao> entrada : regioes.entrySet()){
+            if(new File(entrada.getKey()).length() != entrada.getValue().bytes) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Lê o índice de um atlas (as folhas só são decodificadas quando um sprite delas é pedido)
+     *
+     * @param diretorio Diretório das folhas e do índice
+     * @return O atlas (vazio se o diretório não tem índice)
+     * @throws IOException Se ocorrer um erro de I/O durante a leitura do índice
+     */
+    public static TextureAtlas ler(File diretorio) throws IOException {
+        TextureAtlas atlas = new TextureAtlas();
+        File indice = new File(diretorio, INDICE);
+        if(!indice.exists()) return atlas;
+        try (BufferedReader leitor = new BufferedReader(new FileReader(indice))) {
+            String linha;
+            while((linha = leitor.readLine()) != null){
+                if(linha.isEmpty() || linha.startsWith("#")) continue;
+                String[] campos = linha.split("\t");
+                try {
+                    if(campos[0].equals("folha")){
+                        atlas.arquivos.add(new File(diretorio, campos[1]).getPath());
+                        atlas.travas.add(new Object());
+                    } else if(campos[0].equals("regiao")){
+                        int folha = Integer.parseInt(campos[2]);
+                        atlas.regioes.put(campos[1], new Regiao(folha, Integer.parseInt(campos[3]),
+                            Integer.parseInt(campos[4]), Integer.parseInt(campos[5]), Integer.parseInt(campos[6]),
+                            atlas.arquivos.get(folha), campos.length > 7 ? Long.parseLong(campos[7]) : -1));
+                    }
+                } catch (IndexOutOfBoundsException | NumberFormatException e) {
+                    throw new IOException("Linha inválida no índice do atlas: " + linha);
+                }
+            }
+        }
+        return atlas;
+    }
+
+    /**
+     * Devolve o recorte de um sprite, adquirindo a folha dele do {@link AssetManager} (que a decodifica se ela não
+     * estiver carregada). Cada recorte entregue fica com uma referência à folha, que deve ser liberada (pelo caminho
+     * de {@code Regiao.getCaminhoFolha()}) quando o recorte deixar de ser usado. Folhas diferentes podem ser
+     * decodificadas ao mesmo tempo por threads diferentes
+     *
+     * @param caminho Caminho original do arquivo do sprite (ex.: {@code assets/SlimeD.png})
+     * @return O recorte, ou {@code null} se o sprite não está no atlas
+     * @throws IOException Se ocorrer um erro de I/O durante a leitura da folha
+     */
+    public BufferedImage obter(String caminho) throws IOException {
+        Regiao r;
+        synchronized(this){
+            r = regioes.get(caminho);
+        }
+        if(r == null) return null;
+        BufferedImage folha;
+        synchronized(travas.get(r.folha)){
+            folha = AssetManager.adquirir(r.caminhoFolha, Transparency.TRANSLUCENT);
+        }
+        BufferedImage recorte = folha.getSubimage(r.x, r.y, r.largura, r.altura);
+        synchronized(this){
+            porRecorte.put(recorte, r);
+        }
+        return recorte;
+    }
+
+    /**
+     * @param caminho Caminho original do arquivo do sprite
+     * @return Se o sprite está no atlas
+     */
+    public synchronized boolean contem(String caminho){ return regioes.containsKey(caminho); }
+
+    /**
+     * @param img Uma imagem
+     * @return A região da imagem, se ela for um recorte entregue por este atlas, ou {@code null}
+     */
+    public synchronized Regiao regiaoDe(Image img){ return porRecorte.get(img); }
+
+    /**
+     * @return Quantidade de folhas carregadas no {@link AssetManager} (em uso ou entre as liberadas)
+     */
+    public int getFolhasCarregadas(){
+        int n = 0;
+        for(String arquivo : arquivos) if(AssetManager.isCarregada(arquivo)) n++;
+        return n;
+    }
+
+    /**
+     * Gera as folhas e o índice do atlas a partir dos sprites de um diretório, agrupando os sprites pelos conjuntos de
+     * imagens de cada mundo e de cada boss
+     *
+     * @param args Diretório de origem ({@code assets}), diretório de destino ({@code assets/atlas}) e tamanho da
+     * folha (2048)
+     * @throws IOException Se ocorrer um erro de I/O durante a leitura dos sprites ou a escrita das folhas
+     */
+    public static void main(String[] args) throws IOException {
+        File origem = new File(args.length > 0 ? args[0] : ORIGEM);
+        File destino = new File(args.length > 1 ? args[1] : DIRETORIO);
+        int tamanho = args.length > 2 ? Integer.parseInt(args[2]) : TAMANHO_FOLHA;
+        empacotar(origem, destino, tamanho, conjuntosDasTelas());
+    }
+
+    /**
+     * @return Os conjuntos de imagens de cada mundo e de cada boss, pelos quais os sprites são agrupados nas folhas
+     */
+    private static List<AssetBundle> conjuntosDasTelas(){
+        ArrayList<AssetBundle> conjuntos = new ArrayList<>();
+        for(int mundo = 1; mundo <= 5; mundo++) conjuntos.add(TelaJogo.recursosDoMundo(mundo));
+        for(int boss = 0; boss <= 6; boss++) conjuntos.add(TelaBoss.recursosDoBoss(boss));
+        return conjuntos;
+    }
+
+    /**
+     * Empacota os sprites (PNGs com transparência) de um diretório em folhas, usando prateleiras: os sprites são
+     * colocados lado a lado e uma nova prateleira começa quando a linha enche. Os sprites são agrupados pelos conjuntos
+     * em que aparecem (sprites usados exatamente pelos mesmos conjuntos formam um grupo, e os que não estão em nenhum
+     * conjunto formam o último), e cada grupo começa uma folha nova, para que carregar um conjunto não decodifique
+     * folhas com sprites de outros conjuntos. Dentro de um grupo, os sprites ficam em ordem alfabética. O índice antigo é
+     * apagado antes e o novo é escrito por último, então uma geração interrompida deixa o diretório sem índice
+     *
+     * @param origem Diretório com os sprites
+     * @param destino Diretório onde as folhas e o índice serão escritos
+     * @param tamanho Largura e altura máximas de uma folha
+     * @param conjuntos Conjuntos de imagens usados para agrupar os sprites (os caminhos são comparados com o caminho
+     * de origem seguido do nome do arquivo)
+     * @throws IOException Se ocorrer um erro de I/O durante a leitura dos sprites ou a escrita das folhas
+     */
+    public static void empacotar(File origem, File destino, int tamanho, List<AssetBundle> conjuntos) throws IOException {
+        File[] arquivos = origem.listFiles((dir, nome) -> nome.endsWith(".png"));
+        if(arquivos == null) throw new IOException("Diretório não encontrado: " + origem);
+        Arrays.sort(arquivos);
+        if(!destino.exists()) destino.mkdirs();
+        File indiceFinal = new File(destino, INDICE);
+        Files.deleteIfExists(indiceFinal.toPath());
+
+        // Agrupa os sprites pelos conjuntos em que aparecem
+        LinkedHashMap<String, ArrayList<File>> grupos = new LinkedHashMap<>();
+        ArrayList<File> semConjunto = new ArrayList<>();
+        for(File arquivo : arquivos){
+            String caminho = caminhoDe(origem, arquivo);
+            StringBuilder assinatura = new StringBuilder();
+            for(int i = 0; i < conjuntos.size(); i++){
+                if(conjuntos.get(i).contem(caminho)) assinatura.append(i).append(',');
+            }
+            if(assinatura.length() == 0) semConjunto.add(arquivo);
+            else grupos.computeIfAbsent(assinatura.toString(), k -> new ArrayList<>()).add(arquivo);
+        }
+        if(!semConjunto.isEmpty()) grupos.put("", semConjunto);
+
+        ArrayList<BufferedImage> folhas = new ArrayList<>();
+        ArrayList<Integer> alturasUsadas = new ArrayList<>(), largurasUsadas = new ArrayList<>();
+        StringBuilder indice = new StringBuilder();
+        Graphics2D g = null;
+        int x = 0, y = 0, alturaPrateleira = 0, larguraUsada = 0, ignorados = 0;
+
+        for(Map.Entry<String, ArrayList<File>> grupo : grupos.entrySet()){
+            boolean novoGrupo = true;
+            for(File arquivo : grupo.getValue()){
+                BufferedImage img = ImageIO.read(arquivo);
+                int w = img == null ? 0 : img.getWidth(), h = img == null ? 0 : img.getHeight();
+                // Imagens opacas (fundos, paredes e portas) e grandes demais ficam fora do atlas
+                if(img == null || !img.getColorModel().hasAlpha() || w > tamanho || h > tamanho){
+                    ignorados++;
+                    continue;
+                }
+                if(g != null && !novoGrupo && x + w > tamanho){
+                    // Nova prateleira
+                    y += alturaPrateleira + ESPACO;
+                    x = 0;
+                    alturaPrateleira = 0;
+                }
+                if(g == null || novoGrupo || y + h > tamanho){
+                    // Nova folha
+                    if(g != null){
+                        g.dispose();
+                        alturasUsadas.add(y + alturaPrateleira);
+                        largurasUsadas.add(larguraUsada);
+                    }
+                    folhas.add(new BufferedImage(tamanho, tamanho, BufferedImage.TYPE_INT_ARGB));
+                    g = folhas.get(folhas.size() - 1).createGraphics();
+                    x = 0;
+                    y = 0;
+                    alturaPrateleira = 0;
+                    larguraUsada = 0;
+                    novoGrupo = false;
+                }
+                g.drawImage(img, x, y, null);
+                indice.append("regiao\t").append(caminhoDe(origem, arquivo)).append('\t').append(folhas.size() - 1)
+                    .append('\t').append(x).append('\t').append(y).append('\t').append(w).append('\t').append(h)
+                    .append('\t').append(arquivo.length()).append('\n');
+                larguraUsada = Math.max(larguraUsada, x + w);
+                x += w + ESPACO;
+                alturaPrateleira = Math.max(alturaPrateleira, h);
+            }
+        }
+        if(g != null){
+            g.dispose();
+            alturasUsadas.add(y + alturaPrateleira);
+            largurasUsadas.add(larguraUsada);
+        }
+
+        // Corta a parte vazia da direita e do fim de cada folha e escreve as folhas e o índice (em um arquivo
+        // temporário, que só substitui o índice quando está completo)
+        File temporario = new File(destino, INDICE + ".tmp");
+        try (PrintWriter writer = new PrintWriter(new FileWriter(temporario))) {
+            writer.println("# folha\tarquivo");
+            writer.println("# regiao\tcaminho\tfolha\tx\ty\tlargura\taltura\tbytes");
+            for(int i = 0; i < folhas.size(); i++){
+                String nome = "atlas_" + i + ".png";
+                BufferedImage folha = folhas.get(i).getSubimage(0, 0, Math.max(1, largurasUsadas.get(i)),
+                    Math.max(1, alturasUsadas.get(i)));
+                ImageIO.write(folha, "png", new File(destino, nome));
+                writer.println("folha\t" + nome);
+            }
+            writer.print(indice);
+        }
+        Files.move(temporario.toPath(), indiceFinal.toPath(), StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+        System.out.println(folhas.size() + " folhas geradas em " + destino + " (" + grupos.size() + " grupos, "
+            + ignorados + " imagens fora do atlas)");
+    }
+
+    /**
+     * @param origem Diretório com os sprites
+     * @param arquivo Arquivo de um sprite
+     * @return O caminho do sprite, no formato usado pelo jogo (ex.: {@code assets/SlimeD.png})
+     */
+    private static String caminhoDe(File origem, File arquivo){
+        return origem.getPath().replace(File.separatorChar, '/') + "/" + arquivo.getName();
+    }
+}
@@ -0,0 +1,126 @@
+import java.util.List;
+
+/**
+ * Classe da grade de ocupação das paredes de uma dungeon
+ * <p>
+ * As paredes não se movem depois de carregadas, então são gravadas uma única vez em um conjunto de bits, uma célula por
+ * bit. O tamanho da célula é o maior divisor comum das coordenadas das paredes (50 pixels nos layouts atuais), de modo
+ * que cada parede cobre células inteiras e a consulta é exata: um retângulo está bloqueado se, e somente se, colide
+ * com alguma parede. Cada consulta custa apenas a quantidade de células sobrepostas pelo retângulo.
+ * </p>
+ *
+ * @author Arthur dos Santos Rezende
+ * @version 1.0
+ */
+public class WallGrid {
+    /** Tamanho (em pixels) de cada célula */
+    private final int tamanhoCelula;
+    /** Posição x do canto superior esquerdo da grade */
+    private final int origemX;
+    /** Posição y do canto superior esquerdo da grade */
+    private final int origemY;
+    /** Quantidade de colunas da grade */
+    private final int colunas;
+    /** Quantidade de linhas da grade */
+    private final int linhas;
+    /** Bits de ocupação, indexados por linha * colunas + coluna */
+    private final long[] bits;
+
+    /**
+     * Construtor da grade. Use {@code construir} para gerar a grade a partir das paredes
+     */
+    private WallGrid(int tamanhoCelula, int origemX, int origemY, int colunas, int linhas){
+        this.tamanhoCelula = tamanhoCelula;
+        this.origemX = origemX;
+        this.origemY = origemY;
+        this.colunas = colunas;
+        this.linhas = linhas;
+        this.bits = new long[(colunas * linhas + 63) / 64];
+    }
+
+    /**
+     * Grava as paredes de um layout em uma nova grade de ocupação
+     *
+     * @param paredes As paredes do layout
+     * @param largura Largura da tela (em pixels)
+     * @param altura Altura da tela (em pixels)
+     * @return A grade de ocupação das paredes
+     */
+    public static WallGrid construir(List<Parede> paredes, int largura, int altura){
+        // A grade cobre a tela e qualquer parede que passe dos limites dela
+        int minX = 0, minY = 0, maxX = largura, maxY = altura;
+        int celula = 0;
+        for(Parede p : paredes){
+            minX = Math.min(minX, p.getX());
+            minY = Math.min(minY, p.getY());
+            maxX = Math.max(maxX, p.getX() + p.getLargura());
+            maxY = Math.max(maxY, p.getY() + p.getAltura());
+            celula = mdc(celula, mdc(mdc(p.getX(), p.getY()), mdc(p.getLargura(), p.getAltura())));
+        }
+        if(celula <= 0) celula = Math.max(largura, altura);
+
+        int colunas = Math.floorDiv(maxX - minX + celula - 1, celula);
+        int linhas = Math.floorDiv(maxY - minY + celula - 1, celula);
+        WallGrid grade = new WallGrid(celula, minX, minY, colunas, linhas);
+        for(Parede p : paredes){
+            if(p.getLargura() <= 0 || p.getAltura() <= 0) continue;
+            int c0 = (p.getX() - minX) / celula, c1 = (p.getX() + p.getLargura() - minX) / celula;
+            int l0 = (p.getY() - minY) / celula, l1 = (p.getY() + p.getAltura() - minY) / celula;
+            for(int l = l0; l < l1; l++){
+                for(int c = c0; c < c1; c++){
+                    int i = l * colunas + c;
+                    grade.bits[i >>> 6] |= 1L << i;
+                }
+            }
+        }
+        return grade;
+    }
+
+    /**
+     * Verifica se um retângulo sobrepõe alguma parede
+     *
+     * @param x Posição x do retângulo
+     * @param y Posição y do retângulo
+     * @param largura Largura do retângulo
+     * @param altura Altura do retângulo
+     * @return {@code true} se o retângulo colide com alguma parede
+     */
+    public boolean bloqueado(int x, int y, int largura, int altura){
+        if(largura <= 0 || altura <= 0) return false;
+        int c0 = Math.max(0, Math.floorDiv(x - origemX, tamanhoCelula));
+        int c1 = Math.min(colunas - 1, Math.floorDiv(x + largura - 1 - origemX, tamanhoCelula));
+        int l0 = Math.max(0, Math.floorDiv(y - origemY, tamanhoCelula));
+        int l1 = Math.min(linhas - 1, Math.floorDiv(y + altura - 1 - origemY, tamanhoCelula));
+        for(int l = l0; l <= l1; l++){
+            for(int c = c0; c <= c1; c++){
+                int i = l * colunas + c;
+                if((bits[i >>> 6] & (1L << i)) != 0) return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Verifica se um objeto sobrepõe alguma parede
+     *
+     * @param obj O objeto a ser verificado
+     * @return {@code true} se o objeto colide com alguma parede
+     */
+    public boolean bloqueado(ObjetoColidivel obj){
+        return bloqueado(obj.getX(), obj.getY(), obj.getLargura(), obj.getAltura());
+    }
+
+    /**
+     * @return Máximo divisor comum de dois números (sempre positivo)
+     */
+    private static int mdc(int a, int b){
+        a = Math.abs(a);
+        b = Math.abs(b);
+        while(b != 0){
+            int t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+}